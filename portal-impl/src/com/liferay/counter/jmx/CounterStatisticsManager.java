@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.counter.jmx;
+
+import com.liferay.counter.model.CounterStatistics;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class CounterStatisticsManager implements CounterStatisticsManagerMBean {
+
+	public long getAverageRefillTime() {
+		return _counterStatistics.getAverageRefillTime();
+	}
+
+	public long getContentionCount() {
+		return _counterStatistics.getContentionCount();
+	}
+
+	public long getMaxRefillTime() {
+		return _counterStatistics.getMaxRefillTime();
+	}
+
+	public long getPrefetchCount() {
+		return _counterStatistics.getPrefetchCount();
+	}
+
+	public long getPrefetchFailureCount() {
+		return _counterStatistics.getPrefetchFailureCount();
+	}
+
+	public long getPrefetchHitCount() {
+		return _counterStatistics.getPrefetchHitCount();
+	}
+
+	public long getRefillCount() {
+		return _counterStatistics.getRefillCount();
+	}
+
+	public void reset() {
+		_counterStatistics.reset();
+	}
+
+	public void setCounterStatistics(CounterStatistics counterStatistics) {
+		_counterStatistics = counterStatistics;
+	}
+
+	private CounterStatistics _counterStatistics;
+
+}
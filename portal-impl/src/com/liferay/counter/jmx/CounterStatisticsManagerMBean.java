@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.counter.jmx;
+
+/**
+ * @author Shuyang Zhou
+ */
+public interface CounterStatisticsManagerMBean {
+
+	public long getAverageRefillTime();
+
+	public long getContentionCount();
+
+	public long getMaxRefillTime();
+
+	public long getPrefetchCount();
+
+	public long getPrefetchFailureCount();
+
+	public long getPrefetchHitCount();
+
+	public long getRefillCount();
+
+	public void reset();
+
+}
@@ -16,6 +16,9 @@ package com.liferay.counter.model;
 
 import com.liferay.portal.kernel.concurrent.CompeteLatch;
 
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * @author Harry Mark
  * @author Shuyang Zhou
@@ -38,6 +41,14 @@ public class CounterRegister {
 		this(name, new CounterHolder(rangeMin, rangeMax), rangeSize);
 	}
 
+	public boolean compareAndSetPrefetchFuture(
+		FutureTask<CounterHolder> expectedPrefetchFuture,
+		FutureTask<CounterHolder> prefetchFuture) {
+
+		return _prefetchFuture.compareAndSet(
+			expectedPrefetchFuture, prefetchFuture);
+	}
+
 	public CompeteLatch getCompeteLatch() {
 		return _competeLatch;
 	}
@@ -50,6 +61,10 @@ public class CounterRegister {
 		return _name;
 	}
 
+	public FutureTask<CounterHolder> getPrefetchFuture() {
+		return _prefetchFuture.get();
+	}
+
 	public int getRangeSize() {
 		return _rangeSize;
 	}
@@ -65,6 +80,8 @@ public class CounterRegister {
 	private final CompeteLatch _competeLatch;
 	private volatile CounterHolder _counterHolder;
 	private String _name;
+	private final AtomicReference<FutureTask<CounterHolder>> _prefetchFuture =
+		new AtomicReference<FutureTask<CounterHolder>>();
 	private final int _rangeSize;
 
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.counter.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class CounterStatistics {
+
+	public long getAverageRefillTime() {
+		long refillCount = _refillCount.get();
+
+		if (refillCount == 0) {
+			return 0;
+		}
+
+		return _refillTime.get() / refillCount;
+	}
+
+	public long getContentionCount() {
+		return _contentionCount.get();
+	}
+
+	public long getMaxRefillTime() {
+		return _maxRefillTime.get();
+	}
+
+	public long getPrefetchCount() {
+		return _prefetchCount.get();
+	}
+
+	public long getPrefetchFailureCount() {
+		return _prefetchFailureCount.get();
+	}
+
+	public long getPrefetchHitCount() {
+		return _prefetchHitCount.get();
+	}
+
+	public long getRefillCount() {
+		return _refillCount.get();
+	}
+
+	public void recordContention() {
+		_contentionCount.incrementAndGet();
+	}
+
+	public void recordPrefetch() {
+		_prefetchCount.incrementAndGet();
+	}
+
+	public void recordPrefetchFailure() {
+		_prefetchFailureCount.incrementAndGet();
+	}
+
+	public void recordPrefetchHit() {
+		_prefetchHitCount.incrementAndGet();
+	}
+
+	public void recordRefill(long refillTime) {
+		_refillCount.incrementAndGet();
+		_refillTime.addAndGet(refillTime);
+
+		while (true) {
+			long maxRefillTime = _maxRefillTime.get();
+
+			if ((refillTime <= maxRefillTime) ||
+				_maxRefillTime.compareAndSet(maxRefillTime, refillTime)) {
+
+				break;
+			}
+		}
+	}
+
+	public void reset() {
+		_contentionCount.set(0);
+		_maxRefillTime.set(0);
+		_prefetchCount.set(0);
+		_prefetchFailureCount.set(0);
+		_prefetchHitCount.set(0);
+		_refillCount.set(0);
+		_refillTime.set(0);
+	}
+
+	private final AtomicLong _contentionCount = new AtomicLong();
+	private final AtomicLong _maxRefillTime = new AtomicLong();
+	private final AtomicLong _prefetchCount = new AtomicLong();
+	private final AtomicLong _prefetchFailureCount = new AtomicLong();
+	private final AtomicLong _prefetchHitCount = new AtomicLong();
+	private final AtomicLong _refillCount = new AtomicLong();
+	private final AtomicLong _refillTime = new AtomicLong();
+
+}
@@ -17,13 +17,19 @@ package com.liferay.counter.service.persistence;
 import com.liferay.counter.model.Counter;
 import com.liferay.counter.model.CounterHolder;
 import com.liferay.counter.model.CounterRegister;
+import com.liferay.counter.model.CounterStatistics;
 import com.liferay.counter.model.impl.CounterImpl;
 import com.liferay.portal.kernel.concurrent.CompeteLatch;
+import com.liferay.portal.kernel.concurrent.LockRegistry;
 import com.liferay.portal.kernel.dao.jdbc.DataAccess;
 import com.liferay.portal.kernel.dao.orm.LockMode;
 import com.liferay.portal.kernel.dao.orm.ObjectNotFoundException;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.executor.PortalExecutorManager;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.PropsKeys;
@@ -40,7 +46,11 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.Lock;
 
 /**
  * @author Brian Wing Shun Chan
@@ -171,6 +181,10 @@ public class CounterFinderImpl
 		_counterRegisterMap.put(name, counterRegister);
 	}
 
+	public void setCounterStatistics(CounterStatistics counterStatistics) {
+		_counterStatistics = counterStatistics;
+	}
+
 	protected CounterRegister createCounterRegister(String name)
 		throws SystemException {
 
@@ -241,21 +255,30 @@ public class CounterFinderImpl
 		if (counterRegister != null) {
 			return counterRegister;
 		}
-		else {
-			synchronized (_counterRegisterMap) {
 
-				// Double check
+		// Only serialize threads creating the same counter
 
-				counterRegister = _counterRegisterMap.get(name);
+		Lock lock = LockRegistry.allocateLock(
+			CounterFinderImpl.class.getName(), name);
 
-				if (counterRegister == null) {
-					counterRegister = createCounterRegister(name);
+		lock.lock();
 
-					_counterRegisterMap.put(name, counterRegister);
-				}
+		try {
+
+			// Double check
 
-				return counterRegister;
+			counterRegister = _counterRegisterMap.get(name);
+
+			if (counterRegister == null) {
+				counterRegister = createCounterRegister(name);
+
+				_counterRegisterMap.put(name, counterRegister);
 			}
+
+			return counterRegister;
+		}
+		finally {
+			lock.unlock();
 		}
 	}
 
@@ -299,6 +322,13 @@ public class CounterFinderImpl
 		long newValue = counterHolder.addAndGet(size);
 
 		if (newValue <= counterHolder.getRangeMax()) {
+			if (PropsValues.COUNTER_PREFETCH_ENABLED &&
+				(newValue >= (counterHolder.getRangeMax() -
+					(counterRegister.getRangeSize() / 2)))) {
+
+				_prefetchIncrement(counterRegister);
+			}
+
 			return newValue;
 		}
 
@@ -310,6 +340,8 @@ public class CounterFinderImpl
 
 			// Loser thread has to wait for the winner thread to finish its job
 
+			_counterStatistics.recordContention();
+
 			try {
 				completeLatch.await();
 			}
@@ -332,9 +364,14 @@ public class CounterFinderImpl
 			newValue = counterHolder.addAndGet(size);
 
 			if (newValue > counterHolder.getRangeMax()) {
-				CounterHolder newCounterHolder = _obtainIncrement(
-					counterRegister.getName(), counterRegister.getRangeSize(),
-					0);
+				CounterHolder newCounterHolder = _takePrefetchedIncrement(
+					counterRegister);
+
+				if (newCounterHolder == null) {
+					newCounterHolder = _obtainIncrement(
+						counterRegister.getName(),
+						counterRegister.getRangeSize(), 0);
+				}
 
 				newValue = newCounterHolder.addAndGet(size);
 
@@ -358,6 +395,8 @@ public class CounterFinderImpl
 			String counterName, long range, long size)
 		throws SystemException {
 
+		long startTime = System.currentTimeMillis();
+
 		Session session = null;
 
 		try {
@@ -382,6 +421,9 @@ public class CounterFinderImpl
 
 			session.flush();
 
+			_counterStatistics.recordRefill(
+				System.currentTimeMillis() - startTime);
+
 			return counterHolder;
 		}
 		catch (Exception e) {
@@ -392,6 +434,180 @@ public class CounterFinderImpl
 		}
 	}
 
+	private CounterHolder _obtainIncrementWithCAS(
+			String counterName, long range)
+		throws SystemException {
+
+		long startTime = System.currentTimeMillis();
+
+		Connection connection = null;
+		PreparedStatement preparedStatement = null;
+		ResultSet resultSet = null;
+
+		try {
+			connection = getConnection();
+
+			boolean autoCommit = connection.getAutoCommit();
+
+			if (!autoCommit) {
+				connection.setAutoCommit(true);
+			}
+
+			try {
+				while (true) {
+					preparedStatement = connection.prepareStatement(
+						_SQL_SELECT_ID_BY_NAME);
+
+					preparedStatement.setString(1, counterName);
+
+					resultSet = preparedStatement.executeQuery();
+
+					if (!resultSet.next()) {
+						throw new SystemException(
+							"Counter " + counterName + " does not exist");
+					}
+
+					long currentId = resultSet.getLong(1);
+
+					DataAccess.cleanUp(resultSet);
+					DataAccess.cleanUp(preparedStatement);
+
+					resultSet = null;
+
+					long rangeMax = currentId + range;
+
+					preparedStatement = connection.prepareStatement(
+						_SQL_UPDATE_ID_BY_NAME_AND_ID);
+
+					preparedStatement.setLong(1, rangeMax);
+					preparedStatement.setString(2, counterName);
+					preparedStatement.setLong(3, currentId);
+
+					int count = preparedStatement.executeUpdate();
+
+					DataAccess.cleanUp(preparedStatement);
+
+					preparedStatement = null;
+
+					if (count == 1) {
+						_counterStatistics.recordRefill(
+							System.currentTimeMillis() - startTime);
+
+						return new CounterHolder(currentId, rangeMax);
+					}
+
+					// Another thread or cluster node won the race, try again
+
+					_counterStatistics.recordContention();
+				}
+			}
+			finally {
+				if (!autoCommit) {
+					connection.setAutoCommit(false);
+				}
+			}
+		}
+		catch (SystemException se) {
+			throw se;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			DataAccess.cleanUp(connection, preparedStatement, resultSet);
+		}
+	}
+
+	private void _prefetchIncrement(final CounterRegister counterRegister) {
+		if (counterRegister.getPrefetchFuture() != null) {
+			return;
+		}
+
+		PortalExecutorManager portalExecutorManager =
+			PortalExecutorManagerUtil.getPortalExecutorManager();
+
+		if (portalExecutorManager == null) {
+			return;
+		}
+
+		FutureTask<CounterHolder> prefetchFuture =
+			new FutureTask<CounterHolder>(
+				new Callable<CounterHolder>() {
+
+					public CounterHolder call() throws Exception {
+						return _obtainIncrementWithCAS(
+							counterRegister.getName(),
+							counterRegister.getRangeSize());
+					}
+
+				});
+
+		if (!counterRegister.compareAndSetPrefetchFuture(
+				null, prefetchFuture)) {
+
+			return;
+		}
+
+		_counterStatistics.recordPrefetch();
+
+		try {
+			portalExecutorManager.getPortalExecutor(
+				CounterFinderImpl.class.getName()).execute(prefetchFuture);
+		}
+		catch (Exception e) {
+
+			// The winner thread will run the prefetch itself if needed
+
+			if (_log.isDebugEnabled()) {
+				_log.debug("Unable to schedule counter prefetch", e);
+			}
+		}
+	}
+
+	private CounterHolder _takePrefetchedIncrement(
+		CounterRegister counterRegister) {
+
+		FutureTask<CounterHolder> prefetchFuture =
+			counterRegister.getPrefetchFuture();
+
+		if ((prefetchFuture == null) ||
+			!counterRegister.compareAndSetPrefetchFuture(
+				prefetchFuture, null)) {
+
+			return null;
+		}
+
+		// Never run the prefetch on the calling thread. If the executor has
+		// not started it yet, cancel it and let the caller refill the range
+		// synchronously, otherwise wait for the executor to finish it.
+
+		if (prefetchFuture.cancel(false)) {
+			return null;
+		}
+
+		if (prefetchFuture.isDone()) {
+			_counterStatistics.recordPrefetchHit();
+		}
+
+		try {
+			return prefetchFuture.get();
+		}
+		catch (ExecutionException ee) {
+			_counterStatistics.recordPrefetchFailure();
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to prefetch counter " + counterRegister.getName(),
+					ee.getCause());
+			}
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+
+		return null;
+	}
+
 	private static final int _DEFAULT_CURRENT_ID = 0;
 
 	private static final int _MINIMUM_INCREMENT_SIZE = 1;
@@ -407,11 +623,17 @@ public class CounterFinderImpl
 	private static final String _SQL_SELECT_NAMES =
 		"select name from Counter order by name asc";
 
+	private static final String _SQL_UPDATE_ID_BY_NAME_AND_ID =
+		"update Counter set currentId = ? where name = ? and currentId = ?";
+
 	private static final String _SQL_UPDATE_NAME_BY_NAME =
 		"update Counter set name = ? where name = ?";
 
+	private static Log _log = LogFactoryUtil.getLog(CounterFinderImpl.class);
+
 	private Map<String, CounterRegister> _counterRegisterMap =
 		new ConcurrentHashMap<String, CounterRegister>();
+	private CounterStatistics _counterStatistics = new CounterStatistics();
 	private Map<String, Integer> _rangeSizeMap =
 		new ConcurrentHashMap<String, Integer>();
 
@@ -26,6 +26,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
@@ -35,6 +36,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.model.CacheModel;
 import com.liferay.portal.model.ModelListener;
@@ -47,7 +49,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the counter service.
@@ -384,6 +390,103 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 		return counter;
 	}
 
+	/**
+	 * Returns the counters with the primary keys. Cached counters are served from the entity cache and the rest are fetched in batches of {@link #FETCH_BY_PRIMARY_KEYS_BATCH_SIZE} primary keys.
+	 *
+	 * @param primaryKeys the primary keys of the counters
+	 * @return the counters mapped by their primary keys, without entries for primary keys that could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Counter> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, Counter> map = new HashMap<Serializable, Counter>();
+
+		Set<Serializable> uncachedPrimaryKeys = new HashSet<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Counter counter = (Counter)EntityCacheUtil.getResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
+					CounterImpl.class, primaryKey, this);
+
+			if (counter == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (counter != _nullCounter) {
+				map.put(primaryKey, counter);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeysList = new ArrayList<Serializable>(uncachedPrimaryKeys);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeysList.size();
+					start += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				int end = Math.min(start + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+						uncachedPrimaryKeysList.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeysList.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_COUNTER_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add((String)primaryKey);
+				}
+
+				List<Counter> list = q.list();
+
+				for (Counter counter : list) {
+					Serializable primaryKey = counter.getPrimaryKeyObj();
+
+					map.put(primaryKey, counter);
+
+					cacheResult(counter);
+
+					uncachedPrimaryKeys.remove(primaryKey);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				EntityCacheUtil.putResult(CounterModelImpl.ENTITY_CACHE_ENABLED,
+					CounterImpl.class, primaryKey, _nullCounter);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the counters.
 	 *
@@ -581,6 +684,7 @@ public class CounterPersistenceImpl extends BasePersistenceImpl<Counter>
 	@BeanReference(type = UserPersistence.class)
 	protected UserPersistence userPersistence;
 	private static final String _SQL_SELECT_COUNTER = "SELECT counter FROM Counter counter";
+	private static final String _SQL_SELECT_COUNTER_WHERE_PKS_IN = "SELECT counter FROM Counter counter WHERE counter.name IN (";
 	private static final String _SQL_COUNT_COUNTER = "SELECT COUNT(counter) FROM Counter counter";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "counter.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No Counter exists with the primary key ";
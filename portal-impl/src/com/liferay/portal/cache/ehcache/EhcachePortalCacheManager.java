@@ -14,14 +14,19 @@
 
 package com.liferay.portal.cache.ehcache;
 
+import com.liferay.portal.cache.offheap.OffHeapStore;
+import com.liferay.portal.cache.offheap.OffHeapTieredPortalCache;
 import com.liferay.portal.cache.transactional.TransactionalPortalCache;
 import com.liferay.portal.dao.orm.common.EntityCacheImpl;
 import com.liferay.portal.dao.orm.common.FinderCacheImpl;
 import com.liferay.portal.kernel.cache.BlockingPortalCache;
 import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.cache.PortalCacheManager;
+import com.liferay.portal.kernel.configuration.Filter;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.ReflectionUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.util.PropsUtil;
@@ -33,6 +38,7 @@ import java.net.URL;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.management.MBeanServer;
 
@@ -124,6 +130,10 @@ public class EhcachePortalCacheManager implements PortalCacheManager {
 			}
 		}
 
+		if (isOffHeapCache(name)) {
+			portalCache = getOffHeapTieredPortalCache(name, portalCache);
+		}
+
 		if (PropsValues.TRANSACTIONAL_CACHE_ENABLED &&
 			(name.startsWith(EntityCacheImpl.CACHE_NAME) ||
 			 name.startsWith(FinderCacheImpl.CACHE_NAME))) {
@@ -166,6 +176,20 @@ public class EhcachePortalCacheManager implements PortalCacheManager {
 	public void removeCache(String name) {
 		_ehcachePortalCaches.remove(name);
 
+		OffHeapTieredPortalCache offHeapTieredPortalCache =
+			(OffHeapTieredPortalCache)_offHeapTieredPortalCaches.remove(name);
+
+		if (offHeapTieredPortalCache != null) {
+
+			// Only release the local off heap tier, a remove all of the heap
+			// tier would be replicated to the whole cluster
+
+			OffHeapStore offHeapStore =
+				offHeapTieredPortalCache.getOffHeapStore();
+
+			offHeapStore.removeAll();
+		}
+
 		_cacheManager.removeCache(name);
 	}
 
@@ -245,6 +269,53 @@ public class EhcachePortalCacheManager implements PortalCacheManager {
 		return ehcachePortalCache;
 	}
 
+	protected PortalCache getOffHeapTieredPortalCache(
+		String name, PortalCache portalCache) {
+
+		PortalCache offHeapTieredPortalCache = _offHeapTieredPortalCaches.get(
+			name);
+
+		if (offHeapTieredPortalCache != null) {
+			return offHeapTieredPortalCache;
+		}
+
+		long maxSize = GetterUtil.getLong(
+			PropsUtil.get(
+				PropsKeys.EHCACHE_OFF_HEAP_MAX_SIZE, new Filter(name)));
+
+		if (maxSize <= 0) {
+			return portalCache;
+		}
+
+		synchronized (_offHeapTieredPortalCaches) {
+			offHeapTieredPortalCache = _offHeapTieredPortalCaches.get(name);
+
+			if (offHeapTieredPortalCache == null) {
+				OffHeapStore offHeapStore = new OffHeapStore(
+					maxSize, PropsValues.EHCACHE_OFF_HEAP_SLAB_SIZE);
+
+				offHeapTieredPortalCache = new OffHeapTieredPortalCache(
+					portalCache, offHeapStore);
+
+				_offHeapTieredPortalCaches.put(name, offHeapTieredPortalCache);
+			}
+		}
+
+		return offHeapTieredPortalCache;
+	}
+
+	protected boolean isOffHeapCache(String name) {
+		for (String offHeapCacheName :
+				PropsValues.EHCACHE_OFF_HEAP_CACHE_NAMES) {
+
+			if (name.startsWith(offHeapCacheName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	private static final String _DEFAULT_CLUSTERED_EHCACHE_CONFIG_FILE =
 		"/ehcache/liferay-multi-vm-clustered.xml";
 
@@ -258,6 +329,8 @@ public class EhcachePortalCacheManager implements PortalCacheManager {
 		new HashMap<String, EhcachePortalCache>();
 	private ManagementService _managementService;
 	private MBeanServer _mBeanServer;
+	private Map<String, PortalCache> _offHeapTieredPortalCaches =
+		new ConcurrentHashMap<String, PortalCache>();
 	private boolean _registerCacheManager = true;
 	private boolean _registerCaches = true;
 	private boolean _registerCacheConfigurations = true;
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.memory;
+
+import java.io.Serializable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * <p>
+ * Estimates entry sizes from their shallow shape without walking object
+ * graphs. Strings, arrays and collections are weighed by their length and
+ * everything else is given a fixed weight.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class DefaultWeigher implements Weigher {
+
+	public long weigh(Serializable key, Object value) {
+		return _ENTRY_OVERHEAD + _weigh(key) + _weigh(value);
+	}
+
+	private long _weigh(Object object) {
+		if (object == null) {
+			return 0;
+		}
+		else if (object instanceof String) {
+			String string = (String)object;
+
+			return _OBJECT_OVERHEAD + string.length() * 2;
+		}
+		else if (object instanceof byte[]) {
+			byte[] bytes = (byte[])object;
+
+			return _OBJECT_OVERHEAD + bytes.length;
+		}
+		else if (object instanceof char[]) {
+			char[] chars = (char[])object;
+
+			return _OBJECT_OVERHEAD + chars.length * 2;
+		}
+		else if (object instanceof Object[]) {
+			Object[] objects = (Object[])object;
+
+			return _OBJECT_OVERHEAD + objects.length * _REFERENCE_WEIGHT;
+		}
+		else if (object instanceof Collection<?>) {
+			Collection<?> collection = (Collection<?>)object;
+
+			return _OBJECT_OVERHEAD +
+				collection.size() * (_REFERENCE_WEIGHT + _OBJECT_WEIGHT);
+		}
+		else if (object instanceof Map<?, ?>) {
+			Map<?, ?> map = (Map<?, ?>)object;
+
+			return _OBJECT_OVERHEAD +
+				map.size() * 2 * (_REFERENCE_WEIGHT + _OBJECT_WEIGHT);
+		}
+
+		return _OBJECT_WEIGHT;
+	}
+
+	private static final long _ENTRY_OVERHEAD = 64;
+
+	private static final long _OBJECT_OVERHEAD = 16;
+
+	private static final long _OBJECT_WEIGHT = 128;
+
+	private static final long _REFERENCE_WEIGHT = 8;
+
+}
@@ -12,23 +12,17 @@
  * details.
  */
 
-package com.liferay.portlet.documentlibrary.messaging;
-
-import com.liferay.portal.kernel.messaging.BaseMessageListener;
-import com.liferay.portal.kernel.messaging.Message;
-import com.liferay.portal.kernel.repository.model.FileVersion;
-import com.liferay.portlet.documentlibrary.util.PDFProcessor;
+package com.liferay.portal.cache.memory;
 
 /**
- * @author Alexander Chow
+ * @author Shuyang Zhou
  */
-public class PDFProcessorMessageListener extends BaseMessageListener {
+public class FIFOEvictionPolicy implements EvictionPolicy {
 
-	@Override
-	protected void doReceive(Message message) {
-		FileVersion fileVersion = (FileVersion)message.getPayload();
+	public long getEvictionScore(
+		MemoryPortalCacheEntry memoryPortalCacheEntry) {
 
-		PDFProcessor.generateImages(fileVersion);
+		return memoryPortalCacheEntry.getCreateTime();
 	}
 
-}
\ No newline at end of file
+}
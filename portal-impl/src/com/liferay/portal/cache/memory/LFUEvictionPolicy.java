@@ -12,23 +12,17 @@
  * details.
  */
 
-package com.liferay.portlet.documentlibrary.messaging;
-
-import com.liferay.portal.kernel.messaging.BaseMessageListener;
-import com.liferay.portal.kernel.messaging.Message;
-import com.liferay.portal.kernel.repository.model.FileVersion;
-import com.liferay.portlet.documentlibrary.util.ImageProcessor;
+package com.liferay.portal.cache.memory;
 
 /**
- * @author Sergio González
+ * @author Shuyang Zhou
  */
-public class ImageProcessorMessageListener extends BaseMessageListener {
+public class LFUEvictionPolicy implements EvictionPolicy {
 
-	@Override
-	protected void doReceive(Message message) throws Exception {
-		FileVersion fileVersion = (FileVersion)message.getPayload();
+	public long getEvictionScore(
+		MemoryPortalCacheEntry memoryPortalCacheEntry) {
 
-		ImageProcessor.generateImages(fileVersion);
+		return memoryPortalCacheEntry.getHitCount();
 	}
 
-}
\ No newline at end of file
+}
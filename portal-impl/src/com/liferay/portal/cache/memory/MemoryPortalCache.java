@@ -18,15 +18,21 @@ import com.liferay.portal.kernel.cache.CacheListener;
 import com.liferay.portal.kernel.cache.CacheListenerScope;
 import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.util.Time;
 
 import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * @author Brian Wing Shun Chan
@@ -36,8 +42,25 @@ import java.util.concurrent.ConcurrentHashMap;
 public class MemoryPortalCache implements PortalCache {
 
 	public MemoryPortalCache(String name, int initialCapacity) {
+		this(name, initialCapacity, new MemoryPortalCacheConfiguration());
+	}
+
+	public MemoryPortalCache(
+		String name, int initialCapacity,
+		MemoryPortalCacheConfiguration memoryPortalCacheConfiguration) {
+
  		_name = name;
-		_map = new ConcurrentHashMap<Serializable, Object>(initialCapacity);
+		_map = new ConcurrentHashMap<Serializable, MemoryPortalCacheEntry>(
+			initialCapacity);
+
+		_bounded = memoryPortalCacheConfiguration.isBounded();
+		_evictionPolicy = memoryPortalCacheConfiguration.getEvictionPolicy();
+		_maxEntries = memoryPortalCacheConfiguration.getMaxEntries();
+		_maxWeight = memoryPortalCacheConfiguration.getMaxWeight();
+		_timeToIdle =
+			memoryPortalCacheConfiguration.getTimeToIdle() * Time.SECOND;
+		_timeToLive = memoryPortalCacheConfiguration.getTimeToLive();
+		_weigher = memoryPortalCacheConfiguration.getWeigher();
 	}
 
 	public void destroy() {
@@ -59,35 +82,103 @@ public class MemoryPortalCache implements PortalCache {
 	}
 
 	public Object get(Serializable key) {
-		return _map.get(key);
+		MemoryPortalCacheEntry memoryPortalCacheEntry = _map.get(key);
+
+		if (memoryPortalCacheEntry == null) {
+			_missCount.incrementAndGet();
+
+			return null;
+		}
+
+		long now = System.currentTimeMillis();
+
+		if (memoryPortalCacheEntry.isExpired(now, _timeToIdle)) {
+			_expire(key, memoryPortalCacheEntry);
+
+			_missCount.incrementAndGet();
+
+			return null;
+		}
+
+		memoryPortalCacheEntry.hit(now);
+
+		_hitCount.incrementAndGet();
+
+		return memoryPortalCacheEntry.getValue();
+	}
+
+	public long getEvictionCount() {
+		return _evictionCount.get();
+	}
+
+	public long getExpirationCount() {
+		return _expirationCount.get();
+	}
+
+	public long getHitCount() {
+		return _hitCount.get();
+	}
+
+	public long getMissCount() {
+		return _missCount.get();
 	}
 
 	public String getName() {
 		return _name;
 	}
 
-	public void put(Serializable key, Object value) {
-		Object oldValue = _map.put(key, value);
+	public int getSize() {
+		return _map.size();
+	}
 
-		notifyPutEvents(key, value, oldValue != null);
+	public long getWeight() {
+		return _weight.get();
+	}
+
+	public void put(Serializable key, Object value) {
+		put(key, value, _timeToLive);
 	}
 
 	public void put(Serializable key, Object value, int timeToLive) {
-		Object oldValue = _map.put(key, value);
+		long now = System.currentTimeMillis();
+
+		long expirationTime = 0;
+
+		if (timeToLive > 0) {
+			expirationTime = now + timeToLive * Time.SECOND;
+		}
+
+		long weight = 0;
+
+		if (_maxWeight > 0) {
+			weight = _weigher.weigh(key, value);
+		}
+
+		MemoryPortalCacheEntry memoryPortalCacheEntry =
+			new MemoryPortalCacheEntry(value, weight, now, expirationTime);
+
+		MemoryPortalCacheEntry oldMemoryPortalCacheEntry = _map.put(
+			key, memoryPortalCacheEntry);
+
+		if (oldMemoryPortalCacheEntry != null) {
+			weight -= oldMemoryPortalCacheEntry.getWeight();
+		}
+
+		_weight.addAndGet(weight);
+
+		notifyPutEvents(key, value, oldMemoryPortalCacheEntry != null);
 
-		notifyPutEvents(key, value, oldValue != null);
+		if (_bounded) {
+			_evict();
+		}
 	}
 
 	public void put(Serializable key, Serializable value) {
-		Object oldValue = _map.put(key, value);
-
-		notifyPutEvents(key, value, oldValue != null);
+		put(key, (Object)value);
 	}
 
 	public void put(Serializable key, Serializable value, int timeToLive) {
-		Object oldValue = _map.put(key, value);
-
-		notifyPutEvents(key, value, oldValue != null);
+		put(key, (Object)value, timeToLive);
 	}
 
 	public void registerCacheListener(CacheListener cacheListener) {
@@ -101,7 +192,15 @@ public class MemoryPortalCache implements PortalCache {
 	}
 
 	public void remove(Serializable key) {
-		Object value = _map.remove(key);
+		MemoryPortalCacheEntry memoryPortalCacheEntry = _map.remove(key);
+
+		Object value = null;
+
+		if (memoryPortalCacheEntry != null) {
+			_weight.addAndGet(-memoryPortalCacheEntry.getWeight());
+
+			value = memoryPortalCacheEntry.getValue();
+		}
 
 		for (CacheListener cacheListener : _cacheListeners) {
 			cacheListener.notifyEntryRemoved(this, key, value);
@@ -111,6 +210,8 @@ public class MemoryPortalCache implements PortalCache {
 	public void removeAll() {
 		_map.clear();
 
+		_weight.set(0);
+
 		for (CacheListener cacheListener : _cacheListeners) {
 			cacheListener.notifyRemoveAll(this);
 		}
@@ -139,9 +240,127 @@ public class MemoryPortalCache implements PortalCache {
 		}
 	}
 
+	private void _evict() {
+		_evictionLock.lock();
+
+		try {
+			while (_isOverflowed() && !_map.isEmpty()) {
+				_evictOne();
+			}
+		}
+		finally {
+			_evictionLock.unlock();
+		}
+	}
+
+	private void _evictOne() {
+		long now = System.currentTimeMillis();
+
+		Map.Entry<Serializable, MemoryPortalCacheEntry> victimEntry = null;
+		long victimScore = 0;
+
+		// Rank a sample taken from where the previous eviction stopped instead
+		// of ordering the whole cache
+
+		for (int i = 0; i < _EVICTION_SAMPLE_SIZE; i++) {
+			if ((_evictionIterator == null) || !_evictionIterator.hasNext()) {
+				_evictionIterator = _map.entrySet().iterator();
+
+				if (!_evictionIterator.hasNext()) {
+					break;
+				}
+			}
+
+			Map.Entry<Serializable, MemoryPortalCacheEntry> entry =
+				_evictionIterator.next();
+
+			MemoryPortalCacheEntry memoryPortalCacheEntry = entry.getValue();
+
+			if (memoryPortalCacheEntry.isExpired(now, _timeToIdle)) {
+				_expire(entry.getKey(), memoryPortalCacheEntry);
+
+				return;
+			}
+
+			long score = _evictionPolicy.getEvictionScore(
+				memoryPortalCacheEntry);
+
+			if ((victimEntry == null) || (score < victimScore)) {
+				victimEntry = entry;
+				victimScore = score;
+			}
+		}
+
+		if (victimEntry == null) {
+			return;
+		}
+
+		Serializable key = victimEntry.getKey();
+		MemoryPortalCacheEntry memoryPortalCacheEntry = victimEntry.getValue();
+
+		if (!_map.remove(key, memoryPortalCacheEntry)) {
+			return;
+		}
+
+		_weight.addAndGet(-memoryPortalCacheEntry.getWeight());
+
+		_evictionCount.incrementAndGet();
+
+		for (CacheListener cacheListener : _cacheListeners) {
+			cacheListener.notifyEntryEvicted(
+				this, key, memoryPortalCacheEntry.getValue());
+		}
+	}
+
+	private void _expire(
+		Serializable key, MemoryPortalCacheEntry memoryPortalCacheEntry) {
+
+		if (!_map.remove(key, memoryPortalCacheEntry)) {
+			return;
+		}
+
+		_weight.addAndGet(-memoryPortalCacheEntry.getWeight());
+
+		_expirationCount.incrementAndGet();
+
+		for (CacheListener cacheListener : _cacheListeners) {
+			cacheListener.notifyEntryExpired(
+				this, key, memoryPortalCacheEntry.getValue());
+		}
+	}
+
+	private boolean _isOverflowed() {
+		if ((_maxEntries > 0) && (_map.size() > _maxEntries)) {
+			return true;
+		}
+
+		if ((_maxWeight > 0) && (_weight.get() > _maxWeight)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final int _EVICTION_SAMPLE_SIZE = 16;
+
+	private boolean _bounded;
 	private Set<CacheListener> _cacheListeners =
 		new ConcurrentHashSet<CacheListener>();
-	private Map<Serializable, Object> _map;
+	private AtomicLong _evictionCount = new AtomicLong();
+	private Iterator<Map.Entry<Serializable, MemoryPortalCacheEntry>>
+		_evictionIterator;
+	private Lock _evictionLock = new ReentrantLock();
+	private EvictionPolicy _evictionPolicy;
+	private AtomicLong _expirationCount = new AtomicLong();
+	private AtomicLong _hitCount = new AtomicLong();
+	private ConcurrentMap<Serializable, MemoryPortalCacheEntry> _map;
+	private int _maxEntries;
+	private long _maxWeight;
+	private AtomicLong _missCount = new AtomicLong();
 	private String _name;
+	private long _timeToIdle;
+	private int _timeToLive;
+	private Weigher _weigher;
+	private AtomicLong _weight = new AtomicLong();
 
-}
\ No newline at end of file
+}
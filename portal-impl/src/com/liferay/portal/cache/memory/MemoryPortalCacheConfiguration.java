@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.memory;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class MemoryPortalCacheConfiguration {
+
+	public EvictionPolicy getEvictionPolicy() {
+		return _evictionPolicy;
+	}
+
+	public int getMaxEntries() {
+		return _maxEntries;
+	}
+
+	public long getMaxWeight() {
+		return _maxWeight;
+	}
+
+	public int getTimeToIdle() {
+		return _timeToIdle;
+	}
+
+	public int getTimeToLive() {
+		return _timeToLive;
+	}
+
+	public Weigher getWeigher() {
+		return _weigher;
+	}
+
+	public boolean isBounded() {
+		if ((_maxEntries > 0) || (_maxWeight > 0)) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+		_evictionPolicy = evictionPolicy;
+	}
+
+	public void setMaxEntries(int maxEntries) {
+		_maxEntries = maxEntries;
+	}
+
+	public void setMaxWeight(long maxWeight) {
+		_maxWeight = maxWeight;
+	}
+
+	public void setTimeToIdle(int timeToIdle) {
+		_timeToIdle = timeToIdle;
+	}
+
+	public void setTimeToLive(int timeToLive) {
+		_timeToLive = timeToLive;
+	}
+
+	public void setWeigher(Weigher weigher) {
+		_weigher = weigher;
+	}
+
+	private EvictionPolicy _evictionPolicy = new LRUEvictionPolicy();
+	private int _maxEntries;
+	private long _maxWeight;
+	private int _timeToIdle;
+	private int _timeToLive;
+	private Weigher _weigher = new DefaultWeigher();
+
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.memory;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class MemoryPortalCacheEntry {
+
+	public MemoryPortalCacheEntry(
+		Object value, long weight, long createTime, long expirationTime) {
+
+		_value = value;
+		_weight = weight;
+		_createTime = createTime;
+		_expirationTime = expirationTime;
+
+		_lastAccessTime = createTime;
+	}
+
+	public long getCreateTime() {
+		return _createTime;
+	}
+
+	public long getExpirationTime() {
+		return _expirationTime;
+	}
+
+	public int getHitCount() {
+		return _hitCount;
+	}
+
+	public long getLastAccessTime() {
+		return _lastAccessTime;
+	}
+
+	public Object getValue() {
+		return _value;
+	}
+
+	public long getWeight() {
+		return _weight;
+	}
+
+	public void hit(long time) {
+
+		// Racing updates may lose a hit, which is fine for eviction ranking
+
+		_hitCount++;
+		_lastAccessTime = time;
+	}
+
+	public boolean isExpired(long time, long timeToIdle) {
+		if ((_expirationTime > 0) && (time >= _expirationTime)) {
+			return true;
+		}
+
+		if ((timeToIdle > 0) && ((time - _lastAccessTime) >= timeToIdle)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private long _createTime;
+	private long _expirationTime;
+	private volatile int _hitCount;
+	private volatile long _lastAccessTime;
+	private Object _value;
+	private long _weight;
+
+}
@@ -19,11 +19,14 @@ import com.liferay.portal.kernel.cache.PortalCacheManager;
 
 import java.net.URL;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Brian Wing Shun Chan
+ * @author Shuyang Zhou
  */
 public class MemoryPortalCacheManager implements PortalCacheManager {
 
@@ -44,9 +47,23 @@ public class MemoryPortalCacheManager implements PortalCacheManager {
 		PortalCache portalCache = _portalCaches.get(name);
 
 		if (portalCache == null) {
-			portalCache = new MemoryPortalCache(name, _cacheInitialCapacity);
+			MemoryPortalCacheConfiguration memoryPortalCacheConfiguration =
+				_memoryPortalCacheConfigurations.get(name);
 
-			_portalCaches.put(name, portalCache);
+			if (memoryPortalCacheConfiguration == null) {
+				memoryPortalCacheConfiguration =
+					_defaultMemoryPortalCacheConfiguration;
+			}
+
+			portalCache = new MemoryPortalCache(
+				name, _cacheInitialCapacity, memoryPortalCacheConfiguration);
+
+			PortalCache previousPortalCache = _portalCaches.putIfAbsent(
+				name, portalCache);
+
+			if (previousPortalCache != null) {
+				portalCache = previousPortalCache;
+			}
 		}
 
 		return portalCache;
@@ -69,8 +86,28 @@ public class MemoryPortalCacheManager implements PortalCacheManager {
 		_cacheManagerInitialCapacity = cacheManagerInitialCapacity;
 	}
 
+	public void setDefaultMemoryPortalCacheConfiguration(
+		MemoryPortalCacheConfiguration defaultMemoryPortalCacheConfiguration) {
+
+		_defaultMemoryPortalCacheConfiguration =
+			defaultMemoryPortalCacheConfiguration;
+	}
+
+	public void setMemoryPortalCacheConfigurations(
+		Map<String, MemoryPortalCacheConfiguration>
+			memoryPortalCacheConfigurations) {
+
+		_memoryPortalCacheConfigurations = memoryPortalCacheConfigurations;
+	}
+
 	private int _cacheInitialCapacity = 10000;
 	private int _cacheManagerInitialCapacity = 10000;
-	private Map<String, PortalCache> _portalCaches;
+	private MemoryPortalCacheConfiguration
+		_defaultMemoryPortalCacheConfiguration =
+			new MemoryPortalCacheConfiguration();
+	private Map<String, MemoryPortalCacheConfiguration>
+		_memoryPortalCacheConfigurations =
+			new HashMap<String, MemoryPortalCacheConfiguration>();
+	private ConcurrentMap<String, PortalCache> _portalCaches;
 
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import java.nio.ByteBuffer;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ * Stores byte arrays outside of the Java heap in a ring of direct byte buffer
+ * slabs. Writes are appended at a single write position that wraps around the
+ * ring, so the oldest entries are overwritten first and no free space
+ * bookkeeping is needed. Only the key index lives on the heap.
+ * </p>
+ *
+ * <p>
+ * Entries are never split across slabs. An entry larger than a slab is not
+ * stored.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class OffHeapStore {
+
+	public OffHeapStore(long maxSize, int slabSize) {
+		if (slabSize <= 0) {
+			throw new IllegalArgumentException(
+				"Slab size " + slabSize + " is not greater than 0");
+		}
+
+		int slabCount = (int)((maxSize + slabSize - 1) / slabSize);
+
+		if (slabCount <= 0) {
+			slabCount = 1;
+		}
+
+		_slabCount = slabCount;
+		_slabSize = slabSize;
+
+		_capacity = (long)_slabCount * _slabSize;
+		_slabs = new ByteBuffer[_slabCount];
+	}
+
+	public byte[] get(String key) {
+		Slot slot = _index.get(key);
+
+		if (slot == null) {
+			_missCount.incrementAndGet();
+
+			return null;
+		}
+
+		if (slot.isExpired(System.currentTimeMillis()) || !_isValid(slot)) {
+			_index.remove(key, slot);
+
+			_missCount.incrementAndGet();
+
+			return null;
+		}
+
+		ByteBuffer byteBuffer = _getSlab(slot.getPosition()).duplicate();
+
+		byteBuffer.position(_getOffset(slot.getPosition()));
+
+		byte[] bytes = new byte[slot.getLength()];
+
+		byteBuffer.get(bytes);
+
+		// The write position is moved before a slab is overwritten, so
+		// checking it again tells whether the copy raced with a writer
+
+		if (!_isValid(slot)) {
+			_index.remove(key, slot);
+
+			_missCount.incrementAndGet();
+
+			return null;
+		}
+
+		_hitCount.incrementAndGet();
+
+		return bytes;
+	}
+
+	public long getCapacity() {
+		return _capacity;
+	}
+
+	public long getHitCount() {
+		return _hitCount.get();
+	}
+
+	public long getMissCount() {
+		return _missCount.get();
+	}
+
+	public int getSize() {
+		return _index.size();
+	}
+
+	public boolean put(String key, byte[] bytes, long expirationTime) {
+		int length = bytes.length;
+
+		if (length > _slabSize) {
+			_index.remove(key);
+
+			return false;
+		}
+
+		_writeLock.lock();
+
+		try {
+			long position = _writePosition;
+
+			int offset = _getOffset(position);
+
+			if ((offset + length) > _slabSize) {
+				position += _slabSize - offset;
+				offset = 0;
+			}
+
+			_writePosition = position + length;
+
+			if ((offset == 0) && (position >= _capacity)) {
+				_purge();
+			}
+
+			ByteBuffer byteBuffer = _getSlab(position).duplicate();
+
+			byteBuffer.position(offset);
+
+			byteBuffer.put(bytes);
+
+			_index.put(key, new Slot(position, length, expirationTime));
+
+			return true;
+		}
+		finally {
+			_writeLock.unlock();
+		}
+	}
+
+	public void remove(String key) {
+		_index.remove(key);
+	}
+
+	public void removeAll() {
+		_index.clear();
+	}
+
+	private int _getOffset(long position) {
+		return (int)(position % _slabSize);
+	}
+
+	private ByteBuffer _getSlab(long position) {
+		int slabIndex = (int)((position / _slabSize) % _slabCount);
+
+		ByteBuffer byteBuffer = _slabs[slabIndex];
+
+		if (byteBuffer == null) {
+
+			// Slabs are only allocated by the writer, which holds the write
+			// lock, and readers never reach a slab before it is written
+
+			byteBuffer = ByteBuffer.allocateDirect(_slabSize);
+
+			_slabs[slabIndex] = byteBuffer;
+		}
+
+		return byteBuffer;
+	}
+
+	private boolean _isValid(Slot slot) {
+		if ((_writePosition - slot.getPosition()) <= _capacity) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	private void _purge() {
+
+		// Drop index entries that point into the slab about to be reused so
+		// that the on heap index does not outgrow the off heap data
+
+		Iterator<Slot> iterator = _index.values().iterator();
+
+		while (iterator.hasNext()) {
+			Slot slot = iterator.next();
+
+			if (!_isValid(slot)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private final long _capacity;
+	private AtomicLong _hitCount = new AtomicLong();
+	private ConcurrentMap<String, Slot> _index =
+		new ConcurrentHashMap<String, Slot>();
+	private AtomicLong _missCount = new AtomicLong();
+	private final int _slabCount;
+	private final ByteBuffer[] _slabs;
+	private final int _slabSize;
+	private final Lock _writeLock = new ReentrantLock();
+	private volatile long _writePosition;
+
+	private static class Slot {
+
+		public Slot(long position, int length, long expirationTime) {
+			_position = position;
+			_length = length;
+			_expirationTime = expirationTime;
+		}
+
+		public int getLength() {
+			return _length;
+		}
+
+		public long getPosition() {
+			return _position;
+		}
+
+		public boolean isExpired(long time) {
+			if ((_expirationTime > 0) && (time >= _expirationTime)) {
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private final long _expirationTime;
+		private final int _length;
+		private final long _position;
+
+	}
+
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import com.liferay.portal.kernel.cache.CacheListener;
+import com.liferay.portal.kernel.cache.CacheListenerScope;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.PortalCacheException;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.ClassLoaderObjectInputStream;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Time;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UnsupportedEncodingException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>
+ * Backs an on heap portal cache with an {@link OffHeapStore}. Serializable
+ * values are written through to both tiers. A miss on the heap tier is served
+ * from the off heap tier and the value is promoted back to the heap tier.
+ * </p>
+ *
+ * <p>
+ * Entries are indexed off heap by the string form of their keys, which is the
+ * form cache listeners receive. Removals seen by the heap tier, including the
+ * ones replicated from other cluster nodes, are applied to the off heap tier
+ * so it never serves an invalidated value. Puts write the off heap tier first
+ * and a promotion is dropped again if the off heap entry changed meanwhile,
+ * so a concurrent put or remove is never undone by a promotion.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class OffHeapTieredPortalCache implements PortalCache {
+
+	public OffHeapTieredPortalCache(
+		PortalCache portalCache, OffHeapStore offHeapStore) {
+
+		_portalCache = portalCache;
+		_offHeapStore = offHeapStore;
+
+		_registerInvalidationCacheListener();
+	}
+
+	public void destroy() {
+		_offHeapStore.removeAll();
+
+		_portalCache.destroy();
+	}
+
+	public Collection<Object> get(Collection<Serializable> keys) {
+		List<Object> values = new ArrayList<Object>(keys.size());
+
+		for (Serializable key : keys) {
+			values.add(get(key));
+		}
+
+		return values;
+	}
+
+	public Object get(Serializable key) {
+		Object value = _portalCache.get(key);
+
+		if (value != null) {
+			return value;
+		}
+
+		String offHeapKey = String.valueOf(key);
+
+		byte[] bytes = _offHeapStore.get(offHeapKey);
+
+		if (bytes == null) {
+			return null;
+		}
+
+		value = _deserialize(bytes);
+
+		if (value == null) {
+			return null;
+		}
+
+		_portalCache.put(key, value);
+
+		// A remove or put that landed after the off heap read must not be
+		// undone by the promotion, so drop the promoted value unless the off
+		// heap tier still holds the same entry
+
+		if (!Arrays.equals(bytes, _offHeapStore.get(offHeapKey))) {
+			_portalCache.remove(key);
+		}
+
+		return value;
+	}
+
+	public String getName() {
+		return _portalCache.getName();
+	}
+
+	public OffHeapStore getOffHeapStore() {
+		return _offHeapStore;
+	}
+
+	public void put(Serializable key, Object value) {
+		_putOffHeap(key, value, 0);
+
+		_portalCache.put(key, value);
+	}
+
+	public void put(Serializable key, Object value, int timeToLive) {
+		_putOffHeap(key, value, timeToLive);
+
+		_portalCache.put(key, value, timeToLive);
+	}
+
+	public void put(Serializable key, Serializable value) {
+		_putOffHeap(key, value, 0);
+
+		_portalCache.put(key, value);
+	}
+
+	public void put(Serializable key, Serializable value, int timeToLive) {
+		_putOffHeap(key, value, timeToLive);
+
+		_portalCache.put(key, value, timeToLive);
+	}
+
+	public void registerCacheListener(CacheListener cacheListener) {
+		_portalCache.registerCacheListener(cacheListener);
+	}
+
+	public void registerCacheListener(
+		CacheListener cacheListener, CacheListenerScope cacheListenerScope) {
+
+		_portalCache.registerCacheListener(cacheListener, cacheListenerScope);
+	}
+
+	public void remove(Serializable key) {
+		_offHeapStore.remove(String.valueOf(key));
+
+		_portalCache.remove(key);
+	}
+
+	public void removeAll() {
+		_offHeapStore.removeAll();
+
+		_portalCache.removeAll();
+	}
+
+	public void unregisterCacheListener(CacheListener cacheListener) {
+		_portalCache.unregisterCacheListener(cacheListener);
+	}
+
+	public void unregisterCacheListeners() {
+		_portalCache.unregisterCacheListeners();
+
+		_registerInvalidationCacheListener();
+	}
+
+	private Object _deserialize(byte[] bytes) {
+		try {
+			byte type = bytes[0];
+
+			if (type == _TYPE_BYTES) {
+				byte[] value = new byte[bytes.length - 1];
+
+				System.arraycopy(bytes, 1, value, 0, value.length);
+
+				return value;
+			}
+			else if (type == _TYPE_STRING) {
+				return new String(bytes, 1, bytes.length - 1, StringPool.UTF8);
+			}
+
+			UnsyncByteArrayInputStream unsyncByteArrayInputStream =
+				new UnsyncByteArrayInputStream(bytes, 1, bytes.length - 1);
+
+			Thread currentThread = Thread.currentThread();
+
+			ObjectInputStream objectInputStream =
+				new ClassLoaderObjectInputStream(
+					unsyncByteArrayInputStream,
+					currentThread.getContextClassLoader());
+
+			return objectInputStream.readObject();
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to deserialize off heap entry of " + getName(), e);
+			}
+
+			return null;
+		}
+	}
+
+	private void _putOffHeap(Serializable key, Object value, int timeToLive) {
+		String offHeapKey = String.valueOf(key);
+
+		if (!(value instanceof Serializable)) {
+			_offHeapStore.remove(offHeapKey);
+
+			return;
+		}
+
+		byte[] bytes = _serialize((Serializable)value);
+
+		if (bytes == null) {
+			_offHeapStore.remove(offHeapKey);
+
+			return;
+		}
+
+		long expirationTime = 0;
+
+		if (timeToLive > 0) {
+			expirationTime =
+				System.currentTimeMillis() + timeToLive * Time.SECOND;
+		}
+
+		_offHeapStore.put(offHeapKey, bytes, expirationTime);
+	}
+
+	private void _registerInvalidationCacheListener() {
+		try {
+			_portalCache.registerCacheListener(
+				new InvalidationCacheListener());
+		}
+		catch (UnsupportedOperationException uoe) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					getName() + " does not support cache listeners, so " +
+						"remote invalidations will not reach its off heap " +
+							"tier");
+			}
+		}
+	}
+
+	private byte[] _serialize(Serializable value) {
+		try {
+			if (value instanceof byte[]) {
+				byte[] bytes = (byte[])value;
+
+				byte[] serializedBytes = new byte[bytes.length + 1];
+
+				serializedBytes[0] = _TYPE_BYTES;
+
+				System.arraycopy(bytes, 0, serializedBytes, 1, bytes.length);
+
+				return serializedBytes;
+			}
+			else if (value instanceof String) {
+				String string = (String)value;
+
+				byte[] bytes = string.getBytes(StringPool.UTF8);
+
+				byte[] serializedBytes = new byte[bytes.length + 1];
+
+				serializedBytes[0] = _TYPE_STRING;
+
+				System.arraycopy(bytes, 0, serializedBytes, 1, bytes.length);
+
+				return serializedBytes;
+			}
+
+			UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+				new UnsyncByteArrayOutputStream();
+
+			unsyncByteArrayOutputStream.write(_TYPE_OBJECT);
+
+			ObjectOutputStream objectOutputStream = new ObjectOutputStream(
+				unsyncByteArrayOutputStream);
+
+			objectOutputStream.writeObject(value);
+
+			objectOutputStream.close();
+
+			return unsyncByteArrayOutputStream.toByteArray();
+		}
+		catch (UnsupportedEncodingException uee) {
+			throw new IllegalStateException(uee);
+		}
+		catch (Exception e) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Unable to serialize off heap entry of " + getName(), e);
+			}
+
+			return null;
+		}
+	}
+
+	private static final byte _TYPE_BYTES = 1;
+
+	private static final byte _TYPE_OBJECT = 0;
+
+	private static final byte _TYPE_STRING = 2;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		OffHeapTieredPortalCache.class);
+
+	private OffHeapStore _offHeapStore;
+	private PortalCache _portalCache;
+
+	private class InvalidationCacheListener implements CacheListener {
+
+		public void notifyEntryEvicted(
+			PortalCache portalCache, Serializable key, Object value) {
+		}
+
+		public void notifyEntryExpired(
+				PortalCache portalCache, Serializable key, Object value)
+			throws PortalCacheException {
+
+			_offHeapStore.remove(String.valueOf(key));
+		}
+
+		public void notifyEntryPut(
+			PortalCache portalCache, Serializable key, Object value) {
+		}
+
+		public void notifyEntryRemoved(
+				PortalCache portalCache, Serializable key, Object value)
+			throws PortalCacheException {
+
+			_offHeapStore.remove(String.valueOf(key));
+
+			// A value promoted from the off heap tier while the heap tier was
+			// being removed from is stale
+
+			if (portalCache.get(key) != null) {
+				portalCache.remove(key);
+			}
+		}
+
+		public void notifyEntryUpdated(
+			PortalCache portalCache, Serializable key, Object value) {
+		}
+
+		public void notifyRemoveAll(PortalCache portalCache)
+			throws PortalCacheException {
+
+			_offHeapStore.removeAll();
+		}
+
+	}
+
+}
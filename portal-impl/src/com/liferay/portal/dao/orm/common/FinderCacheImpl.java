@@ -14,14 +14,19 @@
 
 package com.liferay.portal.dao.orm.common;
 
+import com.liferay.portal.kernel.cache.CacheListener;
 import com.liferay.portal.kernel.cache.CacheRegistryItem;
 import com.liferay.portal.kernel.cache.CacheRegistryUtil;
 import com.liferay.portal.kernel.cache.MultiVMPool;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.concurrent.ConcurrentLRUCache;
 import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCache;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.SessionFactory;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.BaseModel;
@@ -33,12 +38,39 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.collections.map.LRUMap;
 
 /**
+ * <p>
+ * Results are looked up in three tiers: a per-request thread local map, a
+ * bounded near cache shared by all threads of this JVM, and the cluster
+ * aware cache from {@link MultiVMPool}. Empty results are cached like any
+ * other result.
+ * </p>
+ *
+ * <p>
+ * Every key of a list region, the class name regions ending with
+ * <code>.List</code> that hold the results of the list and count finders, is
+ * stamped with a version of its region. Clearing such a region only removes
+ * its version from the multi VM cache, so a write to one entity replicates a
+ * single entry instead of a remove all, and the entries of the old version
+ * simply age out of every tier.
+ * </p>
+ *
+ * <p>
+ * Versions are generated by each node on its own, so they only work for
+ * regions that are cleared as a whole. Every other region, such as the entity
+ * regions that hold the unique finders, is keyed without a version so that a
+ * replicated {@link #removeResult(FinderPath, Object[])} matches the same key
+ * on every node. Those regions are not held in the near cache, since
+ * replicated removes never reach it.
+ * </p>
+ *
  * @author Brian Wing Shun Chan
  * @author Shuyang Zhou
  */
@@ -53,9 +85,15 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 	public void clearCache() {
 		clearLocalCache();
 
+		if (_nearCacheAvailable) {
+			_nearCache.clear();
+		}
+
 		for (PortalCache portalCache : _portalCaches.values()) {
 			portalCache.removeAll();
 		}
+
+		_versions.clear();
 	}
 
 	public void clearCache(String className) {
@@ -63,7 +101,14 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 		PortalCache portalCache = _getPortalCache(className, false);
 
-		if (portalCache != null) {
+		if (portalCache == null) {
+			return;
+		}
+
+		if (_isVersioned(className)) {
+			_incrementVersion(className, portalCache);
+		}
+		else {
 			portalCache.removeAll();
 		}
 	}
@@ -88,25 +133,42 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 			return null;
 		}
 
+		String className = finderPath.getClassName();
+
+		PortalCache portalCache = _getPortalCache(className, true);
+
+		long version = _getVersion(className, portalCache);
+
+		boolean nearCacheAvailable = _isNearCacheAvailable(className);
+
 		Object primaryKey = null;
 
 		Map<Serializable, Object> localCache = null;
 
 		Serializable localCacheKey = null;
 
+		if (_localCacheAvailable || nearCacheAvailable) {
+			localCacheKey = _getCacheKey(
+				className, version, finderPath.encodeLocalCacheKey(args));
+		}
+
 		if (_localCacheAvailable) {
 			localCache = _localCache.get();
 
-			localCacheKey = finderPath.encodeLocalCacheKey(args);
-
 			primaryKey = localCache.get(localCacheKey);
 		}
 
-		if (primaryKey == null) {
-			PortalCache portalCache = _getPortalCache(
-				finderPath.getClassName(), true);
+		if ((primaryKey == null) && nearCacheAvailable) {
+			primaryKey = _nearCache.get(localCacheKey);
 
-			Serializable cacheKey = finderPath.encodeCacheKey(args);
+			if ((primaryKey != null) && _localCacheAvailable) {
+				localCache.put(localCacheKey, primaryKey);
+			}
+		}
+
+		if (primaryKey == null) {
+			Serializable cacheKey = _getCacheKey(
+				className, version, finderPath.encodeCacheKey(args));
 
 			primaryKey = portalCache.get(cacheKey);
 
@@ -114,6 +176,10 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 				if (_localCacheAvailable) {
 					localCache.put(localCacheKey, primaryKey);
 				}
+
+				if (nearCacheAvailable) {
+					_nearCache.put(localCacheKey, primaryKey);
+				}
 			}
 		}
 
@@ -132,32 +198,46 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 	public void putResult(FinderPath finderPath, Object[] args, Object result) {
 		if (!PropsValues.VALUE_OBJECT_FINDER_CACHE_ENABLED ||
 			!finderPath.isFinderCacheEnabled() ||
-			!CacheRegistryUtil.isActive() ||
-			(result == null)) {
+			!CacheRegistryUtil.isActive()) {
 
 			return;
 		}
 
 		Object primaryKey = _resultToPrimaryKey(result);
 
-		if (_localCacheAvailable) {
-			Map<Serializable, Object> localCache = _localCache.get();
+		String className = finderPath.getClassName();
 
-			Serializable localCacheKey = finderPath.encodeLocalCacheKey(args);
+		PortalCache portalCache = _getPortalCache(className, true);
 
-			localCache.put(localCacheKey, primaryKey);
-		}
+		long version = _getVersion(className, portalCache);
+
+		boolean nearCacheAvailable = _isNearCacheAvailable(className);
+
+		if (_localCacheAvailable || nearCacheAvailable) {
+			Serializable localCacheKey = _getCacheKey(
+				className, version, finderPath.encodeLocalCacheKey(args));
 
-		PortalCache portalCache = _getPortalCache(
-			finderPath.getClassName(), true);
+			if (_localCacheAvailable) {
+				Map<Serializable, Object> localCache = _localCache.get();
+
+				localCache.put(localCacheKey, primaryKey);
+			}
+
+			if (nearCacheAvailable) {
+				_nearCache.put(localCacheKey, primaryKey);
+			}
+		}
 
-		Serializable cacheKey = finderPath.encodeCacheKey(args);
+		Serializable cacheKey = _getCacheKey(
+			className, version, finderPath.encodeCacheKey(args));
 
 		portalCache.put(cacheKey, primaryKey);
 	}
 
 	public void removeCache(String className) {
 		_portalCaches.remove(className);
+		_versionListenedClassNames.remove(className);
+		_versions.remove(className);
 
 		String groupKey = _GROUP_KEY_PREFIX.concat(className);
 
@@ -172,18 +252,31 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 			return;
 		}
 
-		if (_localCacheAvailable) {
-			Map<Serializable, Object> localCache = _localCache.get();
+		String className = finderPath.getClassName();
 
-			Serializable localCacheKey = finderPath.encodeLocalCacheKey(args);
+		PortalCache portalCache = _getPortalCache(className, true);
 
-			localCache.remove(localCacheKey);
-		}
+		long version = _getVersion(className, portalCache);
+
+		boolean nearCacheAvailable = _isNearCacheAvailable(className);
+
+		if (_localCacheAvailable || nearCacheAvailable) {
+			Serializable localCacheKey = _getCacheKey(
+				className, version, finderPath.encodeLocalCacheKey(args));
 
-		PortalCache portalCache = _getPortalCache(
-			finderPath.getClassName(), true);
+			if (_localCacheAvailable) {
+				Map<Serializable, Object> localCache = _localCache.get();
 
-		Serializable cacheKey = finderPath.encodeCacheKey(args);
+				localCache.remove(localCacheKey);
+			}
+
+			if (nearCacheAvailable) {
+				_nearCache.remove(localCacheKey);
+			}
+		}
+
+		Serializable cacheKey = _getCacheKey(
+			className, version, finderPath.encodeCacheKey(args));
 
 		portalCache.remove(cacheKey);
 	}
@@ -192,6 +285,16 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		_multiVMPool = multiVMPool;
 	}
 
+	private Serializable _getCacheKey(
+		String className, long version, Serializable key) {
+
+		if (_isVersioned(className)) {
+			return new VersionedCacheKey(version, key);
+		}
+
+		return key;
+	}
+
 	private PortalCache _getPortalCache(
 		String className, boolean createIfAbsent) {
 
@@ -209,11 +312,78 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 			if (previousPortalCache != null) {
 				portalCache = previousPortalCache;
 			}
+			else if (_isVersioned(className)) {
+				try {
+					portalCache.registerCacheListener(
+						new VersionCacheListener(className));
+
+					_versionListenedClassNames.add(className);
+				}
+				catch (UnsupportedOperationException uoe) {
+
+					// Without notifications the version has to be read from
+					// the multi VM cache on every access
+
+					if (_log.isDebugEnabled()) {
+						_log.debug(
+							"Cache listeners are not supported by " +
+								portalCache.getName());
+					}
+				}
+			}
 		}
 
 		return portalCache;
 	}
 
+	private long _getVersion(String className, PortalCache portalCache) {
+		if (!_isVersioned(className)) {
+			return 0;
+		}
+
+		Long version = _versions.get(className);
+
+		if (version != null) {
+			return version.longValue();
+		}
+
+		version = (Long)portalCache.get(_VERSION_KEY);
+
+		if (version == null) {
+			version = _random.nextLong();
+
+			portalCache.put(_VERSION_KEY, version);
+		}
+
+		if (_versionListenedClassNames.contains(className)) {
+			_versions.put(className, version);
+		}
+
+		return version.longValue();
+	}
+
+	private void _incrementVersion(String className, PortalCache portalCache) {
+
+		// Removals are replicated while puts of absent keys are not, so the
+		// version is invalidated by a remove and regenerated on the next read
+
+		_versions.remove(className);
+
+		portalCache.remove(_VERSION_KEY);
+	}
+
+	private boolean _isNearCacheAvailable(String className) {
+		if (_nearCacheAvailable && _isVersioned(className)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private boolean _isVersioned(String className) {
+		return className.endsWith(_LIST_CLASS_NAME_SUFFIX);
+	}
+
 	private Object _primaryKeyToResult(
 		FinderPath finderPath, SessionFactory sessionFactory,
 		Object primaryKey) {
@@ -249,7 +419,13 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 	}
 
 	private Object _resultToPrimaryKey(Object result) {
-		if (result instanceof BaseModel<?>) {
+		if (result == null) {
+
+			// Cache "no rows" the same way as an empty list
+
+			return Collections.emptyList();
+		}
+		else if (result instanceof BaseModel<?>) {
 			BaseModel<?> model = (BaseModel<?>)result;
 
 			return model.getPrimaryKeyObj();
@@ -279,8 +455,16 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 	private static final String _GROUP_KEY_PREFIX = CACHE_NAME.concat(
 		StringPool.PERIOD);
 
+	private static final String _LIST_CLASS_NAME_SUFFIX = ".List";
+
+	private static final String _VERSION_KEY = "_VERSION_";
+
+	private static Log _log = LogFactoryUtil.getLog(FinderCacheImpl.class);
+
 	private static ThreadLocal<LRUMap> _localCache;
 	private static boolean _localCacheAvailable;
+	private static ConcurrentLRUCache<Serializable, Object> _nearCache;
+	private static boolean _nearCacheAvailable;
 
 	static {
 		if (PropsValues.VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE > 0) {
@@ -291,10 +475,120 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 						VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE));
 			_localCacheAvailable = true;
 		}
+
+		if (PropsValues.VALUE_OBJECT_FINDER_NEAR_CACHE_MAX_SIZE > 0) {
+			_nearCache = new ConcurrentLRUCache<Serializable, Object>(
+				PropsValues.VALUE_OBJECT_FINDER_NEAR_CACHE_MAX_SIZE);
+			_nearCacheAvailable = true;
+		}
 	}
 
 	private MultiVMPool _multiVMPool;
 	private ConcurrentMap<String, PortalCache> _portalCaches =
 		new ConcurrentHashMap<String, PortalCache>();
+	private Random _random = new Random();
+	private Set<String> _versionListenedClassNames =
+		new ConcurrentHashSet<String>();
+	private ConcurrentMap<String, Long> _versions =
+		new ConcurrentHashMap<String, Long>();
+
+	private static class VersionedCacheKey implements Serializable {
+
+		public VersionedCacheKey(long version, Serializable key) {
+			_version = version;
+			_key = key;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof VersionedCacheKey)) {
+				return false;
+			}
+
+			VersionedCacheKey versionedCacheKey = (VersionedCacheKey)obj;
+
+			if ((_version == versionedCacheKey._version) &&
+				_key.equals(versionedCacheKey._key)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int)(_version ^ (_version >>> 32)) * 31 + _key.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return String.valueOf(_version).concat(StringPool.UNDERLINE).concat(
+				String.valueOf(_key));
+		}
+
+		private static final long serialVersionUID = 1L;
+
+		private final Serializable _key;
+		private final long _version;
+
+	}
+
+	private class VersionCacheListener implements CacheListener {
+
+		public VersionCacheListener(String className) {
+			_className = className;
+		}
+
+		public void notifyEntryEvicted(
+			PortalCache portalCache, Serializable key, Object value) {
+
+			// A replicated remove of an evicted key is not notified, so the
+			// local version must not outlive the cached one
+
+			notifyEntryRemoved(portalCache, key, value);
+		}
+
+		public void notifyEntryExpired(
+			PortalCache portalCache, Serializable key, Object value) {
+
+			notifyEntryRemoved(portalCache, key, value);
+		}
+
+		public void notifyEntryPut(
+			PortalCache portalCache, Serializable key, Object value) {
+
+			if (_VERSION_KEY.equals(String.valueOf(key)) &&
+				(value instanceof Long)) {
+
+				_versions.put(_className, (Long)value);
+			}
+		}
+
+		public void notifyEntryRemoved(
+			PortalCache portalCache, Serializable key, Object value) {
+
+			if (_VERSION_KEY.equals(String.valueOf(key))) {
+				_versions.remove(_className);
+			}
+		}
+
+		public void notifyEntryUpdated(
+			PortalCache portalCache, Serializable key, Object value) {
+
+			notifyEntryPut(portalCache, key, value);
+		}
+
+		public void notifyRemoveAll(PortalCache portalCache) {
+			_versions.remove(_className);
+		}
+
+		private final String _className;
+
+	}
 
 }
\ No newline at end of file
@@ -21,12 +21,16 @@ import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.model.Theme;
 import com.liferay.portal.service.ThemeLocalServiceUtil;
+import com.liferay.portal.servlet.filters.dynamiccss.DynamicCSSUtil;
 import com.liferay.portal.velocity.LiferayResourceCacheUtil;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.servlet.ServletContext;
 
@@ -85,6 +89,16 @@ public class ThemeHotDeployListener extends BaseHotDeployListener {
 
 		_vars.put(servletContextName, themeIds);
 
+		Set<String> cssPaths = new HashSet<String>();
+
+		for (Theme theme : ThemeLocalServiceUtil.getWARThemes()) {
+			if (themeIds.contains(theme.getThemeId()) &&
+				cssPaths.add(theme.getCssPath())) {
+
+				DynamicCSSUtil.precompile(servletContext, theme.getCssPath());
+			}
+		}
+
 		if (_log.isInfoEnabled()) {
 			if (themeIds.size() == 1) {
 				_log.info(
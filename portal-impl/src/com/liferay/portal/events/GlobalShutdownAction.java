@@ -35,6 +35,7 @@ import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.search.lucene.LuceneHelperUtil;
 import com.liferay.portal.util.PropsUtil;
 import com.liferay.portlet.documentlibrary.util.DocumentConversionUtil;
+import com.liferay.portlet.documentlibrary.util.PreviewGenerationScheduler;
 import com.liferay.util.ThirdPartyThreadLocalRegistry;
 
 import java.sql.Connection;
@@ -116,6 +117,10 @@ public class GlobalShutdownAction extends SimpleAction {
 
 		LuceneHelperUtil.shutdown();
 
+		// Preview generation
+
+		PreviewGenerationScheduler.shutdown();
+
 		// OpenOffice
 
 		DocumentConversionUtil.disconnect();
@@ -76,7 +76,7 @@ public class PortalExecutorFactoryImpl implements PortalExecutorFactory {
 		return new ThreadPoolExecutor(
 			_corePoolSize, _maxPoolSize, _keepAliveTime, _timeUnit,
 			_allowCoreThreadTimeout, _maxQueueSize, _rejectedExecutionHandler,
-			threadFactory, _threadPoolHandler);
+			threadFactory, _threadPoolHandler, _lockFreeTaskQueue);
 	}
 
 	public void setAllowCoreThreadTimeout(boolean allowCoreThreadTimeout) {
@@ -91,6 +91,10 @@ public class PortalExecutorFactoryImpl implements PortalExecutorFactory {
 		_keepAliveTime = keepAliveTime;
 	}
 
+	public void setLockFreeTaskQueue(boolean lockFreeTaskQueue) {
+		_lockFreeTaskQueue = lockFreeTaskQueue;
+	}
+
 	public void setMaxPoolSize(int maxPoolSize) {
 		_maxPoolSize = maxPoolSize;
 	}
@@ -116,6 +120,7 @@ public class PortalExecutorFactoryImpl implements PortalExecutorFactory {
 	private boolean _allowCoreThreadTimeout;
 	private int _corePoolSize;
 	private long _keepAliveTime;
+	private boolean _lockFreeTaskQueue;
 	private int _maxPoolSize;
 	private int _maxQueueSize;
 	private RejectedExecutionHandler _rejectedExecutionHandler;
@@ -19,6 +19,8 @@ import com.liferay.portal.kernel.json.JSONTransformer;
 
 import flexjson.transformer.Transformer;
 
+import java.io.Writer;
+
 /**
  * Wrapper over flexjson serializer.
  *
@@ -46,6 +48,10 @@ public class JSONSerializerImpl implements JSONSerializer {
 		return _jsonSerializer.serialize(target);
 	}
 
+	public void serialize(Object target, Writer writer) {
+		_jsonSerializer.serialize(target, writer);
+	}
+
 	public String serializeDeep(Object target) {
 		return _jsonSerializer.deepSerialize(target);
 	}
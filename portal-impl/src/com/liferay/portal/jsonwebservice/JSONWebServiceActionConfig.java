@@ -14,12 +14,24 @@
 
 package com.liferay.portal.jsonwebservice;
 
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.AggregateClassLoader;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.MethodParameterNamesResolverUtil;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.service.ServiceContext;
 
 import java.lang.reflect.Method;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jodd.util.ReflectUtil;
+
+import net.sf.cglib.reflect.FastClass;
+import net.sf.cglib.reflect.FastMethod;
+
 /**
  * @author Igor Spasic
  */
@@ -39,6 +51,19 @@ public class JSONWebServiceActionConfig
 				actionMethod);
 		_parameterTypes = actionMethod.getParameterTypes();
 
+		_parameterConverters = new int[_parameterTypes.length];
+
+		for (int i = 0; i < _parameterTypes.length; i++) {
+			_parameterConverters[i] = _getParameterConverter(
+				_parameterNames[i], _parameterTypes[i]);
+		}
+
+		try {
+			actionMethod.setAccessible(true);
+		}
+		catch (SecurityException se) {
+		}
+
 		StringBundler sb = new StringBundler(_parameterNames.length * 2 + 4);
 
 		sb.append(_path);
@@ -60,6 +85,79 @@ public class JSONWebServiceActionConfig
 		return _fullPath.compareTo(jsonWebServiceActionConfig._fullPath);
 	}
 
+	public Object convertParameterValue(int index, Object value) {
+		if (value == null) {
+			return null;
+		}
+
+		int parameterConverter = _parameterConverters[index];
+
+		if (value == Void.TYPE) {
+			if (parameterConverter == _CONVERTER_SERVICE_CONTEXT) {
+				return new ServiceContext();
+			}
+
+			return null;
+		}
+
+		Class<?> parameterType = _parameterTypes[index];
+
+		if (parameterType.isInstance(value)) {
+			return value;
+		}
+
+		if (value instanceof String) {
+			String string = ((String)value).trim();
+
+			try {
+				if (parameterConverter == _CONVERTER_BYTE) {
+					return Byte.valueOf(string);
+				}
+				else if (parameterConverter == _CONVERTER_DOUBLE) {
+					return Double.valueOf(string);
+				}
+				else if (parameterConverter == _CONVERTER_FLOAT) {
+					return Float.valueOf(string);
+				}
+				else if (parameterConverter == _CONVERTER_INT) {
+					return Integer.valueOf(string);
+				}
+				else if (parameterConverter == _CONVERTER_LONG) {
+					return Long.valueOf(string);
+				}
+				else if (parameterConverter == _CONVERTER_SHORT) {
+					return Short.valueOf(string);
+				}
+			}
+			catch (NumberFormatException nfe) {
+			}
+		}
+		else if (value instanceof Number) {
+			Number number = (Number)value;
+
+			if (parameterConverter == _CONVERTER_BYTE) {
+				return Byte.valueOf(number.byteValue());
+			}
+			else if (parameterConverter == _CONVERTER_DOUBLE) {
+				return Double.valueOf(number.doubleValue());
+			}
+			else if (parameterConverter == _CONVERTER_FLOAT) {
+				return Float.valueOf(number.floatValue());
+			}
+			else if (parameterConverter == _CONVERTER_INT) {
+				return Integer.valueOf(number.intValue());
+			}
+			else if (parameterConverter == _CONVERTER_LONG) {
+				return Long.valueOf(number.longValue());
+			}
+			else if (parameterConverter == _CONVERTER_SHORT) {
+				return Short.valueOf(number.shortValue());
+			}
+		}
+
+		return ReflectUtil.castType(value, parameterType);
+	}
+
 	public Class<?> getActionClass() {
 		return _actionClass;
 	}
@@ -84,6 +182,16 @@ public class JSONWebServiceActionConfig
 		return _path;
 	}
 
+	public Object invoke(Object[] parameters) throws Exception {
+		FastMethod fastMethod = _getFastMethod();
+
+		if (fastMethod != null) {
+			return fastMethod.invoke(null, parameters);
+		}
+
+		return _actionMethod.invoke(_actionClass, parameters);
+	}
+
 	@Override
 	public String toString() {
 		StringBundler sb = new StringBundler(11);
@@ -107,10 +215,138 @@ public class JSONWebServiceActionConfig
 		return sb.toString();
 	}
 
+	private static FastClass _getFastClass(Class<?> actionClass) {
+		FastClass fastClass = _fastClasses.get(actionClass);
+
+		if (fastClass != null) {
+			return fastClass;
+		}
+
+		// Every action of a class shares one generated class and, for plugin
+		// classes, one aggregate class loader
+
+		synchronized (_fastClasses) {
+			fastClass = _fastClasses.get(actionClass);
+
+			if (fastClass == null) {
+				ClassLoader classLoader = actionClass.getClassLoader();
+
+				ClassLoader fastClassClassLoader =
+					FastClass.class.getClassLoader();
+
+				if (classLoader != fastClassClassLoader) {
+					classLoader = AggregateClassLoader.getAggregateClassLoader(
+						new ClassLoader[] {classLoader, fastClassClassLoader});
+				}
+
+				fastClass = FastClass.create(classLoader, actionClass);
+
+				_fastClasses.put(actionClass, fastClass);
+			}
+		}
+
+		return fastClass;
+	}
+
+	private FastMethod _getFastMethod() {
+		if (_fastMethodInitialized) {
+			return _fastMethod;
+		}
+
+		synchronized (this) {
+			if (_fastMethodInitialized) {
+				return _fastMethod;
+			}
+
+			try {
+				FastClass fastClass = _getFastClass(_actionClass);
+
+				_fastMethod = fastClass.getMethod(_actionMethod);
+			}
+			catch (Throwable t) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to generate invoker for " + _actionMethod +
+							", falling back to reflection",
+						t);
+				}
+			}
+
+			_fastMethodInitialized = true;
+		}
+
+		return _fastMethod;
+	}
+
+	private int _getParameterConverter(
+		String parameterName, Class<?> parameterType) {
+
+		if ((parameterType == byte.class) || (parameterType == Byte.class)) {
+			return _CONVERTER_BYTE;
+		}
+		else if ((parameterType == double.class) ||
+				 (parameterType == Double.class)) {
+
+			return _CONVERTER_DOUBLE;
+		}
+		else if ((parameterType == float.class) ||
+				 (parameterType == Float.class)) {
+
+			return _CONVERTER_FLOAT;
+		}
+		else if ((parameterType == int.class) ||
+				 (parameterType == Integer.class)) {
+
+			return _CONVERTER_INT;
+		}
+		else if ((parameterType == long.class) ||
+				 (parameterType == Long.class)) {
+
+			return _CONVERTER_LONG;
+		}
+		else if (parameterName.equals("serviceContext") &&
+				 parameterType.equals(ServiceContext.class)) {
+
+			return _CONVERTER_SERVICE_CONTEXT;
+		}
+		else if ((parameterType == short.class) ||
+				 (parameterType == Short.class)) {
+
+			return _CONVERTER_SHORT;
+		}
+
+		return _CONVERTER_DEFAULT;
+	}
+
+	private static final int _CONVERTER_BYTE = 1;
+
+	private static final int _CONVERTER_DEFAULT = 0;
+
+	private static final int _CONVERTER_DOUBLE = 2;
+
+	private static final int _CONVERTER_FLOAT = 3;
+
+	private static final int _CONVERTER_INT = 4;
+
+	private static final int _CONVERTER_LONG = 5;
+
+	private static final int _CONVERTER_SERVICE_CONTEXT = 6;
+
+	private static final int _CONVERTER_SHORT = 7;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		JSONWebServiceActionConfig.class);
+
+	private static Map<Class<?>, FastClass> _fastClasses =
+		new ConcurrentHashMap<Class<?>, FastClass>();
+
 	private Class<?> _actionClass;
 	private Method _actionMethod;
+	private volatile FastMethod _fastMethod;
+	private volatile boolean _fastMethodInitialized;
 	private String _fullPath;
 	private String _method;
+	private int[] _parameterConverters;
 	private String[] _parameterNames;
 	private Class<?>[] _parameterTypes;
 	private String _path;
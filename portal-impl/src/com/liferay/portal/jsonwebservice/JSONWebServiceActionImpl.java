@@ -15,16 +15,12 @@
 package com.liferay.portal.jsonwebservice;
 
 import com.liferay.portal.kernel.jsonwebservice.JSONWebServiceAction;
-import com.liferay.portal.service.ServiceContext;
-
-import java.lang.reflect.Method;
 
 import java.util.List;
 
 import jodd.bean.BeanUtil;
 
 import jodd.util.KeyValue;
-import jodd.util.ReflectUtil;
 
 /**
  * @author Igor Spasic
@@ -60,35 +56,16 @@ public class JSONWebServiceActionImpl implements JSONWebServiceAction {
 		return new JSONRPCResponse(jsonRpcRequest, result, exception);
 	}
 
-	private Object _createDefaultParameterValue(
-		String parameterName, Class<?> parameterType) {
-
-		if (parameterName.equals("serviceContext") &&
-				parameterType.equals(ServiceContext.class)) {
-
-			return new ServiceContext();
-		}
-
-		return null;
-	}
-
 	private Object _invokeActionMethod() throws Exception {
-		Method actionMethod = _jsonWebServiceActionConfig.getActionMethod();
-
-		Class<?> actionClass = _jsonWebServiceActionConfig.getActionClass();
-
 		Object[] parameters = _prepareParameters();
 
-		return actionMethod.invoke(actionClass, parameters);
+		return _jsonWebServiceActionConfig.invoke(parameters);
 	}
 
 	private Object[] _prepareParameters() {
 		String[] parameterNames =
 			_jsonWebServiceActionConfig.getParameterNames();
 
-		Class<?>[] parameterTypes =
-			_jsonWebServiceActionConfig.getParameterTypes();
-
 		Object[] parameters = new Object[parameterNames.length];
 
 		for (int i = 0; i < parameterNames.length; i++) {
@@ -97,19 +74,8 @@ public class JSONWebServiceActionImpl implements JSONWebServiceAction {
 			Object value =
 				_jsonWebServiceActionParameters.getParameter(parameterName);
 
-			Object parameterValue = null;
-
-			if (value != null) {
-				Class<?> parameterType = parameterTypes[i];
-
-				if (value == Void.TYPE) {
-					parameterValue = _createDefaultParameterValue(
-						parameterName, parameterType);
-				}
-				else {
-					parameterValue = ReflectUtil.castType(value, parameterType);
-				}
-			}
+			Object parameterValue =
+				_jsonWebServiceActionConfig.convertParameterValue(i, value);
 
 			if (parameterValue != null) {
 				List<KeyValue<String, Object>> innerParameters =
@@ -39,7 +39,7 @@ public class JSONWebServiceActionParameters {
 
 	public void collectAll(
 		HttpServletRequest request, String pathParameters,
-		JSONRPCRequest jsonRpcRequest) {
+		JSONRPCRequest jsonRpcRequest, Map<String, Object> parameterMap) {
 
 		_jsonRpcRequest = jsonRpcRequest;
 
@@ -48,7 +48,14 @@ public class JSONWebServiceActionParameters {
 		_collectDefaultsFromRequestAttributes(request);
 
 		_collectFromPath(pathParameters);
-		_collectFromRequestParameters(request);
+
+		if (parameterMap == null) {
+			_collectFromRequestParameters(request);
+		}
+		else {
+			_collectFromMap(parameterMap);
+		}
+
 		_collectFromJSONRPCRequest(jsonRpcRequest);
 	}
 
@@ -110,6 +117,29 @@ public class JSONWebServiceActionParameters {
 		}
 	}
 
+	private void _collectFromMap(Map<String, Object> parameterMap) {
+		for (Map.Entry<String, Object> entry : parameterMap.entrySet()) {
+			Object value = entry.getValue();
+
+			if (value instanceof List<?>) {
+				List<?> values = (List<?>)value;
+
+				String[] parameterValues = new String[values.size()];
+
+				for (int i = 0; i < values.size(); i++) {
+					parameterValues[i] = String.valueOf(values.get(i));
+				}
+
+				value = parameterValues;
+			}
+			else if ((value instanceof Boolean) || (value instanceof Number)) {
+				value = String.valueOf(value);
+			}
+
+			_parameters.put(entry.getKey(), value);
+		}
+	}
+
 	private void _collectFromPath(String pathParameters) {
 		if (pathParameters == null) {
 			return;
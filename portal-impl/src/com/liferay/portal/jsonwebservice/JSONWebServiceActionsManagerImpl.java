@@ -17,7 +17,6 @@ package com.liferay.portal.jsonwebservice;
 import com.liferay.portal.kernel.jsonwebservice.JSONWebServiceAction;
 import com.liferay.portal.kernel.jsonwebservice.JSONWebServiceActionsManager;
 import com.liferay.portal.kernel.servlet.HttpMethods;
-import com.liferay.portal.kernel.util.BinarySearch;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.SortedArrayList;
@@ -28,6 +27,9 @@ import java.lang.reflect.Method;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -112,25 +114,22 @@ public class JSONWebServiceActionsManagerImpl
 			new JSONWebServiceActionParameters();
 
 		jsonWebServiceActionParameters.collectAll(
-			request, pathParameters, jsonRpcRequest);
+			request, pathParameters, jsonRpcRequest, null);
 
-		String[] parameterNames =
-			jsonWebServiceActionParameters.getParameterNames();
+		return _lookup(path, method, jsonWebServiceActionParameters);
+	}
 
-		int jsonWebServiceActionConfigIndex =
-			_getJSONWebServiceActionConfigIndex(path, method, parameterNames);
+	public JSONWebServiceAction lookup(
+		HttpServletRequest request, String path, String method,
+		Map<String, Object> parameterMap) {
 
-		if (jsonWebServiceActionConfigIndex == -1) {
-			throw new RuntimeException(
-				"No JSON web service action associated with path " + path +
-					" and method " + method);
-		}
+		JSONWebServiceActionParameters jsonWebServiceActionParameters =
+			new JSONWebServiceActionParameters();
 
-		JSONWebServiceActionConfig jsonWebServiceActionConfig =
-			_jsonWebServiceActionConfigs.get(jsonWebServiceActionConfigIndex);
+		jsonWebServiceActionParameters.collectAll(
+			request, null, null, parameterMap);
 
-		return new JSONWebServiceActionImpl(
-			jsonWebServiceActionConfig, jsonWebServiceActionParameters);
+		return _lookup(path, method, jsonWebServiceActionParameters);
 	}
 
 	public void registerJSONWebServiceAction(
@@ -140,7 +139,31 @@ public class JSONWebServiceActionsManagerImpl
 			new JSONWebServiceActionConfig(
 				actionClass, actionMethod, path, method);
 
-		_jsonWebServiceActionConfigs.add(jsonWebServiceActionConfig);
+		synchronized (_jsonWebServiceActionConfigs) {
+			_jsonWebServiceActionConfigs.add(jsonWebServiceActionConfig);
+
+			List<JSONWebServiceActionConfig> jsonWebServiceActionConfigs =
+				_jsonWebServiceActionConfigsMap.get(path);
+
+			if (jsonWebServiceActionConfigs == null) {
+				jsonWebServiceActionConfigs =
+					new CopyOnWriteArrayList<JSONWebServiceActionConfig>();
+
+				_jsonWebServiceActionConfigsMap.put(
+					path, jsonWebServiceActionConfigs);
+			}
+
+			int index = 0;
+
+			while ((index < jsonWebServiceActionConfigs.size()) &&
+				   (jsonWebServiceActionConfigs.get(index).compareTo(
+					   jsonWebServiceActionConfig) <= 0)) {
+
+				index++;
+			}
+
+			jsonWebServiceActionConfigs.add(index, jsonWebServiceActionConfig);
+		}
 	}
 
 	private int _countMatchedElements(
@@ -161,7 +184,7 @@ public class JSONWebServiceActionsManagerImpl
 		return matched;
 	}
 
-	private int _getJSONWebServiceActionConfigIndex(
+	private JSONWebServiceActionConfig _getJSONWebServiceActionConfig(
 		String path, String method, String[] parameterNames) {
 
 		int hint = -1;
@@ -174,25 +197,19 @@ public class JSONWebServiceActionsManagerImpl
 			path = path.substring(0, dotIndex);
 		}
 
-		int firstIndex = _pathBinarySearch.findFirst(path);
+		List<JSONWebServiceActionConfig> jsonWebServiceActionConfigs =
+			_jsonWebServiceActionConfigsMap.get(path);
 
-		if (firstIndex < 0) {
-			return -1;
+		if (jsonWebServiceActionConfigs == null) {
+			return null;
 		}
 
-		int lastIndex = _pathBinarySearch.findLast(path, firstIndex);
-
-		if (lastIndex < 0) {
-			lastIndex = firstIndex;
-		}
-
-		int index = -1;
+		JSONWebServiceActionConfig matchedJSONWebServiceActionConfig = null;
 
 		int max = -1;
 
-		for (int i = firstIndex; i <= lastIndex; i++) {
-			JSONWebServiceActionConfig jsonWebServiceActionConfig
-				= _jsonWebServiceActionConfigs.get(i);
+		for (JSONWebServiceActionConfig jsonWebServiceActionConfig :
+				jsonWebServiceActionConfigs) {
 
 			String jsonWebServiceActionConfigMethod =
 				jsonWebServiceActionConfig.getMethod();
@@ -222,12 +239,13 @@ public class JSONWebServiceActionsManagerImpl
 				if ((hint != -1) || (count >= methodArgumentsCount)) {
 					max = count;
 
-					index = i;
+					matchedJSONWebServiceActionConfig =
+						jsonWebServiceActionConfig;
 				}
 			}
 		}
 
-		return index;
+		return matchedJSONWebServiceActionConfig;
 	}
 
 	private int _getPathParametersIndex(String path) {
@@ -240,28 +258,31 @@ public class JSONWebServiceActionsManagerImpl
 		return index;
 	}
 
-	private SortedArrayList<JSONWebServiceActionConfig>
-		_jsonWebServiceActionConfigs =
-			new SortedArrayList<JSONWebServiceActionConfig>();
-	private BinarySearch<String> _pathBinarySearch  = new PathBinarySearch();
-
-	private class PathBinarySearch extends BinarySearch<String> {
+	private JSONWebServiceAction _lookup(
+		String path, String method,
+		JSONWebServiceActionParameters jsonWebServiceActionParameters) {
 
-		@Override
-		protected int compare(int index, String element) {
-			JSONWebServiceActionConfig jsonWebServiceActionConfig =
-				_jsonWebServiceActionConfigs.get(index);
-
-			String path = jsonWebServiceActionConfig.getPath();
+		String[] parameterNames =
+			jsonWebServiceActionParameters.getParameterNames();
 
-			return path.compareTo(element);
-		}
+		JSONWebServiceActionConfig jsonWebServiceActionConfig =
+			_getJSONWebServiceActionConfig(path, method, parameterNames);
 
-		@Override
-		protected int getLastIndex() {
-			return _jsonWebServiceActionConfigs.size() - 1;
+		if (jsonWebServiceActionConfig == null) {
+			throw new RuntimeException(
+				"No JSON web service action associated with path " + path +
+					" and method " + method);
 		}
 
+		return new JSONWebServiceActionImpl(
+			jsonWebServiceActionConfig, jsonWebServiceActionParameters);
 	}
 
+	private SortedArrayList<JSONWebServiceActionConfig>
+		_jsonWebServiceActionConfigs =
+			new SortedArrayList<JSONWebServiceActionConfig>();
+	private ConcurrentHashMap<String, List<JSONWebServiceActionConfig>>
+		_jsonWebServiceActionConfigsMap =
+			new ConcurrentHashMap<String, List<JSONWebServiceActionConfig>>();
+
 }
\ No newline at end of file
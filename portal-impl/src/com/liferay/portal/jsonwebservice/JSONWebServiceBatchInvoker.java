@@ -0,0 +1,635 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.jsonwebservice;
+
+import com.liferay.portal.cache.transactional.TransactionalPortalCacheHelper;
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONSerializable;
+import com.liferay.portal.kernel.json.JSONSerializer;
+import com.liferay.portal.kernel.jsonwebservice.JSONWebServiceAction;
+import com.liferay.portal.kernel.jsonwebservice.JSONWebServiceActionsManagerUtil;
+import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.User;
+import com.liferay.portal.security.auth.CompanyThreadLocal;
+import com.liferay.portal.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionCheckerFactoryUtil;
+import com.liferay.portal.security.permission.PermissionThreadLocal;
+import com.liferay.portal.service.UserLocalServiceUtil;
+import com.liferay.portal.util.PropsValues;
+
+import java.beans.BeanInfo;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.servlet.http.HttpServletRequest;
+
+import jodd.servlet.ServletUtil;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+/**
+ * Invokes the JSON web service calls of a batch request and writes their
+ * results as one JSON array, in the order of the calls.
+ *
+ * <p>
+ * The request body is either an array of calls or an object with a
+ * <code>calls</code> array and the optional <code>parallel</code> and
+ * <code>transactional</code> flags. Each call has a <code>path</code>, such as
+ * <code>/user/get-user-by-id</code>, a <code>parameters</code> object and an
+ * optional <code>name</code>. A parameter value of the form
+ * <code>$name.property</code> or <code>$index.property</code> is replaced by
+ * the public property of an earlier call's result.
+ * </p>
+ *
+ * <p>
+ * A failed call yields an exception object in its place, and calls that
+ * reference it fail too. Transactional batches run in one transaction and
+ * write a single exception object instead of the array if any call fails.
+ * Parallel batches run the calls that do not reference each other
+ * concurrently on the portal executor.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class JSONWebServiceBatchInvoker {
+
+	public JSONWebServiceBatchInvoker(HttpServletRequest request)
+		throws IOException {
+
+		_request = request;
+
+		Object batch = JSONFactoryUtil.looseDeserialize(
+			ServletUtil.readRequestBody(request));
+
+		List<?> calls = null;
+
+		if (batch instanceof Map<?, ?>) {
+			Map<?, ?> batchMap = (Map<?, ?>)batch;
+
+			calls = (List<?>)batchMap.get("calls");
+
+			_parallel = GetterUtil.getBoolean(
+				String.valueOf(batchMap.get("parallel")));
+			_transactional = GetterUtil.getBoolean(
+				String.valueOf(batchMap.get("transactional")));
+		}
+		else if (batch instanceof List<?>) {
+			calls = (List<?>)batch;
+		}
+
+		if ((calls == null) || calls.isEmpty()) {
+			throw new IllegalArgumentException("No service calls to invoke");
+		}
+
+		if (calls.size() > PropsValues.JSONWS_SERVLET_BATCH_MAX_SIZE) {
+			throw new IllegalArgumentException(
+				"Unable to invoke more than " +
+					PropsValues.JSONWS_SERVLET_BATCH_MAX_SIZE +
+						" service calls in one batch");
+		}
+
+		Map<String, Call> namedCalls = new HashMap<String, Call>();
+
+		for (int i = 0; i < calls.size(); i++) {
+			Map<String, Object> callMap = (Map<String, Object>)calls.get(i);
+
+			Call call = new Call(i, callMap, namedCalls);
+
+			_calls.add(call);
+
+			if (Validator.isNotNull(call._name)) {
+				namedCalls.put(call._name, call);
+			}
+		}
+	}
+
+	public void invoke(Writer writer) throws Exception {
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		try {
+
+			// Guests have no permission checker on the request thread, but the
+			// calls must still be checked as the guest user
+
+			if (permissionChecker == null) {
+				PermissionThreadLocal.setPermissionChecker(
+					_createPermissionChecker());
+			}
+
+			if (_transactional) {
+				_invokeTransactional(writer);
+			}
+			else if (_parallel &&
+					 PropsValues.JSONWS_SERVLET_BATCH_PARALLEL_ENABLED) {
+
+				_invokeParallel(writer);
+			}
+			else {
+				_invokeSequential(writer);
+			}
+		}
+		finally {
+			PermissionThreadLocal.setPermissionChecker(permissionChecker);
+		}
+	}
+
+	private PermissionChecker _createPermissionChecker() throws Exception {
+		User user = (User)_request.getAttribute("user");
+
+		if (user == null) {
+			user = UserLocalServiceUtil.getDefaultUser(
+				CompanyThreadLocal.getCompanyId());
+		}
+
+		return PermissionCheckerFactoryUtil.create(user, true);
+	}
+
+	private String _getMessage(Exception exception) {
+		if (exception instanceof InvocationTargetException) {
+			Throwable cause = exception.getCause();
+
+			return cause.toString();
+		}
+
+		return exception.getMessage();
+	}
+
+	private void _invokeParallel(Writer writer) throws Exception {
+		int level = 0;
+		int written = 0;
+
+		while (written < _calls.size()) {
+			List<Call> levelCalls = new ArrayList<Call>();
+
+			for (Call call : _calls) {
+				if (call._level == level) {
+					call.prepare();
+
+					if (call._exception == null) {
+						levelCalls.add(call);
+					}
+				}
+			}
+
+			List<Future<Object>> futures = new ArrayList<Future<Object>>(
+				levelCalls.size());
+
+			for (int i = 1; i < levelCalls.size(); i++) {
+				futures.add(
+					PortalExecutorManagerUtil.execute(
+						JSONWebServiceBatchInvoker.class.getName(),
+						new CallCallable(levelCalls.get(i))));
+			}
+
+			if (!levelCalls.isEmpty()) {
+				Call call = levelCalls.get(0);
+
+				call.invoke();
+			}
+
+			for (int i = 0; i < futures.size(); i++) {
+				Future<Object> future = futures.get(i);
+
+				try {
+					future.get();
+				}
+				catch (ExecutionException ee) {
+					Call call = levelCalls.get(i + 1);
+
+					call._exception = ee;
+				}
+			}
+
+			while ((written < _calls.size()) &&
+				   (_calls.get(written)._level <= level)) {
+
+				_write(writer, _calls.get(written));
+
+				written++;
+			}
+
+			writer.flush();
+
+			level++;
+		}
+
+		writer.write(CharPool.CLOSE_BRACKET);
+	}
+
+	private void _invokeSequential(Writer writer) throws IOException {
+		for (Call call : _calls) {
+			call.prepare();
+
+			if (call._exception == null) {
+				call.invoke();
+			}
+
+			_write(writer, call);
+
+			writer.flush();
+		}
+
+		writer.write(CharPool.CLOSE_BRACKET);
+	}
+
+	private void _invokeTransactional(Writer writer) throws IOException {
+		PlatformTransactionManager platformTransactionManager =
+			(PlatformTransactionManager)PortalBeanLocatorUtil.locate(
+				_TRANSACTION_MANAGER);
+
+		DefaultTransactionDefinition defaultTransactionDefinition =
+			new DefaultTransactionDefinition(
+				TransactionDefinition.PROPAGATION_REQUIRED);
+
+		defaultTransactionDefinition.setIsolationLevel(
+			PropsValues.TRANSACTION_ISOLATION_PORTAL);
+
+		TransactionStatus transactionStatus =
+			platformTransactionManager.getTransaction(
+				defaultTransactionDefinition);
+
+		TransactionalPortalCacheHelper.begin();
+
+		Call failedCall = null;
+		boolean invoked = false;
+
+		try {
+			for (Call call : _calls) {
+				call.prepare();
+
+				if (call._exception == null) {
+					call.invoke();
+				}
+
+				if (call._exception != null) {
+					failedCall = call;
+
+					break;
+				}
+			}
+
+			invoked = true;
+		}
+		finally {
+			if (!invoked) {
+				TransactionalPortalCacheHelper.rollback();
+
+				platformTransactionManager.rollback(transactionStatus);
+			}
+		}
+
+		Exception exception = null;
+
+		if (failedCall != null) {
+			TransactionalPortalCacheHelper.rollback();
+
+			platformTransactionManager.rollback(transactionStatus);
+
+			exception = new Exception(
+				"Rolled back the batch because service call " +
+					failedCall._index + " failed: " +
+						_getMessage(failedCall._exception));
+		}
+		else {
+			try {
+				platformTransactionManager.commit(transactionStatus);
+
+				TransactionalPortalCacheHelper.commit();
+			}
+			catch (TransactionException te) {
+				TransactionalPortalCacheHelper.rollback();
+
+				exception = te;
+			}
+		}
+
+		if (exception != null) {
+			writer.write(JSONFactoryUtil.serializeException(exception));
+
+			return;
+		}
+
+		for (Call call : _calls) {
+			_write(writer, call);
+		}
+
+		writer.write(CharPool.CLOSE_BRACKET);
+	}
+
+	private void _write(Writer writer, Call call) throws IOException {
+		if (call._index == 0) {
+			writer.write(CharPool.OPEN_BRACKET);
+		}
+		else {
+			writer.write(CharPool.COMMA);
+		}
+
+		if (call._exception != null) {
+			writer.write(JSONFactoryUtil.serializeException(call._exception));
+		}
+		else if (call._result == null) {
+			writer.write(JSONFactoryUtil.getNullJSON());
+		}
+		else if (call._result instanceof JSONSerializable) {
+			JSONSerializable jsonSerializable =
+				(JSONSerializable)call._result;
+
+			writer.write(jsonSerializable.toJSONString());
+		}
+		else {
+			JSONSerializer jsonSerializer =
+				JSONFactoryUtil.createJSONSerializer();
+
+			jsonSerializer.exclude("*.class");
+
+			jsonSerializer.serialize(call._result, writer);
+		}
+	}
+
+	private static final String _TRANSACTION_MANAGER =
+		"liferayTransactionManager";
+
+	private List<Call> _calls = new ArrayList<Call>();
+	private boolean _parallel;
+	private HttpServletRequest _request;
+	private boolean _transactional;
+
+	private class Call {
+
+		public Call(
+			int index, Map<String, Object> callMap,
+			Map<String, Call> namedCalls) {
+
+			_index = index;
+			_name = GetterUtil.getString((String)callMap.get("name"));
+			_path = GetterUtil.getString((String)callMap.get("path"));
+
+			Map<String, Object> parameters = (Map<String, Object>)callMap.get(
+				"parameters");
+
+			if (parameters == null) {
+				parameters = new HashMap<String, Object>();
+			}
+
+			_parameters = parameters;
+
+			for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+				Object value = entry.getValue();
+
+				if (!(value instanceof String)) {
+					continue;
+				}
+
+				String reference = (String)value;
+
+				if (!reference.startsWith(StringPool.DOLLAR)) {
+					continue;
+				}
+
+				String callName = reference.substring(1);
+				String propertyName = null;
+
+				int pos = callName.indexOf(CharPool.PERIOD);
+
+				if (pos != -1) {
+					propertyName = callName.substring(pos + 1);
+					callName = callName.substring(0, pos);
+				}
+
+				Call call = namedCalls.get(callName);
+
+				if ((call == null) && Validator.isNumber(callName)) {
+					int callIndex = GetterUtil.getInteger(callName);
+
+					if (callIndex < index) {
+						call = _calls.get(callIndex);
+					}
+				}
+
+				if (call == null) {
+					throw new IllegalArgumentException(
+						"Service call " + index + " references unknown " +
+							"service call " + callName);
+				}
+
+				_level = Math.max(_level, call._level + 1);
+
+				_references.put(
+					entry.getKey(),
+					new Reference(call, propertyName));
+			}
+		}
+
+		public void invoke() {
+			try {
+				_result = _jsonWebServiceAction.invoke();
+			}
+			catch (Exception e) {
+				_exception = e;
+			}
+		}
+
+		public void prepare() {
+			try {
+				Map<String, Object> parameterMap =
+					new HashMap<String, Object>(_parameters);
+
+				for (Map.Entry<String, Reference> entry :
+						_references.entrySet()) {
+
+					Reference reference = entry.getValue();
+
+					parameterMap.put(entry.getKey(), reference.getValue());
+				}
+
+				_jsonWebServiceAction = JSONWebServiceActionsManagerUtil.lookup(
+					_request, _path, null, parameterMap);
+			}
+			catch (Exception e) {
+				_exception = e;
+			}
+		}
+
+		private Exception _exception;
+		private int _index;
+		private JSONWebServiceAction _jsonWebServiceAction;
+		private int _level;
+		private String _name;
+		private Map<String, Object> _parameters;
+		private String _path;
+		private Map<String, Reference> _references =
+			new HashMap<String, Reference>();
+		private Object _result;
+
+	}
+
+	private class CallCallable implements Callable<Object> {
+
+		public CallCallable(Call call) throws Exception {
+			_call = call;
+
+			_companyId = CompanyThreadLocal.getCompanyId();
+			_name = PrincipalThreadLocal.getName();
+			_password = PrincipalThreadLocal.getPassword();
+			_permissionChecker = _createPermissionChecker();
+
+			Thread currentThread = Thread.currentThread();
+
+			_contextClassLoader = currentThread.getContextClassLoader();
+		}
+
+		public Object call() throws Exception {
+			Thread currentThread = Thread.currentThread();
+
+			ClassLoader contextClassLoader =
+				currentThread.getContextClassLoader();
+
+			// Pool threads are shared, so the caller's identity must not be
+			// left behind for whatever runs on this thread next
+
+			Long companyId = CompanyThreadLocal.getCompanyId();
+			PermissionChecker permissionChecker =
+				PermissionThreadLocal.getPermissionChecker();
+			String name = PrincipalThreadLocal.getName();
+			String password = PrincipalThreadLocal.getPassword();
+
+			try {
+				currentThread.setContextClassLoader(_contextClassLoader);
+
+				CompanyThreadLocal.setCompanyId(_companyId);
+				PermissionThreadLocal.setPermissionChecker(_permissionChecker);
+				PrincipalThreadLocal.setName(_name);
+				PrincipalThreadLocal.setPassword(_password);
+
+				_call.invoke();
+
+				return _call._result;
+			}
+			finally {
+				currentThread.setContextClassLoader(contextClassLoader);
+
+				CompanyThreadLocal.setCompanyId(companyId);
+				PermissionThreadLocal.setPermissionChecker(permissionChecker);
+				PrincipalThreadLocal.setName(name);
+				PrincipalThreadLocal.setPassword(password);
+			}
+		}
+
+		private Call _call;
+		private Long _companyId;
+		private ClassLoader _contextClassLoader;
+		private String _name;
+		private String _password;
+		private PermissionChecker _permissionChecker;
+
+	}
+
+	private class Reference {
+
+		public Reference(Call call, String propertyName) {
+			_call = call;
+			_propertyName = propertyName;
+		}
+
+		public Object getValue() throws Exception {
+			if (_call._exception != null) {
+				throw new IllegalStateException(
+					"Referenced service call " + _call._index + " failed");
+			}
+
+			if (Validator.isNull(_propertyName) || (_call._result == null)) {
+				return _call._result;
+			}
+
+			String[] names = StringUtil.split(_propertyName, CharPool.PERIOD);
+
+			Object value = _call._result;
+
+			for (String name : names) {
+				if (value == null) {
+					break;
+				}
+
+				if (value instanceof Map<?, ?>) {
+					Map<?, ?> map = (Map<?, ?>)value;
+
+					value = map.get(name);
+				}
+				else {
+					value = _getProperty(value, name);
+				}
+			}
+
+			return value;
+		}
+
+		private Object _getProperty(Object bean, String name)
+			throws Exception {
+
+			BeanInfo beanInfo = Introspector.getBeanInfo(bean.getClass());
+
+			for (PropertyDescriptor propertyDescriptor :
+					beanInfo.getPropertyDescriptors()) {
+
+				if (!name.equals(propertyDescriptor.getName())) {
+					continue;
+				}
+
+				Method readMethod = propertyDescriptor.getReadMethod();
+
+				if (readMethod == null) {
+					break;
+				}
+
+				return readMethod.invoke(bean);
+			}
+
+			throw new IllegalArgumentException(
+				"Service call " + _call._index + " has no public property " +
+					name);
+		}
+
+		private Call _call;
+		private String _propertyName;
+
+	}
+
+}
\ No newline at end of file
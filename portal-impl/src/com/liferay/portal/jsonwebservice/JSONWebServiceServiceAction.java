@@ -20,11 +20,17 @@ import com.liferay.portal.kernel.jsonwebservice.JSONWebServiceAction;
 import com.liferay.portal.kernel.jsonwebservice.JSONWebServiceActionsManagerUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.servlet.HttpHeaders;
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.GetterUtil;
+
+import java.io.PrintWriter;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.struts.action.ActionForm;
+import org.apache.struts.action.ActionForward;
 import org.apache.struts.action.ActionMapping;
 
 /**
@@ -47,6 +53,51 @@ public class JSONWebServiceServiceAction extends JSONServiceAction {
 		}
 	}
 
+	@Override
+	public ActionForward execute(
+			ActionMapping actionMapping, ActionForm actionForm,
+			HttpServletRequest request, HttpServletResponse response)
+		throws Exception {
+
+		String path = GetterUtil.getString(request.getPathInfo());
+
+		if (!path.equals(_BATCH_PATH)) {
+			return super.execute(actionMapping, actionForm, request, response);
+		}
+
+		if (rerouteExecute(request, response)) {
+			return null;
+		}
+
+		response.setContentType(ContentTypes.TEXT_JAVASCRIPT);
+		response.setHeader(
+			HttpHeaders.CACHE_CONTROL,
+			HttpHeaders.CACHE_CONTROL_NO_CACHE_VALUE);
+
+		PrintWriter printWriter = response.getWriter();
+
+		try {
+			JSONWebServiceBatchInvoker jsonWebServiceBatchInvoker =
+				new JSONWebServiceBatchInvoker(request);
+
+			jsonWebServiceBatchInvoker.invoke(printWriter);
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+
+			if (!response.isCommitted()) {
+				response.resetBuffer();
+
+				printWriter.write(JSONFactoryUtil.serializeException(e));
+			}
+		}
+		finally {
+			printWriter.close();
+		}
+
+		return null;
+	}
+
 	@Override
 	public String getJSON(
 			ActionMapping actionMapping, ActionForm actionForm,
@@ -78,6 +129,8 @@ public class JSONWebServiceServiceAction extends JSONServiceAction {
 		return _REROUTE_PATH;
 	}
 
+	private static final String _BATCH_PATH = "/invoke";
+
 	private static final String _REROUTE_PATH = "/jsonws";
 
 	private static Log _log = LogFactoryUtil.getLog(
@@ -27,6 +27,7 @@ import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.MapUtil;
 import com.liferay.portal.kernel.util.ReleaseInfo;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
@@ -81,6 +82,7 @@ import com.liferay.util.ContentUtil;
 import de.schlichtherle.io.FileInputStream;
 
 import java.io.File;
+import java.io.InputStream;
 
 import java.util.Date;
 import java.util.HashSet;
@@ -894,9 +896,15 @@ public class LayoutExporter {
 					path + StringPool.SLASH + file.getName(), file, zipWriter);
 			}
 			else {
-				zipWriter.addEntry(
-					path + StringPool.SLASH + file.getName(),
-					FileUtil.getBytes(file));
+				InputStream inputStream = new FileInputStream(file);
+
+				try {
+					zipWriter.addEntry(
+						path + StringPool.SLASH + file.getName(), inputStream);
+				}
+				finally {
+					StreamUtil.cleanUp(inputStream);
+				}
 			}
 		}
 	}
@@ -30,6 +30,7 @@ import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.KeyValuePair;
 import com.liferay.portal.kernel.util.ListUtil;
 import com.liferay.portal.kernel.util.MapUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
@@ -109,6 +110,9 @@ import com.thoughtworks.xstream.XStream;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
 import java.io.Serializable;
 
 import java.util.ArrayList;
@@ -778,7 +782,44 @@ public class PortletDataContextImpl implements PortletDataContext {
 	}
 
 	public Object getZipEntryAsObject(String path) {
-		return fromXML(getZipEntryAsString(path));
+		InputStream inputStream = getZipEntryAsInputStream(path);
+
+		if (inputStream == null) {
+			return null;
+		}
+
+		try {
+			PushbackInputStream pushbackInputStream = new PushbackInputStream(
+				inputStream);
+
+			// Match fromXML(String), which returns null for a blank entry
+			// instead of failing on an empty document
+
+			int b = pushbackInputStream.read();
+
+			while ((b != -1) && Character.isWhitespace(b)) {
+				b = pushbackInputStream.read();
+			}
+
+			if (b == -1) {
+				return null;
+			}
+
+			pushbackInputStream.unread(b);
+
+			Reader reader = new InputStreamReader(
+				pushbackInputStream, StringPool.UTF8);
+
+			return _xStream.fromXML(reader);
+		}
+		catch (IOException ioe) {
+			_log.error(ioe, ioe);
+
+			return null;
+		}
+		finally {
+			StreamUtil.cleanUp(inputStream);
+		}
 	}
 
 	public String getZipEntryAsString(String path) {
@@ -20,6 +20,7 @@ import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.staging.LayoutStagingUtil;
 import com.liferay.portal.service.LayoutRevisionLocalServiceUtil;
 import com.liferay.portal.servlet.filters.cache.CacheUtil;
+import com.liferay.portal.util.LayoutSetTreeUtil;
 
 /**
  * @author Alexander Chow
@@ -30,11 +31,15 @@ public class LayoutListener extends BaseModelListener<Layout> {
 	@Override
 	public void onAfterCreate(Layout layout) {
 		clearCache(layout);
+
+		LayoutSetTreeUtil.updateLayout(layout);
 	}
 
 	@Override
 	public void onAfterRemove(Layout layout) {
 		clearCache(layout);
+
+		LayoutSetTreeUtil.removeLayout(layout);
 	}
 
 	@Override
@@ -64,6 +69,8 @@ public class LayoutListener extends BaseModelListener<Layout> {
 	@Override
 	public void onAfterUpdate(Layout layout) {
 		clearCache(layout);
+
+		LayoutSetTreeUtil.updateLayout(layout);
 	}
 
 	protected void clearCache(Layout layout) {
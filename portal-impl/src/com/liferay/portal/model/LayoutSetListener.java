@@ -15,6 +15,7 @@
 package com.liferay.portal.model;
 
 import com.liferay.portal.servlet.filters.cache.CacheUtil;
+import com.liferay.portal.util.LayoutSetTreeUtil;
 
 /**
  * @author Alexander Chow
@@ -25,6 +26,9 @@ public class LayoutSetListener extends BaseModelListener<LayoutSet> {
 	@Override
 	public void onAfterRemove(LayoutSet layoutSet) {
 		clearCache(layoutSet);
+
+		LayoutSetTreeUtil.removeLayoutSetTree(
+			layoutSet.getGroupId(), layoutSet.isPrivateLayout());
 	}
 
 	@Override
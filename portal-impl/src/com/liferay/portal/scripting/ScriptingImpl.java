@@ -14,24 +14,38 @@
 
 package com.liferay.portal.scripting;
 
+import com.liferay.portal.kernel.executor.CopyThreadLocalCallable;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.io.unsync.UnsyncStringReader;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.scripting.ExecutionException;
+import com.liferay.portal.kernel.scripting.ScriptStatistics;
 import com.liferay.portal.kernel.scripting.Scripting;
 import com.liferay.portal.kernel.scripting.ScriptingException;
 import com.liferay.portal.kernel.scripting.ScriptingExecutor;
 import com.liferay.portal.kernel.scripting.UnsupportedLanguageException;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.util.PropsValues;
 
 import java.io.IOException;
 import java.io.LineNumberReader;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.portlet.ActionRequest;
 import javax.portlet.ActionResponse;
@@ -83,22 +97,53 @@ public class ScriptingImpl implements Scripting {
 			throw new UnsupportedLanguageException(language);
 		}
 
-		StopWatch stopWatch = null;
+		ScriptStatistics scriptStatistics = getScriptStatistics(
+			language, script);
 
-		if (_log.isDebugEnabled()) {
-			stopWatch = new StopWatch();
+		StopWatch stopWatch = new StopWatch();
 
-			stopWatch.start();
-		}
+		stopWatch.start();
+
+		boolean success = false;
+		boolean timeout = false;
 
 		try {
-			return scriptingExecutor.eval(
-				allowedClasses, inputObjects, outputNames, script);
+			Map<String, Object> outputObjects = null;
+
+			if (PropsValues.SCRIPTING_EXECUTION_TIMEOUT > 0) {
+				outputObjects = doEval(
+					scriptingExecutor, allowedClasses, inputObjects,
+					outputNames, language, script,
+					PropsValues.SCRIPTING_EXECUTION_TIMEOUT);
+			}
+			else {
+				outputObjects = scriptingExecutor.eval(
+					allowedClasses, inputObjects, outputNames, script);
+			}
+
+			success = true;
+
+			return outputObjects;
+		}
+		catch (TimeoutException te) {
+			timeout = true;
+
+			throw new ExecutionException(
+				"Script execution exceeded " +
+					PropsValues.SCRIPTING_EXECUTION_TIMEOUT + " ms",
+				te);
 		}
 		catch (Exception e) {
 			throw new ScriptingException(getErrorMessage(script, e), e);
 		}
 		finally {
+			stopWatch.stop();
+
+			if (scriptStatistics != null) {
+				scriptStatistics.recordExecution(
+					stopWatch.getTime(), success, timeout);
+			}
+
 			if (_log.isDebugEnabled()) {
 				_log.debug(
 					"Evaluated script in " + stopWatch.getTime() + " ms");
@@ -156,6 +201,19 @@ public class ScriptingImpl implements Scripting {
 		return objects;
 	}
 
+	public List<ScriptStatistics> getScriptStatistics() {
+		List<ScriptStatistics> scriptStatisticsList =
+			new ArrayList<ScriptStatistics>();
+
+		for (Map<String, ScriptStatistics> scriptStatisticsMap :
+				_scriptStatisticsMaps.values()) {
+
+			scriptStatisticsList.addAll(scriptStatisticsMap.values());
+		}
+
+		return scriptStatisticsList;
+	}
+
 	public Set<String> getSupportedLanguages() {
 		return _scriptingExecutors.keySet();
 	}
@@ -170,6 +228,70 @@ public class ScriptingImpl implements Scripting {
 		}
 	}
 
+	protected Map<String, Object> doEval(
+			final ScriptingExecutor scriptingExecutor,
+			final Set<String> allowedClasses,
+			final Map<String, Object> inputObjects,
+			final Set<String> outputNames, String language,
+			final String script, long timeout)
+		throws Exception {
+
+		Thread currentThread = Thread.currentThread();
+
+		final ClassLoader contextClassLoader =
+			currentThread.getContextClassLoader();
+
+		CopyThreadLocalCallable<Map<String, Object>> callable =
+			new CopyThreadLocalCallable<Map<String, Object>>(true, true) {
+
+				@Override
+				public Map<String, Object> doCall() throws Exception {
+					Thread currentThread = Thread.currentThread();
+
+					ClassLoader poolClassLoader =
+						currentThread.getContextClassLoader();
+
+					currentThread.setContextClassLoader(contextClassLoader);
+
+					try {
+						return scriptingExecutor.eval(
+							allowedClasses, inputObjects, outputNames, script);
+					}
+					finally {
+						currentThread.setContextClassLoader(poolClassLoader);
+					}
+				}
+
+			};
+
+		Future<Map<String, Object>> future =
+			PortalExecutorManagerUtil.execute(
+				ScriptingImpl.class.getName() + StringPool.POUND + language,
+				callable);
+
+		try {
+			return future.get(timeout, TimeUnit.MILLISECONDS);
+		}
+		catch (java.util.concurrent.ExecutionException ee) {
+			Throwable cause = ee.getCause();
+
+			if (cause instanceof Exception) {
+				throw (Exception)cause;
+			}
+
+			throw ee;
+		}
+		catch (TimeoutException te) {
+
+			// Cancelling only interrupts the pool thread. A script that does
+			// not check for interruption keeps running until it finishes.
+
+			future.cancel(true);
+
+			throw te;
+		}
+	}
+
 	protected String getErrorMessage(Exception e) {
 		String message = e.getMessage();
 
@@ -225,8 +347,66 @@ public class ScriptingImpl implements Scripting {
 		return sb.toString();
 	}
 
+	protected ScriptStatistics getScriptStatistics(
+		String language, String script) {
+
+		// Statistics are looked up by the script itself. The executors already
+		// hash every script for their caches, so the hash that identifies the
+		// statistics is only computed the first time a script is seen.
+
+		ConcurrentMap<String, ScriptStatistics> scriptStatisticsMap =
+			_scriptStatisticsMaps.get(language);
+
+		if (scriptStatisticsMap == null) {
+			scriptStatisticsMap =
+				new ConcurrentHashMap<String, ScriptStatistics>();
+
+			ConcurrentMap<String, ScriptStatistics>
+				previousScriptStatisticsMap =
+					_scriptStatisticsMaps.putIfAbsent(
+						language, scriptStatisticsMap);
+
+			if (previousScriptStatisticsMap != null) {
+				scriptStatisticsMap = previousScriptStatisticsMap;
+			}
+		}
+
+		ScriptStatistics scriptStatistics = scriptStatisticsMap.get(script);
+
+		if (scriptStatistics != null) {
+			return scriptStatistics;
+		}
+
+		if (_scriptStatisticsCount.get() >=
+				PropsValues.SCRIPTING_STATISTICS_MAX_SIZE) {
+
+			return null;
+		}
+
+		String scriptKey = language.concat(StringPool.POUND).concat(
+			DigesterUtil.digestHex(Digester.SHA_1, script));
+
+		scriptStatistics = new ScriptStatistics(language, scriptKey, script);
+
+		ScriptStatistics previousScriptStatistics =
+			scriptStatisticsMap.putIfAbsent(script, scriptStatistics);
+
+		if (previousScriptStatistics != null) {
+			return previousScriptStatistics;
+		}
+
+		_scriptStatisticsCount.incrementAndGet();
+
+		return scriptStatistics;
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(ScriptingImpl.class);
 
+	private AtomicInteger _scriptStatisticsCount = new AtomicInteger();
+	private ConcurrentMap<String, ConcurrentMap<String, ScriptStatistics>>
+		_scriptStatisticsMaps =
+			new ConcurrentHashMap
+				<String, ConcurrentMap<String, ScriptStatistics>>();
 	private Map<String, ScriptingExecutor> _scriptingExecutors =
 		new ConcurrentHashMap<String, ScriptingExecutor>();
 
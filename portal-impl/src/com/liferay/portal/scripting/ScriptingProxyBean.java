@@ -15,9 +15,11 @@
 package com.liferay.portal.scripting;
 
 import com.liferay.portal.kernel.messaging.proxy.BaseProxyBean;
+import com.liferay.portal.kernel.scripting.ScriptStatistics;
 import com.liferay.portal.kernel.scripting.Scripting;
 import com.liferay.portal.kernel.scripting.ScriptingExecutor;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -62,6 +64,10 @@ public class ScriptingProxyBean extends BaseProxyBean implements Scripting {
 		throw new UnsupportedOperationException();
 	}
 
+	public List<ScriptStatistics> getScriptStatistics() {
+		throw new UnsupportedOperationException();
+	}
+
 	public Set<String> getSupportedLanguages() {
 		throw new UnsupportedOperationException();
 	}
@@ -18,6 +18,8 @@ import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.scripting.BaseScriptingExecutor;
 import com.liferay.portal.kernel.scripting.ExecutionException;
 import com.liferay.portal.kernel.scripting.ScriptingException;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
 
 import groovy.lang.Binding;
 import groovy.lang.GroovyShell;
@@ -27,6 +29,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+import org.codehaus.groovy.runtime.InvokerHelper;
+
 /**
  * @author Alberto Montero
  * @author Brian Wing Shun Chan
@@ -52,11 +56,15 @@ public class GroovyExecutor extends BaseScriptingExecutor {
 				"Constrained execution not supported for Groovy");
 		}
 
-		Script compiledScript = getCompiledScript(script);
+		Class<? extends Script> scriptClass = getScriptClass(script);
 
 		Binding binding = new Binding(inputObjects);
 
-		compiledScript.setBinding(binding);
+		// Each evaluation gets its own instance of the compiled class so that
+		// concurrent evaluations of the same script do not share a binding
+
+		Script compiledScript = InvokerHelper.createScript(
+			scriptClass, binding);
 
 		compiledScript.run();
 
@@ -77,7 +85,7 @@ public class GroovyExecutor extends BaseScriptingExecutor {
 		return LANGUAGE;
 	}
 
-	protected Script getCompiledScript(String script) {
+	protected Class<? extends Script> getScriptClass(String script) {
 		if (_groovyShell == null) {
 			synchronized (this) {
 				if (_groovyShell == null) {
@@ -86,17 +94,20 @@ public class GroovyExecutor extends BaseScriptingExecutor {
 			}
 		}
 
-		String key = String.valueOf(script.hashCode());
+		String key = DigesterUtil.digestHex(Digester.SHA_1, script);
+
+		Class<? extends Script> scriptClass =
+			(Class<? extends Script>)SingleVMPoolUtil.get(CACHE_NAME, key);
 
-		Script compiledScript = (Script)SingleVMPoolUtil.get(CACHE_NAME, key);
+		if (scriptClass == null) {
+			Script compiledScript = _groovyShell.parse(script);
 
-		if (compiledScript == null) {
-			compiledScript = _groovyShell.parse(script);
+			scriptClass = compiledScript.getClass();
 
-			SingleVMPoolUtil.put(CACHE_NAME, key, compiledScript);
+			SingleVMPoolUtil.put(CACHE_NAME, key, scriptClass);
 		}
 
-		return compiledScript;
+		return scriptClass;
 	}
 
 	private volatile GroovyShell _groovyShell;
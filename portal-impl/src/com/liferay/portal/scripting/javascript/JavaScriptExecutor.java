@@ -21,6 +21,8 @@ import com.liferay.mozilla.javascript.ScriptableObject;
 import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.scripting.BaseScriptingExecutor;
 import com.liferay.portal.kernel.scripting.ScriptingException;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -94,7 +96,7 @@ public class JavaScriptExecutor extends BaseScriptingExecutor {
 	}
 
 	protected Script getCompiledScript(String script) {
-		String key = String.valueOf(script.hashCode());
+		String key = DigesterUtil.digestHex(Digester.SHA_1, script);
 
 		Script compiledScript = (Script)SingleVMPoolUtil.get(CACHE_NAME, key);
 
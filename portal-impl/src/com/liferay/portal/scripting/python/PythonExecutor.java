@@ -18,6 +18,8 @@ import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.scripting.BaseScriptingExecutor;
 import com.liferay.portal.kernel.scripting.ExecutionException;
 import com.liferay.portal.kernel.scripting.ScriptingException;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -96,7 +98,7 @@ public class PythonExecutor extends BaseScriptingExecutor {
 			}
 		}
 
-		String key = String.valueOf(script.hashCode());
+		String key = DigesterUtil.digestHex(Digester.SHA_1, script);
 
 		PyCode compiledScript = (PyCode)SingleVMPoolUtil.get(CACHE_NAME, key);
 
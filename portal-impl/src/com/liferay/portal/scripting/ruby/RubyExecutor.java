@@ -14,26 +14,33 @@
 
 package com.liferay.portal.scripting.ruby;
 
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.scripting.BaseScriptingExecutor;
 import com.liferay.portal.kernel.scripting.ExecutionException;
 import com.liferay.portal.kernel.scripting.ScriptingException;
 import com.liferay.portal.kernel.servlet.WebDirDetector;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jruby.RubyInstanceConfig.CompileMode;
 import org.jruby.RubyInstanceConfig;
+import org.jruby.embed.EmbedEvalUnit;
 import org.jruby.embed.LocalContextScope;
 import org.jruby.embed.ScriptingContainer;
 import org.jruby.embed.internal.LocalContextProvider;
@@ -45,6 +52,8 @@ import org.jruby.exceptions.RaiseException;
  */
 public class RubyExecutor extends BaseScriptingExecutor {
 
+	public static final String CACHE_NAME = RubyExecutor.class.getName();
+
 	public static final String LANGUAGE = "ruby";
 
 	public RubyExecutor() {
@@ -87,6 +96,16 @@ public class RubyExecutor extends BaseScriptingExecutor {
 		rubyInstanceConfig.setLoadPaths(_loadPaths);
 
 		_scriptingContainer.setCurrentDirectory(_basePath);
+
+		// Parsed scripts belong to this executor's runtime
+
+		_cacheKeyPrefix =
+			_executorCounter.incrementAndGet() + StringPool.POUND;
+	}
+
+	@Override
+	public void clearCache() {
+		SingleVMPoolUtil.clear(CACHE_NAME);
 	}
 
 	@Override
@@ -139,12 +158,13 @@ public class RubyExecutor extends BaseScriptingExecutor {
 				_scriptingContainer.put(inputName, inputObject);
 			}
 
-			if (scriptFile != null) {
-				_scriptingContainer.runScriptlet(
-					new FileInputStream(scriptFile), scriptFile.toString());
-			}
-			else {
-				_scriptingContainer.runScriptlet(script);
+			EmbedEvalUnit embedEvalUnit = getEmbedEvalUnit(scriptFile, script);
+
+			// A parsed script keeps its top level scope, so concurrent runs of
+			// the same script must not overlap
+
+			synchronized (embedEvalUnit) {
+				embedEvalUnit.run();
 			}
 
 			if (outputNames == null) {
@@ -164,16 +184,56 @@ public class RubyExecutor extends BaseScriptingExecutor {
 			throw new ScriptingException(
 				re.getException().message.asJavaString() + "\n\n", re);
 		}
-		catch (FileNotFoundException fnfe) {
-			throw new ScriptingException(fnfe);
+		catch (IOException ioe) {
+			throw new ScriptingException(ioe);
+		}
+	}
+
+	protected EmbedEvalUnit getEmbedEvalUnit(File scriptFile, String script)
+		throws IOException {
+
+		if (scriptFile != null) {
+			script = FileUtil.read(scriptFile);
+		}
+
+		String key = _cacheKeyPrefix.concat(
+			DigesterUtil.digestHex(Digester.SHA_1, script));
+
+		EmbedEvalUnit embedEvalUnit = (EmbedEvalUnit)SingleVMPoolUtil.get(
+			CACHE_NAME, key);
+
+		if (embedEvalUnit != null) {
+			return embedEvalUnit;
 		}
+
+		if (scriptFile != null) {
+			InputStream inputStream = new FileInputStream(scriptFile);
+
+			try {
+				embedEvalUnit = _scriptingContainer.parse(
+					inputStream, scriptFile.toString());
+			}
+			finally {
+				inputStream.close();
+			}
+		}
+		else {
+			embedEvalUnit = _scriptingContainer.parse(script);
+		}
+
+		SingleVMPoolUtil.put(CACHE_NAME, key, embedEvalUnit);
+
+		return embedEvalUnit;
 	}
 
 	private static final String _COMPILE_MODE_FORCE = "force";
 
 	private static final String _COMPILE_MODE_JIT = "jit";
 
+	private static AtomicInteger _executorCounter = new AtomicInteger();
+
 	private String _basePath;
+	private String _cacheKeyPrefix;
 	private List<String> _loadPaths;
 	private ScriptingContainer _scriptingContainer;
 
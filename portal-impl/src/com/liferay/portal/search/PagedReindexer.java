@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search;
+
+import com.liferay.portal.kernel.dao.shard.ShardUtil;
+import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.util.PropsValues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Splits the offset pages of one indexer's entries across
+ * index.reindex.page.thread.pool.size threads. The calling thread also
+ * processes pages, so a pool size of 1 reindexes the pages sequentially.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public abstract class PagedReindexer {
+
+	public PagedReindexer(long companyId, int count) {
+		_companyId = companyId;
+		_pages = (count / Indexer.DEFAULT_INTERVAL) + 1;
+	}
+
+	public void reindex() throws Exception {
+		int threadPoolSize = Math.min(
+			PropsValues.INDEX_REINDEX_PAGE_THREAD_POOL_SIZE, _pages);
+
+		if (threadPoolSize <= 1) {
+			reindexPages();
+
+			return;
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			threadPoolSize - 1,
+			new NamedThreadFactory(
+				getClass().getName() + "-" + _companyId,
+				Thread.NORM_PRIORITY, PortalClassLoaderUtil.getClassLoader()));
+
+		try {
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+			for (int i = 1; i < threadPoolSize; i++) {
+				futures.add(executorService.submit(new PagesCallable()));
+			}
+
+			Throwable throwable = null;
+
+			try {
+				reindexPages();
+			}
+			catch (Exception e) {
+				throwable = e;
+			}
+
+			for (Future<Void> future : futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException ee) {
+					if (throwable == null) {
+						throwable = ee.getCause();
+					}
+				}
+			}
+
+			if (throwable instanceof Error) {
+				throw (Error)throwable;
+			}
+			else if (throwable != null) {
+				throw (Exception)throwable;
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	protected abstract void reindex(int start, int end) throws Exception;
+
+	protected void reindexPages() throws Exception {
+		int page = 0;
+
+		while ((page = _nextPage.getAndIncrement()) < _pages) {
+			int start = page * Indexer.DEFAULT_INTERVAL;
+			int end = start + Indexer.DEFAULT_INTERVAL;
+
+			try {
+				reindex(start, end);
+			}
+			catch (Exception e) {
+
+				// Stop the other threads from taking further pages
+
+				_nextPage.set(_pages);
+
+				throw e;
+			}
+		}
+	}
+
+	private long _companyId;
+	private AtomicInteger _nextPage = new AtomicInteger();
+	private int _pages;
+
+	private class PagesCallable implements Callable<Void> {
+
+		public Void call() throws Exception {
+			ShardUtil.pushCompanyService(_companyId);
+
+			try {
+				reindexPages();
+			}
+			finally {
+				ShardUtil.popCompanyService();
+			}
+
+			return null;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.portal.search;
 
+import com.liferay.portal.NoSuchResourceActionException;
 import com.liferay.portal.NoSuchResourceException;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.log.Log;
@@ -56,6 +57,7 @@ import com.liferay.portal.service.UserLocalServiceUtil;
 import com.liferay.portal.util.PropsValues;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -446,39 +448,43 @@ public class SearchPermissionCheckerImpl implements SearchPermissionChecker {
 			permissionQuery.addTerm(Field.USER_ID, userId);
 		}
 
-		for (Role role : roles) {
+		long[] roleIds = new long[roles.size()];
+
+		for (int i = 0; i < roles.size(); i++) {
+			Role role = roles.get(i);
+
 			if (role.getName().equals(RoleConstants.ADMINISTRATOR)) {
 				return query;
 			}
 
-			long roleId = role.getRoleId();
+			roleIds[i] = role.getRoleId();
+		}
 
-			if (ResourcePermissionLocalServiceUtil.hasResourcePermission(
-					companyId, className, ResourceConstants.SCOPE_COMPANY,
-					String.valueOf(companyId), roleId, ActionKeys.VIEW)) {
+		String[] groupPrimKeys = new String[groups.size()];
 
-				return query;
-			}
+		for (int i = 0; i < groups.size(); i++) {
+			Group group = groups.get(i);
 
-			if (ResourcePermissionLocalServiceUtil.hasResourcePermission(
-					companyId, className,
-					ResourceConstants.SCOPE_GROUP_TEMPLATE,
-					String.valueOf(GroupConstants.DEFAULT_PARENT_GROUP_ID),
-					roleId, ActionKeys.VIEW)) {
-
-				return query;
-			}
+			groupPrimKeys[i] = String.valueOf(group.getGroupId());
+		}
 
-			for (Group group : groups) {
-				if (ResourcePermissionLocalServiceUtil.hasResourcePermission(
-						companyId, className, ResourceConstants.SCOPE_GROUP,
-						String.valueOf(group.getGroupId()), roleId,
-						ActionKeys.VIEW)) {
+		if (hasResourcePermissions(
+				companyId, className, ResourceConstants.SCOPE_COMPANY,
+				new String[] {String.valueOf(companyId)}, roleIds) ||
+			hasResourcePermissions(
+				companyId, className, ResourceConstants.SCOPE_GROUP_TEMPLATE,
+				new String[] {
+					String.valueOf(GroupConstants.DEFAULT_PARENT_GROUP_ID)
+				},
+				roleIds) ||
+			hasResourcePermissions(
+				companyId, className, ResourceConstants.SCOPE_GROUP,
+				groupPrimKeys, roleIds)) {
 
-					return query;
-				}
-			}
+			return query;
+		}
 
+		for (long roleId : roleIds) {
 			permissionQuery.addTerm(Field.ROLE_ID, roleId);
 		}
 
@@ -567,6 +573,24 @@ public class SearchPermissionCheckerImpl implements SearchPermissionChecker {
 		}
 	}
 
+	protected boolean hasResourcePermissions(
+			long companyId, String className, int scope, String[] primKeys,
+			long[] roleIds)
+		throws Exception {
+
+		try {
+			BitSet bitSet =
+				ResourcePermissionLocalServiceUtil.hasResourcePermissions(
+					companyId, className, scope, primKeys, roleIds,
+					ActionKeys.VIEW);
+
+			return !bitSet.isEmpty();
+		}
+		catch (NoSuchResourceActionException nsrae) {
+			return false;
+		}
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(
 		SearchPermissionCheckerImpl.class);
 
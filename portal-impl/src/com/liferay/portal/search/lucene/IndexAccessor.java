@@ -20,6 +20,7 @@ import java.io.OutputStream;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 
 /**
@@ -44,6 +45,8 @@ public interface IndexAccessor {
 
 	public long getCompanyId();
 
+	public IndexSearcher getIndexSearcher() throws IOException;
+
 	public long getLastGeneration();
 
 	public Directory getLuceneDir();
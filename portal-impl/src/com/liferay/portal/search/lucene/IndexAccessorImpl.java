@@ -14,6 +14,7 @@
 
 package com.liferay.portal.search.lucene;
 
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
 import com.liferay.portal.kernel.dao.jdbc.DataAccess;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
@@ -26,12 +27,14 @@ import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.search.lucene.dump.DumpIndexDeletionPolicy;
 import com.liferay.portal.search.lucene.dump.IndexCommitSerializationUtil;
+import com.liferay.portal.search.lucene.jmx.IndexAccessorManager;
 import com.liferay.portal.util.PropsUtil;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 
 import java.sql.Connection;
@@ -39,20 +42,31 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 import javax.sql.DataSource;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.RAMDirectory;
@@ -73,10 +87,15 @@ public class IndexAccessorImpl implements IndexAccessor {
 	public IndexAccessorImpl(long companyId) {
 		_companyId = companyId;
 
+		_notEmptyCondition = _pendingWritesLock.newCondition();
+		_notFullCondition = _pendingWritesLock.newCondition();
+
 		_initDialect();
 		_checkLuceneDir();
 		_initIndexWriter();
 		_initCommitScheduler();
+		_initWriterThread();
+		_registerMBean();
 	}
 
 	public void addDocument(Document document) throws IOException {
@@ -84,17 +103,22 @@ public class IndexAccessorImpl implements IndexAccessor {
 			return;
 		}
 
-		_write(null, document);
+		if (PropsValues.LUCENE_WRITE_ASYNC_ENABLED) {
+			_queueWrite(null, document);
+		}
+		else {
+			_write(null, document);
+		}
 	}
 
 	public void close() {
-		try {
-			_indexWriter.close();
-		}
-		catch (Exception e) {
-			_log.error(
-				"Closing Lucene writer failed for " + _companyId, e);
+		_closeIndexWriter();
+
+		if (_writerThread != null) {
+			_writerThread.interrupt();
 		}
+
+		_unregisterMBean();
 	}
 
 	public void delete() {
@@ -102,11 +126,23 @@ public class IndexAccessorImpl implements IndexAccessor {
 			return;
 		}
 
-		close();
+		_writeLock.lock();
+
+		try {
 
-		_deleteDirectory();
+			// Writes queued before the delete would be deleted anyway
 
-		_initIndexWriter();
+			_drainPendingWrites();
+
+			_closeIndexWriter();
+
+			_deleteDirectory();
+
+			_initIndexWriter();
+		}
+		finally {
+			_writeLock.unlock();
+		}
 	}
 
 	public void deleteDocuments(Term term) throws IOException {
@@ -114,10 +150,18 @@ public class IndexAccessorImpl implements IndexAccessor {
 			return;
 		}
 
+		if (PropsValues.LUCENE_WRITE_ASYNC_ENABLED) {
+			_queueWrite(term, null);
+
+			return;
+		}
+
 		try {
 			_indexWriter.deleteDocuments(term);
 
 			_batchCount++;
+
+			_indexReaderStale = true;
 		}
 		finally {
 			_commit();
@@ -132,10 +176,46 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_countDownLatch.countDown();
 	}
 
+	public long getAverageCommitTime() {
+		long commitCount = _commitCount.get();
+
+		if (commitCount == 0) {
+			return 0;
+		}
+
+		return _commitTime.get() / commitCount;
+	}
+
+	public long getCoalescedWriteCount() {
+		return _coalescedWriteCount.get();
+	}
+
+	public long getCommitCount() {
+		return _commitCount.get();
+	}
+
 	public long getCompanyId() {
 		return _companyId;
 	}
 
+	public IndexSearcher getIndexSearcher() throws IOException {
+		if (PropsValues.LUCENE_WRITE_ASYNC_ENABLED &&
+			!SearchEngineUtil.isIndexReadOnly()) {
+
+			IndexReader indexReader = _acquireIndexReader();
+
+			if (indexReader != null) {
+				return new NearRealTimeIndexSearcher(indexReader);
+			}
+		}
+
+		return new IndexSearcher(getLuceneDir(), true);
+	}
+
+	public long getLastCommitTime() {
+		return _lastCommitTime;
+	}
+
 	public long getLastGeneration() {
 		if (_countDownLatch.getCount() >  0) {
 			return DEFAULT_LAST_GENERATION;
@@ -166,6 +246,21 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public long getMaxCommitTime() {
+		return _maxCommitTime;
+	}
+
+	public int getPendingWriteCount() {
+		_pendingWritesLock.lock();
+
+		try {
+			return _pendingWrites.size();
+		}
+		finally {
+			_pendingWritesLock.unlock();
+		}
+	}
+
 	public void loadIndex(InputStream inputStream) throws IOException {
 		File tempFile = FileUtil.createTempFile();
 
@@ -174,13 +269,22 @@ public class IndexAccessorImpl implements IndexAccessor {
 		IndexCommitSerializationUtil.deserializeIndex(
 			inputStream, tempDirectory);
 
-		close();
+		_writeLock.lock();
 
-		_deleteDirectory();
+		try {
+			_drainPendingWrites();
 
-		Directory.copy(tempDirectory, getLuceneDir(), true);
+			_closeIndexWriter();
 
-		_initIndexWriter();
+			_deleteDirectory();
+
+			Directory.copy(tempDirectory, getLuceneDir(), true);
+
+			_initIndexWriter();
+		}
+		finally {
+			_writeLock.unlock();
+		}
 
 		tempDirectory.close();
 
@@ -198,7 +302,64 @@ public class IndexAccessorImpl implements IndexAccessor {
 			_log.debug("Indexing " + document);
 		}
 
-		_write(term, document);
+		if (PropsValues.LUCENE_WRITE_ASYNC_ENABLED) {
+			_queueWrite(term, document);
+		}
+		else {
+			_write(term, document);
+		}
+	}
+
+	private IndexReader _acquireIndexReader() throws IOException {
+		synchronized (_indexReaderLock) {
+			if ((_indexReader == null) || _indexReaderStale) {
+				_refreshIndexReader();
+			}
+
+			if (_indexReader != null) {
+				_indexReader.incRef();
+			}
+
+			return _indexReader;
+		}
+	}
+
+	private void _applyWrites(List<PendingWrite> pendingWrites)
+		throws IOException {
+
+		if (pendingWrites.isEmpty() || (_indexWriter == null)) {
+			return;
+		}
+
+		try {
+			for (PendingWrite pendingWrite : pendingWrites) {
+				Document document = pendingWrite.getDocument();
+				Term term = pendingWrite.getTerm();
+
+				if (document == null) {
+					_indexWriter.deleteDocuments(term);
+				}
+				else {
+					if (term != null) {
+						_indexWriter.updateDocument(term, document);
+					}
+					else {
+						_indexWriter.addDocument(document);
+					}
+
+					_optimizeCount++;
+				}
+			}
+
+			_batchCount += pendingWrites.size();
+
+			_indexReaderStale = true;
+
+			_optimize();
+		}
+		finally {
+			_commit();
+		}
 	}
 
 	private void _checkLuceneDir() {
@@ -218,6 +379,58 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	private void _closeIndexReader() {
+		synchronized (_indexReaderLock) {
+			if (_indexReader == null) {
+				return;
+			}
+
+			try {
+				_indexReader.decRef();
+			}
+			catch (IOException ioe) {
+				_log.error(
+					"Closing Lucene reader failed for " + _companyId, ioe);
+			}
+
+			_indexReader = null;
+		}
+	}
+
+	private void _closeIndexWriter() {
+		_writeLock.lock();
+
+		try {
+			if (_indexWriter == null) {
+				return;
+			}
+
+			try {
+				_applyWrites(_drainPendingWrites());
+			}
+			catch (Exception e) {
+				_log.error(
+					"Applying pending Lucene writes failed for " + _companyId,
+					e);
+			}
+
+			_closeIndexReader();
+
+			try {
+				_indexWriter.close();
+			}
+			catch (Exception e) {
+				_log.error(
+					"Closing Lucene writer failed for " + _companyId, e);
+			}
+
+			_indexWriter = null;
+		}
+		finally {
+			_writeLock.unlock();
+		}
+	}
+
 	private void _commit() throws IOException {
 		if ((PropsValues.LUCENE_COMMIT_BATCH_SIZE == 0) ||
 			(PropsValues.LUCENE_COMMIT_BATCH_SIZE <= _batchCount)) {
@@ -309,7 +522,20 @@ public class IndexAccessorImpl implements IndexAccessor {
 			_commitLock.lock();
 
 			try {
+				long startTime = System.currentTimeMillis();
+
 				_indexWriter.commit();
+
+				long commitTime = System.currentTimeMillis() - startTime;
+
+				_commitCount.incrementAndGet();
+				_commitTime.addAndGet(commitTime);
+
+				_lastCommitTime = commitTime;
+
+				if (commitTime > _maxCommitTime) {
+					_maxCommitTime = commitTime;
+				}
 			}
 			finally {
 				_commitLock.unlock();
@@ -319,6 +545,24 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_batchCount = 0;
 	}
 
+	private List<PendingWrite> _drainPendingWrites() {
+		_pendingWritesLock.lock();
+
+		try {
+			List<PendingWrite> pendingWrites = new ArrayList<PendingWrite>(
+				_pendingWrites.values());
+
+			_pendingWrites.clear();
+
+			_notFullCondition.signalAll();
+
+			return pendingWrites;
+		}
+		finally {
+			_pendingWritesLock.unlock();
+		}
+	}
+
 	private FSDirectory _getDirectory(String path) throws IOException {
 		return FSDirectory.open(new File(path));
 	}
@@ -409,6 +653,10 @@ public class IndexAccessorImpl implements IndexAccessor {
 		return directory;
 	}
 
+	private MBeanServer _getMBeanServer() {
+		return (MBeanServer)PortalBeanLocatorUtil.locate("mBeanServer");
+	}
+
 	private String _getPath() {
 		return PropsValues.LUCENE_DIR.concat(String.valueOf(_companyId)).concat(
 			StringPool.SLASH);
@@ -500,6 +748,7 @@ public class IndexAccessorImpl implements IndexAccessor {
 				_dumpIndexDeletionPolicy, IndexWriter.MaxFieldLength.LIMITED);
 
 			_indexWriter.setMergeFactor(PropsValues.LUCENE_MERGE_FACTOR);
+			_indexWriter.setMergeScheduler(new ConcurrentMergeScheduler());
 			_indexWriter.setRAMBufferSizeMB(PropsValues.LUCENE_BUFFER_SIZE);
 		}
 		catch (Exception e) {
@@ -508,6 +757,22 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	private void _initWriterThread() {
+		if (!PropsValues.LUCENE_WRITE_ASYNC_ENABLED ||
+			SearchEngineUtil.isIndexReadOnly()) {
+
+			return;
+		}
+
+		_writerThread = new Thread(
+			new IndexWriterRunnable(),
+			"Lucene Index Writer-" + String.valueOf(_companyId));
+
+		_writerThread.setDaemon(true);
+
+		_writerThread.start();
+	}
+
 	private void _manuallyCreateJdbcDirectory(
 		JdbcDirectory jdbcDirectory, String tableName) {
 
@@ -556,6 +821,130 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	private void _optimize() throws IOException {
+		if ((PropsValues.LUCENE_OPTIMIZE_INTERVAL == 0) ||
+			(_optimizeCount >= PropsValues.LUCENE_OPTIMIZE_INTERVAL)) {
+
+			if (PropsValues.LUCENE_WRITE_ASYNC_ENABLED) {
+
+				// Let the merge scheduler optimize in the background instead
+				// of blocking the writer thread until all merges are done
+
+				_indexWriter.optimize(false);
+			}
+			else {
+				_indexWriter.optimize();
+			}
+
+			_optimizeCount = 0;
+		}
+	}
+
+	private void _queueWrite(Term term, Document document)
+		throws IOException {
+
+		Object key = term;
+
+		if (key == null) {
+			key = new Object();
+		}
+
+		_pendingWritesLock.lock();
+
+		try {
+			while (_pendingWrites.size() >=
+						PropsValues.LUCENE_WRITE_ASYNC_QUEUE_SIZE) {
+
+				_notFullCondition.await();
+			}
+
+			// A later write for the same term supersedes the pending one and
+			// must be applied after every write queued in between
+
+			if (_pendingWrites.remove(key) != null) {
+				_coalescedWriteCount.incrementAndGet();
+			}
+
+			_pendingWrites.put(key, new PendingWrite(term, document));
+
+			_notEmptyCondition.signal();
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+
+			throw new InterruptedIOException(
+				"Interrupted while queueing a Lucene write for " + _companyId);
+		}
+		finally {
+			_pendingWritesLock.unlock();
+		}
+	}
+
+	private void _refreshIndexReader() throws IOException {
+		synchronized (_indexReaderLock) {
+			IndexWriter indexWriter = _indexWriter;
+
+			if (indexWriter == null) {
+				return;
+			}
+
+			_indexReaderStale = false;
+
+			IndexReader indexReader = indexWriter.getReader();
+
+			if (_indexReader != null) {
+				_indexReader.decRef();
+			}
+
+			_indexReader = indexReader;
+		}
+	}
+
+	private void _registerMBean() {
+		try {
+			MBeanServer mBeanServer = _getMBeanServer();
+
+			ObjectName objectName = new ObjectName(
+				_OBJECT_NAME_PREFIX + _companyId);
+
+			if (mBeanServer.isRegistered(objectName)) {
+				mBeanServer.unregisterMBean(objectName);
+			}
+
+			mBeanServer.registerMBean(
+				new IndexAccessorManager(this), objectName);
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to register index accessor MBean for " +
+						_companyId,
+					e);
+			}
+		}
+	}
+
+	private void _unregisterMBean() {
+		try {
+			MBeanServer mBeanServer = _getMBeanServer();
+
+			ObjectName objectName = new ObjectName(
+				_OBJECT_NAME_PREFIX + _companyId);
+
+			if (mBeanServer.isRegistered(objectName)) {
+				mBeanServer.unregisterMBean(objectName);
+			}
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to unregister index accessor MBean for " +
+						_companyId,
+					e);
+			}
+		}
+	}
+
 	private void _write(Term term, Document document) throws IOException {
 		try {
 			if (term != null) {
@@ -567,15 +956,11 @@ public class IndexAccessorImpl implements IndexAccessor {
 
 			_optimizeCount++;
 
-			if ((PropsValues.LUCENE_OPTIMIZE_INTERVAL == 0) ||
-				(_optimizeCount >= PropsValues.LUCENE_OPTIMIZE_INTERVAL)) {
-
-				_indexWriter.optimize();
-
-				_optimizeCount = 0;
-			}
+			_optimize();
 
 			_batchCount++;
+
+			_indexReaderStale = true;
 		}
 		finally {
 			_commit();
@@ -590,20 +975,122 @@ public class IndexAccessorImpl implements IndexAccessor {
 
 	private static final String _LUCENE_TABLE_PREFIX = "LUCENE_";
 
+	private static final String _OBJECT_NAME_PREFIX =
+		"com.liferay.portal.search.lucene:name=IndexAccessorManager," +
+			"companyId=";
+
 	private static Log _log = LogFactoryUtil.getLog(IndexAccessorImpl.class);
 
 	private int _batchCount;
+	private AtomicLong _coalescedWriteCount = new AtomicLong();
+	private AtomicLong _commitCount = new AtomicLong();
 	private Lock _commitLock = new ReentrantLock();
+	private AtomicLong _commitTime = new AtomicLong();
 	private long _companyId;
 	private CountDownLatch _countDownLatch = new CountDownLatch(1);
 	private Dialect _dialect;
 	private DumpIndexDeletionPolicy _dumpIndexDeletionPolicy =
 		new DumpIndexDeletionPolicy();
-	private IndexWriter _indexWriter;
+	private IndexReader _indexReader;
+	private Object _indexReaderLock = new Object();
+	private volatile boolean _indexReaderStale;
+	private volatile IndexWriter _indexWriter;
 	private Map<String, Directory> _jdbcDirectories =
 		new ConcurrentHashMap<String, Directory>();
+	private volatile long _lastCommitTime;
+	private volatile long _maxCommitTime;
+	private Condition _notEmptyCondition;
+	private Condition _notFullCondition;
 	private int _optimizeCount;
+	private Map<Object, PendingWrite> _pendingWrites =
+		new LinkedHashMap<Object, PendingWrite>();
+	private Lock _pendingWritesLock = new ReentrantLock();
 	private Map<String, Directory> _ramDirectories =
 		new ConcurrentHashMap<String, Directory>();
+	private Lock _writeLock = new ReentrantLock();
+	private Thread _writerThread;
+
+	private static class NearRealTimeIndexSearcher extends IndexSearcher {
+
+		public NearRealTimeIndexSearcher(IndexReader indexReader) {
+			super(indexReader);
+
+			_indexReader = indexReader;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (_closed) {
+				return;
+			}
+
+			_closed = true;
+
+			super.close();
+
+			_indexReader.decRef();
+		}
+
+		private boolean _closed;
+		private IndexReader _indexReader;
+
+	}
+
+	private static class PendingWrite {
+
+		public PendingWrite(Term term, Document document) {
+			_term = term;
+			_document = document;
+		}
+
+		public Document getDocument() {
+			return _document;
+		}
+
+		public Term getTerm() {
+			return _term;
+		}
+
+		private Document _document;
+		private Term _term;
+
+	}
+
+	private class IndexWriterRunnable implements Runnable {
+
+		public void run() {
+			while (true) {
+				_pendingWritesLock.lock();
+
+				try {
+					while (_pendingWrites.isEmpty()) {
+						_notEmptyCondition.await();
+					}
+				}
+				catch (InterruptedException ie) {
+					return;
+				}
+				finally {
+					_pendingWritesLock.unlock();
+				}
+
+				_writeLock.lock();
+
+				try {
+					_applyWrites(_drainPendingWrites());
+
+					_refreshIndexReader();
+				}
+				catch (Exception e) {
+					_log.error(
+						"Applying Lucene writes failed for " + _companyId, e);
+				}
+				finally {
+					_writeLock.unlock();
+				}
+			}
+		}
+
+	}
 
 }
\ No newline at end of file
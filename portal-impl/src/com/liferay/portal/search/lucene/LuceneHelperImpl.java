@@ -370,8 +370,15 @@ public class LuceneHelperImpl implements LuceneHelper {
 
 		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
 
-		IndexSearcher indexSearcher = new IndexSearcher(
-			indexAccessor.getLuceneDir(), readOnly);
+		IndexSearcher indexSearcher = null;
+
+		if (readOnly) {
+			indexSearcher = indexAccessor.getIndexSearcher();
+		}
+		else {
+			indexSearcher = new IndexSearcher(
+				indexAccessor.getLuceneDir(), readOnly);
+		}
 
 		indexSearcher.setDefaultFieldSortScoring(true, true);
 		indexSearcher.setSimilarity(new FieldWeightSimilarity());
@@ -20,13 +20,22 @@ import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.util.ListUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
 import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Portlet;
 import com.liferay.portal.service.PortletLocalServiceUtil;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.portal.util.comparator.PortletLuceneComparator;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.lang.time.StopWatch;
 
@@ -102,17 +111,26 @@ public class LuceneIndexer implements Runnable {
 
 			portlets = ListUtil.sort(portlets, new PortletLuceneComparator());
 
+			List<Indexer> indexers = new ArrayList<Indexer>();
+
 			for (Portlet portlet : portlets) {
 				if (!portlet.isActive()) {
 					continue;
 				}
 
-				List<Indexer> indexers = portlet.getIndexerInstances();
+				List<Indexer> portletIndexers = portlet.getIndexerInstances();
 
-				if (indexers == null) {
-					continue;
+				if (portletIndexers != null) {
+					indexers.addAll(portletIndexers);
 				}
+			}
 
+			if ((PropsValues.INDEX_REINDEX_THREAD_POOL_SIZE > 1) &&
+				(indexers.size() > 1)) {
+
+				reindex(indexers);
+			}
+			else {
 				for (Indexer indexer : indexers) {
 					reindex(indexer);
 				}
@@ -158,9 +176,94 @@ public class LuceneIndexer implements Runnable {
 		}
 	}
 
+	protected void reindex(List<Indexer> indexers) throws Exception {
+		int threadPoolSize = Math.min(
+			PropsValues.INDEX_REINDEX_THREAD_POOL_SIZE, indexers.size());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			threadPoolSize,
+			new NamedThreadFactory(
+				LuceneIndexer.class.getName() + "-" + _companyId,
+				Thread.NORM_PRIORITY, PortalClassLoaderUtil.getClassLoader()));
+
+		CompletionService<Indexer> completionService =
+			new ExecutorCompletionService<Indexer>(executorService);
+
+		try {
+
+			// Start the slowest indexers first so that they do not hold up the
+			// end of the reindex
+
+			for (int i = indexers.size() - 1; i >= 0; i--) {
+				completionService.submit(
+					new ReindexCallable(indexers.get(i)));
+			}
+
+			Throwable throwable = null;
+
+			for (int i = 1; i <= indexers.size(); i++) {
+				try {
+					Indexer indexer = completionService.take().get();
+
+					if (_log.isInfoEnabled()) {
+						_log.info(
+							"Reindexed " + i + " of " + indexers.size() +
+								" indexers, last completed was " +
+									indexer.getClass());
+					}
+				}
+				catch (ExecutionException ee) {
+					Throwable cause = ee.getCause();
+
+					// The first failure is rethrown and logged by the caller
+
+					if (throwable == null) {
+						throwable = cause;
+					}
+					else {
+						_log.error("Error encountered while reindexing", cause);
+					}
+				}
+			}
+
+			if (throwable instanceof Error) {
+				throw (Error)throwable;
+			}
+			else if (throwable != null) {
+				throw (Exception)throwable;
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(LuceneIndexer.class);
 
 	private long _companyId;
 	private boolean _finished;
 
+	private class ReindexCallable implements Callable<Indexer> {
+
+		public ReindexCallable(Indexer indexer) {
+			_indexer = indexer;
+		}
+
+		public Indexer call() throws Exception {
+			ShardUtil.pushCompanyService(_companyId);
+
+			try {
+				reindex(_indexer);
+			}
+			finally {
+				ShardUtil.popCompanyService();
+			}
+
+			return _indexer;
+		}
+
+		private Indexer _indexer;
+
+	}
+
 }
\ No newline at end of file
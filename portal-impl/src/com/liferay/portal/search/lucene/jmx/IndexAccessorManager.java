@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search.lucene.jmx;
+
+import com.liferay.portal.search.lucene.IndexAccessorImpl;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class IndexAccessorManager implements IndexAccessorManagerMBean {
+
+	public IndexAccessorManager(IndexAccessorImpl indexAccessorImpl) {
+		_indexAccessorImpl = indexAccessorImpl;
+	}
+
+	public long getAverageCommitTime() {
+		return _indexAccessorImpl.getAverageCommitTime();
+	}
+
+	public long getCoalescedWriteCount() {
+		return _indexAccessorImpl.getCoalescedWriteCount();
+	}
+
+	public long getCommitCount() {
+		return _indexAccessorImpl.getCommitCount();
+	}
+
+	public long getCompanyId() {
+		return _indexAccessorImpl.getCompanyId();
+	}
+
+	public long getLastCommitTime() {
+		return _indexAccessorImpl.getLastCommitTime();
+	}
+
+	public long getMaxCommitTime() {
+		return _indexAccessorImpl.getMaxCommitTime();
+	}
+
+	public int getPendingWriteCount() {
+		return _indexAccessorImpl.getPendingWriteCount();
+	}
+
+	private IndexAccessorImpl _indexAccessorImpl;
+
+}
@@ -24,6 +24,7 @@ import com.liferay.portal.util.PropsValues;
 import java.io.Serializable;
 
 import java.util.Map;
+import java.util.Random;
 
 import org.apache.commons.collections.map.LRUMap;
 
@@ -52,6 +53,24 @@ public class PermissionCacheUtil {
 		_resourceBlockIdsBagCache.removeAll();
 	}
 
+	/**
+	 * Invalidates the cached bags and permission decisions of the given users,
+	 * such as after their role or group memberships change.
+	 */
+	public static void clearCache(long... userIds) {
+		for (long userId : userIds) {
+			_incrementVersion(new VersionKey(userId, null));
+		}
+	}
+
+	/**
+	 * Invalidates the cached permission decisions and resource block IDs bags
+	 * of the resource name, such as after its resource permissions change.
+	 */
+	public static void clearCache(String name) {
+		_incrementVersion(new VersionKey(0, name));
+	}
+
 	public static void clearLocalCache() {
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
@@ -63,7 +82,8 @@ public class PermissionCacheUtil {
 	public static PermissionCheckerBag getBag(long userId, long groupId) {
 		PermissionCheckerBag bag = null;
 
-		Serializable key = new BagKey(userId, groupId);
+		Serializable key = new BagKey(
+			userId, groupId, _getVersion(new VersionKey(userId, null)));
 
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
@@ -86,7 +106,9 @@ public class PermissionCacheUtil {
 		Boolean value = null;
 
 		Serializable key = new PermissionKey(
-			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId,
+			_getVersion(new VersionKey(userId, null)),
+			_getVersion(new VersionKey(0, name)));
 
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
@@ -108,7 +130,9 @@ public class PermissionCacheUtil {
 		ResourceBlockIdsBag resourceBlockIdsBag = null;
 
 		Serializable key = new ResourceBlockIdsBagKey(
-			companyId, groupId, userId, name, checkGuest);
+			companyId, groupId, userId, name, checkGuest,
+			_getVersion(new VersionKey(userId, null)),
+			_getVersion(new VersionKey(0, name)));
 
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
@@ -131,7 +155,8 @@ public class PermissionCacheUtil {
 			return null;
 		}
 
-		Serializable key = new BagKey(userId, groupId);
+		Serializable key = new BagKey(
+			userId, groupId, _getVersion(new VersionKey(userId, null)));
 
 		if (_localCacheAvailable) {
 			Map<Serializable, Object> localCache = _localCache.get();
@@ -153,7 +178,9 @@ public class PermissionCacheUtil {
 		}
 
 		Serializable key = new PermissionKey(
-			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId,
+			_getVersion(new VersionKey(userId, null)),
+			_getVersion(new VersionKey(0, name)));
 
 		if (_localCacheAvailable) {
 			Map<Serializable, Object> localCache = _localCache.get();
@@ -175,7 +202,9 @@ public class PermissionCacheUtil {
 		}
 
 		Serializable key = new ResourceBlockIdsBagKey(
-			companyId, groupId, userId, name, checkGuest);
+			companyId, groupId, userId, name, checkGuest,
+			_getVersion(new VersionKey(userId, null)),
+			_getVersion(new VersionKey(0, name)));
 
 		if (_localCacheAvailable) {
 			Map<Serializable, Object> localCache = _localCache.get();
@@ -188,6 +217,56 @@ public class PermissionCacheUtil {
 		return resourceBlockIdsBag;
 	}
 
+	private static long _getVersion(VersionKey versionKey) {
+		Map<Serializable, Object> localCache = null;
+
+		// Versions are kept in the thread local cache so that a request only
+		// looks each of them up in the multi VM cache once
+
+		if (_localCacheAvailable) {
+			localCache = _localCache.get();
+
+			Long version = (Long)localCache.get(versionKey);
+
+			if (version != null) {
+				return version.longValue();
+			}
+		}
+
+		Long version = (Long)_permissionPortalCache.get(versionKey);
+
+		if (version == null) {
+
+			// A version that is missing, evicted, or invalidated by another
+			// cluster node is replaced with a new random one so that entries
+			// cached under any earlier version are never matched again
+
+			version = _random.nextLong();
+
+			_permissionPortalCache.put(versionKey, version);
+		}
+
+		if (localCache != null) {
+			localCache.put(versionKey, version);
+		}
+
+		return version.longValue();
+	}
+
+	private static void _incrementVersion(VersionKey versionKey) {
+		if (_localCacheAvailable) {
+			Map<Serializable, Object> localCache = _localCache.get();
+
+			localCache.remove(versionKey);
+		}
+
+		// Puts of keys that are absent on a node are not replicated, so the
+		// version is invalidated by a replicated remove and regenerated on
+		// the next read
+
+		_permissionPortalCache.remove(versionKey);
+	}
+
 	private static ThreadLocal<LRUMap> _localCache;
 	private static boolean _localCacheAvailable;
 	private static PortalCache _permissionCheckerBagPortalCache =
@@ -198,6 +277,7 @@ public class PermissionCacheUtil {
 		MultiVMPoolUtil.getCache(
 			PERMISSION_CACHE_NAME,
 			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
+	private static Random _random = new Random();
 	private static PortalCache _resourceBlockIdsBagCache =
 		MultiVMPoolUtil.getCache(
 			RESOURCE_BLOCK_IDS_BAG_CACHE_NAME,
@@ -205,15 +285,22 @@ public class PermissionCacheUtil {
 
 	private static class BagKey implements Serializable {
 
-		public BagKey(long userId, long groupId) {
+		public BagKey(long userId, long groupId, long userVersion) {
 			_userId = userId;
 			_groupId = groupId;
+			_userVersion = userVersion;
 		}
 
 		public boolean equals(Object obj) {
+			if (!(obj instanceof BagKey)) {
+				return false;
+			}
+
 			BagKey bagKey = (BagKey)obj;
 
-			if ((bagKey._userId == _userId) && (bagKey._groupId == _groupId)) {
+			if ((bagKey._userId == _userId) && (bagKey._groupId == _groupId) &&
+				(bagKey._userVersion == _userVersion)) {
+
 				return true;
 			}
 			else {
@@ -229,6 +316,7 @@ public class PermissionCacheUtil {
 
 		private final long _groupId;
 		private final long _userId;
+		private final long _userVersion;
 
 	}
 
@@ -236,7 +324,8 @@ public class PermissionCacheUtil {
 
 		public PermissionKey(
 			long userId, boolean signedIn, boolean checkGuest, long groupId,
-			String name, String primKey, String actionId) {
+			String name, String primKey, String actionId, long userVersion,
+			long nameVersion) {
 
 			_userId = userId;
 			_signedIn = signedIn;
@@ -245,9 +334,15 @@ public class PermissionCacheUtil {
 			_name = name;
 			_primKey = primKey;
 			_actionId = actionId;
+			_userVersion = userVersion;
+			_nameVersion = nameVersion;
 		}
 
 		public boolean equals(Object obj) {
+			if (!(obj instanceof PermissionKey)) {
+				return false;
+			}
+
 			PermissionKey permissionKey = (PermissionKey)obj;
 
 			if ((permissionKey._userId == _userId) &&
@@ -256,7 +351,9 @@ public class PermissionCacheUtil {
 				(permissionKey._groupId == _groupId) &&
 				Validator.equals(permissionKey._name, _name) &&
 				Validator.equals(permissionKey._primKey, _primKey) &&
-				Validator.equals(permissionKey._actionId, _actionId)) {
+				Validator.equals(permissionKey._actionId, _actionId) &&
+				(permissionKey._userVersion == _userVersion) &&
+				(permissionKey._nameVersion == _nameVersion)) {
 
 				return true;
 			}
@@ -284,9 +381,11 @@ public class PermissionCacheUtil {
 		private final boolean _checkGuest;
 		private final long _groupId;
 		private final String _name;
+		private final long _nameVersion;
 		private final String _primKey;
 		private final boolean _signedIn;
 		private final long _userId;
+		private final long _userVersion;
 
 	}
 
@@ -294,16 +393,22 @@ public class PermissionCacheUtil {
 
 		public ResourceBlockIdsBagKey(
 			long companyId, long groupId, long userId, String name,
-			boolean checkGuest) {
+			boolean checkGuest, long userVersion, long nameVersion) {
 
 			_companyId = companyId;
 			_groupId = groupId;
 			_userId = userId;
 			_name = name;
 			_checkGuest = checkGuest;
+			_userVersion = userVersion;
+			_nameVersion = nameVersion;
 		}
 
 		public boolean equals(Object obj) {
+			if (!(obj instanceof ResourceBlockIdsBagKey)) {
+				return false;
+			}
+
 			ResourceBlockIdsBagKey resourceBlockIdsKey =
 				(ResourceBlockIdsBagKey)obj;
 
@@ -311,7 +416,9 @@ public class PermissionCacheUtil {
 				(resourceBlockIdsKey._groupId == _groupId) &&
 				(resourceBlockIdsKey._userId == _userId) &&
 				(resourceBlockIdsKey._checkGuest == _checkGuest) &&
-				Validator.equals(resourceBlockIdsKey._name, _name)) {
+				Validator.equals(resourceBlockIdsKey._name, _name) &&
+				(resourceBlockIdsKey._userVersion == _userVersion) &&
+				(resourceBlockIdsKey._nameVersion == _nameVersion)) {
 
 				return true;
 			}
@@ -336,6 +443,51 @@ public class PermissionCacheUtil {
 		private final boolean _checkGuest;
 		private final long _companyId;
 		private final long _groupId;
+		private final String _name;
+		private final long _nameVersion;
+		private final long _userId;
+		private final long _userVersion;
+
+	}
+
+	private static class VersionKey implements Serializable {
+
+		public VersionKey(long userId, String name) {
+			_userId = userId;
+			_name = name;
+		}
+
+		public boolean equals(Object obj) {
+			if (!(obj instanceof VersionKey)) {
+				return false;
+			}
+
+			VersionKey versionKey = (VersionKey)obj;
+
+			if ((versionKey._userId == _userId) &&
+				Validator.equals(versionKey._name, _name)) {
+
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		public int hashCode() {
+			int hashCode = HashUtil.hash(0, _userId);
+
+			hashCode = HashUtil.hash(hashCode, _name);
+
+			return hashCode;
+		}
+
+		public String toString() {
+			return "_VERSION_" + _userId + "_" + _name;
+		}
+
+		private static final long serialVersionUID = 1L;
+
 		private final String _name;
 		private final long _userId;
 
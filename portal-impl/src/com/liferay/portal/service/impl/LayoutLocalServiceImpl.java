@@ -54,6 +54,8 @@ import com.liferay.portal.model.impl.LayoutImpl;
 import com.liferay.portal.service.ServiceContext;
 import com.liferay.portal.service.base.LayoutLocalServiceBaseImpl;
 import com.liferay.portal.util.FriendlyURLNormalizer;
+import com.liferay.portal.util.LayoutSetTree;
+import com.liferay.portal.util.LayoutSetTreeUtil;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PortletKeys;
 import com.liferay.portal.util.PropsValues;
@@ -527,7 +529,29 @@ public class LayoutLocalServiceImpl extends LayoutLocalServiceBaseImpl {
 
 		friendlyURL = getFriendlyURL(friendlyURL);
 
-		Layout layout = layoutPersistence.fetchByG_P_F(
+		Layout layout = null;
+
+		if (PropsValues.LAYOUT_SET_TREE_ENABLED) {
+			LayoutSetTree layoutSetTree = LayoutSetTreeUtil.getLayoutSetTree(
+				groupId, privateLayout);
+
+			layout = layoutSetTree.getFriendlyURLLayout(friendlyURL);
+
+			if ((layout == null) &&
+				(friendlyURL.startsWith(StringPool.SLASH)) &&
+				(Validator.isNumber(friendlyURL.substring(1)))) {
+
+				long layoutId = GetterUtil.getLong(friendlyURL.substring(1));
+
+				layout = layoutSetTree.getLayout(layoutId);
+			}
+
+			if (layout != null) {
+				return layout;
+			}
+		}
+
+		layout = layoutPersistence.fetchByG_P_F(
 			groupId, privateLayout, friendlyURL);
 
 		if ((layout == null) &&
@@ -557,6 +581,17 @@ public class LayoutLocalServiceImpl extends LayoutLocalServiceBaseImpl {
 	public Layout getLayout(long groupId, boolean privateLayout, long layoutId)
 		throws PortalException, SystemException {
 
+		if (PropsValues.LAYOUT_SET_TREE_ENABLED) {
+			LayoutSetTree layoutSetTree = LayoutSetTreeUtil.getLayoutSetTree(
+				groupId, privateLayout);
+
+			Layout layout = layoutSetTree.getLayout(layoutId);
+
+			if (layout != null) {
+				return layout;
+			}
+		}
+
 		return layoutPersistence.findByG_P_L(groupId, privateLayout, layoutId);
 	}
 
@@ -583,6 +618,13 @@ public class LayoutLocalServiceImpl extends LayoutLocalServiceBaseImpl {
 			long groupId, boolean privateLayout, long parentLayoutId)
 		throws SystemException {
 
+		if (PropsValues.LAYOUT_SET_TREE_ENABLED) {
+			LayoutSetTree layoutSetTree = LayoutSetTreeUtil.getLayoutSetTree(
+				groupId, privateLayout);
+
+			return layoutSetTree.getChildren(parentLayoutId);
+		}
+
 		return layoutPersistence.findByG_P_P(
 			groupId, privateLayout, parentLayoutId);
 	}
@@ -668,6 +710,13 @@ public class LayoutLocalServiceImpl extends LayoutLocalServiceBaseImpl {
 			long groupId, boolean privateLayout, long parentLayoutId)
 		throws SystemException {
 
+		if (PropsValues.LAYOUT_SET_TREE_ENABLED) {
+			LayoutSetTree layoutSetTree = LayoutSetTreeUtil.getLayoutSetTree(
+				groupId, privateLayout);
+
+			return layoutSetTree.getChildrenCount(parentLayoutId) > 0;
+		}
+
 		return layoutPersistence.countByG_P_P(
 			groupId, privateLayout, parentLayoutId) > 0;
 	}
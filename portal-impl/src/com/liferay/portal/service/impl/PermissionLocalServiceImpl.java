@@ -187,7 +187,7 @@ public class PermissionLocalServiceImpl extends PermissionLocalServiceBaseImpl {
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	public List<String> getActions(List<Permission> permissions) {
@@ -651,7 +651,7 @@ public class PermissionLocalServiceImpl extends PermissionLocalServiceBaseImpl {
 
 		rolePersistence.addPermission(roleId, permission);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 
 		SearchEngineUtil.updatePermissionFields(resourceId);
 	}
@@ -743,7 +743,7 @@ public class PermissionLocalServiceImpl extends PermissionLocalServiceBaseImpl {
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	public void unsetRolePermissions(
@@ -761,7 +761,7 @@ public class PermissionLocalServiceImpl extends PermissionLocalServiceBaseImpl {
 			rolePersistence.removePermission(roleId, permission);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	public void unsetUserPermissions(
@@ -81,6 +81,7 @@ import com.liferay.util.bridges.mvc.MVCPortlet;
 import java.io.File;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -200,6 +201,13 @@ public class PortletLocalServiceImpl extends PortletLocalServiceBaseImpl {
 		// Refresh company portlets
 
 		_companyPortletsPool.removeAll();
+
+		// Refresh friendly URL mapping to portlets index
+
+		synchronized (_friendlyURLMapperPortlets) {
+			_friendlyURLMapperPortletsMap = null;
+			_friendlyURLMapperPortletsMapVersion++;
+		}
 	}
 
 	/**
@@ -358,6 +366,57 @@ public class PortletLocalServiceImpl extends PortletLocalServiceBaseImpl {
 		return portlets;
 	}
 
+	@Skip
+	public Map<String, List<Portlet>> getFriendlyURLMapperPortletsMap() {
+		Map<String, List<Portlet>> friendlyURLMapperPortletsMap =
+			_friendlyURLMapperPortletsMap;
+
+		if (friendlyURLMapperPortletsMap != null) {
+			return friendlyURLMapperPortletsMap;
+		}
+
+		int friendlyURLMapperPortletsMapVersion =
+			_friendlyURLMapperPortletsMapVersion;
+
+		friendlyURLMapperPortletsMap = new HashMap<String, List<Portlet>>();
+
+		for (Portlet portlet : getFriendlyURLMapperPortlets()) {
+			FriendlyURLMapper friendlyURLMapper =
+				portlet.getFriendlyURLMapperInstance();
+
+			String mapping = friendlyURLMapper.getMapping();
+
+			int pos = mapping.indexOf(CharPool.SLASH);
+
+			if (pos != -1) {
+				mapping = mapping.substring(0, pos);
+			}
+
+			List<Portlet> portlets = friendlyURLMapperPortletsMap.get(mapping);
+
+			if (portlets == null) {
+				portlets = new ArrayList<Portlet>();
+
+				friendlyURLMapperPortletsMap.put(mapping, portlets);
+			}
+
+			portlets.add(portlet);
+		}
+
+		friendlyURLMapperPortletsMap = Collections.unmodifiableMap(
+			friendlyURLMapperPortletsMap);
+
+		synchronized (_friendlyURLMapperPortlets) {
+			if (friendlyURLMapperPortletsMapVersion ==
+					_friendlyURLMapperPortletsMapVersion) {
+
+				_friendlyURLMapperPortletsMap = friendlyURLMapperPortletsMap;
+			}
+		}
+
+		return friendlyURLMapperPortletsMap;
+	}
+
 	@Skip
 	public List<FriendlyURLMapper> getFriendlyURLMappers() {
 		List<FriendlyURLMapper> friendlyURLMappers =
@@ -2131,6 +2190,9 @@ public class PortletLocalServiceImpl extends PortletLocalServiceBaseImpl {
 		new ConcurrentHashMap<String, Portlet>();
 	private static Map<String, Portlet> _friendlyURLMapperPortlets =
 		new ConcurrentHashMap<String, Portlet>();
+	private static volatile Map<String, List<Portlet>>
+		_friendlyURLMapperPortletsMap;
+	private static volatile int _friendlyURLMapperPortletsMapVersion;
 	private static String _keyPrefix = Portlet.class.getName().concat(
 		StringPool.POUND);
 	private static Map<String, PortletApp> _portletAppsPool =
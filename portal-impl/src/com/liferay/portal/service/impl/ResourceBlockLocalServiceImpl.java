@@ -686,7 +686,7 @@ public class ResourceBlockLocalServiceImpl
 
 		updatePermissions(resourceBlocks, roleId, actionIdsLong, operator);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	public void updateGroupScopePermissions(
@@ -703,7 +703,7 @@ public class ResourceBlockLocalServiceImpl
 
 		updatePermissions(resourceBlocks, roleId, actionIdsLong, operator);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	public void updateIndividualScopePermissions(
@@ -759,7 +759,7 @@ public class ResourceBlockLocalServiceImpl
 			companyId, groupId, name, permissionedModel, permissionsHash,
 			resourceBlockPermissionsContainer);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	public ResourceBlock updateResourceBlockId(
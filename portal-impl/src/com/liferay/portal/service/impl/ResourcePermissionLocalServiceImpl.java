@@ -36,9 +36,12 @@ import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.ResourcePermissionsThreadLocal;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -126,7 +129,7 @@ public class ResourcePermissionLocalServiceImpl
 			companyId, name, scope, primKey, roleId, 0, new String[] {actionId},
 			ResourcePermissionConstants.OPERATOR_ADD);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	/**
@@ -438,6 +441,88 @@ public class ResourcePermissionLocalServiceImpl
 		}
 	}
 
+	/**
+	 * Returns a bitmap of the resources at the scope on which any of the roles
+	 * has permission to perform the action. Bit <code>i</code> of the bitmap
+	 * is set if and only if permission is granted on
+	 * <code>primKeys[i]</code>.
+	 *
+	 * <p>
+	 * This is equivalent to calling {@link #hasResourcePermission(long,
+	 * String, int, String, long, String)} for every combination of primary key
+	 * and role, but evaluates the whole batch with one query per 500 primary
+	 * keys by folding the action IDs of the matching resource permissions.
+	 * </p>
+	 *
+	 * @param  companyId the primary key of the company
+	 * @param  name the resource's name, which can be either a class name or a
+	 *         portlet ID
+	 * @param  scope the scope
+	 * @param  primKeys the primary keys
+	 * @param  roleIds the primary keys of the roles
+	 * @param  actionId the action ID
+	 * @return the bitmap of the primary keys on which permission is granted
+	 * @throws PortalException if a resource action with the name and action ID
+	 *         could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	public BitSet hasResourcePermissions(
+			long companyId, String name, int scope, String[] primKeys,
+			long[] roleIds, String actionId)
+		throws PortalException, SystemException {
+
+		BitSet bitSet = new BitSet(primKeys.length);
+
+		if ((primKeys.length == 0) || (roleIds.length == 0)) {
+			return bitSet;
+		}
+
+		ResourceAction resourceAction = null;
+
+		Set<String> grantedPrimKeys = new HashSet<String>();
+
+		for (int i = 0; i < primKeys.length; i += _PRIM_KEYS_CHUNK_SIZE) {
+			String[] chunkPrimKeys = primKeys;
+
+			if (primKeys.length > _PRIM_KEYS_CHUNK_SIZE) {
+				int end = Math.min(i + _PRIM_KEYS_CHUNK_SIZE, primKeys.length);
+
+				chunkPrimKeys = new String[end - i];
+
+				System.arraycopy(
+					primKeys, i, chunkPrimKeys, 0, chunkPrimKeys.length);
+			}
+
+			List<ResourcePermission> resourcePermissions =
+				resourcePermissionFinder.findByC_N_S_P_R(
+					companyId, name, scope, chunkPrimKeys, roleIds);
+
+			for (ResourcePermission resourcePermission : resourcePermissions) {
+
+				// Like hasResourcePermission, only look up the action once a
+				// resource permission is found
+
+				if (resourceAction == null) {
+					resourceAction =
+						resourceActionLocalService.getResourceAction(
+							name, actionId);
+				}
+
+				if (hasActionId(resourcePermission, resourceAction)) {
+					grantedPrimKeys.add(resourcePermission.getPrimKey());
+				}
+			}
+		}
+
+		for (int i = 0; i < primKeys.length; i++) {
+			if (grantedPrimKeys.contains(primKeys[i])) {
+				bitSet.set(i);
+			}
+		}
+
+		return bitSet;
+	}
+
 	public boolean hasScopeResourcePermission(
 			long companyId, String name, int scope, long roleId,
 			String actionId)
@@ -579,7 +664,7 @@ public class ResourcePermissionLocalServiceImpl
 			companyId, name, scope, primKey, roleId, 0, new String[] {actionId},
 			ResourcePermissionConstants.OPERATOR_REMOVE);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	/**
@@ -613,7 +698,7 @@ public class ResourcePermissionLocalServiceImpl
 				ResourcePermissionConstants.OPERATOR_REMOVE);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 	}
 
 	/**
@@ -755,7 +840,7 @@ public class ResourcePermissionLocalServiceImpl
 
 		resourcePermissionPersistence.update(resourcePermission, false);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(name);
 
 		SearchEngineUtil.updatePermissionFields(name, primKey);
 	}
@@ -836,4 +921,6 @@ public class ResourcePermissionLocalServiceImpl
 		}
 	}
 
+	private static final int _PRIM_KEYS_CHUNK_SIZE = 500;
+
 }
\ No newline at end of file
@@ -52,7 +52,7 @@ public class UserGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(userId);
 	}
 
 	public void addUserGroupRoles(long[] userIds, long groupId, long roleId)
@@ -73,7 +73,7 @@ public class UserGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(userIds);
 	}
 
 	@Override
@@ -82,7 +82,7 @@ public class UserGroupRoleLocalServiceImpl
 
 		userGroupRolePersistence.remove(userGroupRole);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(userGroupRole.getUserId());
 	}
 
 	public void deleteUserGroupRoles(
@@ -99,7 +99,7 @@ public class UserGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(userId);
 	}
 
 	public void deleteUserGroupRoles(long userId, long[] groupIds)
@@ -109,7 +109,7 @@ public class UserGroupRoleLocalServiceImpl
 			userGroupRolePersistence.removeByU_G(userId, groupId);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(userId);
 	}
 
 	public void deleteUserGroupRoles(long[] userIds, long groupId)
@@ -119,7 +119,7 @@ public class UserGroupRoleLocalServiceImpl
 			userGroupRolePersistence.removeByU_G(userId, groupId);
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(userIds);
 	}
 
 	public void deleteUserGroupRoles(long[] userIds, long groupId, long roleId)
@@ -135,7 +135,7 @@ public class UserGroupRoleLocalServiceImpl
 			}
 		}
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(userIds);
 	}
 
 	public void deleteUserGroupRolesByGroupId(long groupId)
@@ -159,7 +159,7 @@ public class UserGroupRoleLocalServiceImpl
 
 		userGroupRolePersistence.removeByUserId(userId);
 
-		PermissionCacheUtil.clearCache();
+		PermissionCacheUtil.clearCache(userId);
 	}
 
 	public List<UserGroupRole> getUserGroupRoles(long userId)
@@ -22,6 +22,7 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
@@ -31,6 +32,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.InstanceFactory;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.model.Account;
 import com.liferay.portal.model.CacheModel;
@@ -43,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the account service.
@@ -396,6 +402,103 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 		return account;
 	}
 
+	/**
+	 * Returns the accounts with the primary keys. Cached accounts are served from the entity cache and the rest are fetched in batches of {@link #FETCH_BY_PRIMARY_KEYS_BATCH_SIZE} primary keys.
+	 *
+	 * @param primaryKeys the primary keys of the accounts
+	 * @return the accounts mapped by their primary keys, without entries for primary keys that could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Account> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, Account> map = new HashMap<Serializable, Account>();
+
+		Set<Serializable> uncachedPrimaryKeys = new HashSet<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Account account = (Account)EntityCacheUtil.getResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
+					AccountImpl.class, primaryKey, this);
+
+			if (account == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (account != _nullAccount) {
+				map.put(primaryKey, account);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeysList = new ArrayList<Serializable>(uncachedPrimaryKeys);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeysList.size();
+					start += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				int end = Math.min(start + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+						uncachedPrimaryKeysList.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeysList.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ACCOUNT_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add((Long)primaryKey);
+				}
+
+				List<Account> list = q.list();
+
+				for (Account account : list) {
+					Serializable primaryKey = account.getPrimaryKeyObj();
+
+					map.put(primaryKey, account);
+
+					cacheResult(account);
+
+					uncachedPrimaryKeys.remove(primaryKey);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				EntityCacheUtil.putResult(AccountModelImpl.ENTITY_CACHE_ENABLED,
+					AccountImpl.class, primaryKey, _nullAccount);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the accounts.
 	 *
@@ -717,6 +820,7 @@ public class AccountPersistenceImpl extends BasePersistenceImpl<Account>
 	@BeanReference(type = WorkflowInstanceLinkPersistence.class)
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_ACCOUNT = "SELECT account FROM Account account";
+	private static final String _SQL_SELECT_ACCOUNT_WHERE_PKS_IN = "SELECT account FROM Account account WHERE account.accountId IN (";
 	private static final String _SQL_COUNT_ACCOUNT = "SELECT COUNT(account) FROM Account account";
 	private static final String _ORDER_BY_ENTITY_ALIAS = "account.";
 	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No Account exists with the primary key ";
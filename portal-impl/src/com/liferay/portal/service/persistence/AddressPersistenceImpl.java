@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the address service.
@@ -488,6 +492,103 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 		return address;
 	}
 
+	/**
+	 * Returns the addresses with the primary keys. Cached addresses are served from the entity cache and the rest are fetched in batches of {@link #FETCH_BY_PRIMARY_KEYS_BATCH_SIZE} primary keys.
+	 *
+	 * @param primaryKeys the primary keys of the addresses
+	 * @return the addresses mapped by their primary keys, without entries for primary keys that could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, Address> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, Address> map = new HashMap<Serializable, Address>();
+
+		Set<Serializable> uncachedPrimaryKeys = new HashSet<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			Address address = (Address)EntityCacheUtil.getResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
+					AddressImpl.class, primaryKey, this);
+
+			if (address == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (address != _nullAddress) {
+				map.put(primaryKey, address);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeysList = new ArrayList<Serializable>(uncachedPrimaryKeys);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeysList.size();
+					start += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				int end = Math.min(start + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+						uncachedPrimaryKeysList.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeysList.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_ADDRESS_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add((Long)primaryKey);
+				}
+
+				List<Address> list = q.list();
+
+				for (Address address : list) {
+					Serializable primaryKey = address.getPrimaryKeyObj();
+
+					map.put(primaryKey, address);
+
+					cacheResult(address);
+
+					uncachedPrimaryKeys.remove(primaryKey);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				EntityCacheUtil.putResult(AddressModelImpl.ENTITY_CACHE_ENABLED,
+					AddressImpl.class, primaryKey, _nullAddress);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns all the addresses where companyId = &#63;.
 	 *
@@ -3491,6 +3592,7 @@ public class AddressPersistenceImpl extends BasePersistenceImpl<Address>
 	@BeanReference(type = WorkflowInstanceLinkPersistence.class)
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_ADDRESS = "SELECT address FROM Address address";
+	private static final String _SQL_SELECT_ADDRESS_WHERE_PKS_IN = "SELECT address FROM Address address WHERE address.addressId IN (";
 	private static final String _SQL_SELECT_ADDRESS_WHERE = "SELECT address FROM Address address WHERE ";
 	private static final String _SQL_COUNT_ADDRESS = "SELECT COUNT(address) FROM Address address";
 	private static final String _SQL_COUNT_ADDRESS_WHERE = "SELECT COUNT(address) FROM Address address WHERE ";
@@ -45,7 +45,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the browser tracker service.
@@ -434,6 +438,103 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 		return browserTracker;
 	}
 
+	/**
+	 * Returns the browser trackers with the primary keys. Cached browser trackers are served from the entity cache and the rest are fetched in batches of {@link #FETCH_BY_PRIMARY_KEYS_BATCH_SIZE} primary keys.
+	 *
+	 * @param primaryKeys the primary keys of the browser trackers
+	 * @return the browser trackers mapped by their primary keys, without entries for primary keys that could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, BrowserTracker> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, BrowserTracker> map = new HashMap<Serializable, BrowserTracker>();
+
+		Set<Serializable> uncachedPrimaryKeys = new HashSet<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			BrowserTracker browserTracker = (BrowserTracker)EntityCacheUtil.getResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+					BrowserTrackerImpl.class, primaryKey, this);
+
+			if (browserTracker == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (browserTracker != _nullBrowserTracker) {
+				map.put(primaryKey, browserTracker);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeysList = new ArrayList<Serializable>(uncachedPrimaryKeys);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeysList.size();
+					start += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				int end = Math.min(start + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+						uncachedPrimaryKeysList.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeysList.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_BROWSERTRACKER_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add((Long)primaryKey);
+				}
+
+				List<BrowserTracker> list = q.list();
+
+				for (BrowserTracker browserTracker : list) {
+					Serializable primaryKey = browserTracker.getPrimaryKeyObj();
+
+					map.put(primaryKey, browserTracker);
+
+					cacheResult(browserTracker);
+
+					uncachedPrimaryKeys.remove(primaryKey);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				EntityCacheUtil.putResult(BrowserTrackerModelImpl.ENTITY_CACHE_ENABLED,
+					BrowserTrackerImpl.class, primaryKey, _nullBrowserTracker);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns the browser tracker where userId = &#63; or throws a {@link com.liferay.portal.NoSuchBrowserTrackerException} if it could not be found.
 	 *
@@ -949,6 +1050,7 @@ public class BrowserTrackerPersistenceImpl extends BasePersistenceImpl<BrowserTr
 	@BeanReference(type = WorkflowInstanceLinkPersistence.class)
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_BROWSERTRACKER = "SELECT browserTracker FROM BrowserTracker browserTracker";
+	private static final String _SQL_SELECT_BROWSERTRACKER_WHERE_PKS_IN = "SELECT browserTracker FROM BrowserTracker browserTracker WHERE browserTracker.browserTrackerId IN (";
 	private static final String _SQL_SELECT_BROWSERTRACKER_WHERE = "SELECT browserTracker FROM BrowserTracker browserTracker WHERE ";
 	private static final String _SQL_COUNT_BROWSERTRACKER = "SELECT COUNT(browserTracker) FROM BrowserTracker browserTracker";
 	private static final String _SQL_COUNT_BROWSERTRACKER_WHERE = "SELECT COUNT(browserTracker) FROM BrowserTracker browserTracker WHERE ";
@@ -46,7 +46,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the class name service.
@@ -424,6 +428,103 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 		return className;
 	}
 
+	/**
+	 * Returns the class names with the primary keys. Cached class names are served from the entity cache and the rest are fetched in batches of {@link #FETCH_BY_PRIMARY_KEYS_BATCH_SIZE} primary keys.
+	 *
+	 * @param primaryKeys the primary keys of the class names
+	 * @return the class names mapped by their primary keys, without entries for primary keys that could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, ClassName> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, ClassName> map = new HashMap<Serializable, ClassName>();
+
+		Set<Serializable> uncachedPrimaryKeys = new HashSet<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			ClassName className = (ClassName)EntityCacheUtil.getResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+					ClassNameImpl.class, primaryKey, this);
+
+			if (className == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (className != _nullClassName) {
+				map.put(primaryKey, className);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeysList = new ArrayList<Serializable>(uncachedPrimaryKeys);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeysList.size();
+					start += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				int end = Math.min(start + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+						uncachedPrimaryKeysList.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeysList.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_CLASSNAME_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add((Long)primaryKey);
+				}
+
+				List<ClassName> list = q.list();
+
+				for (ClassName className : list) {
+					Serializable primaryKey = className.getPrimaryKeyObj();
+
+					map.put(primaryKey, className);
+
+					cacheResult(className);
+
+					uncachedPrimaryKeys.remove(primaryKey);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				EntityCacheUtil.putResult(ClassNameModelImpl.ENTITY_CACHE_ENABLED,
+					ClassNameImpl.class, primaryKey, _nullClassName);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns the class name where value = &#63; or throws a {@link com.liferay.portal.NoSuchClassNameException} if it could not be found.
 	 *
@@ -964,6 +1065,7 @@ public class ClassNamePersistenceImpl extends BasePersistenceImpl<ClassName>
 	@BeanReference(type = WorkflowInstanceLinkPersistence.class)
 	protected WorkflowInstanceLinkPersistence workflowInstanceLinkPersistence;
 	private static final String _SQL_SELECT_CLASSNAME = "SELECT className FROM ClassName className";
+	private static final String _SQL_SELECT_CLASSNAME_WHERE_PKS_IN = "SELECT className FROM ClassName className WHERE className.classNameId IN (";
 	private static final String _SQL_SELECT_CLASSNAME_WHERE = "SELECT className FROM ClassName className WHERE ";
 	private static final String _SQL_COUNT_CLASSNAME = "SELECT COUNT(className) FROM ClassName className";
 	private static final String _SQL_COUNT_CLASSNAME_WHERE = "SELECT COUNT(className) FROM ClassName className WHERE ";
@@ -20,12 +20,14 @@ import com.liferay.portal.kernel.dao.orm.SQLQuery;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.dao.orm.Type;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.model.ResourcePermission;
 import com.liferay.portal.model.impl.ResourcePermissionImpl;
 import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
 import com.liferay.util.dao.orm.CustomSQLUtil;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -48,6 +50,9 @@ public class ResourcePermissionFinderImpl
 	public static String FIND_BY_C_N_S =
 		ResourcePermissionFinder.class.getName() + ".findByC_N_S";
 
+	public static String FIND_BY_C_N_S_P_R =
+		ResourcePermissionFinder.class.getName() + ".findByC_N_S_P_R";
+
 	public int countByR_S(long roleId, int[] scopes) throws SystemException {
 		Session session = null;
 
@@ -183,6 +188,79 @@ public class ResourcePermissionFinderImpl
 		}
 	}
 
+	public List<ResourcePermission> findByC_N_S_P_R(
+			long companyId, String name, int scope, String[] primKeys,
+			long[] roleIds)
+		throws SystemException {
+
+		if ((primKeys.length == 0) || (roleIds.length == 0)) {
+			return new ArrayList<ResourcePermission>();
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_C_N_S_P_R);
+
+			sql = StringUtil.replace(
+				sql, new String[] {"[$PRIM_KEYS$]", "[$ROLE_IDS$]"},
+				new String[] {
+					getPrimKeys(primKeys.length), getRoleIds(roleIds.length)
+				});
+
+			SQLQuery q = session.createSQLQuery(sql);
+
+			q.addEntity("ResourcePermission", ResourcePermissionImpl.class);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(companyId);
+			qPos.add(name);
+			qPos.add(scope);
+			qPos.add(primKeys);
+			qPos.add(roleIds);
+
+			return (List<ResourcePermission>)QueryUtil.list(
+				q, getDialect(), QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected String getParameters(String column, int length) {
+		StringBundler sb = new StringBundler(length * 2 + 1);
+
+		sb.append("(");
+		sb.append(column);
+		sb.append(" IN (");
+
+		for (int i = 0; i < length; i++) {
+			sb.append("?");
+
+			if ((i + 1) != length) {
+				sb.append(", ");
+			}
+		}
+
+		sb.append("))");
+
+		return sb.toString();
+	}
+
+	protected String getPrimKeys(int length) {
+		return getParameters("ResourcePermission.primKey", length);
+	}
+
+	protected String getRoleIds(int length) {
+		return getParameters("ResourcePermission.roleId", length);
+	}
+
 	protected String getScopes(int[] scopes) {
 		StringBuilder sb = new StringBuilder();
 
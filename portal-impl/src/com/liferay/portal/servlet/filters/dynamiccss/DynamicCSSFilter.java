@@ -30,7 +30,10 @@ import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.SystemProperties;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.util.WebKeys;
+import com.liferay.portal.model.Theme;
+import com.liferay.portal.service.ThemeLocalServiceUtil;
 import com.liferay.portal.servlet.filters.BasePortalFilter;
+import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PropsUtil;
 import com.liferay.util.servlet.filters.CacheResponseUtil;
 
@@ -144,7 +147,8 @@ public class DynamicCSSFilter extends BasePortalFilter {
 
 				content = FileUtil.read(file);
 
-				dynamicContent = DynamicCSSUtil.parseSass(cssRealPath, content);
+				dynamicContent = DynamicCSSUtil.parseSass(
+					cssRealPath, content, isThemeCSS(request, requestPath));
 
 				response.setContentType(ContentTypes.TEXT_CSS);
 
@@ -200,6 +204,32 @@ public class DynamicCSSFilter extends BasePortalFilter {
 		return dynamicContent;
 	}
 
+	protected boolean isThemeCSS(
+			HttpServletRequest request, String requestPath)
+		throws Exception {
+
+		String contextPath = request.getContextPath();
+
+		if (contextPath.equals(StringPool.SLASH)) {
+			contextPath = StringPool.BLANK;
+		}
+
+		long companyId = PortalUtil.getCompanyId(request);
+
+		for (Theme theme : ThemeLocalServiceUtil.getThemes(companyId)) {
+			String cssPath = theme.getCssPath();
+
+			if (Validator.isNotNull(cssPath) &&
+				contextPath.equals(theme.getContextPath()) &&
+				requestPath.startsWith(cssPath.concat(StringPool.SLASH))) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	@Override
 	protected void processFilter(
 			HttpServletRequest request, HttpServletResponse response,
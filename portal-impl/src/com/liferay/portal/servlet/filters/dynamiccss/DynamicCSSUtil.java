@@ -14,24 +14,53 @@
 
 package com.liferay.portal.servlet.filters.dynamiccss;
 
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.io.unsync.UnsyncPrintWriter;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.scripting.ScriptingException;
+import com.liferay.portal.kernel.servlet.ServletContextUtil;
 import com.liferay.portal.kernel.servlet.WebDirDetector;
+import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.UnsyncPrintWriterPool;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.CompanyConstants;
 import com.liferay.portal.scripting.ruby.RubyExecutor;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portlet.documentlibrary.store.DLStoreUtil;
 
 import java.io.File;
+import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.ServletContext;
 
 /**
  * @author Raymond Augé
+ * @author Shuyang Zhou
  */
 public class DynamicCSSUtil {
 
@@ -41,27 +70,244 @@ public class DynamicCSSUtil {
 
 		_rubyScriptFile = new File(rootDir + "WEB-INF/sass/main.rb");
 
+		rootDir = StringUtil.replace(
+			rootDir, CharPool.BACK_SLASH, CharPool.SLASH);
+
+		if (rootDir.endsWith(StringPool.SLASH)) {
+			rootDir = rootDir.substring(0, rootDir.length() - 1);
+		}
+
+		_webappsDir = rootDir.substring(
+			0, rootDir.lastIndexOf(CharPool.SLASH) + 1);
+
+		if (_rubyExecutorsCount.get() == 0) {
+			_rubyExecutorsCount.incrementAndGet();
+
+			_rubyExecutors.offer(createRubyExecutor());
+		}
+	}
+
+	public static String parseSass(String cssRealPath, String content)
+		throws ScriptingException {
+
+		return parseSass(cssRealPath, content, false);
+	}
+
+	/**
+	 * Parses the Sass CSS. When <code>store</code> is <code>true</code> and
+	 * "sass.store.enabled" is set, the parsed CSS is also shared with other
+	 * nodes through the document library store. Only theme CSS files should be
+	 * stored, because stored entries are never removed.
+	 */
+	public static String parseSass(
+			String cssRealPath, String content, boolean store)
+		throws ScriptingException {
+
+		if (!DynamicCSSFilter.ENABLED) {
+			return content;
+		}
+
+		String key = null;
+
+		try {
+			key = getKey(cssRealPath, content);
+		}
+		catch (IOException ioe) {
+			throw new ScriptingException(ioe);
+		}
+
+		String parsedContent = (String)_portalCache.get(key);
+
+		if (parsedContent != null) {
+			return parsedContent;
+		}
+
+		store = store && PropsValues.SASS_STORE_ENABLED;
+
+		if (store) {
+			parsedContent = getStoreContent(key);
+		}
+
+		if (parsedContent == null) {
+			parsedContent = doParseSass(cssRealPath, content);
+
+			if (Validator.isNull(parsedContent)) {
+				return content;
+			}
+
+			if (store) {
+				addStoreContent(key, parsedContent);
+			}
+		}
+
+		_portalCache.put(key, parsedContent);
+
+		return parsedContent;
+	}
+
+	public static void precompile(
+		final ServletContext servletContext, String cssPath) {
+
+		if (!DynamicCSSFilter.ENABLED || !PropsValues.SASS_PRECOMPILE_ENABLED) {
+			return;
+		}
+
+		List<String> paths = new ArrayList<String>();
+
+		getCSSPaths(servletContext, cssPath + StringPool.SLASH, paths);
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Precompiling " + paths.size() + " CSS files for " +
+					servletContext.getServletContextName());
+		}
+
+		for (final String path : paths) {
+			Callable<String> callable = new Callable<String>() {
+
+				public String call() {
+					String cssRealPath = ServletContextUtil.getRealPath(
+						servletContext, path);
+
+					if (cssRealPath == null) {
+						return null;
+					}
+
+					cssRealPath = StringUtil.replace(
+						cssRealPath, CharPool.BACK_SLASH, CharPool.SLASH);
+
+					try {
+						String content = FileUtil.read(cssRealPath);
+
+						return parseSass(cssRealPath, content, true);
+					}
+					catch (Exception e) {
+						_log.error("Unable to precompile CSS " + cssRealPath, e);
+
+						return null;
+					}
+				}
+
+			};
+
+			PortalExecutorManagerUtil.execute(
+				DynamicCSSUtil.class.getName(), callable);
+		}
+	}
+
+	protected static void addImports(
+			File dir, String content, List<String> texts,
+			Set<String> fileNames)
+		throws IOException {
+
+		Matcher matcher = _importPattern.matcher(content);
+
+		while (matcher.find()) {
+			for (String importName : StringUtil.split(matcher.group(1))) {
+				importName = importName.trim();
+
+				// Unquoted and url() imports, CSS files and remote files are
+				// left to the browser as plain CSS imports
+
+				if ((importName.length() < 2) ||
+					((importName.charAt(0) != CharPool.APOSTROPHE) &&
+					 (importName.charAt(0) != CharPool.QUOTE))) {
+
+					continue;
+				}
+
+				importName = importName.substring(1, importName.length() - 1);
+
+				if (importName.endsWith(_CSS_EXTENSION) ||
+					importName.contains(StringPool.DOUBLE_SLASH)) {
+
+					continue;
+				}
+
+				File importFile = getImportFile(dir, importName);
+
+				if ((importFile == null) ||
+					!fileNames.add(importFile.getCanonicalPath())) {
+
+					continue;
+				}
+
+				String importContent = FileUtil.read(importFile);
+
+				texts.add(importName);
+				texts.add(importContent);
+
+				addImports(
+					importFile.getParentFile(), importContent, texts,
+					fileNames);
+			}
+		}
+	}
+
+	protected static void addStoreContent(String key, String parsedContent) {
+		try {
+			DLStoreUtil.addFile(
+				CompanyConstants.SYSTEM, CompanyConstants.SYSTEM,
+				getStoreFileName(key), false,
+				parsedContent.getBytes(StringPool.UTF8));
+		}
+		catch (Exception e) {
+
+			// Another node may have stored the same content concurrently
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(e, e);
+			}
+		}
+	}
+
+	protected static RubyExecutor borrowRubyExecutor()
+		throws ScriptingException {
+
+		RubyExecutor rubyExecutor = _rubyExecutors.poll();
+
+		if (rubyExecutor != null) {
+			return rubyExecutor;
+		}
+
+		if (_rubyExecutorsCount.incrementAndGet() <=
+				PropsValues.SASS_PARSER_POOL_SIZE) {
+
+			return createRubyExecutor();
+		}
+
+		_rubyExecutorsCount.decrementAndGet();
+
+		try {
+			return _rubyExecutors.take();
+		}
+		catch (InterruptedException ie) {
+			throw new ScriptingException(ie);
+		}
+	}
+
+	protected static RubyExecutor createRubyExecutor() {
+		RubyExecutor rubyExecutor = new RubyExecutor();
+
 		try {
 
 			// Ruby executor needs to warm up when requiring Sass. Always breaks
 			// the first time without this block.
 
-			_rubyExecutor.eval(
+			rubyExecutor.eval(
 				null, new HashMap<String, Object>(), null,
 				"require 'rubygems'\nrequire 'sass'");
 		}
 		catch (ScriptingException se) {
 			_log.error(se, se);
 		}
+
+		return rubyExecutor;
 	}
 
-	public static String parseSass(String cssRealPath, String content)
+	protected static String doParseSass(String cssRealPath, String content)
 		throws ScriptingException {
 
-		if (!DynamicCSSFilter.ENABLED) {
-			return content;
-		}
-
 		Map<String, Object> inputObjects = new HashMap<String, Object>();
 
 		inputObjects.put("content", content);
@@ -75,22 +321,214 @@ public class DynamicCSSUtil {
 
 		inputObjects.put("out", unsyncPrintWriter);
 
-		_rubyExecutor.eval(null, inputObjects, null, _rubyScriptFile);
+		RubyExecutor rubyExecutor = borrowRubyExecutor();
+
+		try {
+			rubyExecutor.eval(null, inputObjects, null, _rubyScriptFile);
+		}
+		finally {
+			_rubyExecutors.offer(rubyExecutor);
+		}
 
 		unsyncPrintWriter.flush();
 
-		String parsedContent = unsyncByteArrayOutputStream.toString();
+		return unsyncByteArrayOutputStream.toString();
+	}
 
-		if (Validator.isNotNull(parsedContent)) {
-			return parsedContent;
+	protected static void getCSSPaths(
+		ServletContext servletContext, String path, List<String> paths) {
+
+		Set<?> resourcePaths = servletContext.getResourcePaths(path);
+
+		if (resourcePaths == null) {
+			return;
+		}
+
+		for (Object resourcePath : resourcePaths) {
+			String curPath = (String)resourcePath;
+
+			if (curPath.endsWith(StringPool.SLASH)) {
+				getCSSPaths(servletContext, curPath, paths);
+			}
+			else if (curPath.endsWith(_CSS_EXTENSION)) {
+				paths.add(curPath);
+			}
+		}
+	}
+
+	protected static File getImportFile(File dir, String importName) {
+		File file = new File(dir, importName);
+
+		File importDir = file.getParentFile();
+		String fileName = file.getName();
+
+		String[] importFileNames = {
+			fileName, fileName + _SCSS_EXTENSION,
+			StringPool.UNDERLINE + fileName,
+			StringPool.UNDERLINE + fileName + _SCSS_EXTENSION
+		};
+
+		for (String importFileName : importFileNames) {
+			File importFile = new File(importDir, importFileName);
+
+			if (importFile.isFile()) {
+				return importFile;
+			}
+		}
+
+		return null;
+	}
+
+	protected static String getKey(String cssRealPath, String content)
+		throws IOException {
+
+		if (cssRealPath != null) {
+			KeyEntry keyEntry = _keyEntries.get(cssRealPath);
+
+			if ((keyEntry != null) && keyEntry.isValid(content)) {
+				return keyEntry.getKey();
+			}
+		}
+
+		List<String> texts = new ArrayList<String>();
+
+		// Key on the path relative to the web applications directory so that
+		// nodes deployed to different locations share the same entries
+
+		if (cssRealPath == null) {
+			texts.add(StringPool.BLANK);
+		}
+		else if ((_webappsDir != null) && cssRealPath.startsWith(_webappsDir)) {
+			texts.add(cssRealPath.substring(_webappsDir.length()));
+		}
+		else {
+			texts.add(cssRealPath);
 		}
 
-		return content;
+		texts.add(content);
+
+		if (cssRealPath == null) {
+			return DigesterUtil.digestHex(
+				Digester.SHA_1, texts.toArray(new String[texts.size()]));
+		}
+
+		// Sass inlines imported partials, so a change to any of them must
+		// produce a new key
+
+		Set<String> fileNames = new HashSet<String>();
+
+		File cssFile = new File(cssRealPath);
+
+		File dir = cssFile.getParentFile();
+
+		if (dir != null) {
+			addImports(dir, content, texts, fileNames);
+		}
+
+		String key = DigesterUtil.digestHex(
+			Digester.SHA_1, texts.toArray(new String[texts.size()]));
+
+		_keyEntries.put(cssRealPath, new KeyEntry(content, fileNames, key));
+
+		return key;
+	}
+
+	protected static String getStoreContent(String key) {
+		String fileName = getStoreFileName(key);
+
+		try {
+			if (!DLStoreUtil.hasFile(
+					CompanyConstants.SYSTEM, CompanyConstants.SYSTEM,
+					fileName)) {
+
+				return null;
+			}
+
+			byte[] bytes = DLStoreUtil.getFileAsBytes(
+				CompanyConstants.SYSTEM, CompanyConstants.SYSTEM, fileName);
+
+			return new String(bytes, StringPool.UTF8);
+		}
+		catch (PortalException pe) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(pe, pe);
+			}
+		}
+		catch (Exception e) {
+			_log.error("Unable to read parsed CSS " + fileName, e);
+		}
+
+		return null;
 	}
 
+	protected static String getStoreFileName(String key) {
+		return _STORE_DIR + key + _CSS_EXTENSION;
+	}
+
+	private static final String _CSS_EXTENSION = ".css";
+
+	private static final String _SCSS_EXTENSION = ".scss";
+
+	private static final String _STORE_DIR = "sass/";
+
 	private static Log _log = LogFactoryUtil.getLog(DynamicCSSUtil.class);
 
-	private static RubyExecutor _rubyExecutor = new RubyExecutor();
+	private static Pattern _importPattern = Pattern.compile(
+		"@import\\s+([^;]+);");
+	private static Map<String, KeyEntry> _keyEntries =
+		new ConcurrentHashMap<String, KeyEntry>();
+	private static PortalCache _portalCache = SingleVMPoolUtil.getCache(
+		DynamicCSSUtil.class.getName());
+	private static BlockingQueue<RubyExecutor> _rubyExecutors =
+		new LinkedBlockingQueue<RubyExecutor>();
+	private static AtomicInteger _rubyExecutorsCount = new AtomicInteger();
 	private static File _rubyScriptFile;
+	private static String _webappsDir;
+
+	private static class KeyEntry {
+
+		public KeyEntry(String content, Set<String> fileNames, String key) {
+			_content = content;
+			_key = key;
+
+			_files = new File[fileNames.size()];
+			_lastModifieds = new long[fileNames.size()];
+
+			int i = 0;
+
+			for (String fileName : fileNames) {
+				File file = new File(fileName);
+
+				_files[i] = file;
+				_lastModifieds[i] = file.lastModified();
+
+				i++;
+			}
+		}
+
+		public String getKey() {
+			return _key;
+		}
+
+		public boolean isValid(String content) {
+			if (!_content.equals(content)) {
+				return false;
+			}
+
+			for (int i = 0; i < _files.length; i++) {
+				if (_files[i].lastModified() != _lastModifieds[i]) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private String _content;
+		private File[] _files;
+		private String _key;
+		private long[] _lastModifieds;
+
+	}
 
 }
\ No newline at end of file
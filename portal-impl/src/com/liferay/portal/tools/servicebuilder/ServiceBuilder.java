@@ -1282,6 +1282,7 @@ public class ServiceBuilder {
 		String methodName = method.getName();
 
 		if (methodName.equals("clearCache") ||
+			methodName.equals("fetchByPrimaryKeys") ||
 			methodName.equals("findWithDynamicQuery")) {
 
 			return true;
@@ -67,8 +67,11 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 <#list referenceList as tempEntity>
@@ -783,6 +786,102 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 		return ${entity.varName};
 	}
 
+	<#if !entity.hasCompoundPK()>
+		/**
+		 * Returns the ${entity.humanNames} with the primary keys. Cached ${entity.humanNames} are served from the entity cache and the rest are fetched in batches of {@link #FETCH_BY_PRIMARY_KEYS_BATCH_SIZE} primary keys.
+		 *
+		 * @param primaryKeys the primary keys of the ${entity.humanNames}
+		 * @return the ${entity.humanNames} mapped by their primary keys, without entries for primary keys that could not be found
+		 * @throws SystemException if a system exception occurred
+		 */
+		@Override
+		public Map<Serializable, ${entity.name}> fetchByPrimaryKeys(Set<Serializable> primaryKeys) throws SystemException {
+			Map<Serializable, ${entity.name}> map = new HashMap<Serializable, ${entity.name}>();
+
+			Set<Serializable> uncachedPrimaryKeys = new HashSet<Serializable>();
+
+			for (Serializable primaryKey : primaryKeys) {
+				${entity.name} ${entity.varName} = (${entity.name})EntityCacheUtil.getResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKey, this);
+
+				if (${entity.varName} == null) {
+					uncachedPrimaryKeys.add(primaryKey);
+				}
+				else if (${entity.varName} != _null${entity.name}) {
+					map.put(primaryKey, ${entity.varName});
+				}
+			}
+
+			if (uncachedPrimaryKeys.isEmpty()) {
+				return map;
+			}
+
+			List<Serializable> uncachedPrimaryKeysList = new ArrayList<Serializable>(uncachedPrimaryKeys);
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				for (int start = 0; start < uncachedPrimaryKeysList.size(); start += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+					int end = Math.min(start + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE, uncachedPrimaryKeysList.size());
+
+					List<Serializable> batchPrimaryKeys = uncachedPrimaryKeysList.subList(start, end);
+
+					StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) + 1);
+
+					query.append(_SQL_SELECT_${entity.alias?upper_case}_WHERE_PKS_IN);
+
+					for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+						query.append(StringPool.QUESTION);
+						query.append(StringPool.COMMA);
+					}
+
+					query.setIndex(query.index() - 1);
+
+					query.append(StringPool.CLOSE_PARENTHESIS);
+
+					String sql = query.toString();
+
+					Query q = session.createQuery(sql);
+
+					QueryPos qPos = QueryPos.getInstance(q);
+
+					for (Serializable primaryKey : batchPrimaryKeys) {
+						<#if entity.hasPrimitivePK(false)>
+							qPos.add((${serviceBuilder.getPrimitiveObj("${entity.PKClassName}")})primaryKey);
+						<#else>
+							qPos.add((${entity.PKClassName})primaryKey);
+						</#if>
+					}
+
+					List<${entity.name}> list = q.list();
+
+					for (${entity.name} ${entity.varName} : list) {
+						Serializable primaryKey = ${entity.varName}.getPrimaryKeyObj();
+
+						map.put(primaryKey, ${entity.varName});
+
+						cacheResult(${entity.varName});
+
+						uncachedPrimaryKeys.remove(primaryKey);
+					}
+				}
+
+				for (Serializable primaryKey : uncachedPrimaryKeys) {
+					EntityCacheUtil.putResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKey, _null${entity.name});
+				}
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+
+			return map;
+		}
+	</#if>
+
 	<#list entity.getFinderList() as finder>
 		<#assign finderColsList = finder.getColumns()>
 
@@ -3799,6 +3898,10 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 
 	private static final String _SQL_SELECT_${entity.alias?upper_case} = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias}";
 
+	<#if !entity.hasCompoundPK()>
+		private static final String _SQL_SELECT_${entity.alias?upper_case}_WHERE_PKS_IN = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias} WHERE ${entity.alias}.${entity.PKVarName} IN (";
+	</#if>
+
 	<#if entity.getFinderList()?size != 0>
 		private static final String _SQL_SELECT_${entity.alias?upper_case}_WHERE = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias} WHERE ";
 	</#if>
@@ -27,10 +27,15 @@ import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
 import java.sql.Blob;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class ${entity.name}PersistenceTest extends BasePersistenceTestCase {
 
@@ -281,6 +286,54 @@ public class ${entity.name}PersistenceTest extends BasePersistenceTestCase {
 		assertNull(missing${entity.name});
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		${entity.name} new${entity.name} = add${entity.name}();
+
+		<#if entity.hasCompoundPK()>
+			${entity.PKClassName} pk = new ${entity.PKClassName}(
+
+			<#list entity.PKList as column>
+				<#if column.type == "int">
+					nextInt()
+				<#elseif column.type == "long">
+					nextLong()
+				<#elseif column.type == "String">
+					randomString()
+				</#if>
+
+				<#if column_has_next>
+					,
+				</#if>
+			</#list>
+
+			);
+		<#else>
+			<#assign column = entity.PKList[0]>
+
+			${column.type} pk =
+
+			<#if column.type == "int">
+				nextInt()
+			<#elseif column.type == "long">
+				nextLong()
+			<#elseif column.type == "String">
+				randomString()
+			</#if>
+
+			;
+		</#if>
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(new${entity.name}.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ${entity.name}> ${entity.varNames} = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ${entity.varNames}.size());
+		assertEquals(new${entity.name}, ${entity.varNames}.get(new${entity.name}.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting() throws Exception {
 		${entity.name} new${entity.name} = add${entity.name}();
 
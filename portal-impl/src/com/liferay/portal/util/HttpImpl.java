@@ -14,7 +14,10 @@
 
 package com.liferay.portal.util;
 
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.configuration.Filter;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
@@ -39,10 +42,16 @@ import java.net.URL;
 import java.net.URLConnection;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import javax.portlet.ActionRequest;
@@ -59,6 +68,7 @@ import org.apache.commons.httpclient.HttpClient;
 import org.apache.commons.httpclient.HttpConnectionManager;
 import org.apache.commons.httpclient.HttpMethod;
 import org.apache.commons.httpclient.HttpState;
+import org.apache.commons.httpclient.HttpStatus;
 import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
 import org.apache.commons.httpclient.NTCredentials;
 import org.apache.commons.httpclient.URI;
@@ -82,6 +92,7 @@ import org.apache.commons.httpclient.params.HttpClientParams;
 import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
 import org.apache.commons.httpclient.params.HttpConnectionParams;
 import org.apache.commons.httpclient.params.HttpMethodParams;
+import org.apache.commons.httpclient.util.IdleConnectionTimeoutThread;
 
 /**
  * @author Brian Wing Shun Chan
@@ -120,10 +131,27 @@ public class HttpImpl implements Http {
 		httpConnectionManagerParams.setMaxTotalConnections(
 			new Integer(_MAX_TOTAL_CONNECTIONS));
 		httpConnectionManagerParams.setSoTimeout(_TIMEOUT);
+		httpConnectionManagerParams.setStaleCheckingEnabled(
+			_STALE_CHECKING_ENABLED);
 
 		_httpClient.setHttpConnectionManager(httpConnectionManager);
 		_proxyHttpClient.setHttpConnectionManager(httpConnectionManager);
 
+		if (_IDLE_CONNECTION_TIMEOUT > 0) {
+			_idleConnectionTimeoutThread = new IdleConnectionTimeoutThread();
+
+			_idleConnectionTimeoutThread.addConnectionManager(
+				httpConnectionManager);
+			_idleConnectionTimeoutThread.setConnectionTimeout(
+				_IDLE_CONNECTION_TIMEOUT);
+			_idleConnectionTimeoutThread.setName(
+				HttpImpl.class.getName() + ".idleConnectionTimeout");
+			_idleConnectionTimeoutThread.setTimeoutInterval(
+				_IDLE_CONNECTION_TIMEOUT);
+
+			_idleConnectionTimeoutThread.start();
+		}
+
 		if (hasProxyConfig() && Validator.isNotNull(_PROXY_USERNAME)) {
 			List<String> authPrefs = new ArrayList<String>();
 
@@ -221,6 +249,10 @@ public class HttpImpl implements Http {
 	}
 
 	public void destroy() {
+		if (_idleConnectionTimeoutThread != null) {
+			_idleConnectionTimeoutThread.shutdown();
+		}
+
 		MultiThreadedHttpConnectionManager.shutdownAll();
 	}
 
@@ -519,6 +551,10 @@ public class HttpImpl implements Http {
 		return request.getRequestURL().toString();
 	}
 
+	public Map<String, Http.Statistics> getStatistics() {
+		return Collections.unmodifiableMap(_statistics);
+	}
+
 	public boolean hasDomain(String url) {
 		return Validator.isNotNull(getDomain(url));
 	}
@@ -803,11 +839,62 @@ public class HttpImpl implements Http {
 	}
 
 	public byte[] URLtoByteArray(Http.Options options) throws IOException {
-		return URLtoByteArray(
-			options.getLocation(), options.getMethod(), options.getHeaders(),
-			options.getCookies(), options.getAuth(), options.getBody(),
-			options.getFileParts(), options.getParts(), options.getResponse(),
-			options.isFollowRedirects());
+		Http.Response response = options.getResponse();
+
+		PortalCache responsePortalCache = null;
+
+		String responseCacheKey = getResponseCacheKey(options);
+
+		if (responseCacheKey != null) {
+			responsePortalCache = SingleVMPoolUtil.getCache(
+				_RESPONSE_CACHE_NAME);
+
+			CachedResponse cachedResponse =
+				(CachedResponse)responsePortalCache.get(responseCacheKey);
+
+			if (cachedResponse != null) {
+				_cookies.set(null);
+
+				return cachedResponse.copyTo(response);
+			}
+		}
+
+		long startTime = System.currentTimeMillis();
+
+		boolean success = false;
+
+		try {
+			byte[] bytes = URLtoByteArray(
+				options.getLocation(), options.getMethod(),
+				options.getHeaders(), options.getCookies(), options.getAuth(),
+				options.getBody(), options.getFileParts(), options.getParts(),
+				response, options.isFollowRedirects());
+
+			success = true;
+
+			if ((responseCacheKey != null) && (bytes != null)) {
+				int maxAge = getResponseCacheMaxAge(response);
+
+				if (maxAge > 0) {
+					responsePortalCache.put(
+						responseCacheKey, new CachedResponse(bytes, response),
+						maxAge);
+				}
+			}
+
+			return bytes;
+		}
+		finally {
+			String location = options.getLocation();
+
+			if (location != null) {
+				Http.Statistics statistics = getStatistics(
+					getDomain(location));
+
+				statistics.record(
+					System.currentTimeMillis() - startTime, success);
+			}
+		}
 	}
 
 	public byte[] URLtoByteArray(String location) throws IOException {
@@ -829,6 +916,38 @@ public class HttpImpl implements Http {
 		return URLtoByteArray(options);
 	}
 
+	public Future<byte[]> URLtoByteArrayAsync(
+		final Http.Options options, final Http.Callback callback) {
+
+		Callable<byte[]> callable = new Callable<byte[]>() {
+
+			public byte[] call() throws Exception {
+				byte[] bytes = null;
+
+				try {
+					bytes = URLtoByteArray(options);
+				}
+				catch (Exception e) {
+					if (callback != null) {
+						callback.onFailure(e);
+					}
+
+					throw e;
+				}
+
+				if (callback != null) {
+					callback.onCompletion(bytes, options.getResponse());
+				}
+
+				return bytes;
+			}
+
+		};
+
+		return PortalExecutorManagerUtil.execute(
+			HttpImpl.class.getName(), callable);
+	}
+
 	public String URLtoString(Http.Options options) throws IOException {
 		return new String(URLtoByteArray(options));
 	}
@@ -891,6 +1010,97 @@ public class HttpImpl implements Http {
 		return xml;
 	}
 
+	protected String getResponseCacheKey(Http.Options options) {
+		if (!_RESPONSE_CACHE_ENABLED) {
+			return null;
+		}
+
+		Map<String, String> headers = options.getHeaders();
+
+		if ((options.getLocation() == null) ||
+			!Http.Method.GET.equals(options.getMethod()) ||
+			(options.getAuth() != null) ||
+			((options.getCookies() != null) &&
+			 (options.getCookies().length > 0)) ||
+			((headers != null) && !headers.isEmpty())) {
+
+			return null;
+		}
+
+		return options.getLocation() + StringPool.POUND +
+			options.isFollowRedirects();
+	}
+
+	protected int getResponseCacheMaxAge(Http.Response response) {
+		if ((response.getResponseCode() != HttpStatus.SC_OK) ||
+			(response.getHeader(HttpHeaders.SET_COOKIE) != null) ||
+			(response.getHeader(HttpHeaders.VARY) != null)) {
+
+			return 0;
+		}
+
+		String cacheControl = response.getHeader(HttpHeaders.CACHE_CONTROL);
+
+		if (cacheControl == null) {
+			return 0;
+		}
+
+		cacheControl = cacheControl.toLowerCase();
+
+		if (cacheControl.contains("no-cache") ||
+			cacheControl.contains("no-store") ||
+			cacheControl.contains("private")) {
+
+			return 0;
+		}
+
+		int maxAge = 0;
+
+		for (String directive : StringUtil.split(cacheControl)) {
+			directive = directive.trim();
+
+			if (directive.startsWith("max-age=")) {
+				maxAge = GetterUtil.getInteger(directive.substring(8));
+
+				break;
+			}
+		}
+
+		return Math.min(maxAge, _RESPONSE_CACHE_MAX_AGE);
+	}
+
+	protected Http.Statistics getStatistics(String host) {
+		Http.Statistics statistics = _statistics.get(host);
+
+		if (statistics != null) {
+			return statistics;
+		}
+
+		// Hosts beyond the limit share one entry so that requests to
+		// arbitrary user supplied hosts cannot grow the map without bound
+
+		if (_statistics.size() >= _STATISTICS_MAX_HOSTS) {
+			host = StringPool.STAR;
+
+			statistics = _statistics.get(host);
+
+			if (statistics != null) {
+				return statistics;
+			}
+		}
+
+		statistics = new Http.Statistics(host);
+
+		Http.Statistics previousStatistics = _statistics.putIfAbsent(
+			host, statistics);
+
+		if (previousStatistics != null) {
+			statistics = previousStatistics;
+		}
+
+		return statistics;
+	}
+
 	protected boolean hasRequestHeader(HttpMethod httpMethod, String name) {
 		Header[] headers = httpMethod.getRequestHeaders(name);
 
@@ -1141,6 +1351,8 @@ public class HttpImpl implements Http {
 
 			httpClient.executeMethod(hostConfiguration, httpMethod, httpState);
 
+			response.setResponseCode(httpMethod.getStatusCode());
+
 			Header locationHeader = httpMethod.getResponseHeader("location");
 
 			if ((locationHeader != null) && !locationHeader.equals(location)) {
@@ -1209,6 +1421,10 @@ public class HttpImpl implements Http {
 	private static final String _DEFAULT_USER_AGENT =
 		"Mozilla/4.0 (compatible; MSIE 6.0; Windows NT 5.1)";
 
+	private static final int _IDLE_CONNECTION_TIMEOUT = GetterUtil.getInteger(
+		PropsUtil.get(HttpImpl.class.getName() + ".idle.connection.timeout"),
+		60000);
+
 	private static final int _MAX_CONNECTIONS_PER_HOST = GetterUtil.getInteger(
 		PropsUtil.get(HttpImpl.class.getName() + ".max.connections.per.host"),
 		2);
@@ -1241,6 +1457,28 @@ public class HttpImpl implements Http {
 	private static final String _PROXY_USERNAME = GetterUtil.getString(
 		PropsUtil.get(HttpImpl.class.getName() + ".proxy.username"));
 
+	private static final boolean _RESPONSE_CACHE_ENABLED =
+		GetterUtil.getBoolean(
+			PropsUtil.get(
+				HttpImpl.class.getName() + ".response.cache.enabled"));
+
+	private static final int _RESPONSE_CACHE_MAX_AGE = GetterUtil.getInteger(
+		PropsUtil.get(HttpImpl.class.getName() + ".response.cache.max.age"),
+		3600);
+
+	private static final String _RESPONSE_CACHE_NAME =
+		HttpImpl.class.getName() + ".response";
+
+	private static final boolean _STALE_CHECKING_ENABLED =
+		GetterUtil.getBoolean(
+			PropsUtil.get(
+				HttpImpl.class.getName() + ".stale.checking.enabled"),
+			true);
+
+	private static final int _STATISTICS_MAX_HOSTS = GetterUtil.getInteger(
+		PropsUtil.get(HttpImpl.class.getName() + ".statistics.max.hosts"),
+		1000);
+
 	private static final String _TEMP_SLASH = "_LIFERAY_TEMP_SLASH_";
 
 	private static final int _TIMEOUT = GetterUtil.getInteger(
@@ -1251,8 +1489,44 @@ public class HttpImpl implements Http {
 	private static ThreadLocal<Cookie[]> _cookies = new ThreadLocal<Cookie[]>();
 
 	private HttpClient _httpClient = new HttpClient();
+	private IdleConnectionTimeoutThread _idleConnectionTimeoutThread;
 	private Pattern _nonProxyHostsPattern;
 	private Credentials _proxyCredentials;
 	private HttpClient _proxyHttpClient = new HttpClient();
+	private ConcurrentMap<String, Http.Statistics> _statistics =
+		new ConcurrentHashMap<String, Http.Statistics>();
+
+	private static class CachedResponse {
+
+		public CachedResponse(byte[] bytes, Http.Response response) {
+			_bytes = bytes.clone();
+			_contentLength = response.getContentLength();
+			_contentType = response.getContentType();
+
+			if (response.getHeaders() != null) {
+				_headers = new HashMap<String, String>(response.getHeaders());
+			}
+		}
+
+		public byte[] copyTo(Http.Response response) {
+			response.setContentLength(_contentLength);
+			response.setContentType(_contentType);
+			response.setResponseCode(HttpStatus.SC_OK);
+
+			if (_headers != null) {
+				for (Map.Entry<String, String> entry : _headers.entrySet()) {
+					response.addHeader(entry.getKey(), entry.getValue());
+				}
+			}
+
+			return _bytes.clone();
+		}
+
+		private byte[] _bytes;
+		private int _contentLength;
+		private String _contentType;
+		private Map<String, String> _headers;
+
+	}
 
 }
\ No newline at end of file
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.util;
+
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.Layout;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the layouts of a layout set. Changes produce a new
+ * tree with an incremented version that shares everything it can with the
+ * tree it was derived from.
+ *
+ * @author Shuyang Zhou
+ */
+public class LayoutSetTree implements Serializable {
+
+	public LayoutSetTree(
+		long groupId, boolean privateLayout, List<Layout> layouts) {
+
+		_groupId = groupId;
+		_privateLayout = privateLayout;
+		_version = 0;
+
+		_layouts = new HashMap<Long, Layout>(layouts.size());
+		_friendlyURLLayouts = new HashMap<String, Layout>(layouts.size());
+
+		Map<Long, List<Layout>> children = new HashMap<Long, List<Layout>>();
+
+		for (Layout layout : layouts) {
+			layout = (Layout)layout.clone();
+
+			_layouts.put(layout.getLayoutId(), layout);
+
+			if (Validator.isNotNull(layout.getFriendlyURL())) {
+				_friendlyURLLayouts.put(layout.getFriendlyURL(), layout);
+			}
+
+			List<Layout> siblings = children.get(layout.getParentLayoutId());
+
+			if (siblings == null) {
+				siblings = new ArrayList<Layout>();
+
+				children.put(layout.getParentLayoutId(), siblings);
+			}
+
+			siblings.add(layout);
+		}
+
+		_children = new HashMap<Long, List<Layout>>(children.size());
+
+		for (Map.Entry<Long, List<Layout>> entry : children.entrySet()) {
+			_children.put(entry.getKey(), _sort(entry.getValue()));
+		}
+	}
+
+	public List<Layout> getChildren(long parentLayoutId) {
+		List<Layout> children = _children.get(parentLayoutId);
+
+		if (children == null) {
+			return new ArrayList<Layout>();
+		}
+
+		List<Layout> layouts = new ArrayList<Layout>(children.size());
+
+		for (Layout layout : children) {
+			layouts.add((Layout)layout.clone());
+		}
+
+		return layouts;
+	}
+
+	public int getChildrenCount(long parentLayoutId) {
+		List<Layout> children = _children.get(parentLayoutId);
+
+		if (children == null) {
+			return 0;
+		}
+
+		return children.size();
+	}
+
+	public Layout getFriendlyURLLayout(String friendlyURL) {
+		return _clone(_friendlyURLLayouts.get(friendlyURL));
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public Layout getLayout(long layoutId) {
+		return _clone(_layouts.get(layoutId));
+	}
+
+	public int getLayoutsCount() {
+		return _layouts.size();
+	}
+
+	public long getVersion() {
+		return _version;
+	}
+
+	public boolean isPrivateLayout() {
+		return _privateLayout;
+	}
+
+	public LayoutSetTree removeLayout(Layout layout) {
+		Layout oldLayout = _layouts.get(layout.getLayoutId());
+
+		if (oldLayout == null) {
+			return this;
+		}
+
+		LayoutSetTree layoutSetTree = new LayoutSetTree(this);
+
+		layoutSetTree._remove(oldLayout);
+
+		return layoutSetTree;
+	}
+
+	public LayoutSetTree updateLayout(Layout layout) {
+		LayoutSetTree layoutSetTree = new LayoutSetTree(this);
+
+		Layout oldLayout = _layouts.get(layout.getLayoutId());
+
+		if (oldLayout != null) {
+			layoutSetTree._remove(oldLayout);
+		}
+
+		layoutSetTree._add((Layout)layout.clone());
+
+		return layoutSetTree;
+	}
+
+	private LayoutSetTree(LayoutSetTree layoutSetTree) {
+		_groupId = layoutSetTree._groupId;
+		_privateLayout = layoutSetTree._privateLayout;
+		_version = layoutSetTree._version + 1;
+
+		_children = new HashMap<Long, List<Layout>>(layoutSetTree._children);
+		_friendlyURLLayouts = new HashMap<String, Layout>(
+			layoutSetTree._friendlyURLLayouts);
+		_layouts = new HashMap<Long, Layout>(layoutSetTree._layouts);
+	}
+
+	private void _add(Layout layout) {
+		_layouts.put(layout.getLayoutId(), layout);
+
+		if (Validator.isNotNull(layout.getFriendlyURL())) {
+			_friendlyURLLayouts.put(layout.getFriendlyURL(), layout);
+		}
+
+		List<Layout> siblings = _children.get(layout.getParentLayoutId());
+
+		if (siblings == null) {
+			siblings = new ArrayList<Layout>(1);
+		}
+		else {
+			siblings = new ArrayList<Layout>(siblings);
+		}
+
+		siblings.add(layout);
+
+		_children.put(layout.getParentLayoutId(), _sort(siblings));
+	}
+
+	private Layout _clone(Layout layout) {
+		if (layout == null) {
+			return null;
+		}
+
+		return (Layout)layout.clone();
+	}
+
+	private void _remove(Layout layout) {
+		_layouts.remove(layout.getLayoutId());
+
+		if (_friendlyURLLayouts.get(layout.getFriendlyURL()) == layout) {
+			_friendlyURLLayouts.remove(layout.getFriendlyURL());
+		}
+
+		List<Layout> siblings = new ArrayList<Layout>(
+			_children.get(layout.getParentLayoutId()));
+
+		siblings.remove(layout);
+
+		if (siblings.isEmpty()) {
+			_children.remove(layout.getParentLayoutId());
+		}
+		else {
+			_children.put(layout.getParentLayoutId(), _sort(siblings));
+		}
+	}
+
+	private List<Layout> _sort(List<Layout> layouts) {
+
+		// Same order as the layout finders, by parent layout ID and priority
+
+		Collections.sort(layouts);
+
+		return Collections.unmodifiableList(layouts);
+	}
+
+	private Map<Long, List<Layout>> _children;
+	private Map<String, Layout> _friendlyURLLayouts;
+	private long _groupId;
+	private Map<Long, Layout> _layouts;
+	private boolean _privateLayout;
+	private long _version;
+
+}
\ No newline at end of file
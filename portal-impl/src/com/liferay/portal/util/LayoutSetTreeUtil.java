@@ -0,0 +1,381 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.service.persistence.LayoutUtil;
+
+import java.io.Serializable;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caches a {@link LayoutSetTree} per layout set. Trees are built from a single
+ * query on first use and are then kept current by the layout model listener,
+ * which derives a new tree from the cached one instead of discarding it.
+ *
+ * <p>
+ * Each layout set also has a cache version. A tree is only served while the
+ * version it was built or derived under is still cached. Every change removes
+ * the version, and removes are replicated, so other cluster nodes stop serving
+ * their trees and rebuild lazily, even a tree they were building while the
+ * change happened.
+ * </p>
+ *
+ * <p>
+ * Changes made in a transaction are applied after it commits and are dropped
+ * if it rolls back. Until then, the transaction reads the layout sets it
+ * changed from the database, so that it sees its own changes.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class LayoutSetTreeUtil {
+
+	public static final String CACHE_NAME = LayoutSetTreeUtil.class.getName();
+
+	public static LayoutSetTree getLayoutSetTree(
+			long groupId, boolean privateLayout)
+		throws SystemException {
+
+		String key = _encodeKey(groupId, privateLayout);
+
+		LayoutSetTreeSynchronization layoutSetTreeSynchronization =
+			_getLayoutSetTreeSynchronization();
+
+		if ((layoutSetTreeSynchronization != null) &&
+			layoutSetTreeSynchronization.isChanged(key)) {
+
+			return new LayoutSetTree(
+				groupId, privateLayout,
+				LayoutUtil.findByG_P(groupId, privateLayout));
+		}
+
+		Long version = _getVersion(key);
+
+		VersionedLayoutSetTree versionedLayoutSetTree =
+			(VersionedLayoutSetTree)_portalCache.get(key);
+
+		if ((versionedLayoutSetTree != null) &&
+			version.equals(versionedLayoutSetTree.getVersion())) {
+
+			return versionedLayoutSetTree.getLayoutSetTree();
+		}
+
+		List<Layout> layouts = LayoutUtil.findByG_P(groupId, privateLayout);
+
+		LayoutSetTree layoutSetTree = new LayoutSetTree(
+			groupId, privateLayout, layouts);
+
+		// If the version was removed in the meantime, the tree is cached with
+		// a stale version and is never served
+
+		_portalCache.put(
+			key, new VersionedLayoutSetTree(layoutSetTree, version));
+
+		return layoutSetTree;
+	}
+
+	public static void removeLayout(Layout layout) {
+		LayoutSetTreeSynchronization layoutSetTreeSynchronization =
+			_registerLayoutSetTreeSynchronization();
+
+		if (layoutSetTreeSynchronization != null) {
+			layoutSetTreeSynchronization.removeLayout(layout);
+		}
+		else {
+			_removeLayout(layout);
+		}
+	}
+
+	public static void removeLayoutSetTree(
+		long groupId, boolean privateLayout) {
+
+		LayoutSetTreeSynchronization layoutSetTreeSynchronization =
+			_registerLayoutSetTreeSynchronization();
+
+		if (layoutSetTreeSynchronization != null) {
+			layoutSetTreeSynchronization.removeLayoutSetTree(
+				groupId, privateLayout);
+		}
+		else {
+			_removeLayoutSetTree(_encodeKey(groupId, privateLayout));
+		}
+	}
+
+	public static void updateLayout(Layout layout) {
+		LayoutSetTreeSynchronization layoutSetTreeSynchronization =
+			_registerLayoutSetTreeSynchronization();
+
+		if (layoutSetTreeSynchronization != null) {
+			layoutSetTreeSynchronization.updateLayout(layout);
+		}
+		else {
+			_updateLayout(layout);
+		}
+	}
+
+	private static String _encodeKey(long groupId, boolean privateLayout) {
+		StringBundler sb = new StringBundler(3);
+
+		sb.append(groupId);
+		sb.append(StringPool.POUND);
+		sb.append(privateLayout);
+
+		return sb.toString();
+	}
+
+	private static String _encodeKey(Layout layout) {
+		return _encodeKey(layout.getGroupId(), layout.isPrivateLayout());
+	}
+
+	private static String _encodeVersionKey(String key) {
+		return key.concat(_VERSION_KEY_SUFFIX);
+	}
+
+	private static LayoutSetTree _getCachedLayoutSetTree(String key) {
+		Long version = (Long)_portalCache.get(_encodeVersionKey(key));
+
+		if (version == null) {
+			return null;
+		}
+
+		VersionedLayoutSetTree versionedLayoutSetTree =
+			(VersionedLayoutSetTree)_portalCache.get(key);
+
+		if ((versionedLayoutSetTree == null) ||
+			!version.equals(versionedLayoutSetTree.getVersion())) {
+
+			return null;
+		}
+
+		return versionedLayoutSetTree.getLayoutSetTree();
+	}
+
+	private static LayoutSetTreeSynchronization
+		_getLayoutSetTreeSynchronization() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		for (TransactionSynchronization transactionSynchronization :
+				TransactionSynchronizationManager.getSynchronizations()) {
+
+			if (transactionSynchronization instanceof
+					LayoutSetTreeSynchronization) {
+
+				return (LayoutSetTreeSynchronization)
+					transactionSynchronization;
+			}
+		}
+
+		return null;
+	}
+
+	private static Long _getVersion(String key) {
+		String versionKey = _encodeVersionKey(key);
+
+		Long version = (Long)_portalCache.get(versionKey);
+
+		if (version != null) {
+			return version;
+		}
+
+		synchronized (_lock) {
+			version = (Long)_portalCache.get(versionKey);
+
+			if (version == null) {
+				version = _nextVersion.incrementAndGet();
+
+				_portalCache.put(versionKey, version);
+			}
+		}
+
+		return version;
+	}
+
+	private static Long _incrementVersion(String key) {
+		String versionKey = _encodeVersionKey(key);
+
+		// Puts of absent keys are not replicated but removes are, so remove
+		// the version to invalidate the trees of the other nodes before
+		// caching the new one
+
+		_portalCache.remove(versionKey);
+
+		Long version = _nextVersion.incrementAndGet();
+
+		_portalCache.put(versionKey, version);
+
+		return version;
+	}
+
+	private static LayoutSetTreeSynchronization
+		_registerLayoutSetTreeSynchronization() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		LayoutSetTreeSynchronization layoutSetTreeSynchronization =
+			_getLayoutSetTreeSynchronization();
+
+		if (layoutSetTreeSynchronization == null) {
+			layoutSetTreeSynchronization = new LayoutSetTreeSynchronization();
+
+			TransactionSynchronizationManager.registerSynchronization(
+				layoutSetTreeSynchronization);
+		}
+
+		return layoutSetTreeSynchronization;
+	}
+
+	private static void _removeLayout(Layout layout) {
+		String key = _encodeKey(layout);
+
+		synchronized (_lock) {
+			LayoutSetTree layoutSetTree = _getCachedLayoutSetTree(key);
+
+			Long version = _incrementVersion(key);
+
+			if (layoutSetTree != null) {
+				_portalCache.put(
+					key,
+					new VersionedLayoutSetTree(
+						layoutSetTree.removeLayout(layout), version));
+			}
+		}
+	}
+
+	private static void _removeLayoutSetTree(String key) {
+		synchronized (_lock) {
+			_portalCache.remove(_encodeVersionKey(key));
+			_portalCache.remove(key);
+		}
+	}
+
+	private static void _updateLayout(Layout layout) {
+		String key = _encodeKey(layout);
+
+		synchronized (_lock) {
+			LayoutSetTree layoutSetTree = _getCachedLayoutSetTree(key);
+
+			Long version = _incrementVersion(key);
+
+			if (layoutSetTree != null) {
+				_portalCache.put(
+					key,
+					new VersionedLayoutSetTree(
+						layoutSetTree.updateLayout(layout), version));
+			}
+		}
+	}
+
+	private static final String _VERSION_KEY_SUFFIX = "#version";
+
+	private static final Object _lock = new Object();
+	private static AtomicLong _nextVersion = new AtomicLong();
+	private static PortalCache _portalCache = MultiVMPoolUtil.getCache(
+		CACHE_NAME);
+
+	private static class LayoutSetTreeSynchronization
+		extends TransactionSynchronizationAdapter {
+
+		@Override
+		public void afterCommit() {
+			for (String key : _removedKeys) {
+				_removeLayoutSetTree(key);
+			}
+
+			for (Layout layout : _removedLayouts.values()) {
+				_removeLayout(layout);
+			}
+
+			for (Layout layout : _updatedLayouts.values()) {
+				_updateLayout(layout);
+			}
+		}
+
+		public boolean isChanged(String key) {
+			return _keys.contains(key);
+		}
+
+		public void removeLayout(Layout layout) {
+			_keys.add(_encodeKey(layout));
+
+			_removedLayouts.put(layout.getPlid(), (Layout)layout.clone());
+			_updatedLayouts.remove(layout.getPlid());
+		}
+
+		public void removeLayoutSetTree(long groupId, boolean privateLayout) {
+			String key = _encodeKey(groupId, privateLayout);
+
+			_keys.add(key);
+			_removedKeys.add(key);
+		}
+
+		public void updateLayout(Layout layout) {
+			_keys.add(_encodeKey(layout));
+
+			_updatedLayouts.put(layout.getPlid(), (Layout)layout.clone());
+		}
+
+		private Set<String> _keys = new HashSet<String>();
+		private Set<String> _removedKeys = new HashSet<String>();
+		private Map<Long, Layout> _removedLayouts =
+			new LinkedHashMap<Long, Layout>();
+		private Map<Long, Layout> _updatedLayouts =
+			new LinkedHashMap<Long, Layout>();
+
+	}
+
+	private static class VersionedLayoutSetTree implements Serializable {
+
+		public VersionedLayoutSetTree(
+			LayoutSetTree layoutSetTree, Long version) {
+
+			_layoutSetTree = layoutSetTree;
+			_version = version;
+		}
+
+		public LayoutSetTree getLayoutSetTree() {
+			return _layoutSetTree;
+		}
+
+		public Long getVersion() {
+			return _version;
+		}
+
+		private LayoutSetTree _layoutSetTree;
+		private Long _version;
+
+	}
+
+}
\ No newline at end of file
@@ -2833,8 +2833,7 @@ public class PortalImpl implements Portal {
 		String friendlyURL = url;
 		String queryString = StringPool.BLANK;
 
-		List<Portlet> portlets =
-			PortletLocalServiceUtil.getFriendlyURLMapperPortlets();
+		List<Portlet> portlets = getFriendlyURLMapperPortlets(url);
 
 		Iterator<Portlet> itr = portlets.iterator();
 
@@ -5174,6 +5173,34 @@ public class PortalImpl implements Portal {
 		}
 	}
 
+	protected List<Portlet> getFriendlyURLMapperPortlets(String url) {
+
+		// A friendly URL mapper can only match the URL if the first segment of
+		// its mapping is one of the segments of the URL
+
+		Map<String, List<Portlet>> friendlyURLMapperPortletsMap =
+			PortletLocalServiceUtil.getFriendlyURLMapperPortletsMap();
+
+		List<Portlet> portlets = new ArrayList<Portlet>();
+
+		for (String segment : StringUtil.split(url, CharPool.SLASH)) {
+			List<Portlet> segmentPortlets = friendlyURLMapperPortletsMap.get(
+				segment);
+
+			if (segmentPortlets == null) {
+				continue;
+			}
+
+			for (Portlet portlet : segmentPortlets) {
+				if (!portlets.contains(portlet)) {
+					portlets.add(portlet);
+				}
+			}
+		}
+
+		return portlets;
+	}
+
 	protected boolean isAlwaysAllowDoAsUser(HttpServletRequest request)
 		throws Exception {
 
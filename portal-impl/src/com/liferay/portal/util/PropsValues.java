@@ -61,6 +61,8 @@ public class PropsValues {
 
 	public static final boolean ASSET_ENTRY_INCREMENT_VIEW_COUNTER_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.ASSET_ENTRY_INCREMENT_VIEW_COUNTER_ENABLED));
 
+	public static final int ASSET_ENTRY_QUERY_APPROXIMATE_COUNT_TIME_TO_LIVE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.ASSET_ENTRY_QUERY_APPROXIMATE_COUNT_TIME_TO_LIVE));
+
 	public static final String ASSET_ENTRY_VALIDATOR = PropsUtil.get(PropsKeys.ASSET_ENTRY_VALIDATOR);
 
 	public static final int ASSET_FILTER_SEARCH_LIMIT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.ASSET_FILTER_SEARCH_LIMIT));
@@ -303,6 +305,8 @@ public class PropsValues {
 
 	public static final int COUNTER_INCREMENT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.COUNTER_INCREMENT));
 
+	public static final boolean COUNTER_PREFETCH_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.COUNTER_PREFETCH_ENABLED));
+
 	public static final String CUSTOM_SQL_FUNCTION_ISNOTNULL = PropsUtil.get(PropsKeys.CUSTOM_SQL_FUNCTION_ISNOTNULL);
 
 	public static final String CUSTOM_SQL_FUNCTION_ISNULL = PropsUtil.get(PropsKeys.CUSTOM_SQL_FUNCTION_ISNULL);
@@ -413,6 +417,12 @@ public class PropsValues {
 
 	public static final boolean DL_FILE_ENTRY_PREVIEW_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.DL_FILE_ENTRY_PREVIEW_ENABLED));
 
+	public static final boolean DL_FILE_ENTRY_PREVIEW_FORK_PROCESS_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.DL_FILE_ENTRY_PREVIEW_FORK_PROCESS_ENABLED));
+
+	public static final int DL_FILE_ENTRY_PREVIEW_GENERATION_QUEUE_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.DL_FILE_ENTRY_PREVIEW_GENERATION_QUEUE_MAX_SIZE));
+
+	public static final int DL_FILE_ENTRY_PREVIEW_GENERATION_WORKERS_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.DL_FILE_ENTRY_PREVIEW_GENERATION_WORKERS_MAX_SIZE));
+
 	public static final int DL_FILE_ENTRY_PREVIEW_VIDEO_HEIGHT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.DL_FILE_ENTRY_PREVIEW_VIDEO_HEIGHT));
 
 	public static final int DL_FILE_ENTRY_PREVIEW_VIDEO_WIDTH = GetterUtil.getInteger(PropsUtil.get(PropsKeys.DL_FILE_ENTRY_PREVIEW_VIDEO_WIDTH));
@@ -489,6 +499,10 @@ public class PropsValues {
 
 	public static final boolean EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED));
 
+	public static final String[] EHCACHE_OFF_HEAP_CACHE_NAMES = PropsUtil.getArray(PropsKeys.EHCACHE_OFF_HEAP_CACHE_NAMES);
+
+	public static final int EHCACHE_OFF_HEAP_SLAB_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.EHCACHE_OFF_HEAP_SLAB_SIZE));
+
 	public static final boolean EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED));
 
 	public static final boolean EHCACHE_STATISTICS_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_STATISTICS_ENABLED));
@@ -591,6 +605,10 @@ public class PropsValues {
 
 	public static boolean INDEX_READ_ONLY = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.INDEX_READ_ONLY));
 
+	public static final int INDEX_REINDEX_PAGE_THREAD_POOL_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.INDEX_REINDEX_PAGE_THREAD_POOL_SIZE));
+
+	public static final int INDEX_REINDEX_THREAD_POOL_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.INDEX_REINDEX_THREAD_POOL_SIZE));
+
 	public static final int INDEX_SEARCH_LIMIT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.INDEX_SEARCH_LIMIT));
 
 	public static final boolean INDEX_WITH_THREAD = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.INDEX_WITH_THREAD));
@@ -657,6 +675,10 @@ public class PropsValues {
 
 	public static final String JPA_PROVIDER = PropsUtil.get(PropsKeys.JPA_PROVIDER);
 
+	public static final int JSONWS_SERVLET_BATCH_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.JSONWS_SERVLET_BATCH_MAX_SIZE));
+
+	public static final boolean JSONWS_SERVLET_BATCH_PARALLEL_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.JSONWS_SERVLET_BATCH_PARALLEL_ENABLED));
+
 	public static final String[] JSON_SERVICE_INVALID_CLASS_NAMES = PropsUtil.getArray(PropsKeys.JSON_SERVICE_INVALID_CLASS_NAMES);
 
 	public static final String LAYOUT_CLONE_IMPL = PropsUtil.get(PropsKeys.LAYOUT_CLONE_IMPL);
@@ -691,6 +713,8 @@ public class PropsValues {
 
 	public static final String[] LAYOUT_SET_FORM_UPDATE = PropsUtil.getArray(PropsKeys.LAYOUT_SET_FORM_UPDATE);
 
+	public static final boolean LAYOUT_SET_TREE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_SET_TREE_ENABLED));
+
 	public static final boolean LAYOUT_SHOW_HTTP_STATUS = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_SHOW_HTTP_STATUS));
 
 	public static final boolean LAYOUT_SHOW_PORTLET_ACCESS_DENIED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_SHOW_PORTLET_ACCESS_DENIED));
@@ -803,6 +827,10 @@ public class PropsValues {
 
 	public static final String LUCENE_STORE_TYPE = PropsUtil.get(PropsKeys.LUCENE_STORE_TYPE);
 
+	public static final boolean LUCENE_WRITE_ASYNC_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LUCENE_WRITE_ASYNC_ENABLED));
+
+	public static final int LUCENE_WRITE_ASYNC_QUEUE_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LUCENE_WRITE_ASYNC_QUEUE_SIZE));
+
 	public static final String MAIL_AUDIT_TRAIL = PropsUtil.get(PropsKeys.MAIL_AUDIT_TRAIL);
 
 	public static final String MAIL_HOOK_IMPL = PropsUtil.get(PropsKeys.MAIL_HOOK_IMPL);
@@ -873,6 +901,18 @@ public class PropsValues {
 
 	public static final String MESSAGE_BOARDS_THREAD_VIEWS_DEFAULT = PropsUtil.get(PropsKeys.MESSAGE_BOARDS_THREAD_VIEWS_DEFAULT);
 
+	public static final long MESSAGING_DESTINATION_ADAPTIVE_BLOCK_TIMEOUT = GetterUtil.getLong(PropsUtil.get(PropsKeys.MESSAGING_DESTINATION_ADAPTIVE_BLOCK_TIMEOUT));
+
+	public static final boolean MESSAGING_DESTINATION_ADAPTIVE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.MESSAGING_DESTINATION_ADAPTIVE_ENABLED));
+
+	public static final long MESSAGING_DESTINATION_ADAPTIVE_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.MESSAGING_DESTINATION_ADAPTIVE_INTERVAL));
+
+	public static final long MESSAGING_DESTINATION_ADAPTIVE_QUEUE_LATENCY = GetterUtil.getLong(PropsUtil.get(PropsKeys.MESSAGING_DESTINATION_ADAPTIVE_QUEUE_LATENCY));
+
+	public static final int MESSAGING_DESTINATION_ADAPTIVE_QUEUE_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.MESSAGING_DESTINATION_ADAPTIVE_QUEUE_SIZE));
+
+	public static final int MESSAGING_DESTINATION_ADAPTIVE_WORKERS_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.MESSAGING_DESTINATION_ADAPTIVE_WORKERS_MAX_SIZE));
+
 	public static final String[] MIME_TYPES_CONTENT_DISPOSITION_INLINE = PropsUtil.getArray(PropsKeys.MIME_TYPES_CONTENT_DISPOSITION_INLINE);
 
 	public static final int MINIFIER_INLINE_CONTENT_CACHE_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.MINIFIER_INLINE_CONTENT_CACHE_SIZE));
@@ -1123,18 +1163,28 @@ public class PropsValues {
 
 	public static final String SANITIZER_IMPL = PropsUtil.get(PropsKeys.SANITIZER_IMPL);
 
+	public static final int SASS_PARSER_POOL_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.SASS_PARSER_POOL_SIZE), 2);
+
+	public static final boolean SASS_PRECOMPILE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.SASS_PRECOMPILE_ENABLED));
+
+	public static final boolean SASS_STORE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.SASS_STORE_ENABLED));
+
 	public static final boolean SC_PRODUCT_COMMENTS_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.SC_PRODUCT_COMMENTS_ENABLED));
 
 	public static final String[] SCHEDULER_CLASSES = PropsUtil.getArray(PropsKeys.SCHEDULER_CLASSES);
 
 	public static final boolean SCHEDULER_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.SCHEDULER_ENABLED));
 
+	public static final long SCRIPTING_EXECUTION_TIMEOUT = GetterUtil.getLong(PropsUtil.get(PropsKeys.SCRIPTING_EXECUTION_TIMEOUT));
+
 	public static final String[] SCRIPTING_FORBIDDEN_CLASSES = PropsUtil.getArray(PropsKeys.SCRIPTING_FORBIDDEN_CLASSES);
 
 	public static final String SCRIPTING_JRUBY_COMPILE_MODE = PropsUtil.get(PropsKeys.SCRIPTING_JRUBY_COMPILE_MODE);
 
 	public static final int SCRIPTING_JRUBY_COMPILE_THRESHOLD = GetterUtil.getInteger(PropsUtil.get(PropsKeys.SCRIPTING_JRUBY_COMPILE_THRESHOLD), 50);
 
+	public static final int SCRIPTING_STATISTICS_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.SCRIPTING_STATISTICS_MAX_SIZE), 1000);
+
 	public static final int SEARCH_CONTAINER_PAGE_DEFAULT_DELTA = GetterUtil.getInteger(PropsUtil.get(PropsKeys.SEARCH_CONTAINER_PAGE_DEFAULT_DELTA), 20);
 
 	public static final int[] SEARCH_CONTAINER_PAGE_DELTA_VALUES = GetterUtil.getIntegerValues(PropsUtil.getArray(PropsKeys.SEARCH_CONTAINER_PAGE_DELTA_VALUES));
@@ -1359,6 +1409,8 @@ public class PropsValues {
 
 	public static final boolean VALUE_OBJECT_FINDER_CACHE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.VALUE_OBJECT_FINDER_CACHE_ENABLED));
 
+	public static final int VALUE_OBJECT_FINDER_NEAR_CACHE_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.VALUE_OBJECT_FINDER_NEAR_CACHE_MAX_SIZE));
+
 	public static final int VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE));
 
 	public static final String[] VELOCITY_ENGINE_RESOURCE_LISTENERS = PropsUtil.getArray(PropsKeys.VELOCITY_ENGINE_RESOURCE_LISTENERS);
@@ -17,6 +17,8 @@ package com.liferay.portal.velocity;
 import com.liferay.portal.kernel.cache.MultiVMKeyPoolUtil;
 import com.liferay.portal.kernel.cache.PortalCache;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.apache.velocity.runtime.resource.Resource;
 
 /**
@@ -32,13 +34,25 @@ public class LiferayResourceCacheUtil {
 		Object obj = _portalCache.get(key);
 
 		if ((obj != null) && (obj instanceof Resource)) {
+			_hitCount.incrementAndGet();
+
 			return (Resource)obj;
 		}
 		else {
+			_missCount.incrementAndGet();
+
 			return null;
 		}
 	}
 
+	public static long getHitCount() {
+		return _hitCount.get();
+	}
+
+	public static long getMissCount() {
+		return _missCount.get();
+	}
+
 	public static void put(String key, Resource resource) {
 		_portalCache.put(key, resource);
 	}
@@ -47,6 +61,8 @@ public class LiferayResourceCacheUtil {
 		_portalCache.remove(key);
 	}
 
+	private static AtomicLong _hitCount = new AtomicLong();
+	private static AtomicLong _missCount = new AtomicLong();
 	private static PortalCache _portalCache = MultiVMKeyPoolUtil.getCache(
 		LiferayResourceCacheUtil.class.getName());
 
@@ -41,6 +41,7 @@ import com.liferay.portal.kernel.util.MimeTypesUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.ReleaseInfo;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
@@ -270,6 +271,50 @@ public class WebServerServlet extends HttpServlet {
 		}
 	}
 
+	/**
+	 * Returns a strong entity tag for the file version. Converted documents,
+	 * previews and thumbnails are different representations of the same file
+	 * version, so the request parameters that select them are part of the
+	 * tag.
+	 */
+	protected String getETag(
+		HttpServletRequest request, FileVersion fileVersion) {
+
+		StringBundler sb = new StringBundler(19);
+
+		sb.append(StringPool.QUOTE);
+		sb.append(fileVersion.getFileVersionId());
+		sb.append(StringPool.DASH);
+
+		// Drafts and private working copies are updated in place, so the
+		// file version ID alone does not identify the content
+
+		sb.append(fileVersion.getSize());
+		sb.append(StringPool.DASH);
+
+		Date statusDate = fileVersion.getStatusDate();
+
+		if (statusDate != null) {
+			sb.append(statusDate.getTime());
+		}
+
+		sb.append(StringPool.DASH);
+		sb.append(ParamUtil.getString(request, "targetExtension"));
+		sb.append(StringPool.DASH);
+		sb.append(ParamUtil.getBoolean(request, "documentThumbnail"));
+		sb.append(StringPool.DASH);
+		sb.append(ParamUtil.getInteger(request, "previewFileIndex"));
+		sb.append(StringPool.DASH);
+		sb.append(ParamUtil.getBoolean(request, "audioPreview"));
+		sb.append(StringPool.DASH);
+		sb.append(ParamUtil.getBoolean(request, "videoPreview"));
+		sb.append(StringPool.DASH);
+		sb.append(ParamUtil.getBoolean(request, "videoThumbnail"));
+		sb.append(StringPool.QUOTE);
+
+		return sb.toString();
+	}
+
 	protected FileEntry getFileEntry(String[] pathArray) throws Exception {
 		if (pathArray.length == 1) {
 			long dlFileShortcutId = GetterUtil.getLong(pathArray[0]);
@@ -492,6 +537,70 @@ public class WebServerServlet extends HttpServlet {
 		return image;
 	}
 
+	protected boolean isNotModified(HttpServletRequest request, String eTag) {
+		String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+		if (Validator.isNull(ifNoneMatch)) {
+			return false;
+		}
+
+		String[] entityTags = StringUtil.split(ifNoneMatch);
+
+		for (String entityTag : entityTags) {
+			if (entityTag.startsWith(_WEAK_ETAG_PREFIX)) {
+				entityTag = entityTag.substring(_WEAK_ETAG_PREFIX.length());
+			}
+
+			if (entityTag.equals(StringPool.STAR) || entityTag.equals(eTag)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if the <code>Range</code> header may be
+	 * honored. A range request carrying an <code>If-Range</code> validator
+	 * that no longer matches the file must receive the whole file, so that the
+	 * client does not stitch together parts of different versions.
+	 */
+	protected boolean isRangeValid(
+			HttpServletRequest request, FileEntry fileEntry, String eTag)
+		throws Exception {
+
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+		if (Validator.isNull(ifRange)) {
+			return true;
+		}
+
+		if (ifRange.startsWith(StringPool.QUOTE)) {
+			return ifRange.equals(eTag);
+		}
+
+		if (ifRange.startsWith(_WEAK_ETAG_PREFIX)) {
+			return false;
+		}
+
+		long ifRangeTime = 0;
+
+		try {
+			ifRangeTime = request.getDateHeader(HttpHeaders.IF_RANGE);
+		}
+		catch (IllegalArgumentException iae) {
+			return false;
+		}
+
+		Date modifiedDate = fileEntry.getModifiedDate();
+
+		if ((ifRangeTime <= 0) || (modifiedDate == null)) {
+			return false;
+		}
+
+		return ifRangeTime == ((modifiedDate.getTime() / 1000) * 1000);
+	}
+
 	protected void processPrincipalException(
 			Throwable t, User user, HttpServletRequest request,
 			HttpServletResponse response)
@@ -624,11 +733,21 @@ public class WebServerServlet extends HttpServlet {
 		String tempFileId = DLUtil.getTempFileId(
 			fileEntry.getFileEntryId(), version);
 
-		InputStream inputStream = fileEntry.getContentStream(version);
-		long contentLength = 0;
-
 		FileVersion fileVersion = fileEntry.getFileVersion(version);
 
+		String eTag = getETag(request, fileVersion);
+
+		if (isNotModified(request, eTag)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+
+			return;
+		}
+
+		response.setHeader(HttpHeaders.ETAG, eTag);
+
+		InputStream inputStream = null;
+		long contentLength = 0;
+
 		String fileName = fileVersion.getTitle();
 
 		String extension = GetterUtil.getString(
@@ -655,7 +774,8 @@ public class WebServerServlet extends HttpServlet {
 
 		if (Validator.isNotNull(targetExtension)) {
 			File convertedFile = DocumentConversionUtil.convert(
-				tempFileId, inputStream, extension, targetExtension);
+				tempFileId, fileEntry.getContentStream(version), extension,
+				targetExtension);
 
 			if (convertedFile != null) {
 				fileName = FileUtil.stripExtension(fileName).concat(
@@ -727,6 +847,8 @@ public class WebServerServlet extends HttpServlet {
 		String contentType = fileEntry.getMimeType(version);
 
 		if (!converted) {
+			inputStream = fileEntry.getContentStream(version);
+
 			if (DLUtil.compareVersions(version, fileEntry.getVersion()) >= 0) {
 				contentLength = fileEntry.getSize();
 			}
@@ -738,9 +860,16 @@ public class WebServerServlet extends HttpServlet {
 			contentType = MimeTypesUtil.getContentType(fileName);
 		}
 
-		ServletResponseUtil.sendFile(
-			request, response, fileName, inputStream, contentLength,
-			contentType);
+		if (isRangeValid(request, fileEntry, eTag)) {
+			ServletResponseUtil.sendFileWithRangeHeader(
+				request, response, fileName, inputStream, contentLength,
+				contentType);
+		}
+		else {
+			ServletResponseUtil.sendFile(
+				request, response, fileName, inputStream, contentLength,
+				contentType);
+		}
 	}
 
 	protected void sendFile(
@@ -925,6 +1054,8 @@ public class WebServerServlet extends HttpServlet {
 	private static final String _TPL_TEMPLATE =
 		"com/liferay/portal/webserver/dependencies/template.ftl";
 
+	private static final String _WEAK_ETAG_PREFIX = "W/";
+
 	private static Format _dateFormat =
 		FastDateFormatFactoryUtil.getSimpleDateFormat(_DATE_FORMAT_PATTERN);
 
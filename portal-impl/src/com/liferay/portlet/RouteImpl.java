@@ -23,6 +23,7 @@ import com.liferay.portal.kernel.util.URLStringEncoder;
 import com.liferay.portal.kernel.util.Validator;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +44,8 @@ public class RouteImpl implements Route {
 		StringParser stringParser = new StringParser(pattern);
 
 		_generatedParameters.put(name, stringParser);
+
+		_virtualParameterNames.addAll(stringParser.getFragmentNames());
 	}
 
 	public void addIgnoredParameter(String name) {
@@ -74,6 +77,24 @@ public class RouteImpl implements Route {
 	}
 
 	public String parametersToUrl(Map<String, String> parameters) {
+
+		// Implicit parameters that cannot be set by a generated parameter can
+		// be checked before doing any parsing
+
+		for (Map.Entry<String, String> entry : _implicitParameters.entrySet()) {
+			String name = entry.getKey();
+
+			if (_virtualParameterNames.contains(name)) {
+				continue;
+			}
+
+			String value = entry.getValue();
+
+			if (!value.equals(MapUtil.getString(parameters, name))) {
+				return null;
+			}
+		}
+
 		InheritableMap<String, String> allParameters =
 			new InheritableMap<String, String>();
 
@@ -170,5 +191,6 @@ public class RouteImpl implements Route {
 	private Map<String, String> _overriddenParameters =
 		new HashMap<String, String>();
 	private StringParser _stringParser;
+	private Set<String> _virtualParameterNames = new HashSet<String>();
 
 }
\ No newline at end of file
@@ -176,6 +176,13 @@ public class AssetEntryServiceImpl extends AssetEntryServiceBaseImpl {
 		int end = entryQuery.getEnd();
 		int start = entryQuery.getStart();
 
+		if (entryQuery.isKeysetPagination() && (end != QueryUtil.ALL_POS) &&
+			(start != QueryUtil.ALL_POS)) {
+
+			end -= start;
+			start = 0;
+		}
+
 		entryQuery.setEnd(end + PropsValues.ASSET_FILTER_SEARCH_LIMIT);
 		entryQuery.setStart(0);
 
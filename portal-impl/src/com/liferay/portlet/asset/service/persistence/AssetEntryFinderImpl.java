@@ -14,6 +14,9 @@
 
 package com.liferay.portlet.asset.service.persistence;
 
+import com.liferay.portal.kernel.bean.BeanPropertiesUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.dao.orm.QueryPos;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.orm.SQLQuery;
@@ -23,8 +26,11 @@ import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.util.CalendarUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.model.Layout;
+import com.liferay.portal.security.auth.CompanyThreadLocal;
 import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.portlet.asset.model.AssetEntry;
@@ -36,6 +42,7 @@ import java.sql.Timestamp;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * @author Brian Wing Shun Chan
@@ -54,6 +61,22 @@ public class AssetEntryFinderImpl
 		AssetEntryFinder.class.getName() + ".findByAndTagIds";
 
 	public int countEntries(AssetEntryQuery entryQuery) throws SystemException {
+		String countCacheKey = null;
+
+		int countTimeToLive =
+			PropsValues.ASSET_ENTRY_QUERY_APPROXIMATE_COUNT_TIME_TO_LIVE;
+
+		if (entryQuery.isApproximateCount() && (countTimeToLive > 0)) {
+
+			countCacheKey = getCountCacheKey(entryQuery);
+
+			Integer count = (Integer)_countPortalCache.get(countCacheKey);
+
+			if (count != null) {
+				return count.intValue();
+			}
+		}
+
 		Session session = null;
 
 		try {
@@ -61,17 +84,23 @@ public class AssetEntryFinderImpl
 
 			SQLQuery q = buildAssetQuerySQL(entryQuery, true, session);
 
+			int count = 0;
+
 			Iterator<Long> itr = q.list().iterator();
 
 			if (itr.hasNext()) {
-				Long count = itr.next();
+				Long countValue = itr.next();
 
-				if (count != null) {
-					return count.intValue();
+				if (countValue != null) {
+					count = countValue.intValue();
 				}
 			}
 
-			return 0;
+			if (countCacheKey != null) {
+				_countPortalCache.put(countCacheKey, count, countTimeToLive);
+			}
+
+			return count;
 		}
 		catch (Exception e) {
 			throw new SystemException(e);
@@ -91,8 +120,18 @@ public class AssetEntryFinderImpl
 
 			SQLQuery q = buildAssetQuerySQL(entryQuery, false, session);
 
+			int start = entryQuery.getStart();
+			int end = entryQuery.getEnd();
+
+			if ((start != QueryUtil.ALL_POS) && (end != QueryUtil.ALL_POS) &&
+				entryQuery.isKeysetPagination()) {
+
+				end -= start;
+				start = 0;
+			}
+
 			return (List<AssetEntry>)QueryUtil.list(
-				q, getDialect(), entryQuery.getStart(), entryQuery.getEnd());
+				q, getDialect(), start, end);
 		}
 		catch (Exception e) {
 			throw new SystemException(e);
@@ -102,6 +141,12 @@ public class AssetEntryFinderImpl
 		}
 	}
 
+	public Iterator<AssetEntry> iterateEntries(
+		AssetEntryQuery entryQuery, int batchSize) {
+
+		return new AssetEntryIterator(entryQuery, batchSize);
+	}
+
 	protected void buildAllCategoriesSQL(
 		String sqlId, long[] categoryIds, StringBundler sb) {
 
@@ -314,6 +359,14 @@ public class AssetEntryFinderImpl
 		sb.append(getGroupIds(entryQuery.getGroupIds()));
 		sb.append(getClassNameIds(entryQuery.getClassNameIds()));
 
+		boolean keysetPagination = false;
+
+		if (!count && entryQuery.isKeysetPagination()) {
+			keysetPagination = true;
+
+			sb.append(getKeyset(entryQuery));
+		}
+
 		if (!count) {
 			sb.append(" ORDER BY ");
 
@@ -343,6 +396,11 @@ public class AssetEntryFinderImpl
 				sb.append(StringPool.SPACE);
 				sb.append(entryQuery.getOrderByType2());
 			}
+
+			if (keysetPagination) {
+				sb.append(", AssetEntry.entryId ");
+				sb.append(entryQuery.getOrderByType1());
+			}
 		}
 
 		sb.setStringAt(
@@ -410,6 +468,10 @@ public class AssetEntryFinderImpl
 		qPos.add(entryQuery.getGroupIds());
 		qPos.add(entryQuery.getClassNameIds());
 
+		if (keysetPagination) {
+			setKeyset(qPos, entryQuery);
+		}
+
 		return q;
 	}
 
@@ -485,6 +547,62 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	protected String getCountCacheKey(AssetEntryQuery entryQuery) {
+		StringBundler sb = new StringBundler(33);
+
+		sb.append(CompanyThreadLocal.getCompanyId());
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getAllCategoryIds()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getAllTagIds()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getAnyCategoryIds()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getAnyTagIds()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getClassNameIds()));
+		sb.append(StringPool.POUND);
+		sb.append(entryQuery.isExcludeZeroViewCount());
+		sb.append(StringPool.POUND);
+		sb.append(getCountCacheKeyTime(entryQuery.getExpirationDate()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getGroupIds()));
+		sb.append(StringPool.POUND);
+
+		Layout layout = entryQuery.getLayout();
+
+		if (layout != null) {
+			sb.append(layout.getUuid());
+		}
+
+		sb.append(StringPool.POUND);
+		sb.append(entryQuery.getLinkedAssetEntryId());
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getNotAllCategoryIds()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getNotAllTagIds()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getNotAnyCategoryIds()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.merge(entryQuery.getNotAnyTagIds()));
+		sb.append(StringPool.POUND);
+		sb.append(getCountCacheKeyTime(entryQuery.getPublishDate()));
+		sb.append(StringPool.POUND);
+		sb.append(String.valueOf(entryQuery.isVisible()));
+
+		return sb.toString();
+	}
+
+	protected long getCountCacheKeyTime(Date date) {
+		if (date == null) {
+			return -1;
+		}
+
+		return date.getTime() /
+			(PropsValues.ASSET_ENTRY_QUERY_APPROXIMATE_COUNT_TIME_TO_LIVE *
+				Time.SECOND);
+	}
+
 	protected String getDates(Date publishDate, Date expirationDate) {
 		StringBundler sb = new StringBundler(2);
 
@@ -517,6 +635,53 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	protected String getKeyset(AssetEntryQuery entryQuery) {
+		String orderByCol1 = entryQuery.getOrderByCol1();
+		String orderByCol2 = entryQuery.getOrderByCol2();
+
+		String operator1 = getKeysetOperator(entryQuery.getOrderByType1());
+
+		StringBundler sb = new StringBundler(25);
+
+		sb.append(" AND ((AssetEntry.");
+		sb.append(orderByCol1);
+		sb.append(operator1);
+		sb.append("?) OR ");
+
+		if (hasOrderByCol2(entryQuery)) {
+			sb.append("((AssetEntry.");
+			sb.append(orderByCol1);
+			sb.append(" = ?) AND (AssetEntry.");
+			sb.append(orderByCol2);
+			sb.append(getKeysetOperator(entryQuery.getOrderByType2()));
+			sb.append("?)) OR ((AssetEntry.");
+			sb.append(orderByCol1);
+			sb.append(" = ?) AND (AssetEntry.");
+			sb.append(orderByCol2);
+			sb.append(" = ?) AND ");
+		}
+		else {
+			sb.append("((AssetEntry.");
+			sb.append(orderByCol1);
+			sb.append(" = ?) AND ");
+		}
+
+		sb.append("(AssetEntry.entryId");
+		sb.append(operator1);
+		sb.append("?)))");
+
+		return sb.toString();
+	}
+
+	protected String getKeysetOperator(String orderByType) {
+		if (orderByType.equalsIgnoreCase("ASC")) {
+			return " > ";
+		}
+		else {
+			return " < ";
+		}
+	}
+
 	protected String getNotCategoryIds(String sqlId, long[] notCategoryIds) {
 		if (notCategoryIds.length == 0) {
 			return StringPool.BLANK;
@@ -573,6 +738,17 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	protected boolean hasOrderByCol2(AssetEntryQuery entryQuery) {
+		if (Validator.isNotNull(entryQuery.getOrderByCol2()) &&
+			!entryQuery.getOrderByCol1().equals(entryQuery.getOrderByCol2())) {
+
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	protected void setDates(
 		QueryPos qPos, Date publishDate, Date expirationDate) {
 
@@ -590,4 +766,110 @@ public class AssetEntryFinderImpl
 		}
 	}
 
+	protected void setKeyset(QueryPos qPos, AssetEntryQuery entryQuery) {
+		AssetEntry keysetEntry = entryQuery.getKeysetEntry();
+
+		Object value1 = BeanPropertiesUtil.getObjectSilent(
+			keysetEntry, entryQuery.getOrderByCol1());
+
+		qPos.add(value1);
+
+		if (hasOrderByCol2(entryQuery)) {
+			Object value2 = BeanPropertiesUtil.getObjectSilent(
+				keysetEntry, entryQuery.getOrderByCol2());
+
+			qPos.add(value1);
+			qPos.add(value2);
+			qPos.add(value1);
+			qPos.add(value2);
+		}
+		else {
+			qPos.add(value1);
+		}
+
+		qPos.add(keysetEntry.getEntryId());
+	}
+
+	private static PortalCache _countPortalCache = SingleVMPoolUtil.getCache(
+		AssetEntryFinderImpl.class.getName() + ".count");
+
+	private class AssetEntryIterator implements Iterator<AssetEntry> {
+
+		public AssetEntryIterator(AssetEntryQuery entryQuery, int batchSize) {
+			_entryQuery = new AssetEntryQuery(entryQuery);
+			_batchSize = batchSize;
+
+			int start = entryQuery.getStart();
+			int end = entryQuery.getEnd();
+
+			if ((start != QueryUtil.ALL_POS) && (end != QueryUtil.ALL_POS)) {
+				_position = start;
+				_remaining = end - start;
+			}
+			else {
+				_remaining = Integer.MAX_VALUE;
+			}
+		}
+
+		public boolean hasNext() {
+			if ((_entries != null) && (_index < _entries.size())) {
+				return true;
+			}
+
+			if (_exhausted || (_remaining <= 0)) {
+				return false;
+			}
+
+			int size = Math.min(_batchSize, _remaining);
+
+			_entryQuery.setEnd(_position + size);
+			_entryQuery.setStart(_position);
+
+			try {
+				_entries = findEntries(_entryQuery);
+			}
+			catch (SystemException se) {
+				throw new RuntimeException(se);
+			}
+
+			_index = 0;
+
+			if (_entries.size() < size) {
+				_exhausted = true;
+			}
+
+			if (_entries.isEmpty()) {
+				return false;
+			}
+
+			_entryQuery.setKeysetEntry(_entries.get(_entries.size() - 1));
+
+			_position += _entries.size();
+			_remaining -= _entries.size();
+
+			return true;
+		}
+
+		public AssetEntry next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return _entries.get(_index++);
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		private int _batchSize;
+		private List<AssetEntry> _entries;
+		private AssetEntryQuery _entryQuery;
+		private boolean _exhausted;
+		private int _index;
+		private int _position;
+		private int _remaining;
+
+	}
+
 }
\ No newline at end of file
@@ -19,7 +19,6 @@ import com.liferay.portal.kernel.search.BooleanQuery;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
-import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.Summary;
@@ -28,6 +27,7 @@ import com.liferay.portal.kernel.util.HtmlUtil;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
+import com.liferay.portal.search.PagedReindexer;
 import com.liferay.portal.security.permission.ActionKeys;
 import com.liferay.portal.security.permission.PermissionChecker;
 import com.liferay.portal.util.PortletKeys;
@@ -166,18 +166,20 @@ public class BlogsIndexer extends BaseIndexer {
 		return PORTLET_ID;
 	}
 
-	protected void reindexEntries(long companyId) throws Exception {
+	protected void reindexEntries(final long companyId) throws Exception {
 		int count = BlogsEntryLocalServiceUtil.getCompanyEntriesCount(
 			companyId, WorkflowConstants.STATUS_APPROVED);
 
-		int pages = count / Indexer.DEFAULT_INTERVAL;
+		PagedReindexer pagedReindexer = new PagedReindexer(companyId, count) {
 
-		for (int i = 0; i <= pages; i++) {
-			int start = (i * Indexer.DEFAULT_INTERVAL);
-			int end = start + Indexer.DEFAULT_INTERVAL;
+			@Override
+			protected void reindex(int start, int end) throws Exception {
+				reindexEntries(companyId, start, end);
+			}
 
-			reindexEntries(companyId, start, end);
-		}
+		};
+
+		pagedReindexer.reindex();
 	}
 
 	protected void reindexEntries(long companyId, int start, int end)
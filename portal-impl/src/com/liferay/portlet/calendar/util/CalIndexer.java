@@ -18,7 +18,6 @@ import com.liferay.portal.kernel.search.BaseIndexer;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
-import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.Summary;
@@ -26,6 +25,7 @@ import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HtmlUtil;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.search.PagedReindexer;
 import com.liferay.portal.util.PortletKeys;
 import com.liferay.portlet.calendar.model.CalEvent;
 import com.liferay.portlet.calendar.service.CalEventLocalServiceUtil;
@@ -125,17 +125,19 @@ public class CalIndexer extends BaseIndexer {
 		return PORTLET_ID;
 	}
 
-	protected void reindexEvents(long companyId) throws Exception {
+	protected void reindexEvents(final long companyId) throws Exception {
 		int count = CalEventLocalServiceUtil.getCompanyEventsCount(companyId);
 
-		int pages = count / Indexer.DEFAULT_INTERVAL;
+		PagedReindexer pagedReindexer = new PagedReindexer(companyId, count) {
 
-		for (int i = 0; i <= pages; i++) {
-			int start = (i * Indexer.DEFAULT_INTERVAL);
-			int end = start + Indexer.DEFAULT_INTERVAL;
+			@Override
+			protected void reindex(int start, int end) throws Exception {
+				reindexEvents(companyId, start, end);
+			}
 
-			reindexEvents(companyId, start, end);
-		}
+		};
+
+		pagedReindexer.reindex();
 	}
 
 	protected void reindexEvents(long companyId, int start, int end)
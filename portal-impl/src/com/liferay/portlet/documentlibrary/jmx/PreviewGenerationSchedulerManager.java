@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.jmx;
+
+import com.liferay.portlet.documentlibrary.util.PreviewGenerationScheduler;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class PreviewGenerationSchedulerManager
+	implements PreviewGenerationSchedulerManagerMBean {
+
+	public long getAverageGenerationTime() {
+		return PreviewGenerationScheduler.getAverageGenerationTime();
+	}
+
+	public int getBacklogCount() {
+		return PreviewGenerationScheduler.getBacklogCount();
+	}
+
+	public long getCompletedCount() {
+		return PreviewGenerationScheduler.getCompletedCount();
+	}
+
+	public long getFailedCount() {
+		return PreviewGenerationScheduler.getFailedCount();
+	}
+
+	public long getRejectedCount() {
+		return PreviewGenerationScheduler.getRejectedCount();
+	}
+
+	public int getRunningCount() {
+		return PreviewGenerationScheduler.getRunningCount();
+	}
+
+}
\ No newline at end of file
@@ -1,35 +0,0 @@
-/**
- * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
- *
- * This library is free software; you can redistribute it and/or modify it under
- * the terms of the GNU Lesser General Public License as published by the Free
- * Software Foundation; either version 2.1 of the License, or (at your option)
- * any later version.
- *
- * This library is distributed in the hope that it will be useful, but WITHOUT
- * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
- * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
- * details.
- */
-
-package com.liferay.portlet.documentlibrary.messaging;
-
-import com.liferay.portal.kernel.messaging.BaseMessageListener;
-import com.liferay.portal.kernel.messaging.Message;
-import com.liferay.portal.kernel.repository.model.FileVersion;
-import com.liferay.portlet.documentlibrary.util.VideoProcessor;
-
-/**
- * @author Juan González
- * @author Sergio González
- */
-public class VideoProcessorMessageListener extends BaseMessageListener {
-
-	@Override
-	protected void doReceive(Message message) throws Exception {
-		FileVersion fileVersion = (FileVersion)message.getPayload();
-
-		VideoProcessor.generateVideo(fileVersion);
-	}
-
-}
\ No newline at end of file
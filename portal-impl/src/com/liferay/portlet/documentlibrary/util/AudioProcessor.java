@@ -17,8 +17,6 @@ package com.liferay.portlet.documentlibrary.util;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
-import com.liferay.portal.kernel.messaging.DestinationNames;
-import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.repository.model.FileEntry;
 import com.liferay.portal.kernel.repository.model.FileVersion;
 import com.liferay.portal.kernel.util.FileUtil;
@@ -40,7 +38,6 @@ import java.io.InputStream;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Vector;
 
 /**
  * @author Juan González
@@ -146,9 +143,6 @@ public class AudioProcessor implements DLProcessor {
 		catch (Exception e) {
 			_log.error(e, e);
 		}
-		finally {
-			_fileEntries.remove(fileVersion.getFileEntryId());
-		}
 	}
 
 	private void _generateAudioXuggler(File srcFile, File destFile)
@@ -249,15 +243,18 @@ public class AudioProcessor implements DLProcessor {
 		return _audioMimeTypes.contains(fileVersion.getMimeType());
 	}
 
-	private void _queueGeneration(FileVersion fileVersion) {
-		if (!_fileEntries.contains(fileVersion.getFileEntryId()) &&
-			_isSupportedAudio(fileVersion)) {
+	private void _queueGeneration(final FileVersion fileVersion) {
+		if (_isSupportedAudio(fileVersion)) {
+			PreviewGenerationScheduler.schedule(
+				PreviewGenerationScheduler.TYPE_AUDIO,
+				fileVersion.getFileVersionId(),
+				new Runnable() {
 
-			_fileEntries.add(fileVersion.getFileEntryId());
+					public void run() {
+						_generateAudio(fileVersion);
+					}
 
-			MessageBusUtil.sendMessage(
-				DestinationNames.DOCUMENT_LIBRARY_AUDIO_PROCESSOR,
-				fileVersion);
+				});
 		}
 	}
 
@@ -279,8 +276,6 @@ public class AudioProcessor implements DLProcessor {
 		"audio/x-mod", "audio/x-mpeg", "audio/x-pn-realaudio",
 		"audio/x-realaudio", "audio/x-wav");
 
-	private List<Long> _fileEntries = new Vector<Long>();
-
 	static {
 		FileUtil.mkdirs(_PREVIEW_PATH);
 	}
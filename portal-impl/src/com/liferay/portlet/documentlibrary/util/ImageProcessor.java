@@ -20,8 +20,6 @@ import com.liferay.portal.kernel.image.ImageBag;
 import com.liferay.portal.kernel.image.ImageProcessorUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
-import com.liferay.portal.kernel.messaging.DestinationNames;
-import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.repository.model.FileEntry;
 import com.liferay.portal.kernel.repository.model.FileVersion;
 import com.liferay.portal.kernel.util.FileUtil;
@@ -39,9 +37,6 @@ import java.awt.image.RenderedImage;
 import java.io.IOException;
 import java.io.InputStream;
 
-import java.util.List;
-import java.util.Vector;
-
 /**
  * @author Sergio González
  */
@@ -128,19 +123,19 @@ public class ImageProcessor implements DLProcessor {
 		catch (Exception e) {
 			_log.error(e, e);
 		}
-		finally {
-			_fileEntries.remove(fileVersion.getFileVersionId());
-		}
 	}
 
-	private void _queueGeneration(FileVersion fileVersion) {
-		if (!_fileEntries.contains(fileVersion.getFileEntryId())) {
-			_fileEntries.add(fileVersion.getFileVersionId());
+	private void _queueGeneration(final FileVersion fileVersion) {
+		PreviewGenerationScheduler.schedule(
+			PreviewGenerationScheduler.TYPE_IMAGE,
+			fileVersion.getFileVersionId(),
+			new Runnable() {
 
-			MessageBusUtil.sendMessage(
-				DestinationNames.DOCUMENT_LIBRARY_IMAGE_PROCESSOR,
-				fileVersion);
-		}
+				public void run() {
+					_generateImages(fileVersion);
+				}
+
+			});
 	}
 
 	private void _saveImages(
@@ -195,6 +190,4 @@ public class ImageProcessor implements DLProcessor {
 
 	private static ImageProcessor _instance = new ImageProcessor();
 
-	private static List<Long> _fileEntries = new Vector<Long>();
-
 }
\ No newline at end of file
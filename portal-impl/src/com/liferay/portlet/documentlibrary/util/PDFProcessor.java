@@ -14,21 +14,24 @@
 
 package com.liferay.portlet.documentlibrary.util;
 
+import com.liferay.portal.image.ImageProcessorImpl;
 import com.liferay.portal.kernel.configuration.Filter;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.image.ImageProcessor;
-import com.liferay.portal.kernel.image.ImageProcessorUtil;
 import com.liferay.portal.kernel.io.FileFilter;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
-import com.liferay.portal.kernel.messaging.DestinationNames;
-import com.liferay.portal.kernel.messaging.MessageBusUtil;
+import com.liferay.portal.kernel.process.ClassPathUtil;
+import com.liferay.portal.kernel.process.ProcessCallable;
+import com.liferay.portal.kernel.process.ProcessException;
+import com.liferay.portal.kernel.process.ProcessExecutor;
 import com.liferay.portal.kernel.repository.model.FileEntry;
 import com.liferay.portal.kernel.repository.model.FileVersion;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.OSDetector;
 import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.SystemProperties;
@@ -41,14 +44,13 @@ import java.awt.image.RenderedImage;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import java.util.Date;
 import java.util.List;
-import java.util.Vector;
 
 import javax.imageio.ImageIO;
 
@@ -159,9 +161,6 @@ public class PDFProcessor implements DLProcessor {
 		catch (Exception e) {
 			_log.error(e, e);
 		}
-		finally {
-			_fileEntries.remove(fileVersion.getFileVersionId());
-		}
 	}
 
 	private void _generateImages(FileVersion fileVersion, File file)
@@ -207,6 +206,9 @@ public class PDFProcessor implements DLProcessor {
 				}
 			}
 		}
+		else if (PropsValues.DL_FILE_ENTRY_PREVIEW_FORK_PROCESS_ENABLED) {
+			_generateImagesPB(fileVersion, file);
+		}
 		else {
 			_generateImages(fileVersion, new FileInputStream(file));
 		}
@@ -241,59 +243,25 @@ public class PDFProcessor implements DLProcessor {
 				_generateImages(fileVersion, file);
 			}
 		}
-		else {
-			boolean generatePreview = _isGeneratePreview(id);
-			boolean generateThumbnail = _isGenerateThumbnail(id);
-
-			PDDocument pdDocument = null;
+		else if (PropsValues.DL_FILE_ENTRY_PREVIEW_FORK_PROCESS_ENABLED) {
+			File file = FileUtil.createTempFile(inputStream);
 
 			try {
-				pdDocument = PDDocument.load(inputStream);
-
-				PDDocumentCatalog pdDocumentCatalog =
-					pdDocument.getDocumentCatalog();
-
-				List<PDPage> pdPages = pdDocumentCatalog.getAllPages();
-
-				for (int i = 0; i < pdPages.size(); i++) {
-					PDPage pdPage = pdPages.get(i);
-
-					if (generateThumbnail && (i == 0)) {
-						_generateImagesPB(
-							pdPage, id, PropsValues.DL_FILE_ENTRY_THUMBNAIL_DPI,
-							PropsValues.DL_FILE_ENTRY_THUMBNAIL_HEIGHT,
-							PropsValues.DL_FILE_ENTRY_THUMBNAIL_WIDTH, true, 0);
-
-						if (_log.isInfoEnabled()) {
-							_log.info("PDFBox generated a thumbnail for " + id);
-						}
-					}
-
-					if (!generatePreview) {
-						break;
-					}
-
-					_generateImagesPB(
-						pdPage, id,
-						PropsValues.DL_FILE_ENTRY_PREVIEW_DOCUMENT_DPI,
-						PropsValues.DL_FILE_ENTRY_PREVIEW_DOCUMENT_HEIGHT,
-						PropsValues.DL_FILE_ENTRY_PREVIEW_DOCUMENT_WIDTH, false,
-						i + 1);
-				}
-
-				if (_log.isInfoEnabled() && generatePreview) {
-					_log.info(
-						"PDFBox generated " +
-							_getPreviewFileCount(fileVersion) +
-								" preview pages for " + id);
-				}
+				_generateImagesPB(fileVersion, file);
 			}
 			finally {
-				if (pdDocument != null) {
-					pdDocument.close();
-				}
+				file.delete();
 			}
 		}
+		else {
+			PDFBoxProcessCallable pdfBoxProcessCallable =
+				_getPDFBoxProcessCallable(id, null);
+
+			int previewFileCount = pdfBoxProcessCallable.generateImages(
+				inputStream);
+
+			_logGeneratedImagesPB(id, pdfBoxProcessCallable, previewFileCount);
+		}
 	}
 
 	private void _generateImagesIM(
@@ -334,39 +302,33 @@ public class PDFProcessor implements DLProcessor {
 		}
 	}
 
-	private void _generateImagesPB(
-			PDPage pdPage, String id, int dpi, int height, int width,
-			boolean thumbnail, int index)
-		throws IOException, FileNotFoundException {
+	private void _generateImagesPB(FileVersion fileVersion, File file)
+		throws SystemException {
 
-		RenderedImage renderedImage = pdPage.convertToImage(
-			BufferedImage.TYPE_INT_RGB,
-			PropsValues.DL_FILE_ENTRY_THUMBNAIL_DPI);
-
-		if (height != 0) {
-			renderedImage = ImageProcessorUtil.scale(
-				renderedImage, width, height);
-		}
-		else {
-			renderedImage = ImageProcessorUtil.scale(renderedImage, width);
-		}
+		String id = DLUtil.getTempFileId(
+			fileVersion.getFileEntryId(), fileVersion.getVersion());
 
-		if (thumbnail) {
-			File file = _getThumbnailFile(id);
+		PDFBoxProcessCallable pdfBoxProcessCallable = _getPDFBoxProcessCallable(
+			id, file.getPath());
 
-			file.createNewFile();
+		try {
+			int previewFileCount = ProcessExecutor.execute(
+				pdfBoxProcessCallable, ClassPathUtil.getPortalClassPath());
 
-			ImageIO.write(
-				renderedImage, THUMBNAIL_TYPE, new FileOutputStream(file));
+			_logGeneratedImagesPB(id, pdfBoxProcessCallable, previewFileCount);
 		}
-		else {
-			File file = _getPreviewFile(id, index);
+		catch (ProcessException pe) {
+			throw new SystemException(pe);
+		}
+	}
 
-			file.createNewFile();
+	private PDFBoxProcessCallable _getPDFBoxProcessCallable(
+		String id, String filePath) {
 
-			ImageIO.write(
-				renderedImage, PREVIEW_TYPE, new FileOutputStream(file));
-		}
+		return new PDFBoxProcessCallable(
+			filePath, _PREVIEW_PATH + id + StringPool.DASH,
+			_getThumbnailFilePath(id), _isGeneratePreview(id),
+			_isGenerateThumbnail(id));
 	}
 
 	private File _getPreviewFile(String id, int index) {
@@ -512,8 +474,30 @@ public class PDFProcessor implements DLProcessor {
 		}
 	}
 
-	private void _queueGeneration(FileVersion fileVersion) {
-		if (!_fileEntries.contains(fileVersion.getFileVersionId())) {
+	private void _logGeneratedImagesPB(
+		String id, PDFBoxProcessCallable pdfBoxProcessCallable,
+		int previewFileCount) {
+
+		if (!_log.isInfoEnabled()) {
+			return;
+		}
+
+		if (pdfBoxProcessCallable.isGenerateThumbnail()) {
+			_log.info("PDFBox generated a thumbnail for " + id);
+		}
+
+		if (pdfBoxProcessCallable.isGeneratePreview()) {
+			_log.info(
+				"PDFBox generated " + previewFileCount + " preview pages for " +
+					id);
+		}
+	}
+
+	private void _queueGeneration(final FileVersion fileVersion) {
+		if (!PreviewGenerationScheduler.isScheduled(
+				PreviewGenerationScheduler.TYPE_PDF,
+				fileVersion.getFileVersionId())) {
+
 			boolean generateImages = false;
 
 			String extension = fileVersion.getExtension();
@@ -535,11 +519,16 @@ public class PDFProcessor implements DLProcessor {
 			}
 
 			if (generateImages) {
-				_fileEntries.add(fileVersion.getFileVersionId());
+				PreviewGenerationScheduler.schedule(
+					PreviewGenerationScheduler.TYPE_PDF,
+					fileVersion.getFileVersionId(),
+					new Runnable() {
+
+						public void run() {
+							_generateImages(fileVersion);
+						}
 
-				MessageBusUtil.sendMessage(
-					DestinationNames.DOCUMENT_LIBRARY_PDF_PROCESSOR,
-					fileVersion);
+					});
 			}
 		}
 	}
@@ -557,7 +546,6 @@ public class PDFProcessor implements DLProcessor {
 	private static PDFProcessor _instance = new PDFProcessor();
 
 	private static ConvertCmd _convertCmd;
-	private static List<Long> _fileEntries = new Vector<Long>();
 
 	static {
 		FileUtil.mkdirs(_PREVIEW_PATH);
@@ -586,4 +574,135 @@ public class PDFProcessor implements DLProcessor {
 		}
 	}
 
+	private static class PDFBoxProcessCallable
+		implements ProcessCallable<Integer> {
+
+		public PDFBoxProcessCallable(
+			String filePath, String previewFilePathPrefix,
+			String thumbnailFilePath, boolean generatePreview,
+			boolean generateThumbnail) {
+
+			_filePath = filePath;
+			_previewFilePathPrefix = previewFilePathPrefix;
+			_thumbnailFilePath = thumbnailFilePath;
+			_generatePreview = generatePreview;
+			_generateThumbnail = generateThumbnail;
+
+			_dpi = PropsValues.DL_FILE_ENTRY_THUMBNAIL_DPI;
+			_previewHeight = PropsValues.DL_FILE_ENTRY_PREVIEW_DOCUMENT_HEIGHT;
+			_previewWidth = PropsValues.DL_FILE_ENTRY_PREVIEW_DOCUMENT_WIDTH;
+			_thumbnailHeight = PropsValues.DL_FILE_ENTRY_THUMBNAIL_HEIGHT;
+			_thumbnailWidth = PropsValues.DL_FILE_ENTRY_THUMBNAIL_WIDTH;
+		}
+
+		public Integer call() throws ProcessException {
+			InputStream inputStream = null;
+
+			try {
+				inputStream = new FileInputStream(_filePath);
+
+				return generateImages(inputStream);
+			}
+			catch (IOException ioe) {
+				throw new ProcessException(ioe);
+			}
+			finally {
+				StreamUtil.cleanUp(inputStream);
+			}
+		}
+
+		public int generateImages(InputStream inputStream)
+			throws IOException {
+
+			int previewFileCount = 0;
+
+			PDDocument pdDocument = null;
+
+			try {
+				pdDocument = PDDocument.load(inputStream);
+
+				PDDocumentCatalog pdDocumentCatalog =
+					pdDocument.getDocumentCatalog();
+
+				List<PDPage> pdPages = pdDocumentCatalog.getAllPages();
+
+				for (int i = 0; i < pdPages.size(); i++) {
+					PDPage pdPage = pdPages.get(i);
+
+					if (_generateThumbnail && (i == 0)) {
+						_generateImage(
+							pdPage, _thumbnailHeight, _thumbnailWidth,
+							_thumbnailFilePath);
+					}
+
+					if (!_generatePreview) {
+						break;
+					}
+
+					_generateImage(
+						pdPage, _previewHeight, _previewWidth,
+						_previewFilePathPrefix + i + StringPool.PERIOD +
+							PREVIEW_TYPE);
+
+					previewFileCount++;
+				}
+			}
+			finally {
+				if (pdDocument != null) {
+					pdDocument.close();
+				}
+			}
+
+			return previewFileCount;
+		}
+
+		public boolean isGeneratePreview() {
+			return _generatePreview;
+		}
+
+		public boolean isGenerateThumbnail() {
+			return _generateThumbnail;
+		}
+
+		private void _generateImage(
+				PDPage pdPage, int height, int width, String filePath)
+			throws IOException {
+
+			RenderedImage renderedImage = pdPage.convertToImage(
+				BufferedImage.TYPE_INT_RGB, _dpi);
+
+			ImageProcessorImpl imageProcessorImpl =
+				ImageProcessorImpl.getInstance();
+
+			if (height != 0) {
+				renderedImage = imageProcessorImpl.scale(
+					renderedImage, height, width);
+			}
+			else {
+				renderedImage = imageProcessorImpl.scale(renderedImage, width);
+			}
+
+			OutputStream outputStream = new FileOutputStream(filePath);
+
+			try {
+				ImageIO.write(renderedImage, PREVIEW_TYPE, outputStream);
+			}
+			finally {
+				outputStream.close();
+			}
+		}
+
+		private int _dpi;
+		private String _filePath;
+		private boolean _generatePreview;
+		private boolean _generateThumbnail;
+		private String _previewFilePathPrefix;
+		private int _previewHeight;
+		private int _previewWidth;
+		private String _thumbnailFilePath;
+		private int _thumbnailHeight;
+		private int _thumbnailWidth;
+
+	}
+
 }
\ No newline at end of file
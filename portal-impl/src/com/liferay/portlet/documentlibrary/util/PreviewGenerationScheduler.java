@@ -0,0 +1,314 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.util;
+
+import com.liferay.portal.kernel.configuration.Filter;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.security.auth.CompanyThreadLocal;
+import com.liferay.portal.util.PropsUtil;
+import com.liferay.portal.util.PropsValues;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs preview, thumbnail and scaled image generation for document library
+ * file versions on a bounded pool of low priority threads, so a bulk upload
+ * cannot take every processor away from page rendering.
+ *
+ * <p>
+ * Pending generations are ordered by the priority configured for their type
+ * and then by the order in which they were scheduled. A file version is queued
+ * at most once per type until its generation finishes.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class PreviewGenerationScheduler {
+
+	public static final String TYPE_AUDIO = "audio";
+
+	public static final String TYPE_IMAGE = "image";
+
+	public static final String TYPE_PDF = "pdf";
+
+	public static final String TYPE_VIDEO = "video";
+
+	public static long getAverageGenerationTime() {
+		return _instance._getAverageGenerationTime();
+	}
+
+	public static int getBacklogCount() {
+		return _instance._getBacklogCount();
+	}
+
+	public static long getCompletedCount() {
+		return _instance._completedCount.get();
+	}
+
+	public static long getFailedCount() {
+		return _instance._failedCount.get();
+	}
+
+	public static long getRejectedCount() {
+		return _instance._rejectedCount.get();
+	}
+
+	public static int getRunningCount() {
+		return _instance._runningCount.get();
+	}
+
+	public static boolean isScheduled(String type, long fileVersionId) {
+		return _instance._tasks.containsKey(_getKey(type, fileVersionId));
+	}
+
+	/**
+	 * Schedules the generation of the file version's previews for the type.
+	 * Returns <code>false</code> if the file version is already pending or
+	 * running for the type, or if the backlog is full.
+	 */
+	public static boolean schedule(
+		String type, long fileVersionId, Runnable runnable) {
+
+		return _instance._schedule(type, fileVersionId, runnable);
+	}
+
+	public static void shutdown() {
+		_instance._shutdown();
+	}
+
+	private static String _getKey(String type, long fileVersionId) {
+		return type.concat(StringPool.POUND).concat(
+			String.valueOf(fileVersionId));
+	}
+
+	private PreviewGenerationScheduler() {
+		int workersMaxSize = Math.max(
+			1, PropsValues.DL_FILE_ENTRY_PREVIEW_GENERATION_WORKERS_MAX_SIZE);
+
+		_threadPoolExecutor = new ThreadPoolExecutor(
+			workersMaxSize, workersMaxSize, 0, TimeUnit.MILLISECONDS,
+			new PriorityBlockingQueue<Runnable>(),
+			new NamedThreadFactory(
+				PreviewGenerationScheduler.class.getName(),
+				Thread.MIN_PRIORITY, PortalClassLoaderUtil.getClassLoader()));
+	}
+
+	private long _getAverageGenerationTime() {
+		long count = _completedCount.get() + _failedCount.get();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		return _generationTime.get() / count;
+	}
+
+	private int _getBacklogCount() {
+		return _tasks.size() - _runningCount.get();
+	}
+
+	private int _getPriority(String type) {
+		Integer priority = _priorities.get(type);
+
+		if (priority == null) {
+			priority = GetterUtil.getInteger(
+				PropsUtil.get(
+					PropsKeys.DL_FILE_ENTRY_PREVIEW_GENERATION_PRIORITY,
+					new Filter(type)));
+
+			_priorities.put(type, priority);
+		}
+
+		return priority;
+	}
+
+	private boolean _schedule(
+		String type, long fileVersionId, Runnable runnable) {
+
+		String key = _getKey(type, fileVersionId);
+
+		if (_tasks.containsKey(key) || _threadPoolExecutor.isShutdown()) {
+			return false;
+		}
+
+		if (_tasks.size() >=
+				PropsValues.DL_FILE_ENTRY_PREVIEW_GENERATION_QUEUE_MAX_SIZE) {
+
+			_rejectedCount.incrementAndGet();
+
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Skipping preview generation for " + key +
+						" because the backlog is full");
+			}
+
+			return false;
+		}
+
+		PreviewGenerationTask previewGenerationTask = new PreviewGenerationTask(
+			key, _getPriority(type), _sequence.getAndIncrement(),
+			CompanyThreadLocal.getCompanyId(), runnable);
+
+		if (_tasks.putIfAbsent(key, previewGenerationTask) != null) {
+			return false;
+		}
+
+		try {
+			_threadPoolExecutor.execute(previewGenerationTask);
+		}
+		catch (RejectedExecutionException ree) {
+			_tasks.remove(key);
+
+			_rejectedCount.incrementAndGet();
+
+			_log.error("Unable to schedule preview generation for " + key, ree);
+
+			return false;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Scheduled preview generation for " + key + " with " +
+					_getBacklogCount() + " pending");
+		}
+
+		return true;
+	}
+
+	private void _shutdown() {
+		_threadPoolExecutor.shutdownNow();
+
+		_tasks.clear();
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		PreviewGenerationScheduler.class);
+
+	private static PreviewGenerationScheduler _instance =
+		new PreviewGenerationScheduler();
+
+	private AtomicLong _completedCount = new AtomicLong();
+	private AtomicLong _failedCount = new AtomicLong();
+	private AtomicLong _generationTime = new AtomicLong();
+	private ConcurrentMap<String, Integer> _priorities =
+		new ConcurrentHashMap<String, Integer>();
+	private AtomicLong _rejectedCount = new AtomicLong();
+	private AtomicInteger _runningCount = new AtomicInteger();
+	private AtomicLong _sequence = new AtomicLong();
+	private ConcurrentMap<String, PreviewGenerationTask> _tasks =
+		new ConcurrentHashMap<String, PreviewGenerationTask>();
+	private ThreadPoolExecutor _threadPoolExecutor;
+
+	private class PreviewGenerationTask
+		implements Comparable<PreviewGenerationTask>, Runnable {
+
+		public PreviewGenerationTask(
+			String key, int priority, long sequence, long companyId,
+			Runnable runnable) {
+
+			_key = key;
+			_priority = priority;
+			_sequence = sequence;
+			_companyId = companyId;
+			_runnable = runnable;
+		}
+
+		public int compareTo(PreviewGenerationTask previewGenerationTask) {
+			if (_priority != previewGenerationTask._priority) {
+				if (_priority > previewGenerationTask._priority) {
+					return -1;
+				}
+				else {
+					return 1;
+				}
+			}
+
+			if (_sequence < previewGenerationTask._sequence) {
+				return -1;
+			}
+			else if (_sequence > previewGenerationTask._sequence) {
+				return 1;
+			}
+			else {
+				return 0;
+			}
+		}
+
+		public void run() {
+			_runningCount.incrementAndGet();
+
+			long companyId = CompanyThreadLocal.getCompanyId();
+
+			long startTime = System.currentTimeMillis();
+
+			try {
+				if (_companyId > 0) {
+					CompanyThreadLocal.setCompanyId(_companyId);
+				}
+
+				_runnable.run();
+
+				_completedCount.incrementAndGet();
+			}
+			catch (Throwable t) {
+				_failedCount.incrementAndGet();
+
+				_log.error("Unable to generate previews for " + _key, t);
+			}
+			finally {
+				CompanyThreadLocal.setCompanyId(companyId);
+
+				CentralizedThreadLocal.clearShortLivedThreadLocals();
+
+				long generationTime = System.currentTimeMillis() - startTime;
+
+				_generationTime.addAndGet(generationTime);
+
+				_tasks.remove(_key);
+
+				_runningCount.decrementAndGet();
+
+				if (_log.isDebugEnabled()) {
+					_log.debug(
+						"Generated previews for " + _key + " in " +
+							generationTime + " ms with " + _getBacklogCount() +
+								" pending");
+				}
+			}
+		}
+
+		private long _companyId;
+		private String _key;
+		private int _priority;
+		private Runnable _runnable;
+		private long _sequence;
+
+	}
+
+}
\ No newline at end of file
@@ -17,8 +17,6 @@ package com.liferay.portlet.documentlibrary.util;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
-import com.liferay.portal.kernel.messaging.DestinationNames;
-import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.repository.model.FileEntry;
 import com.liferay.portal.kernel.repository.model.FileVersion;
 import com.liferay.portal.kernel.util.FileUtil;
@@ -42,7 +40,6 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
-import java.util.Vector;
 
 /**
  * @author Juan González
@@ -197,9 +194,6 @@ public class VideoProcessor implements DLProcessor {
 		catch (Exception e) {
 			_log.error(e, e);
 		}
-		finally {
-			_fileEntries.remove(fileVersion.getFileEntryId());
-		}
 	}
 
 	private void _generateVideoXuggler(
@@ -365,15 +359,18 @@ public class VideoProcessor implements DLProcessor {
 		return _videoMimeTypes.contains(fileVersion.getMimeType());
 	}
 
-	private void _queueGeneration(FileVersion fileVersion) {
-		if (!_fileEntries.contains(fileVersion.getFileEntryId()) &&
-			_isSupportedVideo(fileVersion)) {
+	private void _queueGeneration(final FileVersion fileVersion) {
+		if (_isSupportedVideo(fileVersion)) {
+			PreviewGenerationScheduler.schedule(
+				PreviewGenerationScheduler.TYPE_VIDEO,
+				fileVersion.getFileVersionId(),
+				new Runnable() {
 
-			_fileEntries.add(fileVersion.getFileVersionId());
+					public void run() {
+						_generateVideo(fileVersion);
+					}
 
-			MessageBusUtil.sendMessage(
-				DestinationNames.DOCUMENT_LIBRARY_VIDEO_PROCESSOR,
-				fileVersion);
+				});
 		}
 	}
 
@@ -393,8 +390,6 @@ public class VideoProcessor implements DLProcessor {
 		"video/avi", "video/mp4", "video/mpeg", "video/quicktime",
 		"video/x-flv", "video/x-ms-wmv", "video/x-msvideo");
 
-	private List<Long> _fileEntries = new Vector<Long>();
-
 	static {
 		FileUtil.mkdirs(_PREVIEW_PATH);
 		FileUtil.mkdirs(_THUMBNAIL_PATH);
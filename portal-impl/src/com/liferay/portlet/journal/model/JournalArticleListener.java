@@ -39,7 +39,9 @@ public class JournalArticleListener extends BaseModelListener<JournalArticle> {
 
 		// Journal content
 
-		JournalContentUtil.clearCache();
+		JournalContentUtil.clearCache(
+			article.getGroupId(), article.getArticleId(),
+			article.getTemplateId());
 
 		// Layout cache
 
@@ -19,6 +19,7 @@ import com.liferay.portal.kernel.velocity.VelocityEngineUtil;
 import com.liferay.portal.model.BaseModelListener;
 import com.liferay.portal.servlet.filters.cache.CacheUtil;
 import com.liferay.portal.velocity.LiferayResourceCacheUtil;
+import com.liferay.portlet.journal.util.XSLTemplatesCacheUtil;
 import com.liferay.portlet.journalcontent.util.JournalContentUtil;
 
 import org.apache.velocity.runtime.resource.ResourceManager;
@@ -68,6 +69,10 @@ public class JournalTemplateListener
 		// Velocity cache
 
 		VelocityEngineUtil.flushTemplate(freeMarkerTemplateId);
+
+		// XSL cache
+
+		XSLTemplatesCacheUtil.clear();
 	}
 
 	private static String _RESOURCE_TEMPLATE_NAME_SPACE = String.valueOf(
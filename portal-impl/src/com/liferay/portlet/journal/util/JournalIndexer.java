@@ -21,7 +21,6 @@ import com.liferay.portal.kernel.search.BooleanQuery;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
-import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.Summary;
@@ -37,6 +36,7 @@ import com.liferay.portal.kernel.xml.Element;
 import com.liferay.portal.kernel.xml.Node;
 import com.liferay.portal.kernel.xml.SAXReaderUtil;
 import com.liferay.portal.model.Group;
+import com.liferay.portal.search.PagedReindexer;
 import com.liferay.portal.service.GroupLocalServiceUtil;
 import com.liferay.portal.util.PortletKeys;
 import com.liferay.portlet.journal.NoSuchStructureException;
@@ -462,18 +462,20 @@ public class JournalIndexer extends BaseIndexer {
 		}
 	}
 
-	protected void reindexArticles(long companyId) throws Exception {
+	protected void reindexArticles(final long companyId) throws Exception {
 		int count = JournalArticleLocalServiceUtil.getCompanyArticlesCount(
 			companyId, WorkflowConstants.STATUS_APPROVED);
 
-		int pages = count / Indexer.DEFAULT_INTERVAL;
+		PagedReindexer pagedReindexer = new PagedReindexer(companyId, count) {
 
-		for (int i = 0; i <= pages; i++) {
-			int start = (i * Indexer.DEFAULT_INTERVAL);
-			int end = start + Indexer.DEFAULT_INTERVAL;
+			@Override
+			protected void reindex(int start, int end) throws Exception {
+				reindexArticles(companyId, start, end);
+			}
 
-			reindexArticles(companyId, start, end);
-		}
+		};
+
+		pagedReindexer.reindex();
 	}
 
 	protected void reindexArticles(long companyId, int start, int end)
@@ -23,6 +23,7 @@ import com.liferay.util.ContentUtil;
 
 import java.util.Locale;
 
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
@@ -98,19 +99,33 @@ public class XSLTemplateParser extends VelocityTemplateParser {
 
 		TransformerFactory transformerFactory = _getTransformerFactory();
 
-		StreamSource scriptSource = new StreamSource(
-			new UnsyncStringReader(script));
+		Templates templates = XSLTemplatesCacheUtil.getTemplates(
+			getGroupId(), _getTemplateId(script), getLanguageId(), script,
+			transformerFactory);
 
-		return new XSLContext(transformerFactory.newTransformer(scriptSource));
+		Transformer transformer = templates.newTransformer();
+
+		transformer.setErrorListener(transformerFactory.getErrorListener());
+		transformer.setURIResolver(transformerFactory.getURIResolver());
+
+		return new XSLContext(transformer);
+	}
+
+	private String _getTemplateId(String script) {
+		if (script.equals(getScript())) {
+			return getTemplateId();
+		}
+		else {
+			return PropsValues.JOURNAL_ERROR_TEMPLATE_XSL;
+		}
 	}
 
 	private TransformerFactory _getTransformerFactory() {
 		if (_transformerFactory == null) {
-			TransformerFactory transformerFactory =
-				TransformerFactory.newInstance();
+			_transformerFactory = TransformerFactory.newInstance();
 
-			transformerFactory.setErrorListener(_getXSLErrorListener());
-			transformerFactory.setURIResolver(
+			_transformerFactory.setErrorListener(_getXSLErrorListener());
+			_transformerFactory.setURIResolver(
 				new URIResolver(getTokens(), getLanguageId()));
 		}
 
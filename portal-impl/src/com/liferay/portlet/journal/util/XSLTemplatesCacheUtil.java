@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.journal.util;
+
+import com.liferay.portal.kernel.cache.MultiVMKeyPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.io.unsync.UnsyncStringReader;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.URIResolver;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * <p>
+ * Caches compiled XSL templates so that journal articles rendered with the
+ * same template do not parse and compile the script again. Compiled
+ * templates are thread safe and are shared by all requests, while every
+ * transformation creates its own transformer from them.
+ * </p>
+ *
+ * <p>
+ * Entries are keyed by the group ID, template ID and language, and are only
+ * reused if the script has not changed since it was compiled. Scripts that
+ * import or include other stylesheets are never cached, because the imported
+ * content is resolved with the tokens of the current request and is compiled
+ * into the templates.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class XSLTemplatesCacheUtil {
+
+	public static void clear() {
+		_portalCache.removeAll();
+	}
+
+	public static long getCompileCount() {
+		return _compileCount.get();
+	}
+
+	public static long getCompileTime() {
+		return TimeUnit.NANOSECONDS.toMillis(_compileTime.get());
+	}
+
+	public static long getHitCount() {
+		return _hitCount.get();
+	}
+
+	public static Templates getTemplates(
+			long groupId, String templateId, String languageId, String script,
+			TransformerFactory transformerFactory)
+		throws TransformerConfigurationException {
+
+		String key = _encodeKey(groupId, templateId, languageId);
+
+		TemplatesEntry templatesEntry = (TemplatesEntry)_portalCache.get(key);
+
+		if ((templatesEntry != null) &&
+			script.equals(templatesEntry.getScript())) {
+
+			_hitCount.incrementAndGet();
+
+			return templatesEntry.getTemplates();
+		}
+
+		URIResolver uriResolver = transformerFactory.getURIResolver();
+
+		RecordURIResolver recordURIResolver = new RecordURIResolver(
+			uriResolver);
+
+		transformerFactory.setURIResolver(recordURIResolver);
+
+		long startTime = System.nanoTime();
+
+		Templates templates = null;
+
+		try {
+			templates = transformerFactory.newTemplates(
+				new StreamSource(new UnsyncStringReader(script)));
+		}
+		finally {
+			transformerFactory.setURIResolver(uriResolver);
+		}
+
+		long compileTime = System.nanoTime() - startTime;
+
+		_compileCount.incrementAndGet();
+		_compileTime.addAndGet(compileTime);
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Compiled XSL template " + templateId + " in " +
+					TimeUnit.NANOSECONDS.toMillis(compileTime) + " ms");
+		}
+
+		if (!recordURIResolver.isResolved()) {
+			_portalCache.put(key, new TemplatesEntry(script, templates));
+		}
+
+		return templates;
+	}
+
+	private static String _encodeKey(
+		long groupId, String templateId, String languageId) {
+
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(groupId);
+		sb.append(StringPool.POUND);
+		sb.append(templateId);
+		sb.append(StringPool.POUND);
+		sb.append(languageId);
+
+		return sb.toString();
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		XSLTemplatesCacheUtil.class);
+
+	private static AtomicLong _compileCount = new AtomicLong();
+	private static AtomicLong _compileTime = new AtomicLong();
+	private static AtomicLong _hitCount = new AtomicLong();
+	private static PortalCache _portalCache = MultiVMKeyPoolUtil.getCache(
+		XSLTemplatesCacheUtil.class.getName());
+
+	private static class RecordURIResolver implements URIResolver {
+
+		public RecordURIResolver(URIResolver uriResolver) {
+			_uriResolver = uriResolver;
+		}
+
+		public boolean isResolved() {
+			return _resolved;
+		}
+
+		public Source resolve(String href, String base)
+			throws TransformerException {
+
+			_resolved = true;
+
+			if (_uriResolver == null) {
+				return null;
+			}
+
+			return _uriResolver.resolve(href, base);
+		}
+
+		private boolean _resolved;
+		private URIResolver _uriResolver;
+
+	}
+
+	private static class TemplatesEntry {
+
+		public TemplatesEntry(String script, Templates templates) {
+			_script = script;
+			_templates = templates;
+		}
+
+		public String getScript() {
+			return _script;
+		}
+
+		public Templates getTemplates() {
+			return _templates;
+		}
+
+		private String _script;
+		private Templates _templates;
+
+	}
+
+}
\ No newline at end of file
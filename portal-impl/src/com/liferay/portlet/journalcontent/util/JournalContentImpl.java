@@ -16,6 +16,7 @@ package com.liferay.portlet.journalcontent.util;
 
 import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
 import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.concurrent.CompeteLatch;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
@@ -32,6 +33,10 @@ import com.liferay.portlet.journal.model.JournalArticleDisplay;
 import com.liferay.portlet.journal.service.JournalArticleLocalServiceUtil;
 import com.liferay.portlet.journal.service.permission.JournalArticlePermission;
 
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -51,7 +56,13 @@ public class JournalContentImpl implements JournalContent {
 	public void clearCache(
 		long groupId, String articleId, String templateId) {
 
-		clearCache();
+		articleId = GetterUtil.getString(articleId).toUpperCase();
+
+		// Every cached display of the article embeds the article's version in
+		// its key, so dropping the version orphans exactly those displays on
+		// every node without touching the displays of other articles
+
+		portalCache.remove(encodeVersionKey(groupId, articleId));
 	}
 
 	public String getContent(
@@ -181,25 +192,26 @@ public class JournalContentImpl implements JournalContent {
 			secure = themeDisplay.isSecure();
 		}
 
+		long version = getVersion(groupId, articleId);
+
 		String key = encodeKey(
 			groupId, articleId, templateId, layoutSetId, viewMode, languageId,
-			page, secure);
+			page, secure, version);
 
 		JournalArticleDisplay articleDisplay =
 			(JournalArticleDisplay)portalCache.get(key);
 
 		boolean lifecycleRender = isLifecycleRender(themeDisplay, xmlRequest);
 
-		if ((articleDisplay == null) || !lifecycleRender) {
+		if (!lifecycleRender) {
 			articleDisplay = getArticleDisplay(
 				groupId, articleId, templateId, viewMode, languageId, page,
 				xmlRequest, themeDisplay);
-
-			if ((articleDisplay != null) && (articleDisplay.isCacheable()) &&
-				(lifecycleRender)) {
-
-				portalCache.put(key, articleDisplay);
-			}
+		}
+		else if (articleDisplay == null) {
+			articleDisplay = getCachedArticleDisplay(
+				key, groupId, articleId, templateId, viewMode, languageId, page,
+				xmlRequest, themeDisplay);
 		}
 
 		try {
@@ -229,6 +241,16 @@ public class JournalContentImpl implements JournalContent {
 		long groupId, String articleId, String templateId, long layoutSetId,
 		String viewMode, String languageId, int page, boolean secure) {
 
+		return encodeKey(
+			groupId, articleId, templateId, layoutSetId, viewMode, languageId,
+			page, secure, 0);
+	}
+
+	protected String encodeKey(
+		long groupId, String articleId, String templateId, long layoutSetId,
+		String viewMode, String languageId, int page, boolean secure,
+		long version) {
+
 		StringBundler sb = new StringBundler();
 
 		sb.append(CACHE_NAME);
@@ -262,6 +284,23 @@ public class JournalContentImpl implements JournalContent {
 		sb.append(SECURE_SEPARATOR);
 		sb.append(secure);
 
+		if (version != 0) {
+			sb.append(VERSION_SEPARATOR);
+			sb.append(StringUtil.toHexString(version));
+		}
+
+		return sb.toString();
+	}
+
+	protected String encodeVersionKey(long groupId, String articleId) {
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(CACHE_NAME);
+		sb.append(VERSION_SEPARATOR);
+		sb.append(StringUtil.toHexString(groupId));
+		sb.append(ARTICLE_SEPARATOR);
+		sb.append(articleId);
+
 		return sb.toString();
 	}
 
@@ -292,6 +331,78 @@ public class JournalContentImpl implements JournalContent {
 		}
 	}
 
+	protected JournalArticleDisplay getCachedArticleDisplay(
+		String key, long groupId, String articleId, String templateId,
+		String viewMode, String languageId, int page, String xmlRequest,
+		ThemeDisplay themeDisplay) {
+
+		// Concurrent misses for the same key wait for the first request to
+		// render the display instead of all rendering it at the same time
+
+		CompeteLatch competeLatch = new CompeteLatch();
+
+		CompeteLatch previousCompeteLatch = _competeLatches.putIfAbsent(
+			key, competeLatch);
+
+		if (previousCompeteLatch != null) {
+			try {
+				previousCompeteLatch.await(
+					_COMPETE_LATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+			}
+
+			JournalArticleDisplay articleDisplay =
+				(JournalArticleDisplay)portalCache.get(key);
+
+			if (articleDisplay != null) {
+				return articleDisplay;
+			}
+
+			return getArticleDisplay(
+				groupId, articleId, templateId, viewMode, languageId, page,
+				xmlRequest, themeDisplay);
+		}
+
+		competeLatch.compete();
+
+		try {
+			JournalArticleDisplay articleDisplay = getArticleDisplay(
+				groupId, articleId, templateId, viewMode, languageId, page,
+				xmlRequest, themeDisplay);
+
+			if ((articleDisplay != null) && articleDisplay.isCacheable()) {
+				portalCache.put(key, articleDisplay);
+			}
+
+			return articleDisplay;
+		}
+		finally {
+			_competeLatches.remove(key, competeLatch);
+
+			competeLatch.done();
+		}
+	}
+
+	protected long getVersion(long groupId, String articleId) {
+		String versionKey = encodeVersionKey(groupId, articleId);
+
+		Long version = (Long)portalCache.get(versionKey);
+
+		if (version == null) {
+			version = _random.nextLong();
+
+			if (version == 0) {
+				version = 1L;
+			}
+
+			portalCache.put(versionKey, version);
+		}
+
+		return version;
+	}
+
 	protected boolean isLifecycleRender(
 		ThemeDisplay themeDisplay, String xmlRequest) {
 
@@ -313,6 +424,12 @@ public class JournalContentImpl implements JournalContent {
 	protected static PortalCache portalCache = MultiVMPoolUtil.getCache(
 		CACHE_NAME);
 
+	private static final long _COMPETE_LATCH_TIMEOUT = 10000;
+
 	private static Log _log = LogFactoryUtil.getLog(JournalContentUtil.class);
 
+	private static ConcurrentMap<String, CompeteLatch> _competeLatches =
+		new ConcurrentHashMap<String, CompeteLatch>();
+	private static Random _random = new Random();
+
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.MapUtil;
 import com.liferay.portal.kernel.util.ObjectValuePair;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
@@ -353,11 +354,16 @@ public class MBPortletDataHandlerImpl extends BasePortletDataHandler {
 					attachmentElement.addAttribute("name", name);
 					attachmentElement.addAttribute("bin-path", binPath);
 
-					byte[] bytes = DLStoreUtil.getFileAsBytes(
+					InputStream inputStream = DLStoreUtil.getFileAsStream(
 						portletDataContext.getCompanyId(),
 						CompanyConstants.SYSTEM, attachment);
 
-					portletDataContext.addZipEntry(binPath, bytes);
+					try {
+						portletDataContext.addZipEntry(binPath, inputStream);
+					}
+					finally {
+						StreamUtil.cleanUp(inputStream);
+					}
 				}
 
 				message.setAttachmentsDir(message.getAttachmentsDir());
@@ -459,7 +465,12 @@ public class MBPortletDataHandlerImpl extends BasePortletDataHandler {
 
 				files.add(file);
 
-				FileUtil.write(file, is);
+				try {
+					FileUtil.write(file, is);
+				}
+				finally {
+					StreamUtil.cleanUp(is);
+				}
 
 				ovps.add(new ObjectValuePair<String, File>(name, file));
 			}
@@ -50,7 +50,11 @@ import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence implementation for the social equity group setting service.
@@ -479,6 +483,103 @@ public class SocialEquityGroupSettingPersistenceImpl extends BasePersistenceImpl
 		return socialEquityGroupSetting;
 	}
 
+	/**
+	 * Returns the social equity group settings with the primary keys. Cached social equity group settings are served from the entity cache and the rest are fetched in batches of {@link #FETCH_BY_PRIMARY_KEYS_BATCH_SIZE} primary keys.
+	 *
+	 * @param primaryKeys the primary keys of the social equity group settings
+	 * @return the social equity group settings mapped by their primary keys, without entries for primary keys that could not be found
+	 * @throws SystemException if a system exception occurred
+	 */
+	@Override
+	public Map<Serializable, SocialEquityGroupSetting> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		Map<Serializable, SocialEquityGroupSetting> map = new HashMap<Serializable, SocialEquityGroupSetting>();
+
+		Set<Serializable> uncachedPrimaryKeys = new HashSet<Serializable>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			SocialEquityGroupSetting socialEquityGroupSetting = (SocialEquityGroupSetting)EntityCacheUtil.getResult(SocialEquityGroupSettingModelImpl.ENTITY_CACHE_ENABLED,
+					SocialEquityGroupSettingImpl.class, primaryKey, this);
+
+			if (socialEquityGroupSetting == null) {
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else if (socialEquityGroupSetting != _nullSocialEquityGroupSetting) {
+				map.put(primaryKey, socialEquityGroupSetting);
+			}
+		}
+
+		if (uncachedPrimaryKeys.isEmpty()) {
+			return map;
+		}
+
+		List<Serializable> uncachedPrimaryKeysList = new ArrayList<Serializable>(uncachedPrimaryKeys);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			for (int start = 0; start < uncachedPrimaryKeysList.size();
+					start += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+				int end = Math.min(start + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE,
+						uncachedPrimaryKeysList.size());
+
+				List<Serializable> batchPrimaryKeys = uncachedPrimaryKeysList.subList(start,
+						end);
+
+				StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) +
+						1);
+
+				query.append(_SQL_SELECT_SOCIALEQUITYGROUPSETTING_WHERE_PKS_IN);
+
+				for (int i = 0; i < batchPrimaryKeys.size(); i++) {
+					query.append(StringPool.QUESTION);
+					query.append(StringPool.COMMA);
+				}
+
+				query.setIndex(query.index() - 1);
+
+				query.append(StringPool.CLOSE_PARENTHESIS);
+
+				String sql = query.toString();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				for (Serializable primaryKey : batchPrimaryKeys) {
+					qPos.add((Long)primaryKey);
+				}
+
+				List<SocialEquityGroupSetting> list = q.list();
+
+				for (SocialEquityGroupSetting socialEquityGroupSetting : list) {
+					Serializable primaryKey = socialEquityGroupSetting.getPrimaryKeyObj();
+
+					map.put(primaryKey, socialEquityGroupSetting);
+
+					cacheResult(socialEquityGroupSetting);
+
+					uncachedPrimaryKeys.remove(primaryKey);
+				}
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				EntityCacheUtil.putResult(SocialEquityGroupSettingModelImpl.ENTITY_CACHE_ENABLED,
+					SocialEquityGroupSettingImpl.class, primaryKey, _nullSocialEquityGroupSetting);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
 	/**
 	 * Returns the social equity group setting where groupId = &#63; and classNameId = &#63; and type = &#63; or throws a {@link com.liferay.portlet.social.NoSuchEquityGroupSettingException} if it could not be found.
 	 *
@@ -927,6 +1028,7 @@ public class SocialEquityGroupSettingPersistenceImpl extends BasePersistenceImpl
 	@BeanReference(type = UserPersistence.class)
 	protected UserPersistence userPersistence;
 	private static final String _SQL_SELECT_SOCIALEQUITYGROUPSETTING = "SELECT socialEquityGroupSetting FROM SocialEquityGroupSetting socialEquityGroupSetting";
+	private static final String _SQL_SELECT_SOCIALEQUITYGROUPSETTING_WHERE_PKS_IN = "SELECT socialEquityGroupSetting FROM SocialEquityGroupSetting socialEquityGroupSetting WHERE socialEquityGroupSetting.equityGroupSettingId IN (";
 	private static final String _SQL_SELECT_SOCIALEQUITYGROUPSETTING_WHERE = "SELECT socialEquityGroupSetting FROM SocialEquityGroupSetting socialEquityGroupSetting WHERE ";
 	private static final String _SQL_COUNT_SOCIALEQUITYGROUPSETTING = "SELECT COUNT(socialEquityGroupSetting) FROM SocialEquityGroupSetting socialEquityGroupSetting";
 	private static final String _SQL_COUNT_SOCIALEQUITYGROUPSETTING_WHERE = "SELECT COUNT(socialEquityGroupSetting) FROM SocialEquityGroupSetting socialEquityGroupSetting WHERE ";
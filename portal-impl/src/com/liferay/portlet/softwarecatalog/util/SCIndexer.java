@@ -21,7 +21,6 @@ import com.liferay.portal.kernel.search.BooleanQueryFactoryUtil;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
-import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.Summary;
@@ -31,6 +30,7 @@ import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.search.PagedReindexer;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PortletKeys;
 import com.liferay.portlet.softwarecatalog.model.SCProductEntry;
@@ -206,19 +206,21 @@ public class SCIndexer extends BaseIndexer {
 		}
 	}
 
-	protected void reindexProductEntries(long companyId) throws Exception {
+	protected void reindexProductEntries(final long companyId) throws Exception {
 		int count =
 			SCProductEntryLocalServiceUtil.getCompanyProductEntriesCount(
 				companyId);
 
-		int pages = count / Indexer.DEFAULT_INTERVAL;
+		PagedReindexer pagedReindexer = new PagedReindexer(companyId, count) {
 
-		for (int i = 0; i <= pages; i++) {
-			int start = (i * Indexer.DEFAULT_INTERVAL);
-			int end = start + Indexer.DEFAULT_INTERVAL;
+			@Override
+			protected void reindex(int start, int end) throws Exception {
+				reindexProductEntries(companyId, start, end);
+			}
 
-			reindexProductEntries(companyId, start, end);
-		}
+		};
+
+		pagedReindexer.reindex();
 	}
 
 	protected void reindexProductEntries(long companyId, int start, int end)
@@ -22,6 +22,7 @@ import com.liferay.portal.kernel.lar.PortletDataHandlerBoolean;
 import com.liferay.portal.kernel.lar.PortletDataHandlerControl;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.MapUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
@@ -234,10 +235,15 @@ public class WikiPortletDataHandlerImpl extends BasePortletDataHandler {
 				InputStream inputStream =
 					portletDataContext.getZipEntryAsInputStream(binPath);
 
-				WikiPageLocalServiceUtil.addPageAttachment(
-					importedPage.getCompanyId(),
-					importedPage.getAttachmentsDir(),
-					importedPage.getModifiedDate(), name, inputStream);
+				try {
+					WikiPageLocalServiceUtil.addPageAttachment(
+						importedPage.getCompanyId(),
+						importedPage.getAttachmentsDir(),
+						importedPage.getModifiedDate(), name, inputStream);
+				}
+				finally {
+					StreamUtil.cleanUp(inputStream);
+				}
 			}
 		}
 
@@ -354,11 +360,16 @@ public class WikiPortletDataHandlerImpl extends BasePortletDataHandler {
 					attachmentEl.addAttribute("name", name);
 					attachmentEl.addAttribute("bin-path", binPath);
 
-					byte[] bytes = DLStoreUtil.getFileAsBytes(
+					InputStream inputStream = DLStoreUtil.getFileAsStream(
 						portletDataContext.getCompanyId(),
 						CompanyConstants.SYSTEM, attachment);
 
-					portletDataContext.addZipEntry(binPath, bytes);
+					try {
+						portletDataContext.addZipEntry(binPath, inputStream);
+					}
+					finally {
+						StreamUtil.cleanUp(inputStream);
+					}
 				}
 
 				page.setAttachmentsDir(page.getAttachmentsDir());
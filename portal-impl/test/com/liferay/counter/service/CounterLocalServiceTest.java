@@ -18,6 +18,17 @@ import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.service.BaseServiceTestCase;
 import com.liferay.portal.service.PortalServiceUtil;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author Michael Young
  */
@@ -35,4 +46,64 @@ public class CounterLocalServiceTest extends BaseServiceTestCase {
 		assertTrue(nextLong() > counterValue);
 	}
 
+	public void testConcurrentIncrement() throws Exception {
+		final String name =
+			CounterLocalServiceTest.class.getName() + nextLong();
+		final Set<Long> values = Collections.synchronizedSet(
+			new HashSet<Long>());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			_THREAD_COUNT);
+
+		try {
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+			for (int i = 0; i < _THREAD_COUNT; i++) {
+				Callable<Void> callable = new Callable<Void>() {
+
+					public Void call() throws Exception {
+						for (int j = 0; j < _INCREMENT_COUNT; j++) {
+							long value = CounterLocalServiceUtil.increment(
+								name);
+
+							assertTrue(values.add(value));
+						}
+
+						return null;
+					}
+
+				};
+
+				futures.add(executorService.submit(callable));
+			}
+
+			for (Future<Void> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		assertEquals(_THREAD_COUNT * _INCREMENT_COUNT, values.size());
+	}
+
+	public void testIncrementAcrossRanges() throws Exception {
+		String name = CounterLocalServiceTest.class.getName() + nextLong();
+
+		long previousValue = CounterLocalServiceUtil.increment(name);
+
+		for (int i = 0; i < _INCREMENT_COUNT; i++) {
+			long value = CounterLocalServiceUtil.increment(name);
+
+			assertEquals(previousValue + 1, value);
+
+			previousValue = value;
+		}
+	}
+
+	private static final int _INCREMENT_COUNT = 1000;
+
+	private static final int _THREAD_COUNT = 10;
+
 }
\ No newline at end of file
@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
 import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -112,6 +117,22 @@ public class CounterPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingCounter);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Counter newCounter = addCounter();
+
+		String pk = randomString();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newCounter.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Counter> counters = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, counters.size());
+		assertEquals(newCounter, counters.get(newCounter.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Counter newCounter = addCounter();
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.memory;
+
+import com.liferay.portal.kernel.test.TestCase;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class MemoryPortalCacheTest extends TestCase {
+
+	public void testExpiration() throws Exception {
+		MemoryPortalCache memoryPortalCache = new MemoryPortalCache(
+			"test", 16);
+
+		memoryPortalCache.put("key", "value", 1);
+
+		assertEquals("value", memoryPortalCache.get("key"));
+
+		Thread.sleep(1100);
+
+		assertNull(memoryPortalCache.get("key"));
+		assertEquals(0, memoryPortalCache.getSize());
+		assertEquals(1, memoryPortalCache.getExpirationCount());
+	}
+
+	public void testMaxEntries() {
+		MemoryPortalCacheConfiguration memoryPortalCacheConfiguration =
+			new MemoryPortalCacheConfiguration();
+
+		memoryPortalCacheConfiguration.setEvictionPolicy(
+			new LFUEvictionPolicy());
+		memoryPortalCacheConfiguration.setMaxEntries(4);
+
+		MemoryPortalCache memoryPortalCache = new MemoryPortalCache(
+			"test", 16, memoryPortalCacheConfiguration);
+
+		for (int i = 0; i < 4; i++) {
+			memoryPortalCache.put(i, i);
+		}
+
+		for (int i = 1; i < 4; i++) {
+			assertEquals(i, memoryPortalCache.get(i));
+		}
+
+		memoryPortalCache.put(4, 4);
+
+		assertEquals(4, memoryPortalCache.getSize());
+		assertEquals(1, memoryPortalCache.getEvictionCount());
+		assertNull(memoryPortalCache.get(0));
+
+		for (int i = 1; i < 5; i++) {
+			assertEquals(i, memoryPortalCache.get(i));
+		}
+
+		assertEquals(7, memoryPortalCache.getHitCount());
+		assertEquals(1, memoryPortalCache.getMissCount());
+	}
+
+	public void testMaxWeight() {
+		MemoryPortalCacheConfiguration memoryPortalCacheConfiguration =
+			new MemoryPortalCacheConfiguration();
+
+		memoryPortalCacheConfiguration.setMaxWeight(2048);
+
+		MemoryPortalCache memoryPortalCache = new MemoryPortalCache(
+			"test", 16, memoryPortalCacheConfiguration);
+
+		memoryPortalCache.put("key1", new byte[1024]);
+
+		assertEquals(1, memoryPortalCache.getSize());
+
+		memoryPortalCache.put("key2", new byte[1024]);
+
+		assertEquals(1, memoryPortalCache.getSize());
+		assertTrue(memoryPortalCache.getWeight() <= 2048);
+
+		memoryPortalCache.remove("key1");
+		memoryPortalCache.remove("key2");
+
+		assertEquals(0, memoryPortalCache.getWeight());
+	}
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import com.liferay.portal.kernel.test.TestCase;
+
+import java.util.Arrays;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class OffHeapStoreTest extends TestCase {
+
+	public void testOverwriteOldestEntries() {
+		OffHeapStore offHeapStore = new OffHeapStore(64, 16);
+
+		for (int i = 0; i < 8; i++) {
+			assertTrue(offHeapStore.put(String.valueOf(i), _getBytes(i), 0));
+		}
+
+		for (int i = 0; i < 8; i++) {
+			assertTrue(
+				Arrays.equals(
+					_getBytes(i), offHeapStore.get(String.valueOf(i))));
+		}
+
+		assertTrue(offHeapStore.put("8", _getBytes(8), 0));
+
+		assertNull(offHeapStore.get("0"));
+		assertTrue(Arrays.equals(_getBytes(1), offHeapStore.get("1")));
+		assertTrue(Arrays.equals(_getBytes(8), offHeapStore.get("8")));
+	}
+
+	public void testPutAndRemove() {
+		OffHeapStore offHeapStore = new OffHeapStore(1024, 256);
+
+		assertTrue(offHeapStore.put("key", _getBytes(1), 0));
+		assertTrue(Arrays.equals(_getBytes(1), offHeapStore.get("key")));
+
+		assertTrue(offHeapStore.put("key", _getBytes(2), 0));
+		assertTrue(Arrays.equals(_getBytes(2), offHeapStore.get("key")));
+
+		offHeapStore.remove("key");
+
+		assertNull(offHeapStore.get("key"));
+
+		assertFalse(offHeapStore.put("key", new byte[257], 0));
+		assertNull(offHeapStore.get("key"));
+
+		assertTrue(
+			offHeapStore.put(
+				"key", _getBytes(3), System.currentTimeMillis() - 1));
+		assertNull(offHeapStore.get("key"));
+	}
+
+	private byte[] _getBytes(int i) {
+		byte[] bytes = new byte[8];
+
+		Arrays.fill(bytes, (byte)i);
+
+		return bytes;
+	}
+
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+import com.liferay.portal.kernel.test.TestCase;
+
+import java.io.Serializable;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class OffHeapTieredPortalCacheTest extends TestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		_heapPortalCache = new RacingPortalCache();
+		_offHeapStore = new OffHeapStore(1024, 256);
+
+		_offHeapTieredPortalCache = new OffHeapTieredPortalCache(
+			_heapPortalCache, _offHeapStore);
+	}
+
+	public void testGetPromotesOffHeapValue() {
+		_offHeapTieredPortalCache.put(_KEY, "value");
+
+		_evictFromHeap();
+
+		assertEquals("value", _offHeapTieredPortalCache.get(_KEY));
+		assertEquals("value", _heapPortalCache.get(_KEY));
+	}
+
+	public void testPromotionRacingPut() {
+		_offHeapTieredPortalCache.put(_KEY, "old");
+
+		_evictFromHeap();
+
+		_heapPortalCache.setRacingRunnable(
+			new Runnable() {
+
+				public void run() {
+					_offHeapTieredPortalCache.put(_KEY, "new");
+				}
+
+			});
+
+		_offHeapTieredPortalCache.get(_KEY);
+
+		assertFalse("old".equals(_heapPortalCache.get(_KEY)));
+		assertFalse("old".equals(_offHeapTieredPortalCache.get(_KEY)));
+	}
+
+	public void testPromotionRacingRemove() {
+		_offHeapTieredPortalCache.put(_KEY, "value");
+
+		_evictFromHeap();
+
+		// A replicated remove of a key that is not on the heap only reaches
+		// the off heap tier through the invalidation listener
+
+		_heapPortalCache.setRacingRunnable(
+			new Runnable() {
+
+				public void run() {
+					_offHeapStore.remove(_KEY);
+				}
+
+			});
+
+		_offHeapTieredPortalCache.get(_KEY);
+
+		assertNull(_heapPortalCache.get(_KEY));
+		assertNull(_offHeapTieredPortalCache.get(_KEY));
+	}
+
+	public void testRemove() {
+		_offHeapTieredPortalCache.put(_KEY, "value");
+
+		_heapPortalCache.remove(_KEY);
+
+		assertNull(_offHeapStore.get(_KEY));
+		assertNull(_offHeapTieredPortalCache.get(_KEY));
+	}
+
+	public void testRemoveAll() {
+		_offHeapTieredPortalCache.put(_KEY, "value");
+
+		_heapPortalCache.removeAll();
+
+		assertNull(_offHeapStore.get(_KEY));
+		assertNull(_offHeapTieredPortalCache.get(_KEY));
+	}
+
+	private void _evictFromHeap() {
+
+		// Evictions are not applied to the off heap tier
+
+		_heapPortalCache.unregisterCacheListeners();
+
+		_heapPortalCache.remove(_KEY);
+
+		_offHeapTieredPortalCache.unregisterCacheListeners();
+	}
+
+	private static final String _KEY = "key";
+
+	private RacingPortalCache _heapPortalCache;
+	private OffHeapStore _offHeapStore;
+	private OffHeapTieredPortalCache _offHeapTieredPortalCache;
+
+	private class RacingPortalCache extends MemoryPortalCache {
+
+		public RacingPortalCache() {
+			super("test", 16);
+		}
+
+		@Override
+		public void put(Serializable key, Object value) {
+			super.put(key, value);
+
+			Runnable racingRunnable = _racingRunnable;
+
+			_racingRunnable = null;
+
+			if (racingRunnable != null) {
+				racingRunnable.run();
+			}
+		}
+
+		public void setRacingRunnable(Runnable racingRunnable) {
+			_racingRunnable = racingRunnable;
+		}
+
+		private Runnable _racingRunnable;
+
+	}
+
+}
\ No newline at end of file
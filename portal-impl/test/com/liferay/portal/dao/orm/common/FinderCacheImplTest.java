@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.dao.orm.common;
+
+import com.liferay.portal.cache.memory.MemoryPortalCache;
+import com.liferay.portal.kernel.cache.MultiVMPool;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.util.BaseTestCase;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class FinderCacheImplTest extends BaseTestCase {
+
+	public void setUp() throws Exception {
+		Map<String, List<ReplicatedPortalCache>> cluster =
+			new HashMap<String, List<ReplicatedPortalCache>>();
+
+		_finderCacheImpl1 = new FinderCacheImpl();
+
+		_finderCacheImpl1.setMultiVMPool(new ClusteredMultiVMPool(cluster));
+
+		_finderCacheImpl2 = new FinderCacheImpl();
+
+		_finderCacheImpl2.setMultiVMPool(new ClusteredMultiVMPool(cluster));
+	}
+
+	public void tearDown() throws Exception {
+		_finderCacheImpl1.clearLocalCache();
+		_finderCacheImpl2.clearLocalCache();
+	}
+
+	public void testClearEntityCacheAcrossNodes() {
+		_finderCacheImpl1.putResult(_FETCH_FINDER_PATH, _ARGS, _RESULT);
+		_finderCacheImpl2.putResult(_FETCH_FINDER_PATH, _ARGS, _RESULT);
+
+		_finderCacheImpl1.clearCache(_ENTITY_CLASS_NAME);
+
+		_finderCacheImpl2.clearLocalCache();
+
+		assertNull(
+			_finderCacheImpl2.getResult(_FETCH_FINDER_PATH, _ARGS, null));
+	}
+
+	public void testClearListCacheAcrossNodes() {
+		_finderCacheImpl1.putResult(_FIND_FINDER_PATH, _ARGS, _RESULT);
+		_finderCacheImpl2.putResult(_FIND_FINDER_PATH, _ARGS, _RESULT);
+
+		_finderCacheImpl1.clearCache(_LIST_CLASS_NAME);
+
+		_finderCacheImpl2.clearLocalCache();
+
+		assertNull(_finderCacheImpl2.getResult(_FIND_FINDER_PATH, _ARGS, null));
+	}
+
+	public void testClearListCacheKeepsEntityCache() {
+		_finderCacheImpl1.putResult(_FETCH_FINDER_PATH, _ARGS, _RESULT);
+		_finderCacheImpl1.putResult(_FIND_FINDER_PATH, _ARGS, _RESULT);
+
+		_finderCacheImpl1.clearCache(_LIST_CLASS_NAME);
+
+		assertEquals(
+			_RESULT,
+			_finderCacheImpl1.getResult(_FETCH_FINDER_PATH, _ARGS, null));
+		assertNull(_finderCacheImpl1.getResult(_FIND_FINDER_PATH, _ARGS, null));
+
+		_finderCacheImpl1.putResult(_FIND_FINDER_PATH, _ARGS, _RESULT);
+
+		assertEquals(
+			_RESULT,
+			_finderCacheImpl1.getResult(_FIND_FINDER_PATH, _ARGS, null));
+	}
+
+	public void testClearListCacheTwiceAcrossNodes() {
+		_finderCacheImpl1.putResult(_FIND_FINDER_PATH, _ARGS, _RESULT);
+		_finderCacheImpl2.putResult(_FIND_FINDER_PATH, _ARGS, _RESULT);
+
+		_finderCacheImpl1.clearCache(_LIST_CLASS_NAME);
+
+		_finderCacheImpl1.putResult(_FIND_FINDER_PATH, _ARGS, _RESULT);
+		_finderCacheImpl2.putResult(_FIND_FINDER_PATH, _ARGS, _RESULT);
+
+		_finderCacheImpl2.clearCache(_LIST_CLASS_NAME);
+
+		_finderCacheImpl1.clearLocalCache();
+
+		assertNull(_finderCacheImpl1.getResult(_FIND_FINDER_PATH, _ARGS, null));
+	}
+
+	public void testRemoveResultAcrossNodes() {
+		_finderCacheImpl1.putResult(_FETCH_FINDER_PATH, _ARGS, _RESULT);
+		_finderCacheImpl2.putResult(_FETCH_FINDER_PATH, _ARGS, _RESULT);
+
+		_finderCacheImpl1.removeResult(_FETCH_FINDER_PATH, _ARGS);
+
+		_finderCacheImpl2.clearLocalCache();
+
+		assertNull(
+			_finderCacheImpl2.getResult(_FETCH_FINDER_PATH, _ARGS, null));
+	}
+
+	private static final Object[] _ARGS = new Object[] {"name"};
+
+	private static final String _ENTITY_CLASS_NAME =
+		"com.liferay.portal.model.impl.TestModelImpl";
+
+	private static final FinderPath _FETCH_FINDER_PATH = new FinderPath(
+		false, true, String.class, _ENTITY_CLASS_NAME, "fetchByName",
+		new String[] {String.class.getName()});
+
+	private static final FinderPath _FIND_FINDER_PATH = new FinderPath(
+		false, true, String.class, FinderCacheImplTest._LIST_CLASS_NAME,
+		"findByName", new String[] {String.class.getName()});
+
+	private static final String _LIST_CLASS_NAME =
+		_ENTITY_CLASS_NAME + ".List";
+
+	private static final String _RESULT = "result";
+
+	private FinderCacheImpl _finderCacheImpl1;
+	private FinderCacheImpl _finderCacheImpl2;
+
+	private class ClusteredMultiVMPool implements MultiVMPool {
+
+		public ClusteredMultiVMPool(
+			Map<String, List<ReplicatedPortalCache>> cluster) {
+
+			_cluster = cluster;
+		}
+
+		public void clear() {
+			throw new UnsupportedOperationException();
+		}
+
+		public void clear(String name) {
+			throw new UnsupportedOperationException();
+		}
+
+		public Object get(PortalCache portalCache, String key) {
+			throw new UnsupportedOperationException();
+		}
+
+		public Object get(String name, String key) {
+			throw new UnsupportedOperationException();
+		}
+
+		public PortalCache getCache(String name) {
+			return getCache(name, false);
+		}
+
+		public PortalCache getCache(String name, boolean blocking) {
+			PortalCache portalCache = _portalCaches.get(name);
+
+			if (portalCache != null) {
+				return portalCache;
+			}
+
+			List<ReplicatedPortalCache> replicatedPortalCaches =
+				_cluster.get(name);
+
+			if (replicatedPortalCaches == null) {
+				replicatedPortalCaches = new ArrayList<ReplicatedPortalCache>();
+
+				_cluster.put(name, replicatedPortalCaches);
+			}
+
+			ReplicatedPortalCache replicatedPortalCache =
+				new ReplicatedPortalCache(name, replicatedPortalCaches);
+
+			replicatedPortalCaches.add(replicatedPortalCache);
+
+			_portalCaches.put(name, replicatedPortalCache);
+
+			return replicatedPortalCache;
+		}
+
+		public void put(PortalCache portalCache, String key, Object value) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void put(
+			PortalCache portalCache, String key, Serializable value) {
+
+			throw new UnsupportedOperationException();
+		}
+
+		public void put(String name, String key, Object value) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void put(String name, String key, Serializable value) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove(PortalCache portalCache, String key) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void remove(String name, String key) {
+			throw new UnsupportedOperationException();
+		}
+
+		public void removeCache(String name) {
+			_portalCaches.remove(name);
+		}
+
+		private Map<String, List<ReplicatedPortalCache>> _cluster;
+		private Map<String, PortalCache> _portalCaches =
+			new HashMap<String, PortalCache>();
+
+	}
+
+	/**
+	 * Replicates removes to the caches of the same name on the other nodes
+	 * while puts stay local, the same as the default cluster configuration.
+	 */
+	private class ReplicatedPortalCache extends MemoryPortalCache {
+
+		public ReplicatedPortalCache(
+			String name, List<ReplicatedPortalCache> replicatedPortalCaches) {
+
+			super(name, 16);
+
+			_replicatedPortalCaches = replicatedPortalCaches;
+		}
+
+		public void remove(Serializable key) {
+			for (ReplicatedPortalCache replicatedPortalCache :
+					_replicatedPortalCaches) {
+
+				replicatedPortalCache._removeLocal(key);
+			}
+		}
+
+		public void removeAll() {
+			for (ReplicatedPortalCache replicatedPortalCache :
+					_replicatedPortalCaches) {
+
+				replicatedPortalCache._removeAllLocal();
+			}
+		}
+
+		private void _removeAllLocal() {
+			super.removeAll();
+		}
+
+		private void _removeLocal(Serializable key) {
+			super.remove(key);
+		}
+
+		private List<ReplicatedPortalCache> _replicatedPortalCaches;
+
+	}
+
+}
\ No newline at end of file
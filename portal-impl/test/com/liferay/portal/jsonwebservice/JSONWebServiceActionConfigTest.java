@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.jsonwebservice;
+
+import com.liferay.portal.util.BaseTestCase;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class JSONWebServiceActionConfigTest extends BaseTestCase {
+
+	public void testConvertParameterValue() throws Exception {
+		JSONWebServiceActionConfig jsonWebServiceActionConfig =
+			_createJSONWebServiceActionConfig("convert");
+
+		assertEquals(
+			Byte.valueOf((byte)3),
+			jsonWebServiceActionConfig.convertParameterValue(
+				0, Integer.valueOf(3)));
+		assertEquals(
+			Double.valueOf(2.5),
+			jsonWebServiceActionConfig.convertParameterValue(
+				1, Double.valueOf(2.5)));
+		assertEquals(
+			Double.valueOf(1L << 40),
+			jsonWebServiceActionConfig.convertParameterValue(
+				1, Long.valueOf(1L << 40)));
+		assertEquals(
+			Double.valueOf(2.5),
+			jsonWebServiceActionConfig.convertParameterValue(1, "2.5"));
+		assertEquals(
+			Float.valueOf(1.5F),
+			jsonWebServiceActionConfig.convertParameterValue(
+				2, Double.valueOf(1.5)));
+		assertEquals(
+			Integer.valueOf(7),
+			jsonWebServiceActionConfig.convertParameterValue(
+				3, Long.valueOf(7)));
+		assertEquals(
+			Long.valueOf(10000000000L),
+			jsonWebServiceActionConfig.convertParameterValue(
+				4, Double.valueOf(1.0E10)));
+		assertEquals(
+			Long.valueOf(5),
+			jsonWebServiceActionConfig.convertParameterValue(4, " 5 "));
+		assertEquals(
+			Short.valueOf((short)9),
+			jsonWebServiceActionConfig.convertParameterValue(
+				5, Integer.valueOf(9)));
+	}
+
+	public void testInvoke() throws Exception {
+		JSONWebServiceActionConfig addJSONWebServiceActionConfig =
+			_createJSONWebServiceActionConfig("add");
+		JSONWebServiceActionConfig convertJSONWebServiceActionConfig =
+			_createJSONWebServiceActionConfig("convert");
+
+		assertEquals(
+			Long.valueOf(5),
+			addJSONWebServiceActionConfig.invoke(
+				new Object[] {Long.valueOf(2), Long.valueOf(3)}));
+		assertEquals(
+			"1 2.5 3.5 4 5 6",
+			convertJSONWebServiceActionConfig.invoke(
+				new Object[] {
+					Byte.valueOf((byte)1), Double.valueOf(2.5),
+					Float.valueOf(3.5F), Integer.valueOf(4), Long.valueOf(5),
+					Short.valueOf((short)6)
+				}));
+	}
+
+	public static class TestService {
+
+		public static long add(long value1, long value2) {
+			return value1 + value2;
+		}
+
+		public static String convert(
+			byte byteValue, double doubleValue, float floatValue, int intValue,
+			Long longValue, short shortValue) {
+
+			return byteValue + " " + doubleValue + " " + floatValue + " " +
+				intValue + " " + longValue + " " + shortValue;
+		}
+
+	}
+
+	private JSONWebServiceActionConfig _createJSONWebServiceActionConfig(
+		String name) {
+
+		for (Method method : TestService.class.getDeclaredMethods()) {
+			if (name.equals(method.getName())) {
+				return new JSONWebServiceActionConfig(
+					TestService.class, method, "/test/" + name, "GET");
+			}
+		}
+
+		throw new IllegalArgumentException("No method " + name);
+	}
+
+}
\ No newline at end of file
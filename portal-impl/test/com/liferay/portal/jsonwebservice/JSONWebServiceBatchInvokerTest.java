@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.jsonwebservice;
+
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.jsonwebservice.JSONWebServiceActionsManagerUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.model.ClassName;
+import com.liferay.portal.security.auth.CompanyThreadLocal;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionThreadLocal;
+import com.liferay.portal.service.BaseServiceTestCase;
+import com.liferay.portal.service.ClassNameLocalServiceUtil;
+import com.liferay.portal.service.UserLocalServiceUtil;
+import com.liferay.portal.service.persistence.ClassNameUtil;
+import com.liferay.portal.util.TestPropsValues;
+
+import java.io.StringWriter;
+
+import java.lang.reflect.Method;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class JSONWebServiceBatchInvokerTest extends BaseServiceTestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		CompanyThreadLocal.setCompanyId(TestPropsValues.COMPANY_ID);
+
+		_registerJSONWebServiceActions();
+	}
+
+	public void testGuest() throws Exception {
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+
+		PermissionThreadLocal.setPermissionChecker(null);
+
+		try {
+			JSONArray jsonArray = _invoke(
+				"{\"parallel\": true, \"calls\": [" +
+					"{\"path\": \"" + _PATH + "/get-user-id\"}," +
+						"{\"path\": \"" + _PATH + "/get-user-id\"}]}");
+
+			long defaultUserId = UserLocalServiceUtil.getDefaultUserId(
+				TestPropsValues.COMPANY_ID);
+
+			assertEquals(defaultUserId, jsonArray.getLong(0));
+			assertEquals(defaultUserId, jsonArray.getLong(1));
+
+			assertNull(PermissionThreadLocal.getPermissionChecker());
+		}
+		finally {
+			PermissionThreadLocal.setPermissionChecker(permissionChecker);
+		}
+	}
+
+	public void testReferences() throws Exception {
+		JSONArray jsonArray = _invoke(
+			"[{\"name\": \"bean\", \"path\": \"" + _PATH + "/get-bean\", " +
+				"\"parameters\": {\"id\": 5}}," +
+			"{\"path\": \"" + _PATH + "/echo\", " +
+				"\"parameters\": {\"value\": \"$bean.id\"}}," +
+			"{\"path\": \"" + _PATH + "/echo\", " +
+				"\"parameters\": {\"value\": \"$0.id\"}}," +
+			"{\"path\": \"" + _PATH + "/echo\", " +
+				"\"parameters\": {\"value\": \"$0.secret\"}}]");
+
+		assertEquals(5, jsonArray.getLong(1));
+		assertEquals(5, jsonArray.getLong(2));
+
+		JSONObject jsonObject = jsonArray.getJSONObject(3);
+
+		assertTrue(jsonObject.has("exception"));
+	}
+
+	public void testRollback() throws Exception {
+		String value = JSONWebServiceBatchInvokerTest.class.getName() + "#" +
+			nextLong();
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject(
+			_invokeString(
+				"{\"transactional\": true, \"calls\": [" +
+					"{\"path\": \"" + _PATH + "/add-class-name\", " +
+						"\"parameters\": {\"value\": \"" + value + "\"}}," +
+					"{\"path\": \"" + _PATH + "/throw-exception\", " +
+						"\"parameters\": {\"message\": \"rollback\"}}]}"));
+
+		assertTrue(jsonObject.has("exception"));
+
+		ClassNameUtil.clearCache();
+
+		assertNull(ClassNameUtil.fetchByValue(value));
+	}
+
+	public static class Bean {
+
+		public Bean(long id) {
+			_id = id;
+		}
+
+		public long getId() {
+			return _id;
+		}
+
+		protected long getSecret() {
+			return _id;
+		}
+
+		private long _id;
+
+	}
+
+	public static class TestService {
+
+		public static ClassName addClassName(String value) throws Exception {
+			return ClassNameLocalServiceUtil.addClassName(value);
+		}
+
+		public static long echo(long value) {
+			return value;
+		}
+
+		public static Bean getBean(long id) {
+			return new Bean(id);
+		}
+
+		public static long getUserId() {
+			PermissionChecker permissionChecker =
+				PermissionThreadLocal.getPermissionChecker();
+
+			return permissionChecker.getUserId();
+		}
+
+		public static void throwException(String message) throws Exception {
+			throw new Exception(message);
+		}
+
+	}
+
+	private JSONArray _invoke(String batch) throws Exception {
+		return JSONFactoryUtil.createJSONArray(_invokeString(batch));
+	}
+
+	private String _invokeString(String batch) throws Exception {
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest("POST", "/api/jsonws/batch");
+
+		mockHttpServletRequest.setContent(batch.getBytes(StringPool.UTF8));
+
+		JSONWebServiceBatchInvoker jsonWebServiceBatchInvoker =
+			new JSONWebServiceBatchInvoker(mockHttpServletRequest);
+
+		StringWriter stringWriter = new StringWriter();
+
+		jsonWebServiceBatchInvoker.invoke(stringWriter);
+
+		return stringWriter.toString();
+	}
+
+	private void _registerJSONWebServiceAction(String path, String name) {
+		for (Method method : TestService.class.getDeclaredMethods()) {
+			if (name.equals(method.getName())) {
+				JSONWebServiceActionsManagerUtil.registerJSONWebServiceAction(
+					TestService.class, method, _PATH + path, "POST");
+			}
+		}
+	}
+
+	private void _registerJSONWebServiceActions() {
+		if (_registered) {
+			return;
+		}
+
+		_registerJSONWebServiceAction("/add-class-name", "addClassName");
+		_registerJSONWebServiceAction("/echo", "echo");
+		_registerJSONWebServiceAction("/get-bean", "getBean");
+		_registerJSONWebServiceAction("/get-user-id", "getUserId");
+		_registerJSONWebServiceAction("/throw-exception", "throwException");
+
+		_registered = true;
+	}
+
+	private static final String _PATH = "/jsonwebservicebatchinvokertest";
+
+	private static boolean _registered;
+
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.scripting;
+
+import com.liferay.portal.kernel.scripting.BaseScriptingExecutor;
+import com.liferay.portal.kernel.scripting.ScriptStatistics;
+import com.liferay.portal.kernel.scripting.ScriptingException;
+import com.liferay.portal.util.BaseTestCase;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class ScriptingImplTest extends BaseTestCase {
+
+	@Override
+	public void setUp() {
+		_scriptingImpl = new ScriptingImpl();
+
+		_scriptingImpl.addScriptionExecutor(_LANGUAGE, _testScriptingExecutor);
+	}
+
+	public void testScriptStatistics() throws Exception {
+		_scriptingImpl.exec(null, null, _LANGUAGE, "success");
+		_scriptingImpl.exec(null, null, _LANGUAGE, new String("success"));
+
+		try {
+			_scriptingImpl.exec(null, null, _LANGUAGE, "fail");
+
+			fail();
+		}
+		catch (ScriptingException se) {
+		}
+
+		ScriptStatistics successScriptStatistics = null;
+		ScriptStatistics failScriptStatistics = null;
+
+		for (ScriptStatistics scriptStatistics :
+				_scriptingImpl.getScriptStatistics()) {
+
+			assertEquals(_LANGUAGE, scriptStatistics.getLanguage());
+
+			if (scriptStatistics.getScriptExcerpt().equals("success")) {
+				successScriptStatistics = scriptStatistics;
+			}
+			else if (scriptStatistics.getScriptExcerpt().equals("fail")) {
+				failScriptStatistics = scriptStatistics;
+			}
+		}
+
+		assertEquals(2, _scriptingImpl.getScriptStatistics().size());
+
+		assertNotNull(successScriptStatistics);
+		assertEquals(2, successScriptStatistics.getExecutionCount());
+		assertEquals(0, successScriptStatistics.getFailureCount());
+		assertTrue(
+			successScriptStatistics.getScriptKey().startsWith(
+				_LANGUAGE + "#"));
+
+		assertNotNull(failScriptStatistics);
+		assertEquals(1, failScriptStatistics.getExecutionCount());
+		assertEquals(1, failScriptStatistics.getFailureCount());
+	}
+
+	public void testTimeout() throws Exception {
+		long startTime = System.currentTimeMillis();
+
+		try {
+			_scriptingImpl.doEval(
+				_testScriptingExecutor, null, null, null, _LANGUAGE, "block",
+				100);
+
+			fail();
+		}
+		catch (TimeoutException te) {
+		}
+
+		assertTrue((System.currentTimeMillis() - startTime) < 5000);
+
+		// The pool thread is interrupted once the limit is exceeded
+
+		assertTrue(_interruptedCountDownLatch.await(10, TimeUnit.SECONDS));
+	}
+
+	private static final String _LANGUAGE = "test";
+
+	private CountDownLatch _interruptedCountDownLatch = new CountDownLatch(1);
+	private ScriptingImpl _scriptingImpl;
+	private TestScriptingExecutor _testScriptingExecutor =
+		new TestScriptingExecutor();
+
+	private class TestScriptingExecutor extends BaseScriptingExecutor {
+
+		public Map<String, Object> eval(
+				Set<String> allowedClasses, Map<String, Object> inputObjects,
+				Set<String> outputNames, String script)
+			throws ScriptingException {
+
+			if (script.equals("block")) {
+				try {
+					Thread.sleep(60000);
+				}
+				catch (InterruptedException ie) {
+					_interruptedCountDownLatch.countDown();
+				}
+			}
+			else if (script.equals("fail")) {
+				throw new ScriptingException("fail");
+			}
+
+			return null;
+		}
+
+		public String getLanguage() {
+			return _LANGUAGE;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.scripting.javascript;
+
+import com.liferay.mozilla.javascript.Script;
+import com.liferay.portal.util.BaseTestCase;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class JavaScriptExecutorTest extends BaseTestCase {
+
+	@Override
+	public void setUp() {
+		_javaScriptExecutor.clearCache();
+	}
+
+	public void testClearCache() {
+		Script script = _javaScriptExecutor.getCompiledScript("var x = 1;");
+
+		_javaScriptExecutor.clearCache();
+
+		assertNotSame(
+			script, _javaScriptExecutor.getCompiledScript("var x = 1;"));
+	}
+
+	public void testEval() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			Map<String, Object> inputObjects = new HashMap<String, Object>();
+
+			inputObjects.put("x", Integer.valueOf(i));
+
+			Map<String, Object> outputObjects = _javaScriptExecutor.eval(
+				null, inputObjects, Collections.singleton("y"),
+				"var y = 'value' + x;");
+
+			assertEquals("value" + i, String.valueOf(outputObjects.get("y")));
+		}
+	}
+
+	public void testGetCompiledScript() {
+		Script script = _javaScriptExecutor.getCompiledScript("var x = 1;");
+
+		// Scripts are cached by content, not by instance
+
+		assertSame(
+			script,
+			_javaScriptExecutor.getCompiledScript(new String("var x = 1;")));
+
+		assertNotSame(
+			script, _javaScriptExecutor.getCompiledScript("var x = 2;"));
+	}
+
+	private JavaScriptExecutor _javaScriptExecutor = new JavaScriptExecutor();
+
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.search.lucene;
+
+import com.liferay.portal.util.BaseTestCase;
+import com.liferay.portal.util.PropsValues;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class IndexAccessorImplTest extends BaseTestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		_indexAccessorImpl = new IndexAccessorImpl(_TEST_COMPANY_ID);
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		super.tearDown();
+
+		_indexAccessorImpl.delete();
+		_indexAccessorImpl.close();
+	}
+
+	public void testDeleteDocuments() throws Exception {
+		_addDocument("test1");
+		_addDocument("test2");
+
+		_indexAccessorImpl.deleteDocuments(new Term("name", "test1"));
+
+		_assertHits("test1", false);
+		_assertHits("test2", true);
+	}
+
+	public void testGetIndexSearcher() throws Exception {
+		IndexSearcher indexSearcher = _indexAccessorImpl.getIndexSearcher();
+
+		try {
+			if (PropsValues.LUCENE_WRITE_ASYNC_ENABLED) {
+				assertNotSame(IndexSearcher.class, indexSearcher.getClass());
+			}
+			else {
+				assertSame(IndexSearcher.class, indexSearcher.getClass());
+			}
+		}
+		finally {
+			indexSearcher.close();
+		}
+	}
+
+	public void testOptimize() throws Exception {
+		int count = PropsValues.LUCENE_OPTIMIZE_INTERVAL;
+
+		if (count == 0) {
+			count = 1;
+		}
+
+		for (int i = 0; i <= count; i++) {
+			_addDocument("test" + i);
+		}
+
+		for (int i = 0; i <= count; i++) {
+			_assertHits("test" + i, true);
+		}
+	}
+
+	public void testUpdateDocument() throws Exception {
+		_addDocument("test1");
+
+		Document document = new Document();
+
+		document.add(
+			new Field(
+				"name", "test2", Field.Store.YES, Field.Index.NOT_ANALYZED));
+
+		_indexAccessorImpl.updateDocument(new Term("name", "test1"), document);
+
+		_assertHits("test1", false);
+		_assertHits("test2", true);
+	}
+
+	private void _addDocument(String name) throws Exception {
+		Document document = new Document();
+
+		document.add(
+			new Field("name", name, Field.Store.YES, Field.Index.NOT_ANALYZED));
+
+		_indexAccessorImpl.addDocument(document);
+	}
+
+	private void _assertHits(String name, boolean expectHit)
+		throws Exception {
+
+		int expectedHits = 0;
+
+		if (expectHit) {
+			expectedHits = 1;
+		}
+
+		// Queued writes are applied by the writer thread, so wait for them
+		// to become visible to the near real time reader
+
+		long timeout = System.currentTimeMillis() + 10000;
+
+		while (true) {
+			int hits = _getHits(name);
+
+			if ((hits == expectedHits) ||
+				!PropsValues.LUCENE_WRITE_ASYNC_ENABLED ||
+				(System.currentTimeMillis() > timeout)) {
+
+				assertEquals(expectedHits, hits);
+
+				return;
+			}
+
+			Thread.sleep(10);
+		}
+	}
+
+	private int _getHits(String name) throws Exception {
+		IndexSearcher indexSearcher = _indexAccessorImpl.getIndexSearcher();
+
+		try {
+			TopDocs topDocs = indexSearcher.search(
+				new TermQuery(new Term("name", name)), 1);
+
+			return topDocs.totalHits;
+		}
+		finally {
+			indexSearcher.close();
+		}
+	}
+
+	private static final long _TEST_COMPANY_ID = 1001;
+
+	private IndexAccessorImpl _indexAccessorImpl;
+
+}
\ No newline at end of file
@@ -15,6 +15,7 @@
 package com.liferay.portal.service;
 
 import com.liferay.counter.service.CounterLocalServiceTest;
+import com.liferay.portal.jsonwebservice.JSONWebServiceBatchInvokerTest;
 import com.liferay.portlet.bookmarks.service.BookmarksEntryServiceTest;
 import com.liferay.portlet.bookmarks.service.BookmarksFolderServiceTest;
 import com.liferay.portlet.documentlibrary.service.DLAppServiceTest;
@@ -37,6 +38,8 @@ public class ServiceTestSuite extends TestSuite {
 		testSuite.addTestSuite(ResourceLocalServiceTest.class);
 		testSuite.addTestSuite(UserServiceTest.class);
 
+		testSuite.addTestSuite(JSONWebServiceBatchInvokerTest.class);
+
 		testSuite.addTestSuite(BookmarksFolderServiceTest.class);
 		testSuite.addTestSuite(BookmarksEntryServiceTest.class);
 
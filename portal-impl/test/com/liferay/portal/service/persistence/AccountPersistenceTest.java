@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Account;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -158,6 +163,22 @@ public class AccountPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAccount);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Account newAccount = addAccount();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAccount.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Account> accounts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, accounts.size());
+		assertEquals(newAccount, accounts.get(newAccount.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Account newAccount = addAccount();
@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Address;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -163,6 +168,22 @@ public class AddressPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAddress);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Address newAddress = addAddress();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAddress.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Address> addresses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, addresses.size());
+		assertEquals(newAddress, addresses.get(newAddress.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Address newAddress = addAddress();
@@ -25,7 +25,12 @@ import com.liferay.portal.model.impl.BrowserTrackerModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -119,6 +124,22 @@ public class BrowserTrackerPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingBrowserTracker);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		BrowserTracker newBrowserTracker = addBrowserTracker();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBrowserTracker.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, BrowserTracker> browserTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, browserTrackers.size());
+		assertEquals(newBrowserTracker, browserTrackers.get(newBrowserTracker.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		BrowserTracker newBrowserTracker = addBrowserTracker();
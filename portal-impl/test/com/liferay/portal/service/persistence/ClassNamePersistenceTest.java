@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ClassNameModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -115,6 +120,22 @@ public class ClassNamePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingClassName);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ClassName newClassName = addClassName();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newClassName.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ClassName> classNames = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, classNames.size());
+		assertEquals(newClassName, classNames.get(newClassName.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ClassName newClassName = addClassName();
@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.ClusterGroup;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -120,6 +125,22 @@ public class ClusterGroupPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingClusterGroup);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ClusterGroup newClusterGroup = addClusterGroup();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newClusterGroup.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ClusterGroup> clusterGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, clusterGroups.size());
+		assertEquals(newClusterGroup, clusterGroups.get(newClusterGroup.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ClusterGroup newClusterGroup = addClusterGroup();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.CompanyModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,22 @@ public class CompanyPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingCompany);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Company newCompany = addCompany();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newCompany.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Company> companies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, companies.size());
+		assertEquals(newCompany, companies.get(newCompany.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Company newCompany = addCompany();
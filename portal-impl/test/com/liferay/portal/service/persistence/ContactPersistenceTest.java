@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Contact;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -203,6 +208,22 @@ public class ContactPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingContact);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Contact newContact = addContact();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newContact.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Contact> contacts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, contacts.size());
+		assertEquals(newContact, contacts.get(newContact.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Contact newContact = addContact();
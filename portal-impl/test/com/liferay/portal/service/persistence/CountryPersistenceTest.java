@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.CountryModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -129,6 +134,22 @@ public class CountryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingCountry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Country newCountry = addCountry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newCountry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Country> countries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, countries.size());
+		assertEquals(newCountry, countries.get(newCountry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Country newCountry = addCountry();
@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.EmailAddress;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -152,6 +157,22 @@ public class EmailAddressPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingEmailAddress);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		EmailAddress newEmailAddress = addEmailAddress();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newEmailAddress.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, EmailAddress> emailAddresses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, emailAddresses.size());
+		assertEquals(newEmailAddress, emailAddresses.get(newEmailAddress.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		EmailAddress newEmailAddress = addEmailAddress();
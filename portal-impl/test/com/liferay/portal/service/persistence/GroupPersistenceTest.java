@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.GroupModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -152,6 +157,22 @@ public class GroupPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingGroup);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Group newGroup = addGroup();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newGroup.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Group> groups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, groups.size());
+		assertEquals(newGroup, groups.get(newGroup.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Group newGroup = addGroup();
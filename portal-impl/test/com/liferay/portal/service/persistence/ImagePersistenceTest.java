@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Image;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -128,6 +133,22 @@ public class ImagePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingImage);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Image newImage = addImage();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newImage.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Image> images = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, images.size());
+		assertEquals(newImage, images.get(newImage.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Image newImage = addImage();
@@ -25,7 +25,12 @@ import com.liferay.portal.model.impl.LayoutBranchModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -145,6 +150,22 @@ public class LayoutBranchPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingLayoutBranch);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutBranch newLayoutBranch = addLayoutBranch();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutBranch.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, LayoutBranch> layoutBranchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, layoutBranchs.size());
+		assertEquals(newLayoutBranch, layoutBranchs.get(newLayoutBranch.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		LayoutBranch newLayoutBranch = addLayoutBranch();
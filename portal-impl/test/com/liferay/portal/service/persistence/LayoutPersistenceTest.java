@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.LayoutModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -202,6 +207,22 @@ public class LayoutPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingLayout);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Layout newLayout = addLayout();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayout.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Layout> layouts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, layouts.size());
+		assertEquals(newLayout, layouts.get(newLayout.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Layout newLayout = addLayout();
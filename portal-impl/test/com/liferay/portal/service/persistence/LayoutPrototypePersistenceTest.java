@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.LayoutPrototype;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -133,6 +138,22 @@ public class LayoutPrototypePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingLayoutPrototype);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutPrototype newLayoutPrototype = addLayoutPrototype();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutPrototype.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, LayoutPrototype> layoutPrototypes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, layoutPrototypes.size());
+		assertEquals(newLayoutPrototype, layoutPrototypes.get(newLayoutPrototype.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		LayoutPrototype newLayoutPrototype = addLayoutPrototype();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.LayoutRevisionModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -234,6 +239,22 @@ public class LayoutRevisionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingLayoutRevision);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutRevision newLayoutRevision = addLayoutRevision();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutRevision.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, LayoutRevision> layoutRevisions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, layoutRevisions.size());
+		assertEquals(newLayoutRevision, layoutRevisions.get(newLayoutRevision.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		LayoutRevision newLayoutRevision = addLayoutRevision();
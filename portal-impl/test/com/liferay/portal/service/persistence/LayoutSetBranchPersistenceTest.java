@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.LayoutSetBranchModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -155,6 +160,22 @@ public class LayoutSetBranchPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingLayoutSetBranch);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutSetBranch newLayoutSetBranch = addLayoutSetBranch();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutSetBranch.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, LayoutSetBranch> layoutSetBranchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, layoutSetBranchs.size());
+		assertEquals(newLayoutSetBranch, layoutSetBranchs.get(newLayoutSetBranch.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		LayoutSetBranch newLayoutSetBranch = addLayoutSetBranch();
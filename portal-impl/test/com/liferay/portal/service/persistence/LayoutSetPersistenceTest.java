@@ -25,7 +25,12 @@ import com.liferay.portal.model.impl.LayoutSetModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -161,6 +166,22 @@ public class LayoutSetPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingLayoutSet);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutSet newLayoutSet = addLayoutSet();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutSet.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, LayoutSet> layoutSets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, layoutSets.size());
+		assertEquals(newLayoutSet, layoutSets.get(newLayoutSet.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		LayoutSet newLayoutSet = addLayoutSet();
@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.LayoutSetPrototype;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -134,6 +139,22 @@ public class LayoutSetPrototypePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingLayoutSetPrototype);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		LayoutSetPrototype newLayoutSetPrototype = addLayoutSetPrototype();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLayoutSetPrototype.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, LayoutSetPrototype> layoutSetPrototypes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, layoutSetPrototypes.size());
+		assertEquals(newLayoutSetPrototype, layoutSetPrototypes.get(newLayoutSetPrototype.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		LayoutSetPrototype newLayoutSetPrototype = addLayoutSetPrototype();
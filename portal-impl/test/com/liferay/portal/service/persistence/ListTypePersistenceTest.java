@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.ListType;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -115,6 +120,22 @@ public class ListTypePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingListType);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ListType newListType = addListType();
+
+		int pk = nextInt();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newListType.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ListType> listTypes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, listTypes.size());
+		assertEquals(newListType, listTypes.get(newListType.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ListType newListType = addListType();
@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.LockModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -144,6 +149,22 @@ public class LockPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingLock);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Lock newLock = addLock();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newLock.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Lock> locks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, locks.size());
+		assertEquals(newLock, locks.get(newLock.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Lock newLock = addLock();
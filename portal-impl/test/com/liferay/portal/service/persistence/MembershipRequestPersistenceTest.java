@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.MembershipRequest;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -149,6 +154,22 @@ public class MembershipRequestPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMembershipRequest);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MembershipRequest newMembershipRequest = addMembershipRequest();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMembershipRequest.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MembershipRequest> membershipRequests = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, membershipRequests.size());
+		assertEquals(newMembershipRequest, membershipRequests.get(newMembershipRequest.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MembershipRequest newMembershipRequest = addMembershipRequest();
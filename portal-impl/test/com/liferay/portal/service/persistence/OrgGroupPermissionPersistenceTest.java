@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.OrgGroupPermission;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -118,6 +123,23 @@ public class OrgGroupPermissionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingOrgGroupPermission);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		OrgGroupPermission newOrgGroupPermission = addOrgGroupPermission();
+
+		OrgGroupPermissionPK pk = new OrgGroupPermissionPK(nextLong(),
+				nextLong(), nextLong());
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newOrgGroupPermission.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, OrgGroupPermission> orgGroupPermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, orgGroupPermissions.size());
+		assertEquals(newOrgGroupPermission, orgGroupPermissions.get(newOrgGroupPermission.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		OrgGroupPermission newOrgGroupPermission = addOrgGroupPermission();
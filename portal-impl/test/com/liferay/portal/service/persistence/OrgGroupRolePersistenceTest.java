@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.OrgGroupRole;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -117,6 +122,23 @@ public class OrgGroupRolePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingOrgGroupRole);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		OrgGroupRole newOrgGroupRole = addOrgGroupRole();
+
+		OrgGroupRolePK pk = new OrgGroupRolePK(nextLong(), nextLong(),
+				nextLong());
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newOrgGroupRole.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, OrgGroupRole> orgGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, orgGroupRoles.size());
+		assertEquals(newOrgGroupRole, orgGroupRoles.get(newOrgGroupRole.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		OrgGroupRole newOrgGroupRole = addOrgGroupRole();
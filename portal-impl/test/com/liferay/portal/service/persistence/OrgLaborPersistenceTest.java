@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.OrgLabor;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -158,6 +163,22 @@ public class OrgLaborPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingOrgLabor);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		OrgLabor newOrgLabor = addOrgLabor();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newOrgLabor.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, OrgLabor> orgLabors = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, orgLabors.size());
+		assertEquals(newOrgLabor, orgLabors.get(newOrgLabor.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		OrgLabor newOrgLabor = addOrgLabor();
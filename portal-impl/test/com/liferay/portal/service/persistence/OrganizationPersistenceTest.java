@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.OrganizationModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -152,6 +157,22 @@ public class OrganizationPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingOrganization);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Organization newOrganization = addOrganization();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newOrganization.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Organization> organizations = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, organizations.size());
+		assertEquals(newOrganization, organizations.get(newOrganization.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Organization newOrganization = addOrganization();
@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.PasswordPolicyModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -239,6 +244,22 @@ public class PasswordPolicyPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPasswordPolicy);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PasswordPolicy newPasswordPolicy = addPasswordPolicy();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPasswordPolicy.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PasswordPolicy> passwordPolicies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, passwordPolicies.size());
+		assertEquals(newPasswordPolicy, passwordPolicies.get(newPasswordPolicy.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PasswordPolicy newPasswordPolicy = addPasswordPolicy();
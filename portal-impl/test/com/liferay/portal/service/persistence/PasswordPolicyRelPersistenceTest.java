@@ -25,7 +25,12 @@ import com.liferay.portal.model.impl.PasswordPolicyRelModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -124,6 +129,22 @@ public class PasswordPolicyRelPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPasswordPolicyRel);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PasswordPolicyRel newPasswordPolicyRel = addPasswordPolicyRel();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPasswordPolicyRel.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PasswordPolicyRel> passwordPolicyRels = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, passwordPolicyRels.size());
+		assertEquals(newPasswordPolicyRel, passwordPolicyRels.get(newPasswordPolicyRel.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PasswordPolicyRel newPasswordPolicyRel = addPasswordPolicyRel();
@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.PasswordTracker;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -123,6 +128,22 @@ public class PasswordTrackerPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPasswordTracker);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PasswordTracker newPasswordTracker = addPasswordTracker();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPasswordTracker.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PasswordTracker> passwordTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, passwordTrackers.size());
+		assertEquals(newPasswordTracker, passwordTrackers.get(newPasswordTracker.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PasswordTracker newPasswordTracker = addPasswordTracker();
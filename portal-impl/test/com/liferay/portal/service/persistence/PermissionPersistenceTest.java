@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.PermissionModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -124,6 +129,22 @@ public class PermissionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPermission);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Permission newPermission = addPermission();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPermission.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Permission> permissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, permissions.size());
+		assertEquals(newPermission, permissions.get(newPermission.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Permission newPermission = addPermission();
@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Phone;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -144,6 +149,22 @@ public class PhonePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPhone);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Phone newPhone = addPhone();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPhone.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Phone> phones = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, phones.size());
+		assertEquals(newPhone, phones.get(newPhone.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Phone newPhone = addPhone();
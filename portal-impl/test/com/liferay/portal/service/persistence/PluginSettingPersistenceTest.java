@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.PluginSettingModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -132,6 +137,22 @@ public class PluginSettingPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPluginSetting);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PluginSetting newPluginSetting = addPluginSetting();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPluginSetting.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PluginSetting> pluginSettings = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, pluginSettings.size());
+		assertEquals(newPluginSetting, pluginSettings.get(newPluginSetting.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PluginSetting newPluginSetting = addPluginSetting();
@@ -25,7 +25,12 @@ import com.liferay.portal.model.impl.PortalPreferencesModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -123,6 +128,22 @@ public class PortalPreferencesPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPortalPreferences);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PortalPreferences newPortalPreferences = addPortalPreferences();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPortalPreferences.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PortalPreferences> portalPreferenceses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, portalPreferenceses.size());
+		assertEquals(newPortalPreferences, portalPreferenceses.get(newPortalPreferences.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PortalPreferences newPortalPreferences = addPortalPreferences();
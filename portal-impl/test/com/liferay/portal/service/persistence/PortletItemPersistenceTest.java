@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.PortletItemModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -148,6 +153,22 @@ public class PortletItemPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPortletItem);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PortletItem newPortletItem = addPortletItem();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPortletItem.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PortletItem> portletItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, portletItems.size());
+		assertEquals(newPortletItem, portletItems.get(newPortletItem.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PortletItem newPortletItem = addPortletItem();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.PortletModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -123,6 +128,22 @@ public class PortletPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPortlet);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Portlet newPortlet = addPortlet();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPortlet.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Portlet> portlets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, portlets.size());
+		assertEquals(newPortlet, portlets.get(newPortlet.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Portlet newPortlet = addPortlet();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.PortletPreferencesModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -133,6 +138,22 @@ public class PortletPreferencesPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPortletPreferences);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PortletPreferences newPortletPreferences = addPortletPreferences();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPortletPreferences.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PortletPreferences> portletPreferenceses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, portletPreferenceses.size());
+		assertEquals(newPortletPreferences, portletPreferenceses.get(newPortletPreferences.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PortletPreferences newPortletPreferences = addPortletPreferences();
@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.Region;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -120,6 +125,22 @@ public class RegionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingRegion);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Region newRegion = addRegion();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRegion.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Region> regions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, regions.size());
+		assertEquals(newRegion, regions.get(newRegion.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Region newRegion = addRegion();
@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.ReleaseModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,22 @@ public class ReleasePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingRelease);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Release newRelease = addRelease();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRelease.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Release> releases = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, releases.size());
+		assertEquals(newRelease, releases.get(newRelease.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Release newRelease = addRelease();
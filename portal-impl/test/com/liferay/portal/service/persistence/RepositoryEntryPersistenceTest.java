@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.RepositoryEntryModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -128,6 +133,22 @@ public class RepositoryEntryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingRepositoryEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		RepositoryEntry newRepositoryEntry = addRepositoryEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRepositoryEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, RepositoryEntry> repositoryEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, repositoryEntries.size());
+		assertEquals(newRepositoryEntry, repositoryEntries.get(newRepositoryEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		RepositoryEntry newRepositoryEntry = addRepositoryEntry();
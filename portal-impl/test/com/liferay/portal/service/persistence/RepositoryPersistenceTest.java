@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Repository;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -149,6 +154,22 @@ public class RepositoryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingRepository);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Repository newRepository = addRepository();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRepository.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Repository> repositories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, repositories.size());
+		assertEquals(newRepository, repositories.get(newRepository.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Repository newRepository = addRepository();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ResourceActionModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -124,6 +129,22 @@ public class ResourceActionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingResourceAction);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceAction newResourceAction = addResourceAction();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceAction.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ResourceAction> resourceActions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, resourceActions.size());
+		assertEquals(newResourceAction, resourceActions.get(newResourceAction.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ResourceAction newResourceAction = addResourceAction();
@@ -25,7 +25,12 @@ import com.liferay.portal.model.impl.ResourceBlockPermissionModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -125,6 +130,22 @@ public class ResourceBlockPermissionPersistenceTest
 		assertNull(missingResourceBlockPermission);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceBlockPermission newResourceBlockPermission = addResourceBlockPermission();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceBlockPermission.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ResourceBlockPermission> resourceBlockPermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, resourceBlockPermissions.size());
+		assertEquals(newResourceBlockPermission, resourceBlockPermissions.get(newResourceBlockPermission.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ResourceBlockPermission newResourceBlockPermission = addResourceBlockPermission();
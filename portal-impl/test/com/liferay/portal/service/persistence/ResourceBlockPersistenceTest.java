@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ResourceBlockModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -131,6 +136,22 @@ public class ResourceBlockPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingResourceBlock);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceBlock newResourceBlock = addResourceBlock();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceBlock.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ResourceBlock> resourceBlocks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, resourceBlocks.size());
+		assertEquals(newResourceBlock, resourceBlocks.get(newResourceBlock.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ResourceBlock newResourceBlock = addResourceBlock();
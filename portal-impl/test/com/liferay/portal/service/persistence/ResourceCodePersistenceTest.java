@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ResourceCodeModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -122,6 +127,22 @@ public class ResourceCodePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingResourceCode);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceCode newResourceCode = addResourceCode();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceCode.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ResourceCode> resourceCodes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, resourceCodes.size());
+		assertEquals(newResourceCode, resourceCodes.get(newResourceCode.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ResourceCode newResourceCode = addResourceCode();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ResourcePermissionModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -141,6 +146,22 @@ public class ResourcePermissionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingResourcePermission);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourcePermission newResourcePermission = addResourcePermission();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourcePermission.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ResourcePermission> resourcePermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, resourcePermissions.size());
+		assertEquals(newResourcePermission, resourcePermissions.get(newResourcePermission.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ResourcePermission newResourcePermission = addResourcePermission();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ResourceModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -118,6 +123,22 @@ public class ResourcePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingResource);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Resource newResource = addResource();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResource.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Resource> resources = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, resources.size());
+		assertEquals(newResource, resources.get(newResource.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Resource newResource = addResource();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ResourceTypePermissionModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -134,6 +139,22 @@ public class ResourceTypePermissionPersistenceTest
 		assertNull(missingResourceTypePermission);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ResourceTypePermission newResourceTypePermission = addResourceTypePermission();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newResourceTypePermission.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ResourceTypePermission> resourceTypePermissions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, resourceTypePermissions.size());
+		assertEquals(newResourceTypePermission, resourceTypePermissions.get(newResourceTypePermission.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ResourceTypePermission newResourceTypePermission = addResourceTypePermission();
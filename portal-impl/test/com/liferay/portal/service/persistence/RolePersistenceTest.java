@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.RoleModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -135,6 +140,22 @@ public class RolePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingRole);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Role newRole = addRole();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRole.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Role> roles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, roles.size());
+		assertEquals(newRole, roles.get(newRole.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Role newRole = addRole();
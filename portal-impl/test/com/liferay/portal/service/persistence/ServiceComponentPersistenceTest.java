@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ServiceComponentModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -128,6 +133,22 @@ public class ServiceComponentPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingServiceComponent);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ServiceComponent newServiceComponent = addServiceComponent();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newServiceComponent.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ServiceComponent> serviceComponents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, serviceComponents.size());
+		assertEquals(newServiceComponent, serviceComponents.get(newServiceComponent.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ServiceComponent newServiceComponent = addServiceComponent();
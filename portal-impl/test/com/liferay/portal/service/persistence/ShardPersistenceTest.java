@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.ShardModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -120,6 +125,22 @@ public class ShardPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShard);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Shard newShard = addShard();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShard.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Shard> shards = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shards.size());
+		assertEquals(newShard, shards.get(newShard.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Shard newShard = addShard();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.SubscriptionModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -146,6 +151,22 @@ public class SubscriptionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSubscription);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Subscription newSubscription = addSubscription();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSubscription.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Subscription> subscriptions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, subscriptions.size());
+		assertEquals(newSubscription, subscriptions.get(newSubscription.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Subscription newSubscription = addSubscription();
@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.TeamModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,22 @@ public class TeamPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingTeam);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Team newTeam = addTeam();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newTeam.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Team> teams = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, teams.size());
+		assertEquals(newTeam, teams.get(newTeam.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Team newTeam = addTeam();
@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.TicketModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,22 @@ public class TicketPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingTicket);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Ticket newTicket = addTicket();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newTicket.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Ticket> tickets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, tickets.size());
+		assertEquals(newTicket, tickets.get(newTicket.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Ticket newTicket = addTicket();
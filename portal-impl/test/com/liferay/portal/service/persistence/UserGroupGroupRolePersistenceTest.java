@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.UserGroupGroupRole;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -118,6 +123,23 @@ public class UserGroupGroupRolePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingUserGroupGroupRole);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserGroupGroupRole newUserGroupGroupRole = addUserGroupGroupRole();
+
+		UserGroupGroupRolePK pk = new UserGroupGroupRolePK(nextLong(),
+				nextLong(), nextLong());
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserGroupGroupRole.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, UserGroupGroupRole> userGroupGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, userGroupGroupRoles.size());
+		assertEquals(newUserGroupGroupRole, userGroupGroupRoles.get(newUserGroupGroupRole.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		UserGroupGroupRole newUserGroupGroupRole = addUserGroupGroupRole();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.UserGroupModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -139,6 +144,22 @@ public class UserGroupPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingUserGroup);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserGroup newUserGroup = addUserGroup();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserGroup.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, UserGroup> userGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, userGroups.size());
+		assertEquals(newUserGroup, userGroups.get(newUserGroup.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		UserGroup newUserGroup = addUserGroup();
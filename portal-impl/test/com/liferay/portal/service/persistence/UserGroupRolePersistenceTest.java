@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.UserGroupRole;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -117,6 +122,23 @@ public class UserGroupRolePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingUserGroupRole);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserGroupRole newUserGroupRole = addUserGroupRole();
+
+		UserGroupRolePK pk = new UserGroupRolePK(nextLong(), nextLong(),
+				nextLong());
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserGroupRole.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, UserGroupRole> userGroupRoles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, userGroupRoles.size());
+		assertEquals(newUserGroupRole, userGroupRoles.get(newUserGroupRole.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		UserGroupRole newUserGroupRole = addUserGroupRole();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.UserIdMapperModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -127,6 +132,22 @@ public class UserIdMapperPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingUserIdMapper);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserIdMapper newUserIdMapper = addUserIdMapper();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserIdMapper.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, UserIdMapper> userIdMappers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, userIdMappers.size());
+		assertEquals(newUserIdMapper, userIdMappers.get(newUserIdMapper.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		UserIdMapper newUserIdMapper = addUserIdMapper();
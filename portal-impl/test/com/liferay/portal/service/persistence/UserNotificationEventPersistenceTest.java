@@ -23,7 +23,12 @@ import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.model.UserNotificationEvent;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -139,6 +144,22 @@ public class UserNotificationEventPersistenceTest
 		assertNull(missingUserNotificationEvent);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserNotificationEvent newUserNotificationEvent = addUserNotificationEvent();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserNotificationEvent.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, UserNotificationEvent> userNotificationEvents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, userNotificationEvents.size());
+		assertEquals(newUserNotificationEvent, userNotificationEvents.get(newUserNotificationEvent.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		UserNotificationEvent newUserNotificationEvent = addUserNotificationEvent();
@@ -27,7 +27,12 @@ import com.liferay.portal.model.impl.UserModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -242,6 +247,22 @@ public class UserPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingUser);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		User newUser = addUser();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUser.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, User> users = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, users.size());
+		assertEquals(newUser, users.get(newUser.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		User newUser = addUser();
@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.UserTrackerPath;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -123,6 +128,22 @@ public class UserTrackerPathPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingUserTrackerPath);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserTrackerPath newUserTrackerPath = addUserTrackerPath();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserTrackerPath.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, UserTrackerPath> userTrackerPaths = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, userTrackerPaths.size());
+		assertEquals(newUserTrackerPath, userTrackerPaths.get(newUserTrackerPath.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		UserTrackerPath newUserTrackerPath = addUserTrackerPath();
@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.UserTracker;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,22 @@ public class UserTrackerPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingUserTracker);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		UserTracker newUserTracker = addUserTracker();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newUserTracker.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, UserTracker> userTrackers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, userTrackers.size());
+		assertEquals(newUserTracker, userTrackers.get(newUserTracker.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		UserTracker newUserTracker = addUserTracker();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.VirtualHostModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -124,6 +129,22 @@ public class VirtualHostPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingVirtualHost);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		VirtualHost newVirtualHost = addVirtualHost();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newVirtualHost.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, VirtualHost> virtualHosts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, virtualHosts.size());
+		assertEquals(newVirtualHost, virtualHosts.get(newVirtualHost.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		VirtualHost newVirtualHost = addVirtualHost();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.WebDAVPropsModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -136,6 +141,22 @@ public class WebDAVPropsPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingWebDAVProps);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		WebDAVProps newWebDAVProps = addWebDAVProps();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWebDAVProps.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, WebDAVProps> webDAVPropses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, webDAVPropses.size());
+		assertEquals(newWebDAVProps, webDAVPropses.get(newWebDAVProps.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		WebDAVProps newWebDAVProps = addWebDAVProps();
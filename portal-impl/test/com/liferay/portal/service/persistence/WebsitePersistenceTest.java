@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.Website;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -142,6 +147,22 @@ public class WebsitePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingWebsite);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		Website newWebsite = addWebsite();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWebsite.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, Website> websites = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, websites.size());
+		assertEquals(newWebsite, websites.get(newWebsite.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		Website newWebsite = addWebsite();
@@ -26,7 +26,12 @@ import com.liferay.portal.model.impl.WorkflowDefinitionLinkModelImpl;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portal.util.PropsValues;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -160,6 +165,22 @@ public class WorkflowDefinitionLinkPersistenceTest
 		assertNull(missingWorkflowDefinitionLink);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		WorkflowDefinitionLink newWorkflowDefinitionLink = addWorkflowDefinitionLink();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWorkflowDefinitionLink.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, WorkflowDefinitionLink> workflowDefinitionLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, workflowDefinitionLinks.size());
+		assertEquals(newWorkflowDefinitionLink, workflowDefinitionLinks.get(newWorkflowDefinitionLink.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		WorkflowDefinitionLink newWorkflowDefinitionLink = addWorkflowDefinitionLink();
@@ -24,7 +24,12 @@ import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.model.WorkflowInstanceLink;
 import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -149,6 +154,22 @@ public class WorkflowInstanceLinkPersistenceTest extends BasePersistenceTestCase
 		assertNull(missingWorkflowInstanceLink);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		WorkflowInstanceLink newWorkflowInstanceLink = addWorkflowInstanceLink();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWorkflowInstanceLink.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, WorkflowInstanceLink> workflowInstanceLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, workflowInstanceLinks.size());
+		assertEquals(newWorkflowInstanceLink, workflowInstanceLinks.get(newWorkflowInstanceLink.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		WorkflowInstanceLink newWorkflowInstanceLink = addWorkflowInstanceLink();
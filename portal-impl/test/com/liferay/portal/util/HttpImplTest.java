@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.util;
+
+import com.liferay.portal.kernel.util.Http;
+import com.liferay.portal.kernel.util.HttpUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class HttpImplTest extends BaseTestCase {
+
+	public void setUp() throws Exception {
+		_serverSocket = new ServerSocket(
+			0, 50, InetAddress.getByName("127.0.0.1"));
+
+		_serverThread = new Thread(new StubServer());
+
+		_serverThread.setDaemon(true);
+
+		_serverThread.start();
+	}
+
+	public void tearDown() throws Exception {
+		_serverSocket.close();
+
+		_serverThread.join(10000);
+	}
+
+	public void testResponseCache() throws Exception {
+		Http.Options options = _createOptions("/cacheable");
+
+		byte[] bytes = HttpUtil.URLtoByteArray(options);
+
+		assertEquals("cacheable", new String(bytes));
+		assertEquals(1, _requestCount.get());
+
+		bytes[0] = 'X';
+
+		options = _createOptions("/cacheable");
+
+		bytes = HttpUtil.URLtoByteArray(options);
+
+		assertEquals("cacheable", new String(bytes));
+		assertEquals(1, _requestCount.get());
+
+		Http.Response response = options.getResponse();
+
+		assertEquals(200, response.getResponseCode());
+
+		bytes[0] = 'X';
+
+		bytes = HttpUtil.URLtoByteArray(_createOptions("/cacheable"));
+
+		assertEquals("cacheable", new String(bytes));
+		assertEquals(1, _requestCount.get());
+	}
+
+	public void testResponseCacheNoStore() throws Exception {
+		HttpUtil.URLtoByteArray(_createOptions("/no-store"));
+		HttpUtil.URLtoByteArray(_createOptions("/no-store"));
+
+		assertEquals(2, _requestCount.get());
+	}
+
+	public void testStatistics() throws Exception {
+		HttpUtil.URLtoByteArray(_createOptions("/no-store"));
+		HttpUtil.URLtoByteArray(_createOptions("/no-store"));
+
+		Map<String, Http.Statistics> statisticsMap = HttpUtil.getStatistics();
+
+		Http.Statistics statistics = statisticsMap.get(
+			"127.0.0.1:" + _serverSocket.getLocalPort());
+
+		assertNotNull(statistics);
+		assertEquals(0, statistics.getErrorCount());
+		assertEquals(2, statistics.getRequestCount());
+	}
+
+	public void testURLtoByteArrayAsync() throws Exception {
+		final AtomicReference<byte[]> bytesReference =
+			new AtomicReference<byte[]>();
+		final CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		Http.Callback callback = new Http.Callback() {
+
+			public void onCompletion(byte[] bytes, Http.Response response) {
+				bytesReference.set(bytes);
+
+				countDownLatch.countDown();
+			}
+
+			public void onFailure(Exception e) {
+				countDownLatch.countDown();
+			}
+
+		};
+
+		Future<byte[]> future = HttpUtil.URLtoByteArrayAsync(
+			_createOptions("/no-store"), callback);
+
+		byte[] bytes = future.get(10, TimeUnit.SECONDS);
+
+		assertEquals("no-store", new String(bytes));
+
+		assertTrue(countDownLatch.await(10, TimeUnit.SECONDS));
+		assertEquals("no-store", new String(bytesReference.get()));
+	}
+
+	private Http.Options _createOptions(String path) {
+		Http.Options options = new Http.Options();
+
+		options.setLocation(
+			"http://127.0.0.1:" + _serverSocket.getLocalPort() + path);
+
+		return options;
+	}
+
+	private AtomicInteger _requestCount = new AtomicInteger();
+	private ServerSocket _serverSocket;
+	private Thread _serverThread;
+
+	private class StubServer implements Runnable {
+
+		public void run() {
+			while (!_serverSocket.isClosed()) {
+				Socket socket = null;
+
+				try {
+					socket = _serverSocket.accept();
+
+					_serve(socket);
+				}
+				catch (IOException ioe) {
+				}
+				finally {
+					if (socket != null) {
+						try {
+							socket.close();
+						}
+						catch (IOException ioe) {
+						}
+					}
+				}
+			}
+		}
+
+		private String _readRequestLine(InputStream inputStream)
+			throws IOException {
+
+			StringBuilder sb = new StringBuilder();
+
+			int c = -1;
+
+			while ((c = inputStream.read()) != -1) {
+				sb.append((char)c);
+
+				int length = sb.length();
+
+				if ((length >= 4) &&
+					sb.substring(length - 4).equals("\r\n\r\n")) {
+
+					break;
+				}
+			}
+
+			String request = sb.toString();
+
+			int index = request.indexOf("\r\n");
+
+			if (index == -1) {
+				return request;
+			}
+
+			return request.substring(0, index);
+		}
+
+		private void _serve(Socket socket) throws IOException {
+			String requestLine = _readRequestLine(socket.getInputStream());
+
+			_requestCount.incrementAndGet();
+
+			String[] requestParts = requestLine.split(" ");
+
+			String body = requestParts[1].substring(1);
+
+			String cacheControl = "no-store";
+
+			if (body.equals("cacheable")) {
+				cacheControl = "max-age=60";
+			}
+
+			StringBundler sb = new StringBundler(8);
+
+			sb.append("HTTP/1.1 200 OK\r\n");
+			sb.append("Cache-Control: ");
+			sb.append(cacheControl);
+			sb.append("\r\nConnection: close\r\n");
+			sb.append("Content-Length: ");
+			sb.append(body.length());
+			sb.append("\r\nContent-Type: text/plain\r\n\r\n");
+			sb.append(body);
+
+			OutputStream outputStream = socket.getOutputStream();
+
+			outputStream.write(sb.toString().getBytes());
+
+			outputStream.flush();
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.util;
+
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.LayoutConstants;
+import com.liferay.portal.model.impl.LayoutImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class LayoutSetTreeTest extends BaseTestCase {
+
+	public void testGetChildren() {
+		LayoutSetTree layoutSetTree = _getLayoutSetTree();
+
+		List<Layout> layouts = layoutSetTree.getChildren(
+			LayoutConstants.DEFAULT_PARENT_LAYOUT_ID);
+
+		assertEquals(2, layouts.size());
+		assertEquals(1, layouts.get(0).getLayoutId());
+		assertEquals(2, layouts.get(1).getLayoutId());
+
+		layouts = layoutSetTree.getChildren(1);
+
+		assertEquals(2, layouts.size());
+		assertEquals(4, layouts.get(0).getLayoutId());
+		assertEquals(3, layouts.get(1).getLayoutId());
+
+		assertEquals(0, layoutSetTree.getChildrenCount(2));
+		assertTrue(layoutSetTree.getChildren(2).isEmpty());
+	}
+
+	public void testGetFriendlyURLLayout() {
+		LayoutSetTree layoutSetTree = _getLayoutSetTree();
+
+		Layout layout = layoutSetTree.getFriendlyURLLayout("/three");
+
+		assertEquals(3, layout.getLayoutId());
+
+		assertNull(layoutSetTree.getFriendlyURLLayout("/five"));
+	}
+
+	public void testGetLayoutReturnsCopy() {
+		LayoutSetTree layoutSetTree = _getLayoutSetTree();
+
+		Layout layout = layoutSetTree.getLayout(1);
+
+		layout.setFriendlyURL("/changed");
+
+		layout = layoutSetTree.getLayout(1);
+
+		assertEquals("/one", layout.getFriendlyURL());
+	}
+
+	public void testRemoveLayout() {
+		LayoutSetTree layoutSetTree = _getLayoutSetTree();
+
+		LayoutSetTree newLayoutSetTree = layoutSetTree.removeLayout(
+			layoutSetTree.getLayout(4));
+
+		assertEquals(
+			layoutSetTree.getVersion() + 1, newLayoutSetTree.getVersion());
+		assertNull(newLayoutSetTree.getLayout(4));
+		assertNull(newLayoutSetTree.getFriendlyURLLayout("/four"));
+		assertEquals(1, newLayoutSetTree.getChildrenCount(1));
+
+		assertNotNull(layoutSetTree.getLayout(4));
+		assertEquals(2, layoutSetTree.getChildrenCount(1));
+	}
+
+	public void testUpdateLayout() {
+		LayoutSetTree layoutSetTree = _getLayoutSetTree();
+
+		Layout layout = layoutSetTree.getLayout(3);
+
+		layout.setParentLayoutId(2);
+		layout.setFriendlyURL("/two/three");
+
+		LayoutSetTree newLayoutSetTree = layoutSetTree.updateLayout(layout);
+
+		assertEquals(1, newLayoutSetTree.getChildrenCount(1));
+		assertEquals(1, newLayoutSetTree.getChildrenCount(2));
+		assertNull(newLayoutSetTree.getFriendlyURLLayout("/three"));
+		assertEquals(
+			3,
+			newLayoutSetTree.getFriendlyURLLayout("/two/three").getLayoutId());
+
+		assertEquals(2, layoutSetTree.getChildrenCount(1));
+		assertEquals(
+			3, layoutSetTree.getFriendlyURLLayout("/three").getLayoutId());
+
+		layout = _createLayout(5, 1, 0, "/five");
+
+		newLayoutSetTree = newLayoutSetTree.updateLayout(layout);
+
+		assertEquals(
+			layoutSetTree.getVersion() + 2, newLayoutSetTree.getVersion());
+
+		List<Layout> layouts = newLayoutSetTree.getChildren(1);
+
+		assertEquals(2, layouts.size());
+		assertEquals(5, layouts.get(0).getLayoutId());
+		assertEquals(4, layouts.get(1).getLayoutId());
+	}
+
+	private Layout _createLayout(
+		long layoutId, long parentLayoutId, int priority, String friendlyURL) {
+
+		Layout layout = new LayoutImpl();
+
+		layout.setPlid(layoutId + 100);
+		layout.setGroupId(_GROUP_ID);
+		layout.setPrivateLayout(false);
+		layout.setLayoutId(layoutId);
+		layout.setParentLayoutId(parentLayoutId);
+		layout.setFriendlyURL(friendlyURL);
+		layout.setPriority(priority);
+
+		return layout;
+	}
+
+	private LayoutSetTree _getLayoutSetTree() {
+		List<Layout> layouts = new ArrayList<Layout>();
+
+		layouts.add(_createLayout(1, 0, 0, "/one"));
+		layouts.add(_createLayout(2, 0, 1, "/two"));
+		layouts.add(_createLayout(3, 1, 2, "/three"));
+		layouts.add(_createLayout(4, 1, 1, "/four"));
+
+		return new LayoutSetTree(_GROUP_ID, false, layouts);
+	}
+
+	private static final long _GROUP_ID = 10;
+
+}
\ No newline at end of file
@@ -14,10 +14,12 @@
 
 package com.liferay.portal.util;
 
+import com.liferay.portal.dao.orm.common.FinderCacheImplTest;
 import com.liferay.portal.image.ImageProcessorImplTest;
 import com.liferay.portal.servlet.filters.strip.StripFilterTest;
 import com.liferay.portal.xmlrpc.XmlRpcParserTest;
 import com.liferay.portlet.RouterImplTest;
+import com.liferay.portlet.documentlibrary.util.PreviewGenerationSchedulerTest;
 
 import junit.framework.Test;
 import junit.framework.TestSuite;
@@ -31,10 +33,14 @@ public class MiscTestSuite extends TestSuite {
 		TestSuite testSuite = new TestSuite();
 
 		testSuite.addTestSuite(FileImplExtractTest.class);
+		testSuite.addTestSuite(FinderCacheImplTest.class);
 		testSuite.addTestSuite(FileMultiValueMapTest.class);
+		testSuite.addTestSuite(HttpImplTest.class);
 		testSuite.addTestSuite(ImageProcessorImplTest.class);
+		testSuite.addTestSuite(LayoutSetTreeTest.class);
 		testSuite.addTestSuite(MemoryMultiValueMapTest.class);
 		testSuite.addTestSuite(MimeTypesImplTest.class);
+		testSuite.addTestSuite(PreviewGenerationSchedulerTest.class);
 		testSuite.addTestSuite(RouterImplTest.class);
 		testSuite.addTestSuite(StripFilterTest.class);
 		testSuite.addTestSuite(XmlRpcParserTest.class);
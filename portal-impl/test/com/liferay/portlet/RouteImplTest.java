@@ -30,6 +30,53 @@ public class RouteImplTest extends BaseTestCase {
 		InitUtil.initWithSpring();
 	}
 
+	public void testGeneratedImplicitParameter() {
+		Map<String, String> parameters = new HashMap<String, String>();
+
+		parameters.put("p_p_id", "15_INSTANCE_abc");
+
+		Route route = new RouteImpl("/instance/{instanceId}");
+
+		route.addGeneratedParameter("p_p_id", "15_INSTANCE_{instanceId}");
+		route.addImplicitParameter("instanceId", "abc");
+
+		String url = route.parametersToUrl(parameters);
+
+		assertEquals("/instance/abc", url);
+		assertTrue(parameters.isEmpty());
+	}
+
+	public void testNonMatchingImplicitParameter() {
+		Map<String, String> parameters = new HashMap<String, String>();
+
+		parameters.put("action", "edit");
+		parameters.put("id", "1");
+
+		Map<String, String> originalParameters =
+			new HashMap<String, String>(parameters);
+
+		Route route = new RouteImpl("/view/{id:\\d+}");
+
+		route.addImplicitParameter("action", "view");
+
+		String url = route.parametersToUrl(parameters);
+
+		assertNull(url);
+		assertEquals(originalParameters, parameters);
+	}
+
+	public void testNonMatchingPrefix() {
+		Map<String, String> parameters = new HashMap<String, String>();
+
+		Route route = new RouteImpl("/view/{id:\\d+}");
+
+		assertFalse(route.urlToParameters("/edit/1", parameters));
+		assertTrue(parameters.isEmpty());
+
+		assertTrue(route.urlToParameters("/view/1", parameters));
+		assertEquals("1", parameters.get("id"));
+	}
+
 	public void testNonMatchingRoute() {
 		Map<String, String> parameters = new HashMap<String, String>();
 
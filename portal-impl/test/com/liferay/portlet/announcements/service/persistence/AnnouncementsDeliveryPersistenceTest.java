@@ -27,7 +27,12 @@ import com.liferay.portlet.announcements.NoSuchDeliveryException;
 import com.liferay.portlet.announcements.model.AnnouncementsDelivery;
 import com.liferay.portlet.announcements.model.impl.AnnouncementsDeliveryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,22 @@ public class AnnouncementsDeliveryPersistenceTest
 		assertNull(missingAnnouncementsDelivery);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AnnouncementsDelivery newAnnouncementsDelivery = addAnnouncementsDelivery();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAnnouncementsDelivery.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AnnouncementsDelivery> announcementsDeliveries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, announcementsDeliveries.size());
+		assertEquals(newAnnouncementsDelivery, announcementsDeliveries.get(newAnnouncementsDelivery.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AnnouncementsDelivery newAnnouncementsDelivery = addAnnouncementsDelivery();
@@ -25,7 +25,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.announcements.NoSuchEntryException;
 import com.liferay.portlet.announcements.model.AnnouncementsEntry;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -179,6 +184,22 @@ public class AnnouncementsEntryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAnnouncementsEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AnnouncementsEntry newAnnouncementsEntry = addAnnouncementsEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAnnouncementsEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AnnouncementsEntry> announcementsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, announcementsEntries.size());
+		assertEquals(newAnnouncementsEntry, announcementsEntries.get(newAnnouncementsEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AnnouncementsEntry newAnnouncementsEntry = addAnnouncementsEntry();
@@ -27,7 +27,12 @@ import com.liferay.portlet.announcements.NoSuchFlagException;
 import com.liferay.portlet.announcements.model.AnnouncementsFlag;
 import com.liferay.portlet.announcements.model.impl.AnnouncementsFlagModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -130,6 +135,22 @@ public class AnnouncementsFlagPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAnnouncementsFlag);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AnnouncementsFlag newAnnouncementsFlag = addAnnouncementsFlag();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAnnouncementsFlag.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AnnouncementsFlag> announcementsFlags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, announcementsFlags.size());
+		assertEquals(newAnnouncementsFlag, announcementsFlags.get(newAnnouncementsFlag.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AnnouncementsFlag newAnnouncementsFlag = addAnnouncementsFlag();
@@ -28,7 +28,12 @@ import com.liferay.portlet.asset.NoSuchCategoryException;
 import com.liferay.portlet.asset.model.AssetCategory;
 import com.liferay.portlet.asset.model.impl.AssetCategoryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -168,6 +173,22 @@ public class AssetCategoryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAssetCategory);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetCategory newAssetCategory = addAssetCategory();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetCategory.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AssetCategory> assetCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, assetCategories.size());
+		assertEquals(newAssetCategory, assetCategories.get(newAssetCategory.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AssetCategory newAssetCategory = addAssetCategory();
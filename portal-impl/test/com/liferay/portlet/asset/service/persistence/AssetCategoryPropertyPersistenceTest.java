@@ -28,7 +28,12 @@ import com.liferay.portlet.asset.NoSuchCategoryPropertyException;
 import com.liferay.portlet.asset.model.AssetCategoryProperty;
 import com.liferay.portlet.asset.model.impl.AssetCategoryPropertyModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -149,6 +154,22 @@ public class AssetCategoryPropertyPersistenceTest
 		assertNull(missingAssetCategoryProperty);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetCategoryProperty newAssetCategoryProperty = addAssetCategoryProperty();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetCategoryProperty.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AssetCategoryProperty> assetCategoryProperties = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, assetCategoryProperties.size());
+		assertEquals(newAssetCategoryProperty, assetCategoryProperties.get(newAssetCategoryProperty.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AssetCategoryProperty newAssetCategoryProperty = addAssetCategoryProperty();
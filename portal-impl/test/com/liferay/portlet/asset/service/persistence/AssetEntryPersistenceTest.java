@@ -28,7 +28,12 @@ import com.liferay.portlet.asset.NoSuchEntryException;
 import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.asset.model.impl.AssetEntryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -202,6 +207,22 @@ public class AssetEntryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAssetEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetEntry newAssetEntry = addAssetEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AssetEntry> assetEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, assetEntries.size());
+		assertEquals(newAssetEntry, assetEntries.get(newAssetEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AssetEntry newAssetEntry = addAssetEntry();
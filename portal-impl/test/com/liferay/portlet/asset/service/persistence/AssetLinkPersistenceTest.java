@@ -27,7 +27,12 @@ import com.liferay.portlet.asset.NoSuchLinkException;
 import com.liferay.portlet.asset.model.AssetLink;
 import com.liferay.portlet.asset.model.impl.AssetLinkModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,22 @@ public class AssetLinkPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAssetLink);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetLink newAssetLink = addAssetLink();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetLink.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AssetLink> assetLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, assetLinks.size());
+		assertEquals(newAssetLink, assetLinks.get(newAssetLink.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AssetLink newAssetLink = addAssetLink();
@@ -25,7 +25,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.asset.NoSuchTagException;
 import com.liferay.portlet.asset.model.AssetTag;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -137,6 +142,22 @@ public class AssetTagPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAssetTag);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetTag newAssetTag = addAssetTag();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetTag.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AssetTag> assetTags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, assetTags.size());
+		assertEquals(newAssetTag, assetTags.get(newAssetTag.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AssetTag newAssetTag = addAssetTag();
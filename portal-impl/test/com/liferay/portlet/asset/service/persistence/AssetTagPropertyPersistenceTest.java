@@ -28,7 +28,12 @@ import com.liferay.portlet.asset.NoSuchTagPropertyException;
 import com.liferay.portlet.asset.model.AssetTagProperty;
 import com.liferay.portlet.asset.model.impl.AssetTagPropertyModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -148,6 +153,22 @@ public class AssetTagPropertyPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAssetTagProperty);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetTagProperty newAssetTagProperty = addAssetTagProperty();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetTagProperty.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AssetTagProperty> assetTagProperties = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, assetTagProperties.size());
+		assertEquals(newAssetTagProperty, assetTagProperties.get(newAssetTagProperty.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AssetTagProperty newAssetTagProperty = addAssetTagProperty();
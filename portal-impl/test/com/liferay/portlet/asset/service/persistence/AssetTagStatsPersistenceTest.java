@@ -26,7 +26,12 @@ import com.liferay.portlet.asset.NoSuchTagStatsException;
 import com.liferay.portlet.asset.model.AssetTagStats;
 import com.liferay.portlet.asset.model.impl.AssetTagStatsModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -124,6 +129,22 @@ public class AssetTagStatsPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAssetTagStats);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetTagStats newAssetTagStats = addAssetTagStats();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetTagStats.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AssetTagStats> assetTagStatses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, assetTagStatses.size());
+		assertEquals(newAssetTagStats, assetTagStatses.get(newAssetTagStats.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AssetTagStats newAssetTagStats = addAssetTagStats();
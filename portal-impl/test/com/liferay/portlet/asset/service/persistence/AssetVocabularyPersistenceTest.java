@@ -28,7 +28,12 @@ import com.liferay.portlet.asset.NoSuchVocabularyException;
 import com.liferay.portlet.asset.model.AssetVocabulary;
 import com.liferay.portlet.asset.model.impl.AssetVocabularyModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -160,6 +165,22 @@ public class AssetVocabularyPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingAssetVocabulary);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		AssetVocabulary newAssetVocabulary = addAssetVocabulary();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newAssetVocabulary.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, AssetVocabulary> assetVocabularies = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, assetVocabularies.size());
+		assertEquals(newAssetVocabulary, assetVocabularies.get(newAssetVocabulary.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		AssetVocabulary newAssetVocabulary = addAssetVocabulary();
@@ -28,7 +28,12 @@ import com.liferay.portlet.blogs.NoSuchEntryException;
 import com.liferay.portlet.blogs.model.BlogsEntry;
 import com.liferay.portlet.blogs.model.impl.BlogsEntryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -196,6 +201,22 @@ public class BlogsEntryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingBlogsEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		BlogsEntry newBlogsEntry = addBlogsEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBlogsEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, BlogsEntry> blogsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, blogsEntries.size());
+		assertEquals(newBlogsEntry, blogsEntries.get(newBlogsEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		BlogsEntry newBlogsEntry = addBlogsEntry();
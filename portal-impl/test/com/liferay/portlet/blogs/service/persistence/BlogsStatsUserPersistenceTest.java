@@ -27,7 +27,12 @@ import com.liferay.portlet.blogs.NoSuchStatsUserException;
 import com.liferay.portlet.blogs.model.BlogsStatsUser;
 import com.liferay.portlet.blogs.model.impl.BlogsStatsUserModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -146,6 +151,22 @@ public class BlogsStatsUserPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingBlogsStatsUser);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		BlogsStatsUser newBlogsStatsUser = addBlogsStatsUser();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBlogsStatsUser.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, BlogsStatsUser> blogsStatsUsers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, blogsStatsUsers.size());
+		assertEquals(newBlogsStatsUser, blogsStatsUsers.get(newBlogsStatsUser.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		BlogsStatsUser newBlogsStatsUser = addBlogsStatsUser();
@@ -28,7 +28,12 @@ import com.liferay.portlet.bookmarks.NoSuchEntryException;
 import com.liferay.portlet.bookmarks.model.BookmarksEntry;
 import com.liferay.portlet.bookmarks.model.impl.BookmarksEntryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -171,6 +176,22 @@ public class BookmarksEntryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingBookmarksEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		BookmarksEntry newBookmarksEntry = addBookmarksEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBookmarksEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, BookmarksEntry> bookmarksEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, bookmarksEntries.size());
+		assertEquals(newBookmarksEntry, bookmarksEntries.get(newBookmarksEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		BookmarksEntry newBookmarksEntry = addBookmarksEntry();
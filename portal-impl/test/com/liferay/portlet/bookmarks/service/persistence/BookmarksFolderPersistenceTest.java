@@ -28,7 +28,12 @@ import com.liferay.portlet.bookmarks.NoSuchFolderException;
 import com.liferay.portlet.bookmarks.model.BookmarksFolder;
 import com.liferay.portlet.bookmarks.model.impl.BookmarksFolderModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -160,6 +165,22 @@ public class BookmarksFolderPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingBookmarksFolder);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		BookmarksFolder newBookmarksFolder = addBookmarksFolder();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newBookmarksFolder.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, BookmarksFolder> bookmarksFolders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, bookmarksFolders.size());
+		assertEquals(newBookmarksFolder, bookmarksFolders.get(newBookmarksFolder.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		BookmarksFolder newBookmarksFolder = addBookmarksFolder();
@@ -28,7 +28,12 @@ import com.liferay.portlet.calendar.NoSuchEventException;
 import com.liferay.portlet.calendar.model.CalEvent;
 import com.liferay.portlet.calendar.model.impl.CalEventModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -190,6 +195,22 @@ public class CalEventPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingCalEvent);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		CalEvent newCalEvent = addCalEvent();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newCalEvent.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, CalEvent> calEvents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, calEvents.size());
+		assertEquals(newCalEvent, calEvents.get(newCalEvent.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		CalEvent newCalEvent = addCalEvent();
@@ -30,10 +30,15 @@ import com.liferay.portlet.documentlibrary.NoSuchContentException;
 import com.liferay.portlet.documentlibrary.model.DLContent;
 import com.liferay.portlet.documentlibrary.model.impl.DLContentModelImpl;
 
+import java.io.Serializable;
+
 import java.sql.Blob;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -155,6 +160,22 @@ public class DLContentPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDLContent);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLContent newDLContent = addDLContent();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLContent.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLContent> dlContents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlContents.size());
+		assertEquals(newDLContent, dlContents.get(newDLContent.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLContent newDLContent = addDLContent();
@@ -26,7 +26,12 @@ import com.liferay.portlet.documentlibrary.NoSuchFileEntryMetadataException;
 import com.liferay.portlet.documentlibrary.model.DLFileEntryMetadata;
 import com.liferay.portlet.documentlibrary.model.impl.DLFileEntryMetadataModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -137,6 +142,22 @@ public class DLFileEntryMetadataPersistenceTest extends BasePersistenceTestCase
 		assertNull(missingDLFileEntryMetadata);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileEntryMetadata newDLFileEntryMetadata = addDLFileEntryMetadata();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileEntryMetadata.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLFileEntryMetadata> dlFileEntryMetadatas = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlFileEntryMetadatas.size());
+		assertEquals(newDLFileEntryMetadata, dlFileEntryMetadatas.get(newDLFileEntryMetadata.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLFileEntryMetadata newDLFileEntryMetadata = addDLFileEntryMetadata();
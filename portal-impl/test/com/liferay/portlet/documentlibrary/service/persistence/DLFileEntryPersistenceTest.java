@@ -28,7 +28,12 @@ import com.liferay.portlet.documentlibrary.NoSuchFileEntryException;
 import com.liferay.portlet.documentlibrary.model.DLFileEntry;
 import com.liferay.portlet.documentlibrary.model.impl.DLFileEntryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -210,6 +215,22 @@ public class DLFileEntryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDLFileEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileEntry newDLFileEntry = addDLFileEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLFileEntry> dlFileEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlFileEntries.size());
+		assertEquals(newDLFileEntry, dlFileEntries.get(newDLFileEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLFileEntry newDLFileEntry = addDLFileEntry();
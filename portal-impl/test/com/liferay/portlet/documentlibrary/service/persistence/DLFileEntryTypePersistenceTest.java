@@ -25,7 +25,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.documentlibrary.NoSuchFileEntryTypeException;
 import com.liferay.portlet.documentlibrary.model.DLFileEntryType;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -145,6 +150,22 @@ public class DLFileEntryTypePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDLFileEntryType);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileEntryType newDLFileEntryType = addDLFileEntryType();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileEntryType.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLFileEntryType> dlFileEntryTypes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlFileEntryTypes.size());
+		assertEquals(newDLFileEntryType, dlFileEntryTypes.get(newDLFileEntryType.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLFileEntryType newDLFileEntryType = addDLFileEntryType();
@@ -27,7 +27,12 @@ import com.liferay.portlet.documentlibrary.NoSuchFileRankException;
 import com.liferay.portlet.documentlibrary.model.DLFileRank;
 import com.liferay.portlet.documentlibrary.model.impl.DLFileRankModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -131,6 +136,22 @@ public class DLFileRankPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDLFileRank);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileRank newDLFileRank = addDLFileRank();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileRank.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLFileRank> dlFileRanks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlFileRanks.size());
+		assertEquals(newDLFileRank, dlFileRanks.get(newDLFileRank.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLFileRank newDLFileRank = addDLFileRank();
@@ -28,7 +28,12 @@ import com.liferay.portlet.documentlibrary.NoSuchFileShortcutException;
 import com.liferay.portlet.documentlibrary.model.DLFileShortcut;
 import com.liferay.portlet.documentlibrary.model.impl.DLFileShortcutModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -173,6 +178,22 @@ public class DLFileShortcutPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDLFileShortcut);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileShortcut newDLFileShortcut = addDLFileShortcut();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileShortcut.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLFileShortcut> dlFileShortcuts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlFileShortcuts.size());
+		assertEquals(newDLFileShortcut, dlFileShortcuts.get(newDLFileShortcut.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLFileShortcut newDLFileShortcut = addDLFileShortcut();
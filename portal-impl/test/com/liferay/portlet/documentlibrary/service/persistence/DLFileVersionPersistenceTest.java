@@ -28,7 +28,12 @@ import com.liferay.portlet.documentlibrary.NoSuchFileVersionException;
 import com.liferay.portlet.documentlibrary.model.DLFileVersion;
 import com.liferay.portlet.documentlibrary.model.impl.DLFileVersionModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -211,6 +216,22 @@ public class DLFileVersionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDLFileVersion);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFileVersion newDLFileVersion = addDLFileVersion();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFileVersion.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLFileVersion> dlFileVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlFileVersions.size());
+		assertEquals(newDLFileVersion, dlFileVersions.get(newDLFileVersion.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLFileVersion newDLFileVersion = addDLFileVersion();
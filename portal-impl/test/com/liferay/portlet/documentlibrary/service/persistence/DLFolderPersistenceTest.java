@@ -28,7 +28,12 @@ import com.liferay.portlet.documentlibrary.NoSuchFolderException;
 import com.liferay.portlet.documentlibrary.model.DLFolder;
 import com.liferay.portlet.documentlibrary.model.impl.DLFolderModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -167,6 +172,22 @@ public class DLFolderPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDLFolder);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLFolder newDLFolder = addDLFolder();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLFolder.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLFolder> dlFolders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlFolders.size());
+		assertEquals(newDLFolder, dlFolders.get(newDLFolder.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLFolder newDLFolder = addDLFolder();
@@ -27,7 +27,12 @@ import com.liferay.portlet.documentlibrary.NoSuchSyncException;
 import com.liferay.portlet.documentlibrary.model.DLSync;
 import com.liferay.portlet.documentlibrary.model.impl.DLSyncModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -140,6 +145,22 @@ public class DLSyncPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDLSync);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DLSync newDLSync = addDLSync();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDLSync.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DLSync> dlSyncs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, dlSyncs.size());
+		assertEquals(newDLSync, dlSyncs.get(newDLSync.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DLSync newDLSync = addDLSync();
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.util;
+
+import com.liferay.portal.util.BaseTestCase;
+import com.liferay.portal.util.PropsValues;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class PreviewGenerationSchedulerTest extends BaseTestCase {
+
+	public void testReject() throws Exception {
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		long rejectedCount = PreviewGenerationScheduler.getRejectedCount();
+
+		try {
+			int queueMaxSize =
+				PropsValues.DL_FILE_ENTRY_PREVIEW_GENERATION_QUEUE_MAX_SIZE;
+
+			for (int i = 0; i < queueMaxSize; i++) {
+				assertTrue(
+					PreviewGenerationScheduler.schedule(
+						PreviewGenerationScheduler.TYPE_IMAGE, _nextId(),
+						new BlockingRunnable(countDownLatch)));
+			}
+
+			assertFalse(
+				PreviewGenerationScheduler.schedule(
+					PreviewGenerationScheduler.TYPE_IMAGE, _nextId(),
+					new BlockingRunnable(countDownLatch)));
+			assertEquals(
+				rejectedCount + 1,
+				PreviewGenerationScheduler.getRejectedCount());
+		}
+		finally {
+			countDownLatch.countDown();
+		}
+
+		_waitForBacklog();
+	}
+
+	public void testSchedule() throws Exception {
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		long completedCount = PreviewGenerationScheduler.getCompletedCount();
+
+		long fileVersionId = _nextId();
+
+		try {
+			assertTrue(
+				PreviewGenerationScheduler.schedule(
+					PreviewGenerationScheduler.TYPE_PDF, fileVersionId,
+					new BlockingRunnable(countDownLatch)));
+			assertTrue(
+				PreviewGenerationScheduler.isScheduled(
+					PreviewGenerationScheduler.TYPE_PDF, fileVersionId));
+		}
+		finally {
+			countDownLatch.countDown();
+		}
+
+		_waitForBacklog();
+
+		assertFalse(
+			PreviewGenerationScheduler.isScheduled(
+				PreviewGenerationScheduler.TYPE_PDF, fileVersionId));
+		assertEquals(
+			completedCount + 1, PreviewGenerationScheduler.getCompletedCount());
+	}
+
+	public void testScheduleDuplicate() throws Exception {
+		CountDownLatch countDownLatch = new CountDownLatch(1);
+
+		long fileVersionId = _nextId();
+
+		try {
+			assertTrue(
+				PreviewGenerationScheduler.schedule(
+					PreviewGenerationScheduler.TYPE_VIDEO, fileVersionId,
+					new BlockingRunnable(countDownLatch)));
+			assertFalse(
+				PreviewGenerationScheduler.schedule(
+					PreviewGenerationScheduler.TYPE_VIDEO, fileVersionId,
+					new BlockingRunnable(countDownLatch)));
+
+			// The same file version may be pending for another type
+
+			assertTrue(
+				PreviewGenerationScheduler.schedule(
+					PreviewGenerationScheduler.TYPE_AUDIO, fileVersionId,
+					new BlockingRunnable(countDownLatch)));
+		}
+		finally {
+			countDownLatch.countDown();
+		}
+
+		_waitForBacklog();
+
+		assertTrue(
+			PreviewGenerationScheduler.schedule(
+				PreviewGenerationScheduler.TYPE_VIDEO, fileVersionId,
+				new BlockingRunnable(countDownLatch)));
+
+		_waitForBacklog();
+	}
+
+	private long _nextId() {
+		return _id++;
+	}
+
+	private void _waitForBacklog() throws Exception {
+		long timeout = System.currentTimeMillis() + 10000;
+
+		while ((PreviewGenerationScheduler.getBacklogCount() > 0) ||
+			   (PreviewGenerationScheduler.getRunningCount() > 0)) {
+
+			if (System.currentTimeMillis() > timeout) {
+				fail("Preview generation backlog was not drained");
+			}
+
+			Thread.sleep(10);
+		}
+	}
+
+	private static long _id = System.currentTimeMillis();
+
+	private class BlockingRunnable implements Runnable {
+
+		public BlockingRunnable(CountDownLatch countDownLatch) {
+			_countDownLatch = countDownLatch;
+		}
+
+		public void run() {
+			try {
+				_countDownLatch.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ie) {
+			}
+		}
+
+		private CountDownLatch _countDownLatch;
+
+	}
+
+}
\ No newline at end of file
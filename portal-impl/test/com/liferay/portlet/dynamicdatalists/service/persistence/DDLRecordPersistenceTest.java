@@ -28,7 +28,12 @@ import com.liferay.portlet.dynamicdatalists.NoSuchRecordException;
 import com.liferay.portlet.dynamicdatalists.model.DDLRecord;
 import com.liferay.portlet.dynamicdatalists.model.impl.DDLRecordModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -160,6 +165,22 @@ public class DDLRecordPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDDLRecord);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDLRecord newDDLRecord = addDDLRecord();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDLRecord.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DDLRecord> ddlRecords = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ddlRecords.size());
+		assertEquals(newDDLRecord, ddlRecords.get(newDDLRecord.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DDLRecord newDDLRecord = addDDLRecord();
@@ -28,7 +28,12 @@ import com.liferay.portlet.dynamicdatalists.NoSuchRecordSetException;
 import com.liferay.portlet.dynamicdatalists.model.DDLRecordSet;
 import com.liferay.portlet.dynamicdatalists.model.impl.DDLRecordSetModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -165,6 +170,22 @@ public class DDLRecordSetPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDDLRecordSet);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDLRecordSet newDDLRecordSet = addDDLRecordSet();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDLRecordSet.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DDLRecordSet> ddlRecordSets = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ddlRecordSets.size());
+		assertEquals(newDDLRecordSet, ddlRecordSets.get(newDDLRecordSet.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DDLRecordSet newDDLRecordSet = addDDLRecordSet();
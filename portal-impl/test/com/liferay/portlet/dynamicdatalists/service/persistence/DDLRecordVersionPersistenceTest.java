@@ -28,7 +28,12 @@ import com.liferay.portlet.dynamicdatalists.NoSuchRecordVersionException;
 import com.liferay.portlet.dynamicdatalists.model.DDLRecordVersion;
 import com.liferay.portlet.dynamicdatalists.model.impl.DDLRecordVersionModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -172,6 +177,22 @@ public class DDLRecordVersionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDDLRecordVersion);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDLRecordVersion newDDLRecordVersion = addDDLRecordVersion();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDLRecordVersion.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DDLRecordVersion> ddlRecordVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ddlRecordVersions.size());
+		assertEquals(newDDLRecordVersion, ddlRecordVersions.get(newDDLRecordVersion.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DDLRecordVersion newDDLRecordVersion = addDDLRecordVersion();
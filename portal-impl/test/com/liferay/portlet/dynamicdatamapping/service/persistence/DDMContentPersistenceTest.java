@@ -28,7 +28,12 @@ import com.liferay.portlet.dynamicdatamapping.NoSuchContentException;
 import com.liferay.portlet.dynamicdatamapping.model.DDMContent;
 import com.liferay.portlet.dynamicdatamapping.model.impl.DDMContentModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -150,6 +155,22 @@ public class DDMContentPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDDMContent);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMContent newDDMContent = addDDMContent();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMContent.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DDMContent> ddmContents = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ddmContents.size());
+		assertEquals(newDDMContent, ddmContents.get(newDDMContent.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DDMContent newDDMContent = addDDMContent();
@@ -26,7 +26,12 @@ import com.liferay.portlet.dynamicdatamapping.NoSuchStorageLinkException;
 import com.liferay.portlet.dynamicdatamapping.model.DDMStorageLink;
 import com.liferay.portlet.dynamicdatamapping.model.impl.DDMStorageLinkModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -128,6 +133,22 @@ public class DDMStorageLinkPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDDMStorageLink);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMStorageLink newDDMStorageLink = addDDMStorageLink();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMStorageLink.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DDMStorageLink> ddmStorageLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ddmStorageLinks.size());
+		assertEquals(newDDMStorageLink, ddmStorageLinks.get(newDDMStorageLink.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DDMStorageLink newDDMStorageLink = addDDMStorageLink();
@@ -26,7 +26,12 @@ import com.liferay.portlet.dynamicdatamapping.NoSuchStructureLinkException;
 import com.liferay.portlet.dynamicdatamapping.model.DDMStructureLink;
 import com.liferay.portlet.dynamicdatamapping.model.impl.DDMStructureLinkModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -124,6 +129,22 @@ public class DDMStructureLinkPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDDMStructureLink);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMStructureLink newDDMStructureLink = addDDMStructureLink();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMStructureLink.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DDMStructureLink> ddmStructureLinks = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ddmStructureLinks.size());
+		assertEquals(newDDMStructureLink, ddmStructureLinks.get(newDDMStructureLink.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DDMStructureLink newDDMStructureLink = addDDMStructureLink();
@@ -28,7 +28,12 @@ import com.liferay.portlet.dynamicdatamapping.NoSuchStructureException;
 import com.liferay.portlet.dynamicdatamapping.model.DDMStructure;
 import com.liferay.portlet.dynamicdatamapping.model.impl.DDMStructureModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -165,6 +170,22 @@ public class DDMStructurePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDDMStructure);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMStructure newDDMStructure = addDDMStructure();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMStructure.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DDMStructure> ddmStructures = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ddmStructures.size());
+		assertEquals(newDDMStructure, ddmStructures.get(newDDMStructure.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DDMStructure newDDMStructure = addDDMStructure();
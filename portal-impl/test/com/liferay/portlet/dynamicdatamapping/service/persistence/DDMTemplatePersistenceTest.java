@@ -28,7 +28,12 @@ import com.liferay.portlet.dynamicdatamapping.NoSuchTemplateException;
 import com.liferay.portlet.dynamicdatamapping.model.DDMTemplate;
 import com.liferay.portlet.dynamicdatamapping.model.impl.DDMTemplateModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -162,6 +167,22 @@ public class DDMTemplatePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingDDMTemplate);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		DDMTemplate newDDMTemplate = addDDMTemplate();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newDDMTemplate.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, DDMTemplate> ddmTemplates = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ddmTemplates.size());
+		assertEquals(newDDMTemplate, ddmTemplates.get(newDDMTemplate.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		DDMTemplate newDDMTemplate = addDDMTemplate();
@@ -27,7 +27,12 @@ import com.liferay.portlet.expando.NoSuchColumnException;
 import com.liferay.portlet.expando.model.ExpandoColumn;
 import com.liferay.portlet.expando.model.impl.ExpandoColumnModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -135,6 +140,22 @@ public class ExpandoColumnPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingExpandoColumn);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ExpandoColumn newExpandoColumn = addExpandoColumn();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newExpandoColumn.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ExpandoColumn> expandoColumns = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, expandoColumns.size());
+		assertEquals(newExpandoColumn, expandoColumns.get(newExpandoColumn.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ExpandoColumn newExpandoColumn = addExpandoColumn();
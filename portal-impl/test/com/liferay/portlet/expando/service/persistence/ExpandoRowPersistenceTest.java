@@ -26,7 +26,12 @@ import com.liferay.portlet.expando.NoSuchRowException;
 import com.liferay.portlet.expando.model.ExpandoRow;
 import com.liferay.portlet.expando.model.impl.ExpandoRowModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -121,6 +126,22 @@ public class ExpandoRowPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingExpandoRow);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ExpandoRow newExpandoRow = addExpandoRow();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newExpandoRow.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ExpandoRow> expandoRows = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, expandoRows.size());
+		assertEquals(newExpandoRow, expandoRows.get(newExpandoRow.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ExpandoRow newExpandoRow = addExpandoRow();
@@ -27,7 +27,12 @@ import com.liferay.portlet.expando.NoSuchTableException;
 import com.liferay.portlet.expando.model.ExpandoTable;
 import com.liferay.portlet.expando.model.impl.ExpandoTableModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -124,6 +129,22 @@ public class ExpandoTablePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingExpandoTable);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ExpandoTable newExpandoTable = addExpandoTable();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newExpandoTable.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ExpandoTable> expandoTables = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, expandoTables.size());
+		assertEquals(newExpandoTable, expandoTables.get(newExpandoTable.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ExpandoTable newExpandoTable = addExpandoTable();
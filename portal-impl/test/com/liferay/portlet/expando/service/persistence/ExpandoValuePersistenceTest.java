@@ -26,7 +26,12 @@ import com.liferay.portlet.expando.NoSuchValueException;
 import com.liferay.portlet.expando.model.ExpandoValue;
 import com.liferay.portlet.expando.model.impl.ExpandoValueModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -138,6 +143,22 @@ public class ExpandoValuePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingExpandoValue);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ExpandoValue newExpandoValue = addExpandoValue();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newExpandoValue.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ExpandoValue> expandoValues = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, expandoValues.size());
+		assertEquals(newExpandoValue, expandoValues.get(newExpandoValue.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ExpandoValue newExpandoValue = addExpandoValue();
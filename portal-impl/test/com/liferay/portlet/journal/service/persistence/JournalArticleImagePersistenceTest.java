@@ -27,7 +27,12 @@ import com.liferay.portlet.journal.NoSuchArticleImageException;
 import com.liferay.portlet.journal.model.JournalArticleImage;
 import com.liferay.portlet.journal.model.impl.JournalArticleImageModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -141,6 +146,22 @@ public class JournalArticleImagePersistenceTest extends BasePersistenceTestCase
 		assertNull(missingJournalArticleImage);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalArticleImage newJournalArticleImage = addJournalArticleImage();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalArticleImage.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, JournalArticleImage> journalArticleImages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, journalArticleImages.size());
+		assertEquals(newJournalArticleImage, journalArticleImages.get(newJournalArticleImage.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		JournalArticleImage newJournalArticleImage = addJournalArticleImage();
@@ -28,7 +28,12 @@ import com.liferay.portlet.journal.NoSuchArticleException;
 import com.liferay.portlet.journal.model.JournalArticle;
 import com.liferay.portlet.journal.model.impl.JournalArticleModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -243,6 +248,22 @@ public class JournalArticlePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingJournalArticle);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalArticle newJournalArticle = addJournalArticle();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalArticle.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, JournalArticle> journalArticles = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, journalArticles.size());
+		assertEquals(newJournalArticle, journalArticles.get(newJournalArticle.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		JournalArticle newJournalArticle = addJournalArticle();
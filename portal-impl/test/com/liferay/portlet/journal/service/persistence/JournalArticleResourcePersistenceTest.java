@@ -27,7 +27,12 @@ import com.liferay.portlet.journal.NoSuchArticleResourceException;
 import com.liferay.portlet.journal.model.JournalArticleResource;
 import com.liferay.portlet.journal.model.impl.JournalArticleResourceModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -126,6 +131,22 @@ public class JournalArticleResourcePersistenceTest
 		assertNull(missingJournalArticleResource);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalArticleResource newJournalArticleResource = addJournalArticleResource();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalArticleResource.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, JournalArticleResource> journalArticleResources = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, journalArticleResources.size());
+		assertEquals(newJournalArticleResource, journalArticleResources.get(newJournalArticleResource.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		JournalArticleResource newJournalArticleResource = addJournalArticleResource();
@@ -27,7 +27,12 @@ import com.liferay.portlet.journal.NoSuchContentSearchException;
 import com.liferay.portlet.journal.model.JournalContentSearch;
 import com.liferay.portlet.journal.model.impl.JournalContentSearchModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -137,6 +142,22 @@ public class JournalContentSearchPersistenceTest extends BasePersistenceTestCase
 		assertNull(missingJournalContentSearch);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalContentSearch newJournalContentSearch = addJournalContentSearch();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalContentSearch.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, JournalContentSearch> journalContentSearchs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, journalContentSearchs.size());
+		assertEquals(newJournalContentSearch, journalContentSearchs.get(newJournalContentSearch.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		JournalContentSearch newJournalContentSearch = addJournalContentSearch();
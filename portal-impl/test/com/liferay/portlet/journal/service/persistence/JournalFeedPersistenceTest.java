@@ -28,7 +28,12 @@ import com.liferay.portlet.journal.NoSuchFeedException;
 import com.liferay.portlet.journal.model.JournalFeed;
 import com.liferay.portlet.journal.model.impl.JournalFeedModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -196,6 +201,22 @@ public class JournalFeedPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingJournalFeed);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalFeed newJournalFeed = addJournalFeed();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalFeed.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, JournalFeed> journalFeeds = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, journalFeeds.size());
+		assertEquals(newJournalFeed, journalFeeds.get(newJournalFeed.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		JournalFeed newJournalFeed = addJournalFeed();
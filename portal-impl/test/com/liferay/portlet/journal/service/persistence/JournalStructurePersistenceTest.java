@@ -28,7 +28,12 @@ import com.liferay.portlet.journal.NoSuchStructureException;
 import com.liferay.portlet.journal.model.JournalStructure;
 import com.liferay.portlet.journal.model.impl.JournalStructureModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -164,6 +169,22 @@ public class JournalStructurePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingJournalStructure);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalStructure newJournalStructure = addJournalStructure();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalStructure.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, JournalStructure> journalStructures = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, journalStructures.size());
+		assertEquals(newJournalStructure, journalStructures.get(newJournalStructure.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		JournalStructure newJournalStructure = addJournalStructure();
@@ -28,7 +28,12 @@ import com.liferay.portlet.journal.NoSuchTemplateException;
 import com.liferay.portlet.journal.model.JournalTemplate;
 import com.liferay.portlet.journal.model.impl.JournalTemplateModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -183,6 +188,22 @@ public class JournalTemplatePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingJournalTemplate);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		JournalTemplate newJournalTemplate = addJournalTemplate();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newJournalTemplate.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, JournalTemplate> journalTemplates = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, journalTemplates.size());
+		assertEquals(newJournalTemplate, journalTemplates.get(newJournalTemplate.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		JournalTemplate newJournalTemplate = addJournalTemplate();
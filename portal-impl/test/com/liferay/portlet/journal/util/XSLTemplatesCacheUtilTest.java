@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.journal.util;
+
+import com.liferay.portal.kernel.io.unsync.UnsyncStringReader;
+import com.liferay.portal.util.BaseTestCase;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.URIResolver;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class XSLTemplatesCacheUtilTest extends BaseTestCase {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+
+		XSLTemplatesCacheUtil.clear();
+
+		_transformerFactory = TransformerFactory.newInstance();
+	}
+
+	public void testChangedScript() throws Exception {
+		Templates templates1 = XSLTemplatesCacheUtil.getTemplates(
+			1, "TEMPLATE", "en_US", _getScript("1"), _transformerFactory);
+		Templates templates2 = XSLTemplatesCacheUtil.getTemplates(
+			1, "TEMPLATE", "en_US", _getScript("2"), _transformerFactory);
+
+		assertNotSame(templates1, templates2);
+	}
+
+	public void testDifferentGroups() throws Exception {
+		Templates templates1 = XSLTemplatesCacheUtil.getTemplates(
+			1, "TEMPLATE", "en_US", _getScript("1"), _transformerFactory);
+		Templates templates2 = XSLTemplatesCacheUtil.getTemplates(
+			2, "TEMPLATE", "en_US", _getScript("1"), _transformerFactory);
+
+		assertNotSame(templates1, templates2);
+	}
+
+	public void testImportedScript() throws Exception {
+		_transformerFactory.setURIResolver(
+			new URIResolver() {
+
+				public Source resolve(String href, String base) {
+					return new StreamSource(
+						new UnsyncStringReader(_getScript("imported")));
+				}
+
+			});
+
+		String script =
+			"<xsl:stylesheet version=\"1.0\" " +
+				"xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">" +
+					"<xsl:import href=\"imported.xsl\" /></xsl:stylesheet>";
+
+		Templates templates1 = XSLTemplatesCacheUtil.getTemplates(
+			1, "TEMPLATE", "en_US", script, _transformerFactory);
+		Templates templates2 = XSLTemplatesCacheUtil.getTemplates(
+			1, "TEMPLATE", "en_US", script, _transformerFactory);
+
+		assertNotSame(templates1, templates2);
+		assertNotNull(_transformerFactory.getURIResolver());
+	}
+
+	public void testSameScript() throws Exception {
+		long hitCount = XSLTemplatesCacheUtil.getHitCount();
+
+		Templates templates1 = XSLTemplatesCacheUtil.getTemplates(
+			1, "TEMPLATE", "en_US", _getScript("1"), _transformerFactory);
+		Templates templates2 = XSLTemplatesCacheUtil.getTemplates(
+			1, "TEMPLATE", "en_US", _getScript("1"), _transformerFactory);
+
+		assertSame(templates1, templates2);
+		assertEquals(hitCount + 1, XSLTemplatesCacheUtil.getHitCount());
+	}
+
+	private String _getScript(String text) {
+		return
+			"<xsl:stylesheet version=\"1.0\" " +
+				"xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">" +
+					"<xsl:template match=\"/\">" + text + "</xsl:template>" +
+						"</xsl:stylesheet>";
+	}
+
+	private TransformerFactory _transformerFactory;
+
+}
\ No newline at end of file
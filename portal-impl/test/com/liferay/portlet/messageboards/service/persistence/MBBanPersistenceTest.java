@@ -27,7 +27,12 @@ import com.liferay.portlet.messageboards.NoSuchBanException;
 import com.liferay.portlet.messageboards.model.MBBan;
 import com.liferay.portlet.messageboards.model.impl.MBBanModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -135,6 +140,22 @@ public class MBBanPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMBBan);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBBan newMBBan = addMBBan();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBBan.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MBBan> mbBans = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mbBans.size());
+		assertEquals(newMBBan, mbBans.get(newMBBan.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MBBan newMBBan = addMBBan();
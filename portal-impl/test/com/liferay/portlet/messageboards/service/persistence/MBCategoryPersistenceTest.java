@@ -28,7 +28,12 @@ import com.liferay.portlet.messageboards.NoSuchCategoryException;
 import com.liferay.portlet.messageboards.model.MBCategory;
 import com.liferay.portlet.messageboards.model.impl.MBCategoryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -168,6 +173,22 @@ public class MBCategoryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMBCategory);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBCategory newMBCategory = addMBCategory();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBCategory.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MBCategory> mbCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mbCategories.size());
+		assertEquals(newMBCategory, mbCategories.get(newMBCategory.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MBCategory newMBCategory = addMBCategory();
@@ -26,7 +26,12 @@ import com.liferay.portlet.messageboards.NoSuchDiscussionException;
 import com.liferay.portlet.messageboards.model.MBDiscussion;
 import com.liferay.portlet.messageboards.model.impl.MBDiscussionModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -124,6 +129,22 @@ public class MBDiscussionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMBDiscussion);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBDiscussion newMBDiscussion = addMBDiscussion();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBDiscussion.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MBDiscussion> mbDiscussions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mbDiscussions.size());
+		assertEquals(newMBDiscussion, mbDiscussions.get(newMBDiscussion.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MBDiscussion newMBDiscussion = addMBDiscussion();
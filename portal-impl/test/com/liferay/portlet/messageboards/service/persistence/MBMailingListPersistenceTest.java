@@ -28,7 +28,12 @@ import com.liferay.portlet.messageboards.NoSuchMailingListException;
 import com.liferay.portlet.messageboards.model.MBMailingList;
 import com.liferay.portlet.messageboards.model.impl.MBMailingListModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -215,6 +220,22 @@ public class MBMailingListPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMBMailingList);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBMailingList newMBMailingList = addMBMailingList();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBMailingList.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MBMailingList> mbMailingLists = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mbMailingLists.size());
+		assertEquals(newMBMailingList, mbMailingLists.get(newMBMailingList.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MBMailingList newMBMailingList = addMBMailingList();
@@ -27,7 +27,12 @@ import com.liferay.portlet.messageboards.NoSuchMessageFlagException;
 import com.liferay.portlet.messageboards.model.MBMessageFlag;
 import com.liferay.portlet.messageboards.model.impl.MBMessageFlagModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -133,6 +138,22 @@ public class MBMessageFlagPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMBMessageFlag);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBMessageFlag newMBMessageFlag = addMBMessageFlag();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBMessageFlag.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MBMessageFlag> mbMessageFlags = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mbMessageFlags.size());
+		assertEquals(newMBMessageFlag, mbMessageFlags.get(newMBMessageFlag.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MBMessageFlag newMBMessageFlag = addMBMessageFlag();
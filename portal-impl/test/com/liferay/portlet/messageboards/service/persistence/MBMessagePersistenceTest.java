@@ -28,7 +28,12 @@ import com.liferay.portlet.messageboards.NoSuchMessageException;
 import com.liferay.portlet.messageboards.model.MBMessage;
 import com.liferay.portlet.messageboards.model.impl.MBMessageModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -199,6 +204,22 @@ public class MBMessagePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMBMessage);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBMessage newMBMessage = addMBMessage();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBMessage.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MBMessage> mbMessages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mbMessages.size());
+		assertEquals(newMBMessage, mbMessages.get(newMBMessage.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MBMessage newMBMessage = addMBMessage();
@@ -27,7 +27,12 @@ import com.liferay.portlet.messageboards.NoSuchStatsUserException;
 import com.liferay.portlet.messageboards.model.MBStatsUser;
 import com.liferay.portlet.messageboards.model.impl.MBStatsUserModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -129,6 +134,22 @@ public class MBStatsUserPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMBStatsUser);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBStatsUser newMBStatsUser = addMBStatsUser();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBStatsUser.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MBStatsUser> mbStatsUsers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mbStatsUsers.size());
+		assertEquals(newMBStatsUser, mbStatsUsers.get(newMBStatsUser.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MBStatsUser newMBStatsUser = addMBStatsUser();
@@ -27,7 +27,12 @@ import com.liferay.portlet.messageboards.NoSuchThreadException;
 import com.liferay.portlet.messageboards.model.MBThread;
 import com.liferay.portlet.messageboards.model.impl.MBThreadModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -163,6 +168,22 @@ public class MBThreadPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMBThread);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MBThread newMBThread = addMBThread();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMBThread.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MBThread> mbThreads = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mbThreads.size());
+		assertEquals(newMBThread, mbThreads.get(newMBThread.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MBThread newMBThread = addMBThread();
@@ -28,7 +28,12 @@ import com.liferay.portlet.mobiledevicerules.NoSuchActionException;
 import com.liferay.portlet.mobiledevicerules.model.MDRAction;
 import com.liferay.portlet.mobiledevicerules.model.impl.MDRActionModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Edward C. Han
@@ -158,6 +163,22 @@ public class MDRActionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMDRAction);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MDRAction newMDRAction = addMDRAction();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMDRAction.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MDRAction> mdrActions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mdrActions.size());
+		assertEquals(newMDRAction, mdrActions.get(newMDRAction.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MDRAction newMDRAction = addMDRAction();
@@ -28,7 +28,12 @@ import com.liferay.portlet.mobiledevicerules.NoSuchRuleGroupException;
 import com.liferay.portlet.mobiledevicerules.model.MDRRuleGroup;
 import com.liferay.portlet.mobiledevicerules.model.impl.MDRRuleGroupModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Edward C. Han
@@ -150,6 +155,22 @@ public class MDRRuleGroupPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMDRRuleGroup);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MDRRuleGroup newMDRRuleGroup = addMDRRuleGroup();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMDRRuleGroup.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MDRRuleGroup> mdrRuleGroups = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mdrRuleGroups.size());
+		assertEquals(newMDRRuleGroup, mdrRuleGroups.get(newMDRRuleGroup.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MDRRuleGroup newMDRRuleGroup = addMDRRuleGroup();
@@ -28,7 +28,12 @@ import com.liferay.portlet.mobiledevicerules.NoSuchRuleException;
 import com.liferay.portlet.mobiledevicerules.model.MDRRule;
 import com.liferay.portlet.mobiledevicerules.model.impl.MDRRuleModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Edward C. Han
@@ -154,6 +159,22 @@ public class MDRRulePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingMDRRule);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		MDRRule newMDRRule = addMDRRule();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newMDRRule.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, MDRRule> mdrRules = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, mdrRules.size());
+		assertEquals(newMDRRule, mdrRules.get(newMDRRule.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		MDRRule newMDRRule = addMDRRule();
@@ -27,7 +27,12 @@ import com.liferay.portlet.polls.NoSuchChoiceException;
 import com.liferay.portlet.polls.model.PollsChoice;
 import com.liferay.portlet.polls.model.impl.PollsChoiceModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -127,6 +132,22 @@ public class PollsChoicePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPollsChoice);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PollsChoice newPollsChoice = addPollsChoice();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPollsChoice.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PollsChoice> pollsChoices = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, pollsChoices.size());
+		assertEquals(newPollsChoice, pollsChoices.get(newPollsChoice.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PollsChoice newPollsChoice = addPollsChoice();
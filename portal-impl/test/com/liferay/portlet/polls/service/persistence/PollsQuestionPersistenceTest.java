@@ -28,7 +28,12 @@ import com.liferay.portlet.polls.NoSuchQuestionException;
 import com.liferay.portlet.polls.model.PollsQuestion;
 import com.liferay.portlet.polls.model.impl.PollsQuestionModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -161,6 +166,22 @@ public class PollsQuestionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPollsQuestion);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PollsQuestion newPollsQuestion = addPollsQuestion();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPollsQuestion.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PollsQuestion> pollsQuestions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, pollsQuestions.size());
+		assertEquals(newPollsQuestion, pollsQuestions.get(newPollsQuestion.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PollsQuestion newPollsQuestion = addPollsQuestion();
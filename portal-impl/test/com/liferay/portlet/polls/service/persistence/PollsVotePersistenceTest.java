@@ -27,7 +27,12 @@ import com.liferay.portlet.polls.NoSuchVoteException;
 import com.liferay.portlet.polls.model.PollsVote;
 import com.liferay.portlet.polls.model.impl.PollsVoteModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -141,6 +146,22 @@ public class PollsVotePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingPollsVote);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		PollsVote newPollsVote = addPollsVote();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newPollsVote.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, PollsVote> pollsVotes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, pollsVotes.size());
+		assertEquals(newPollsVote, pollsVotes.get(newPollsVote.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		PollsVote newPollsVote = addPollsVote();
@@ -27,7 +27,12 @@ import com.liferay.portlet.ratings.NoSuchEntryException;
 import com.liferay.portlet.ratings.model.RatingsEntry;
 import com.liferay.portlet.ratings.model.impl.RatingsEntryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -146,6 +151,22 @@ public class RatingsEntryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingRatingsEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		RatingsEntry newRatingsEntry = addRatingsEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRatingsEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, RatingsEntry> ratingsEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ratingsEntries.size());
+		assertEquals(newRatingsEntry, ratingsEntries.get(newRatingsEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		RatingsEntry newRatingsEntry = addRatingsEntry();
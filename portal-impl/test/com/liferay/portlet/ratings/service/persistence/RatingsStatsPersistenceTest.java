@@ -26,7 +26,12 @@ import com.liferay.portlet.ratings.NoSuchStatsException;
 import com.liferay.portlet.ratings.model.RatingsStats;
 import com.liferay.portlet.ratings.model.impl.RatingsStatsModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -132,6 +137,22 @@ public class RatingsStatsPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingRatingsStats);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		RatingsStats newRatingsStats = addRatingsStats();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newRatingsStats.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, RatingsStats> ratingsStatses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, ratingsStatses.size());
+		assertEquals(newRatingsStats, ratingsStatses.get(newRatingsStats.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		RatingsStats newRatingsStats = addRatingsStats();
@@ -27,7 +27,12 @@ import com.liferay.portlet.shopping.NoSuchCartException;
 import com.liferay.portlet.shopping.model.ShoppingCart;
 import com.liferay.portlet.shopping.model.impl.ShoppingCartModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -155,6 +160,22 @@ public class ShoppingCartPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShoppingCart);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingCart newShoppingCart = addShoppingCart();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingCart.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ShoppingCart> shoppingCarts = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shoppingCarts.size());
+		assertEquals(newShoppingCart, shoppingCarts.get(newShoppingCart.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ShoppingCart newShoppingCart = addShoppingCart();
@@ -25,7 +25,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.shopping.NoSuchCategoryException;
 import com.liferay.portlet.shopping.model.ShoppingCategory;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -149,6 +154,22 @@ public class ShoppingCategoryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShoppingCategory);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingCategory newShoppingCategory = addShoppingCategory();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingCategory.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ShoppingCategory> shoppingCategories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shoppingCategories.size());
+		assertEquals(newShoppingCategory, shoppingCategories.get(newShoppingCategory.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ShoppingCategory newShoppingCategory = addShoppingCategory();
@@ -28,7 +28,12 @@ import com.liferay.portlet.shopping.NoSuchCouponException;
 import com.liferay.portlet.shopping.model.ShoppingCoupon;
 import com.liferay.portlet.shopping.model.impl.ShoppingCouponModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -185,6 +190,22 @@ public class ShoppingCouponPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShoppingCoupon);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingCoupon newShoppingCoupon = addShoppingCoupon();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingCoupon.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ShoppingCoupon> shoppingCoupons = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shoppingCoupons.size());
+		assertEquals(newShoppingCoupon, shoppingCoupons.get(newShoppingCoupon.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ShoppingCoupon newShoppingCoupon = addShoppingCoupon();
@@ -24,7 +24,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.shopping.NoSuchItemFieldException;
 import com.liferay.portlet.shopping.model.ShoppingItemField;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -126,6 +131,22 @@ public class ShoppingItemFieldPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShoppingItemField);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingItemField newShoppingItemField = addShoppingItemField();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingItemField.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ShoppingItemField> shoppingItemFields = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shoppingItemFields.size());
+		assertEquals(newShoppingItemField, shoppingItemFields.get(newShoppingItemField.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ShoppingItemField newShoppingItemField = addShoppingItemField();
@@ -28,7 +28,12 @@ import com.liferay.portlet.shopping.NoSuchItemException;
 import com.liferay.portlet.shopping.model.ShoppingItem;
 import com.liferay.portlet.shopping.model.impl.ShoppingItemModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -244,6 +249,22 @@ public class ShoppingItemPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShoppingItem);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingItem newShoppingItem = addShoppingItem();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingItem.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ShoppingItem> shoppingItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shoppingItems.size());
+		assertEquals(newShoppingItem, shoppingItems.get(newShoppingItem.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ShoppingItem newShoppingItem = addShoppingItem();
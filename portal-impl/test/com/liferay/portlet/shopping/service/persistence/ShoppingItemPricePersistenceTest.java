@@ -24,7 +24,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.shopping.NoSuchItemPriceException;
 import com.liferay.portlet.shopping.model.ShoppingItemPrice;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -146,6 +151,22 @@ public class ShoppingItemPricePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShoppingItemPrice);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingItemPrice newShoppingItemPrice = addShoppingItemPrice();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingItemPrice.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ShoppingItemPrice> shoppingItemPrices = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shoppingItemPrices.size());
+		assertEquals(newShoppingItemPrice, shoppingItemPrices.get(newShoppingItemPrice.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ShoppingItemPrice newShoppingItemPrice = addShoppingItemPrice();
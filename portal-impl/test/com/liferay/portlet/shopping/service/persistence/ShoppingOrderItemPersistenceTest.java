@@ -25,7 +25,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.shopping.NoSuchOrderItemException;
 import com.liferay.portlet.shopping.model.ShoppingOrderItem;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -148,6 +153,22 @@ public class ShoppingOrderItemPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShoppingOrderItem);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingOrderItem newShoppingOrderItem = addShoppingOrderItem();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingOrderItem.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ShoppingOrderItem> shoppingOrderItems = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shoppingOrderItems.size());
+		assertEquals(newShoppingOrderItem, shoppingOrderItems.get(newShoppingOrderItem.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ShoppingOrderItem newShoppingOrderItem = addShoppingOrderItem();
@@ -28,7 +28,12 @@ import com.liferay.portlet.shopping.NoSuchOrderException;
 import com.liferay.portlet.shopping.model.ShoppingOrder;
 import com.liferay.portlet.shopping.model.impl.ShoppingOrderModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -315,6 +320,22 @@ public class ShoppingOrderPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingShoppingOrder);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		ShoppingOrder newShoppingOrder = addShoppingOrder();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newShoppingOrder.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, ShoppingOrder> shoppingOrders = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, shoppingOrders.size());
+		assertEquals(newShoppingOrder, shoppingOrders.get(newShoppingOrder.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		ShoppingOrder newShoppingOrder = addShoppingOrder();
@@ -26,7 +26,12 @@ import com.liferay.portlet.social.NoSuchActivityException;
 import com.liferay.portlet.social.model.SocialActivity;
 import com.liferay.portlet.social.model.impl.SocialActivityModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -152,6 +157,22 @@ public class SocialActivityPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSocialActivity);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialActivity newSocialActivity = addSocialActivity();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialActivity.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialActivity> socialActivities = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialActivities.size());
+		assertEquals(newSocialActivity, socialActivities.get(newSocialActivity.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialActivity newSocialActivity = addSocialActivity();
@@ -26,7 +26,12 @@ import com.liferay.portlet.social.NoSuchEquityAssetEntryException;
 import com.liferay.portlet.social.model.SocialEquityAssetEntry;
 import com.liferay.portlet.social.model.impl.SocialEquityAssetEntryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -137,6 +142,22 @@ public class SocialEquityAssetEntryPersistenceTest
 		assertNull(missingSocialEquityAssetEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialEquityAssetEntry newSocialEquityAssetEntry = addSocialEquityAssetEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialEquityAssetEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialEquityAssetEntry> socialEquityAssetEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialEquityAssetEntries.size());
+		assertEquals(newSocialEquityAssetEntry, socialEquityAssetEntries.get(newSocialEquityAssetEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialEquityAssetEntry newSocialEquityAssetEntry = addSocialEquityAssetEntry();
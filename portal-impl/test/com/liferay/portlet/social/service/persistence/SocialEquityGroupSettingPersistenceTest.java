@@ -26,7 +26,12 @@ import com.liferay.portlet.social.NoSuchEquityGroupSettingException;
 import com.liferay.portlet.social.model.SocialEquityGroupSetting;
 import com.liferay.portlet.social.model.impl.SocialEquityGroupSettingModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -136,6 +141,22 @@ public class SocialEquityGroupSettingPersistenceTest
 		assertNull(missingSocialEquityGroupSetting);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialEquityGroupSetting newSocialEquityGroupSetting = addSocialEquityGroupSetting();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialEquityGroupSetting.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialEquityGroupSetting> socialEquityGroupSettings = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialEquityGroupSettings.size());
+		assertEquals(newSocialEquityGroupSetting, socialEquityGroupSettings.get(newSocialEquityGroupSetting.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialEquityGroupSetting newSocialEquityGroupSetting = addSocialEquityGroupSetting();
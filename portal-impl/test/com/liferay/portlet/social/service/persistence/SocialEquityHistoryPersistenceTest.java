@@ -25,7 +25,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.social.NoSuchEquityHistoryException;
 import com.liferay.portlet.social.model.SocialEquityHistory;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -132,6 +137,22 @@ public class SocialEquityHistoryPersistenceTest extends BasePersistenceTestCase
 		assertNull(missingSocialEquityHistory);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialEquityHistory newSocialEquityHistory = addSocialEquityHistory();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialEquityHistory.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialEquityHistory> socialEquityHistories = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialEquityHistories.size());
+		assertEquals(newSocialEquityHistory, socialEquityHistories.get(newSocialEquityHistory.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialEquityHistory newSocialEquityHistory = addSocialEquityHistory();
@@ -27,7 +27,12 @@ import com.liferay.portlet.social.NoSuchEquityLogException;
 import com.liferay.portlet.social.model.SocialEquityLog;
 import com.liferay.portlet.social.model.impl.SocialEquityLogModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -157,6 +162,22 @@ public class SocialEquityLogPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSocialEquityLog);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialEquityLog newSocialEquityLog = addSocialEquityLog();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialEquityLog.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialEquityLog> socialEquityLogs = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialEquityLogs.size());
+		assertEquals(newSocialEquityLog, socialEquityLogs.get(newSocialEquityLog.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialEquityLog newSocialEquityLog = addSocialEquityLog();
@@ -27,7 +27,12 @@ import com.liferay.portlet.social.NoSuchEquitySettingException;
 import com.liferay.portlet.social.model.SocialEquitySetting;
 import com.liferay.portlet.social.model.impl.SocialEquitySettingModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -149,6 +154,22 @@ public class SocialEquitySettingPersistenceTest extends BasePersistenceTestCase
 		assertNull(missingSocialEquitySetting);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialEquitySetting newSocialEquitySetting = addSocialEquitySetting();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialEquitySetting.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialEquitySetting> socialEquitySettings = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialEquitySettings.size());
+		assertEquals(newSocialEquitySetting, socialEquitySettings.get(newSocialEquitySetting.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialEquitySetting newSocialEquitySetting = addSocialEquitySetting();
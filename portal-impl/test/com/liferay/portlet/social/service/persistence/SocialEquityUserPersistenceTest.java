@@ -26,7 +26,12 @@ import com.liferay.portlet.social.NoSuchEquityUserException;
 import com.liferay.portlet.social.model.SocialEquityUser;
 import com.liferay.portlet.social.model.impl.SocialEquityUserModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -144,6 +149,22 @@ public class SocialEquityUserPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSocialEquityUser);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialEquityUser newSocialEquityUser = addSocialEquityUser();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialEquityUser.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialEquityUser> socialEquityUsers = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialEquityUsers.size());
+		assertEquals(newSocialEquityUser, socialEquityUsers.get(newSocialEquityUser.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialEquityUser newSocialEquityUser = addSocialEquityUser();
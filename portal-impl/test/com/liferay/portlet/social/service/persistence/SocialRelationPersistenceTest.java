@@ -26,7 +26,12 @@ import com.liferay.portlet.social.NoSuchRelationException;
 import com.liferay.portlet.social.model.SocialRelation;
 import com.liferay.portlet.social.model.impl.SocialRelationModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -136,6 +141,22 @@ public class SocialRelationPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSocialRelation);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialRelation newSocialRelation = addSocialRelation();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialRelation.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialRelation> socialRelations = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialRelations.size());
+		assertEquals(newSocialRelation, socialRelations.get(newSocialRelation.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialRelation newSocialRelation = addSocialRelation();
@@ -27,7 +27,12 @@ import com.liferay.portlet.social.NoSuchRequestException;
 import com.liferay.portlet.social.model.SocialRequest;
 import com.liferay.portlet.social.model.impl.SocialRequestModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -159,6 +164,22 @@ public class SocialRequestPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSocialRequest);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SocialRequest newSocialRequest = addSocialRequest();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSocialRequest.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SocialRequest> socialRequests = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, socialRequests.size());
+		assertEquals(newSocialRequest, socialRequests.get(newSocialRequest.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SocialRequest newSocialRequest = addSocialRequest();
@@ -25,7 +25,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.softwarecatalog.NoSuchFrameworkVersionException;
 import com.liferay.portlet.softwarecatalog.model.SCFrameworkVersion;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -153,6 +158,22 @@ public class SCFrameworkVersionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSCFrameworkVersion);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCFrameworkVersion newSCFrameworkVersion = addSCFrameworkVersion();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCFrameworkVersion.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SCFrameworkVersion> scFrameworkVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, scFrameworkVersions.size());
+		assertEquals(newSCFrameworkVersion, scFrameworkVersions.get(newSCFrameworkVersion.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SCFrameworkVersion newSCFrameworkVersion = addSCFrameworkVersion();
@@ -24,7 +24,12 @@ import com.liferay.portal.service.persistence.BasePersistenceTestCase;
 import com.liferay.portlet.softwarecatalog.NoSuchLicenseException;
 import com.liferay.portlet.softwarecatalog.model.SCLicense;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -127,6 +132,22 @@ public class SCLicensePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSCLicense);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCLicense newSCLicense = addSCLicense();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCLicense.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SCLicense> scLicenses = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, scLicenses.size());
+		assertEquals(newSCLicense, scLicenses.get(newSCLicense.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SCLicense newSCLicense = addSCLicense();
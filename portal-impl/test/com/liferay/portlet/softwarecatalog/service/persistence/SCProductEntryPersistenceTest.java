@@ -28,7 +28,12 @@ import com.liferay.portlet.softwarecatalog.NoSuchProductEntryException;
 import com.liferay.portlet.softwarecatalog.model.SCProductEntry;
 import com.liferay.portlet.softwarecatalog.model.impl.SCProductEntryModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -176,6 +181,22 @@ public class SCProductEntryPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSCProductEntry);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCProductEntry newSCProductEntry = addSCProductEntry();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCProductEntry.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SCProductEntry> scProductEntries = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, scProductEntries.size());
+		assertEquals(newSCProductEntry, scProductEntries.get(newSCProductEntry.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SCProductEntry newSCProductEntry = addSCProductEntry();
@@ -26,7 +26,12 @@ import com.liferay.portlet.softwarecatalog.NoSuchProductScreenshotException;
 import com.liferay.portlet.softwarecatalog.model.SCProductScreenshot;
 import com.liferay.portlet.softwarecatalog.model.impl.SCProductScreenshotModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -137,6 +142,22 @@ public class SCProductScreenshotPersistenceTest extends BasePersistenceTestCase
 		assertNull(missingSCProductScreenshot);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCProductScreenshot newSCProductScreenshot = addSCProductScreenshot();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCProductScreenshot.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SCProductScreenshot> scProductScreenshots = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, scProductScreenshots.size());
+		assertEquals(newSCProductScreenshot, scProductScreenshots.get(newSCProductScreenshot.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SCProductScreenshot newSCProductScreenshot = addSCProductScreenshot();
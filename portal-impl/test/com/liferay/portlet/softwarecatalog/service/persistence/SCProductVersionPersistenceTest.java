@@ -28,7 +28,12 @@ import com.liferay.portlet.softwarecatalog.NoSuchProductVersionException;
 import com.liferay.portlet.softwarecatalog.model.SCProductVersion;
 import com.liferay.portlet.softwarecatalog.model.impl.SCProductVersionModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -160,6 +165,22 @@ public class SCProductVersionPersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingSCProductVersion);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		SCProductVersion newSCProductVersion = addSCProductVersion();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newSCProductVersion.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, SCProductVersion> scProductVersions = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, scProductVersions.size());
+		assertEquals(newSCProductVersion, scProductVersions.get(newSCProductVersion.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		SCProductVersion newSCProductVersion = addSCProductVersion();
@@ -28,7 +28,12 @@ import com.liferay.portlet.wiki.NoSuchNodeException;
 import com.liferay.portlet.wiki.model.WikiNode;
 import com.liferay.portlet.wiki.model.impl.WikiNodeModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -147,6 +152,22 @@ public class WikiNodePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingWikiNode);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		WikiNode newWikiNode = addWikiNode();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWikiNode.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, WikiNode> wikiNodes = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, wikiNodes.size());
+		assertEquals(newWikiNode, wikiNodes.get(newWikiNode.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		WikiNode newWikiNode = addWikiNode();
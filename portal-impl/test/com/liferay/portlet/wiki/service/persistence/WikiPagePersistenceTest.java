@@ -28,7 +28,12 @@ import com.liferay.portlet.wiki.NoSuchPageException;
 import com.liferay.portlet.wiki.model.WikiPage;
 import com.liferay.portlet.wiki.model.impl.WikiPageModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -187,6 +192,22 @@ public class WikiPagePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingWikiPage);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		WikiPage newWikiPage = addWikiPage();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWikiPage.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, WikiPage> wikiPages = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, wikiPages.size());
+		assertEquals(newWikiPage, wikiPages.get(newWikiPage.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		WikiPage newWikiPage = addWikiPage();
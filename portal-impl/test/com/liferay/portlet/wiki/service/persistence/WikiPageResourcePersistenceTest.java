@@ -27,7 +27,12 @@ import com.liferay.portlet.wiki.NoSuchPageResourceException;
 import com.liferay.portlet.wiki.model.WikiPageResource;
 import com.liferay.portlet.wiki.model.impl.WikiPageResourceModelImpl;
 
+import java.io.Serializable;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Brian Wing Shun Chan
@@ -125,6 +130,22 @@ public class WikiPageResourcePersistenceTest extends BasePersistenceTestCase {
 		assertNull(missingWikiPageResource);
 	}
 
+	public void testFetchByPrimaryKeys() throws Exception {
+		WikiPageResource newWikiPageResource = addWikiPageResource();
+
+		long pk = nextLong();
+
+		Set<Serializable> primaryKeys = new HashSet<Serializable>();
+
+		primaryKeys.add(newWikiPageResource.getPrimaryKeyObj());
+		primaryKeys.add(pk);
+
+		Map<Serializable, WikiPageResource> wikiPageResources = _persistence.fetchByPrimaryKeys(primaryKeys);
+
+		assertEquals(1, wikiPageResources.size());
+		assertEquals(newWikiPageResource, wikiPageResources.get(newWikiPageResource.getPrimaryKeyObj()));
+	}
+
 	public void testDynamicQueryByPrimaryKeyExisting()
 		throws Exception {
 		WikiPageResource newWikiPageResource = addWikiPageResource();
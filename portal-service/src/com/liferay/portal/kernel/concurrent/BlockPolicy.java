@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.concurrent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Rejection policy that applies backpressure by blocking the submitting thread
+ * until the task queue has room again. If the task still cannot be queued
+ * before the timeout elapses, it is handed to the fallback policy, which
+ * defaults to {@link DiscardPolicy}.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class BlockPolicy implements RejectedExecutionHandler {
+
+	public BlockPolicy(long timeout, TimeUnit timeUnit) {
+		this(timeout, timeUnit, new DiscardPolicy());
+	}
+
+	public BlockPolicy(
+		long timeout, TimeUnit timeUnit,
+		RejectedExecutionHandler fallbackRejectedExecutionHandler) {
+
+		if (fallbackRejectedExecutionHandler == null) {
+			throw new NullPointerException();
+		}
+
+		_timeout = timeUnit.toNanos(timeout);
+		_fallbackRejectedExecutionHandler = fallbackRejectedExecutionHandler;
+	}
+
+	public void rejectedExecution(
+		Runnable runnable, ThreadPoolExecutor threadPoolExecutor) {
+
+		if (threadPoolExecutor.isShutdown()) {
+			return;
+		}
+
+		boolean[] rejectedMarker = _rejectedMarker.get();
+
+		if (rejectedMarker[0]) {
+
+			// Rejected again while resubmitting, let the outer call retry
+
+			rejectedMarker[1] = true;
+
+			return;
+		}
+
+		long deadline = System.nanoTime() + _timeout;
+		long sleepTime = _MIN_SLEEP_TIME;
+
+		try {
+			while (!threadPoolExecutor.isShutdown()) {
+				if (threadPoolExecutor.getRemainingTaskQueueCapacity() > 0) {
+					rejectedMarker[0] = true;
+					rejectedMarker[1] = false;
+
+					try {
+						threadPoolExecutor.execute(runnable);
+					}
+					finally {
+						rejectedMarker[0] = false;
+					}
+
+					if (!rejectedMarker[1]) {
+						return;
+					}
+				}
+
+				long remainingTime = deadline - System.nanoTime();
+
+				if (remainingTime <= 0) {
+					break;
+				}
+
+				TimeUnit.NANOSECONDS.sleep(Math.min(sleepTime, remainingTime));
+
+				sleepTime = Math.min(sleepTime * 2, _MAX_SLEEP_TIME);
+			}
+		}
+		catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+
+		_fallbackRejectedExecutionHandler.rejectedExecution(
+			runnable, threadPoolExecutor);
+	}
+
+	private static final long _MAX_SLEEP_TIME = TimeUnit.MILLISECONDS.toNanos(
+		16);
+
+	private static final long _MIN_SLEEP_TIME = TimeUnit.MILLISECONDS.toNanos(
+		1);
+
+	private static ThreadLocal<boolean[]> _rejectedMarker =
+		new ThreadLocal<boolean[]>() {
+
+			@Override
+			protected boolean[] initialValue() {
+				return new boolean[2];
+			}
+
+		};
+
+	private final RejectedExecutionHandler _fallbackRejectedExecutionHandler;
+	private final long _timeout;
+
+}
\ No newline at end of file
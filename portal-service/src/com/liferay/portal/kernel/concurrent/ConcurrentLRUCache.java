@@ -16,19 +16,24 @@ package com.liferay.portal.kernel.concurrent;
 
 import com.liferay.portal.kernel.util.StringBundler;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map.Entry;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * <p>
+ * Reads are lock free. Writes are serialized and, on overflow, evict down to
+ * the expected size with a generalized CLOCK sweep. Every hit bumps a
+ * saturating frequency counter on the entry, and the clock hand decrements
+ * counters as it passes, evicting the first entries whose counters reach
+ * zero. Each eviction therefore costs amortized constant time, rather than
+ * a sort of the whole cache.
+ * </p>
+ *
  * @author Shuyang Zhou
  */
 public class ConcurrentLRUCache<K, V> {
@@ -50,18 +55,27 @@ public class ConcurrentLRUCache<K, V> {
 				"maxSize and loadFactor are too small");
 		}
 
-		_readLock = _readWriteLock.readLock();
-		_writeLock = _readWriteLock.writeLock();
+		_cache = new ConcurrentHashMap<K, ValueWrapper>(maxSize);
+		_clock = new Object[maxSize];
+		_freeSlots = new int[maxSize];
+
+		_resetFreeSlots();
 	}
 
 	public void clear() {
-		_writeLock.lock();
+		_lock.lock();
 
 		try {
 			_cache.clear();
+
+			Arrays.fill(_clock, null);
+
+			_clockHand = 0;
+
+			_resetFreeSlots();
 		}
 		finally {
-			_writeLock.unlock();
+			_lock.unlock();
 		}
 	}
 
@@ -70,21 +84,14 @@ public class ConcurrentLRUCache<K, V> {
 	}
 
 	public V get(K key) {
-		_readLock.lock();
+		ValueWrapper valueWrapper = _cache.get(key);
 
-		try {
-			ValueWrapper valueWrapper = _cache.get(key);
+		if (valueWrapper != null) {
+			valueWrapper.hit();
 
-			if (valueWrapper != null) {
-				valueWrapper._hitCount.getAndIncrement();
-
-				_hitCount.getAndIncrement();
+			_hitCount.getAndIncrement();
 
-				return valueWrapper._value;
-			}
-		}
-		finally {
-			_readLock.unlock();
+			return valueWrapper._value;
 		}
 
 		_missCount.getAndIncrement();
@@ -113,18 +120,34 @@ public class ConcurrentLRUCache<K, V> {
 			throw new NullPointerException("Key is null");
 		}
 
-		ValueWrapper valueWrapper = new ValueWrapper(value);
+		_lock.lock();
 
-		_writeLock.lock();
 		try {
-			if (!_cache.containsKey(key) && (_cache.size() >= _maxSize)) {
-				_cleanUp();
+			ValueWrapper oldValueWrapper = _cache.get(key);
+
+			if (oldValueWrapper != null) {
+				ValueWrapper valueWrapper = new ValueWrapper(
+					key, value, oldValueWrapper._slot);
+
+				_clock[valueWrapper._slot] = valueWrapper;
+
+				_cache.put(key, valueWrapper);
 			}
+			else {
+				if (_cache.size() >= _maxSize) {
+					_cleanUp();
+				}
+
+				ValueWrapper valueWrapper = new ValueWrapper(
+					key, value, _freeSlots[--_freeSlotsCount]);
+
+				_clock[valueWrapper._slot] = valueWrapper;
 
-			_cache.put(key, valueWrapper);
+				_cache.put(key, valueWrapper);
+			}
 		}
 		finally {
-			_writeLock.unlock();
+			_lock.unlock();
 		}
 
 		_putCount.getAndIncrement();
@@ -134,17 +157,27 @@ public class ConcurrentLRUCache<K, V> {
 		return _putCount.get();
 	}
 
-	public int size() {
-		_readLock.lock();
+	public void remove(K key) {
+		_lock.lock();
 
 		try {
-			return _cache.size();
+			ValueWrapper valueWrapper = _cache.remove(key);
+
+			if (valueWrapper != null) {
+				_clock[valueWrapper._slot] = null;
+
+				_freeSlots[_freeSlotsCount++] = valueWrapper._slot;
+			}
 		}
 		finally {
-			_readLock.unlock();
+			_lock.unlock();
 		}
 	}
 
+	public int size() {
+		return _cache.size();
+	}
+
 	@Override
 	public String toString() {
 		StringBundler sb = new StringBundler();
@@ -168,64 +201,89 @@ public class ConcurrentLRUCache<K, V> {
 		return sb.toString();
 	}
 
+	@SuppressWarnings("unchecked")
 	private void _cleanUp() {
-		List<Entry<K, ValueWrapper>> valueWrappers =
-			new ArrayList<Entry<K, ValueWrapper>>(_cache.entrySet());
+		int cleanUpSize = _cache.size() - _expectedSize;
 
-		Collections.sort(valueWrappers, _entryComparator);
+		while (cleanUpSize > 0) {
+			ValueWrapper valueWrapper = (ValueWrapper)_clock[_clockHand];
 
-		int cleanUpSize = _cache.size() - _expectedSize;
+			if (valueWrapper != null) {
+				if (valueWrapper.tick()) {
+					_clock[_clockHand] = null;
 
-		_evictCount.getAndAdd(cleanUpSize);
+					_cache.remove(valueWrapper._key);
 
-		Iterator<Entry<K, ValueWrapper>> itr = valueWrappers.iterator();
+					_freeSlots[_freeSlotsCount++] = _clockHand;
 
-		while (cleanUpSize-- > 0 && itr.hasNext()) {
-			Entry<K, ValueWrapper> entry = itr.next();
+					_evictCount.getAndIncrement();
 
-			_cache.remove(entry.getKey());
+					cleanUpSize--;
+				}
+			}
 
-			itr.remove();
+			if (++_clockHand == _maxSize) {
+				_clockHand = 0;
+			}
 		}
 	}
 
-	private Map<K, ValueWrapper> _cache = new HashMap<K, ValueWrapper>();
-	private final EntryComparator _entryComparator = new EntryComparator();
+	private void _resetFreeSlots() {
+		for (int i = 0; i < _maxSize; i++) {
+			_freeSlots[i] = _maxSize - i - 1;
+		}
+
+		_freeSlotsCount = _maxSize;
+	}
+
+	private static final int _MAX_FREQUENCY = 15;
+
+	private final ConcurrentMap<K, ValueWrapper> _cache;
+	private final Object[] _clock;
+	private int _clockHand;
 	private final AtomicLong _evictCount = new AtomicLong();
 	private final int _expectedSize;
+	private final int[] _freeSlots;
+	private int _freeSlotsCount;
 	private final AtomicLong _hitCount = new AtomicLong();
+	private final Lock _lock = new ReentrantLock();
 	private final int _maxSize;
 	private final AtomicLong _missCount = new AtomicLong();
 	private final AtomicLong _putCount = new AtomicLong();
-	private final Lock _readLock;
-	private final ReentrantReadWriteLock _readWriteLock =
-		new ReentrantReadWriteLock();
-	private final Lock _writeLock;
 
-	private class EntryComparator
-		implements Comparator<Entry<K, ValueWrapper>> {
-
-		public int compare(
-			Entry<K, ValueWrapper> entry1, Entry<K, ValueWrapper> entry2) {
+	private class ValueWrapper {
 
-			ValueWrapper valueWrapper1 = entry1.getValue();
-			ValueWrapper valueWrapper2 = entry2.getValue();
+		public ValueWrapper(K key, V value, int slot) {
+			_key = key;
+			_value = value;
+			_slot = slot;
+		}
 
-			long hitCount1 = valueWrapper1._hitCount.get();
-			long hitCount2 = valueWrapper2._hitCount.get();
+		public void hit() {
+			int frequency = _frequency.get();
 
-			return (int)(hitCount1 - hitCount2);
+			if (frequency < _MAX_FREQUENCY) {
+				_frequency.compareAndSet(frequency, frequency + 1);
+			}
 		}
 
-	}
+		public boolean tick() {
+			while (true) {
+				int frequency = _frequency.get();
 
-	private class ValueWrapper {
+				if (frequency == 0) {
+					return true;
+				}
 
-		public ValueWrapper(V v) {
-			_value = v;
+				if (_frequency.compareAndSet(frequency, frequency - 1)) {
+					return false;
+				}
+			}
 		}
 
-		private final AtomicLong _hitCount = new AtomicLong();
+		private final AtomicInteger _frequency = new AtomicInteger();
+		private final K _key;
+		private final int _slot;
 		private final V _value;
 
 	}
@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.concurrent;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A {@link TaskQueue} that never blocks producers on a lock. Elements are
+ * kept in a {@link ConcurrentLinkedQueue}, capacity is reserved with a
+ * compare-and-set on the element count, and idle consumers park themselves
+ * on a lock-free waiter queue instead of a condition.
+ * </p>
+ *
+ * <p>
+ * Unlike {@link TaskQueue}, an element rejected by the collection passed to
+ * {@link #drainTo(Collection)} is put back at the tail of the queue.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class LockFreeTaskQueue<E> extends TaskQueue<E> {
+
+	public LockFreeTaskQueue() {
+		this(Integer.MAX_VALUE);
+	}
+
+	public LockFreeTaskQueue(int capacity) {
+		super(capacity);
+
+		_capacity = capacity;
+	}
+
+	@Override
+	public int drainTo(Collection<E> collection) {
+		if (collection == null) {
+			throw new NullPointerException();
+		}
+
+		int size = _count.get();
+
+		int count = 0;
+
+		while (count < size) {
+			E element = _queue.poll();
+
+			if (element == null) {
+				break;
+			}
+
+			try {
+				collection.add(element);
+			}
+			catch (RuntimeException re) {
+				_queue.offer(element);
+
+				throw re;
+			}
+
+			_count.getAndDecrement();
+
+			count++;
+		}
+
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if (_count.get() == 0) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public boolean offer(E element, boolean[] hasWaiterMarker) {
+		if ((element == null) || (hasWaiterMarker == null)) {
+			throw new NullPointerException();
+		}
+
+		if (hasWaiterMarker.length == 0) {
+			throw new IllegalArgumentException();
+		}
+
+		int count = 0;
+
+		while (true) {
+			count = _count.get();
+
+			if (count >= _capacity) {
+				return false;
+			}
+
+			if (_count.compareAndSet(count, count + 1)) {
+				break;
+			}
+		}
+
+		_queue.offer(element);
+
+		hasWaiterMarker[0] = _signalWaiter();
+
+		if (!hasWaiterMarker[0] && (count >= _count.get())) {
+			hasWaiterMarker[0] = true;
+		}
+
+		return true;
+	}
+
+	@Override
+	public E poll() {
+		E element = _poll();
+
+		if ((element != null) && (_count.get() > 0)) {
+			_signalWaiter();
+		}
+
+		return element;
+	}
+
+	@Override
+	public E poll(long timeout, TimeUnit timeUnit) throws InterruptedException {
+		return _take(true, timeUnit.toNanos(timeout));
+	}
+
+	@Override
+	public int remainingCapacity() {
+		return _capacity - _count.get();
+	}
+
+	@Override
+	public boolean remove(E element) {
+		if (element == null) {
+			return false;
+		}
+
+		if (_queue.remove(element)) {
+			_count.getAndDecrement();
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int size() {
+		return _count.get();
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		return _take(false, 0);
+	}
+
+	private E _poll() {
+		E element = _queue.poll();
+
+		if (element != null) {
+			_count.getAndDecrement();
+		}
+
+		return element;
+	}
+
+	private boolean _signalWaiter() {
+		Thread thread = _waiters.poll();
+
+		if (thread == null) {
+			return false;
+		}
+
+		LockSupport.unpark(thread);
+
+		return true;
+	}
+
+	private E _take(boolean timed, long nanos) throws InterruptedException {
+		Thread currentThread = Thread.currentThread();
+
+		long deadline = System.nanoTime() + nanos;
+
+		while (true) {
+			E element = _poll();
+
+			if (element == null) {
+				if (currentThread.isInterrupted() || (timed && (nanos <= 0))) {
+					break;
+				}
+
+				_waiters.offer(currentThread);
+
+				element = _poll();
+
+				if (element == null) {
+					if (timed) {
+						LockSupport.parkNanos(nanos);
+
+						nanos = deadline - System.nanoTime();
+					}
+					else {
+						LockSupport.park();
+					}
+				}
+
+				_waiters.remove(currentThread);
+			}
+
+			if (element != null) {
+				if (_count.get() > 0) {
+					_signalWaiter();
+				}
+
+				return element;
+			}
+		}
+
+		// A signal meant for an element this thread will not take must be
+		// passed on to another waiter
+
+		if (_count.get() > 0) {
+			_signalWaiter();
+		}
+
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+
+		return null;
+	}
+
+	private final int _capacity;
+	private final AtomicInteger _count = new AtomicInteger();
+	private final Queue<E> _queue = new ConcurrentLinkedQueue<E>();
+	private final Queue<Thread> _waiters = new ConcurrentLinkedQueue<Thread>();
+
+}
\ No newline at end of file
@@ -58,6 +58,19 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
 		RejectedExecutionHandler rejectedExecutionHandler,
 		ThreadFactory threadFactory, ThreadPoolHandler threadPoolHandler) {
 
+		this(
+			corePoolSize, maxPoolSize, keepAliveTime, timeUnit,
+			allowCoreThreadTimeout, maxQueueSize, rejectedExecutionHandler,
+			threadFactory, threadPoolHandler, false);
+	}
+
+	public ThreadPoolExecutor(
+		int corePoolSize, int maxPoolSize, long keepAliveTime,
+		TimeUnit timeUnit, boolean allowCoreThreadTimeout, int maxQueueSize,
+		RejectedExecutionHandler rejectedExecutionHandler,
+		ThreadFactory threadFactory, ThreadPoolHandler threadPoolHandler,
+		boolean lockFreeTaskQueue) {
+
 		if ((corePoolSize < 0) || (maxPoolSize <= 0) ||
 			(maxPoolSize < corePoolSize) || (keepAliveTime < 0) ||
 			(maxQueueSize <= 0)) {
@@ -78,7 +91,14 @@ public class ThreadPoolExecutor extends AbstractExecutorService {
 		_rejectedExecutionHandler = rejectedExecutionHandler;
 		_threadFactory = threadFactory;
 		_threadPoolHandler = threadPoolHandler;
-		_taskQueue = new TaskQueue<Runnable>(maxQueueSize);
+
+		if (lockFreeTaskQueue) {
+			_taskQueue = new LockFreeTaskQueue<Runnable>(maxQueueSize);
+		}
+		else {
+			_taskQueue = new TaskQueue<Runnable>(maxQueueSize);
+		}
+
 		_workerTasks = new HashSet<WorkerTask>();
 	}
 
@@ -14,6 +14,8 @@
 
 package com.liferay.portal.kernel.json;
 
+import java.io.Writer;
+
 /**
  * @author Igor Spasic
  */
@@ -25,6 +27,8 @@ public interface JSONSerializer {
 
 	public String serialize(Object target);
 
+	public void serialize(Object target, Writer writer);
+
 	public String serializeDeep(Object target);
 
 	public JSONSerializer transform(
@@ -17,6 +17,7 @@ package com.liferay.portal.kernel.jsonwebservice;
 import java.lang.reflect.Method;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -29,6 +30,10 @@ public interface JSONWebServiceActionsManager {
 
 	public JSONWebServiceAction lookup(HttpServletRequest request);
 
+	public JSONWebServiceAction lookup(
+		HttpServletRequest request, String path, String method,
+		Map<String, Object> parameterMap);
+
 	public void registerJSONWebServiceAction(
 		Class<?> actionClass, Method actionMethod, String path, String method);
 
@@ -17,6 +17,7 @@ package com.liferay.portal.kernel.jsonwebservice;
 import java.lang.reflect.Method;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -39,6 +40,14 @@ public class JSONWebServiceActionsManagerUtil {
 		return getJSONWebServiceActionsManager().lookup(request);
 	}
 
+	public static JSONWebServiceAction lookup(
+		HttpServletRequest request, String path, String method,
+		Map<String, Object> parameterMap) {
+
+		return getJSONWebServiceActionsManager().lookup(
+			request, path, method, parameterMap);
+	}
+
 	public static void registerJSONWebServiceAction(
 		Class<?> actionClass, Method actionMethod, String path, String method) {
 
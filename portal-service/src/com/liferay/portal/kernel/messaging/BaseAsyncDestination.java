@@ -14,6 +14,8 @@
 
 package com.liferay.portal.kernel.messaging;
 
+import com.liferay.portal.kernel.concurrent.BlockPolicy;
+import com.liferay.portal.kernel.concurrent.CallerRunsPolicy;
 import com.liferay.portal.kernel.concurrent.RejectedExecutionHandler;
 import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
 import com.liferay.portal.kernel.concurrent.ThreadPoolHandlerAdapter;
@@ -25,8 +27,19 @@ import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * <p>
+ * Destination that dispatches messages through a thread pool. In adaptive
+ * mode, the maximum pool size grows from the configured workers max size up
+ * to the adaptive workers max size while messages wait in the queue longer
+ * than the target queue latency, and shrinks back once the latency drops and
+ * the listeners' service time no longer needs the extra workers. The queue is
+ * then bounded by the adaptive queue size and senders wait up to the adaptive
+ * block timeout for room before processing the message themselves.
+ * </p>
+ *
  * @author Michael C. Han
  * @author Shuyang Zhou
  */
@@ -92,12 +105,36 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 			_threadPoolExecutor.getCorePoolSize());
 		destinationStatistics.setPendingMessageCount(
 			_threadPoolExecutor.getPendingTaskCount());
+		destinationStatistics.setQueueLatencyHistogram(_queueLatencyHistogram);
+		destinationStatistics.setRejectedMessageCount(
+			_rejectedMessageCount.get());
 		destinationStatistics.setSentMessageCount(
 			_threadPoolExecutor.getCompletedTaskCount());
+		destinationStatistics.setServiceTimeHistogram(_serviceTimeHistogram);
 
 		return destinationStatistics;
 	}
 
+	public long getAdaptiveBlockTimeout() {
+		return _adaptiveBlockTimeout;
+	}
+
+	public long getAdaptiveInterval() {
+		return _adaptiveInterval;
+	}
+
+	public long getAdaptiveQueueLatency() {
+		return _adaptiveQueueLatency;
+	}
+
+	public int getAdaptiveQueueSize() {
+		return _adaptiveQueueSize;
+	}
+
+	public int getAdaptiveWorkersMaxSize() {
+		return _adaptiveWorkersMaxSize;
+	}
+
 	public int getMaximumQueueSize() {
 		return _maximumQueueSize;
 	}
@@ -110,21 +147,43 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 		return _workersMaxSize;
 	}
 
+	public boolean isAdaptive() {
+		return _adaptive;
+	}
+
 	@Override
 	public void open() {
 		if ((_threadPoolExecutor == null) || _threadPoolExecutor.isShutdown()) {
 			ClassLoader classLoader = PortalClassLoaderUtil.getClassLoader();
 
+			int maximumQueueSize = _maximumQueueSize;
+
+			if (_adaptive) {
+
+				// Bound the queue and make senders wait for room instead of
+				// discarding messages
+
+				maximumQueueSize = _adaptiveQueueSize;
+
+				if (_rejectedExecutionHandler == null) {
+					_rejectedExecutionHandler = new BlockPolicy(
+						_adaptiveBlockTimeout, TimeUnit.MILLISECONDS,
+						new CallerRunsPolicy());
+				}
+			}
+
 			if (_rejectedExecutionHandler == null) {
 				_rejectedExecutionHandler = createRejectionExecutionHandler();
 			}
 
 			_threadPoolExecutor = new ThreadPoolExecutor(
 				_workersCoreSize, _workersMaxSize, 60L, TimeUnit.SECONDS, false,
-				_maximumQueueSize, _rejectedExecutionHandler,
+				maximumQueueSize, new CountingRejectedExecutionHandler(),
 				new NamedThreadFactory(
 					getName(), Thread.NORM_PRIORITY, classLoader),
-				new ThreadPoolHandlerAdapter());
+				new StatisticsThreadPoolHandler(), _lockFreeTaskQueue);
+
+			_lastAdjustNanoTime.set(System.nanoTime());
 		}
 	}
 
@@ -148,6 +207,34 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 		dispatch(messageListeners, message);
 	}
 
+	public void setAdaptive(boolean adaptive) {
+		_adaptive = adaptive;
+	}
+
+	public void setAdaptiveBlockTimeout(long adaptiveBlockTimeout) {
+		_adaptiveBlockTimeout = adaptiveBlockTimeout;
+	}
+
+	public void setAdaptiveInterval(long adaptiveInterval) {
+		_adaptiveInterval = adaptiveInterval;
+	}
+
+	public void setAdaptiveQueueLatency(long adaptiveQueueLatency) {
+		_adaptiveQueueLatency = adaptiveQueueLatency;
+	}
+
+	public void setAdaptiveQueueSize(int adaptiveQueueSize) {
+		_adaptiveQueueSize = adaptiveQueueSize;
+	}
+
+	public void setAdaptiveWorkersMaxSize(int adaptiveWorkersMaxSize) {
+		_adaptiveWorkersMaxSize = adaptiveWorkersMaxSize;
+	}
+
+	public void setLockFreeTaskQueue(boolean lockFreeTaskQueue) {
+		_lockFreeTaskQueue = lockFreeTaskQueue;
+	}
+
 	public void setMaximumQueueSize(int maximumQueueSize) {
 		_maximumQueueSize = maximumQueueSize;
 	}
@@ -194,6 +281,78 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 		return _threadPoolExecutor;
 	}
 
+	private void _adjustPoolSize(long nanoTime) {
+		long lastAdjustNanoTime = _lastAdjustNanoTime.get();
+
+		long elapsedTime = nanoTime - lastAdjustNanoTime;
+
+		if ((elapsedTime < TimeUnit.MILLISECONDS.toNanos(_adaptiveInterval)) ||
+			!_lastAdjustNanoTime.compareAndSet(lastAdjustNanoTime, nanoTime)) {
+
+			return;
+		}
+
+		long count = _windowCount.getAndSet(0);
+		long queueLatency = _windowQueueLatency.getAndSet(0);
+		long serviceTime = _windowServiceTime.getAndSet(0);
+
+		ThreadPoolExecutor threadPoolExecutor = _threadPoolExecutor;
+
+		int maxPoolSize = threadPoolExecutor.getMaxPoolSize();
+
+		int newMaxPoolSize = _workersMaxSize;
+
+		if (count > 0) {
+
+			// The busy time of all workers divided by the elapsed time is the
+			// average number of workers the current load keeps occupied
+
+			int requiredPoolSize =
+				(int)((serviceTime + elapsedTime - 1) / elapsedTime) + 1;
+
+			long averageQueueLatency = queueLatency / count;
+			long targetQueueLatency = TimeUnit.MILLISECONDS.toNanos(
+				_adaptiveQueueLatency);
+
+			if (averageQueueLatency > targetQueueLatency) {
+				newMaxPoolSize = Math.max(maxPoolSize + 1, requiredPoolSize);
+			}
+			else if (averageQueueLatency < (targetQueueLatency / 2)) {
+				newMaxPoolSize = Math.min(
+					maxPoolSize, Math.max(maxPoolSize - 1, requiredPoolSize));
+			}
+			else {
+				newMaxPoolSize = maxPoolSize;
+			}
+		}
+
+		newMaxPoolSize = Math.min(newMaxPoolSize, _adaptiveWorkersMaxSize);
+		newMaxPoolSize = Math.max(newMaxPoolSize, _workersMaxSize);
+
+		if (newMaxPoolSize == maxPoolSize) {
+			return;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug(
+				"Adjusting the maximum pool size of destination " + getName() +
+					" from " + maxPoolSize + " to " + newMaxPoolSize);
+		}
+
+		threadPoolExecutor.adjustPoolSize(
+			threadPoolExecutor.getCorePoolSize(), newMaxPoolSize);
+	}
+
+	private static final long _ADAPTIVE_BLOCK_TIMEOUT = 1000;
+
+	private static final long _ADAPTIVE_INTERVAL = 1000;
+
+	private static final long _ADAPTIVE_QUEUE_LATENCY = 100;
+
+	private static final int _ADAPTIVE_QUEUE_SIZE = 10000;
+
+	private static final int _ADAPTIVE_WORKERS_MAX_SIZE = 20;
+
 	private static final int _WORKERS_CORE_SIZE = 2;
 
 	private static final int _WORKERS_MAX_SIZE = 5;
@@ -201,10 +360,93 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 	private static Log _log = LogFactoryUtil.getLog(
 		BaseAsyncDestination.class);
 
+	private static ThreadLocal<long[]> _startNanoTime =
+		new ThreadLocal<long[]>() {
+
+			@Override
+			protected long[] initialValue() {
+				return new long[1];
+			}
+
+		};
+
+	private boolean _adaptive;
+	private long _adaptiveBlockTimeout = _ADAPTIVE_BLOCK_TIMEOUT;
+	private long _adaptiveInterval = _ADAPTIVE_INTERVAL;
+	private long _adaptiveQueueLatency = _ADAPTIVE_QUEUE_LATENCY;
+	private int _adaptiveQueueSize = _ADAPTIVE_QUEUE_SIZE;
+	private int _adaptiveWorkersMaxSize = _ADAPTIVE_WORKERS_MAX_SIZE;
+	private final AtomicLong _lastAdjustNanoTime = new AtomicLong();
+	private boolean _lockFreeTaskQueue;
 	private int _maximumQueueSize = Integer.MAX_VALUE;
+	private final LatencyHistogram _queueLatencyHistogram =
+		new LatencyHistogram();
 	private RejectedExecutionHandler _rejectedExecutionHandler;
+	private final AtomicLong _rejectedMessageCount = new AtomicLong();
+	private final LatencyHistogram _serviceTimeHistogram =
+		new LatencyHistogram();
 	private ThreadPoolExecutor _threadPoolExecutor;
+	private final AtomicLong _windowCount = new AtomicLong();
+	private final AtomicLong _windowQueueLatency = new AtomicLong();
+	private final AtomicLong _windowServiceTime = new AtomicLong();
 	private int _workersCoreSize = _WORKERS_CORE_SIZE;
 	private int _workersMaxSize = _WORKERS_MAX_SIZE;
 
+	private class CountingRejectedExecutionHandler
+		implements RejectedExecutionHandler {
+
+		public void rejectedExecution(
+			Runnable runnable, ThreadPoolExecutor threadPoolExecutor) {
+
+			_rejectedMessageCount.incrementAndGet();
+
+			_rejectedExecutionHandler.rejectedExecution(
+				runnable, threadPoolExecutor);
+		}
+
+	}
+
+	private class StatisticsThreadPoolHandler
+		extends ThreadPoolHandlerAdapter {
+
+		@Override
+		public void afterExecute(Runnable runnable, Throwable throwable) {
+			long nanoTime = System.nanoTime();
+
+			long[] startNanoTime = _startNanoTime.get();
+
+			long serviceTime = nanoTime - startNanoTime[0];
+
+			_serviceTimeHistogram.record(serviceTime);
+
+			_windowCount.incrementAndGet();
+			_windowServiceTime.addAndGet(serviceTime);
+
+			if (_adaptive) {
+				_adjustPoolSize(nanoTime);
+			}
+		}
+
+		@Override
+		public void beforeExecute(Thread thread, Runnable runnable) {
+			long nanoTime = System.nanoTime();
+
+			if (runnable instanceof MessageRunnable) {
+				MessageRunnable messageRunnable = (MessageRunnable)runnable;
+
+				long queueLatency =
+					nanoTime - messageRunnable.getCreateNanoTime();
+
+				_queueLatencyHistogram.record(queueLatency);
+
+				_windowQueueLatency.addAndGet(queueLatency);
+			}
+
+			long[] startNanoTime = _startNanoTime.get();
+
+			startNanoTime[0] = nanoTime;
+		}
+
+	}
+
 }
\ No newline at end of file
@@ -44,10 +44,22 @@ public class DestinationStatistics {
 		return _pendingMessageCount;
 	}
 
+	public LatencyHistogram getQueueLatencyHistogram() {
+		return _queueLatencyHistogram;
+	}
+
+	public long getRejectedMessageCount() {
+		return _rejectedMessageCount;
+	}
+
 	public long getSentMessageCount() {
 		return _sentMessageCount;
 	}
 
+	public LatencyHistogram getServiceTimeHistogram() {
+		return _serviceTimeHistogram;
+	}
+
 	public void setActiveThreadCount(int activeThreadCount) {
 		_activeThreadCount = activeThreadCount;
 	}
@@ -72,16 +84,33 @@ public class DestinationStatistics {
 		_pendingMessageCount = pendingMessageCount;
 	}
 
+	public void setQueueLatencyHistogram(
+		LatencyHistogram queueLatencyHistogram) {
+
+		_queueLatencyHistogram = queueLatencyHistogram;
+	}
+
+	public void setRejectedMessageCount(long rejectedMessageCount) {
+		_rejectedMessageCount = rejectedMessageCount;
+	}
+
 	public void setSentMessageCount(long sentMessageCount) {
 		_sentMessageCount = sentMessageCount;
 	}
 
+	public void setServiceTimeHistogram(LatencyHistogram serviceTimeHistogram) {
+		_serviceTimeHistogram = serviceTimeHistogram;
+	}
+
 	private int _activeThreadCount;
 	private int _currentThreadCount;
 	private int _largestThreadCount;
 	private int _maxThreadPoolSize;
 	private int _minThreadPoolSize;
 	private long _pendingMessageCount;
+	private LatencyHistogram _queueLatencyHistogram;
+	private long _rejectedMessageCount;
 	private long _sentMessageCount;
+	private LatencyHistogram _serviceTimeHistogram;
 
 }
\ No newline at end of file
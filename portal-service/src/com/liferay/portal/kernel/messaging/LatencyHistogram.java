@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * Lock free histogram of latencies with fixed, roughly logarithmic millisecond
+ * buckets. Recording is cheap enough to be done for every message a
+ * destination delivers.
+ * </p>
+ *
+ * @author Shuyang Zhou
+ */
+public class LatencyHistogram {
+
+	public LatencyHistogram() {
+		_bucketCounts = new AtomicLongArray(_BUCKET_UPPER_BOUNDS.length + 1);
+	}
+
+	public long getAverage() {
+		long count = _count.get();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		return TimeUnit.NANOSECONDS.toMillis(_total.get() / count);
+	}
+
+	public long[] getBucketCounts() {
+		long[] bucketCounts = new long[_bucketCounts.length()];
+
+		for (int i = 0; i < bucketCounts.length; i++) {
+			bucketCounts[i] = _bucketCounts.get(i);
+		}
+
+		return bucketCounts;
+	}
+
+	public long[] getBucketUpperBounds() {
+		return _BUCKET_UPPER_BOUNDS.clone();
+	}
+
+	public long getCount() {
+		return _count.get();
+	}
+
+	public long getMax() {
+		return TimeUnit.NANOSECONDS.toMillis(_max.get());
+	}
+
+	/**
+	 * Returns the upper bound in milliseconds of the bucket that holds the
+	 * percentile, or the maximum recorded latency if the percentile falls into
+	 * the unbounded last bucket.
+	 */
+	public long getPercentile(double percentile) {
+		if ((percentile < 0) || (percentile > 100)) {
+			throw new IllegalArgumentException(
+				"Percentile " + percentile + " is not between 0 and 100");
+		}
+
+		long[] bucketCounts = getBucketCounts();
+
+		long count = 0;
+
+		for (long bucketCount : bucketCounts) {
+			count += bucketCount;
+		}
+
+		if (count == 0) {
+			return 0;
+		}
+
+		long threshold = (long)Math.ceil(count * percentile / 100);
+
+		long cumulativeCount = 0;
+
+		for (int i = 0; i < _BUCKET_UPPER_BOUNDS.length; i++) {
+			cumulativeCount += bucketCounts[i];
+
+			if ((cumulativeCount >= threshold) && (cumulativeCount > 0)) {
+				return _BUCKET_UPPER_BOUNDS[i];
+			}
+		}
+
+		return getMax();
+	}
+
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+
+		int index = 0;
+
+		while ((index < _BUCKET_UPPER_BOUNDS.length) &&
+			   (millis >= _BUCKET_UPPER_BOUNDS[index])) {
+
+			index++;
+		}
+
+		_bucketCounts.incrementAndGet(index);
+		_count.incrementAndGet();
+		_total.addAndGet(nanos);
+
+		long max = _max.get();
+
+		while ((nanos > max) && !_max.compareAndSet(max, nanos)) {
+			max = _max.get();
+		}
+	}
+
+	public void reset() {
+		for (int i = 0; i < _bucketCounts.length(); i++) {
+			_bucketCounts.set(i, 0);
+		}
+
+		_count.set(0);
+		_max.set(0);
+		_total.set(0);
+	}
+
+	@Override
+	public String toString() {
+		long[] bucketCounts = getBucketCounts();
+
+		StringBundler sb = new StringBundler(bucketCounts.length * 4 + 1);
+
+		sb.append("{");
+
+		for (int i = 0; i < bucketCounts.length; i++) {
+			if (i < _BUCKET_UPPER_BOUNDS.length) {
+				sb.append("<");
+				sb.append(_BUCKET_UPPER_BOUNDS[i]);
+			}
+			else {
+				sb.append(">=");
+				sb.append(_BUCKET_UPPER_BOUNDS[i - 1]);
+			}
+
+			sb.append("ms=");
+
+			if ((i + 1) < bucketCounts.length) {
+				sb.append(bucketCounts[i] + ", ");
+			}
+			else {
+				sb.append(bucketCounts[i] + "}");
+			}
+		}
+
+		return sb.toString();
+	}
+
+	private static final long[] _BUCKET_UPPER_BOUNDS = {
+		1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000,
+		60000
+	};
+
+	private final AtomicLongArray _bucketCounts;
+	private final AtomicLong _count = new AtomicLong();
+	private final AtomicLong _max = new AtomicLong();
+	private final AtomicLong _total = new AtomicLong();
+
+}
\ No newline at end of file
@@ -21,12 +21,19 @@ public abstract class MessageRunnable implements Runnable {
 
 	public MessageRunnable(Message message) {
 		_message = message;
+
+		_createNanoTime = System.nanoTime();
+	}
+
+	public long getCreateNanoTime() {
+		return _createNanoTime;
 	}
 
 	public Message getMessage() {
 		return _message;
 	}
 
+	private long _createNanoTime;
 	private Message _message;
 
 }
\ No newline at end of file
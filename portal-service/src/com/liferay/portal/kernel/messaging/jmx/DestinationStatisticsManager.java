@@ -16,6 +16,7 @@ package com.liferay.portal.kernel.messaging.jmx;
 
 import com.liferay.portal.kernel.messaging.Destination;
 import com.liferay.portal.kernel.messaging.DestinationStatistics;
+import com.liferay.portal.kernel.messaging.LatencyHistogram;
 
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
@@ -48,6 +49,26 @@ public class DestinationStatisticsManager
 		return _destinationStatistics.getActiveThreadCount();
 	}
 
+	public long getAverageQueueLatency() {
+		LatencyHistogram latencyHistogram = getQueueLatencyHistogram();
+
+		if (latencyHistogram == null) {
+			return 0;
+		}
+
+		return latencyHistogram.getAverage();
+	}
+
+	public long getAverageServiceTime() {
+		LatencyHistogram latencyHistogram = getServiceTimeHistogram();
+
+		if (latencyHistogram == null) {
+			return 0;
+		}
+
+		return latencyHistogram.getAverage();
+	}
+
 	public int getCurrentThreadCount() {
 		if (_autoRefresh || (_destinationStatistics == null)) {
 			refresh();
@@ -68,6 +89,26 @@ public class DestinationStatisticsManager
 		return String.valueOf(_lastRefresh);
 	}
 
+	public long getMaxQueueLatency() {
+		LatencyHistogram latencyHistogram = getQueueLatencyHistogram();
+
+		if (latencyHistogram == null) {
+			return 0;
+		}
+
+		return latencyHistogram.getMax();
+	}
+
+	public long getMaxServiceTime() {
+		LatencyHistogram latencyHistogram = getServiceTimeHistogram();
+
+		if (latencyHistogram == null) {
+			return 0;
+		}
+
+		return latencyHistogram.getMax();
+	}
+
 	public int getMaxThreadPoolSize() {
 		if (_autoRefresh || (_destinationStatistics == null)) {
 			refresh();
@@ -92,6 +133,18 @@ public class DestinationStatisticsManager
 		return _destinationStatistics.getPendingMessageCount();
 	}
 
+	public String getQueueLatencies() {
+		return String.valueOf(getQueueLatencyHistogram());
+	}
+
+	public long getRejectedMessageCount() {
+		if (_autoRefresh || (_destinationStatistics == null)) {
+			refresh();
+		}
+
+		return _destinationStatistics.getRejectedMessageCount();
+	}
+
 	public long getSentMessageCount() {
 		if (_autoRefresh || (_destinationStatistics == null)) {
 			refresh();
@@ -100,6 +153,10 @@ public class DestinationStatisticsManager
 		return _destinationStatistics.getSentMessageCount();
 	}
 
+	public String getServiceTimes() {
+		return String.valueOf(getServiceTimeHistogram());
+	}
+
 	public boolean isAutoRefresh() {
 		return _autoRefresh;
 	}
@@ -115,6 +172,22 @@ public class DestinationStatisticsManager
 		_autoRefresh = autoRefresh;
 	}
 
+	protected LatencyHistogram getQueueLatencyHistogram() {
+		if (_autoRefresh || (_destinationStatistics == null)) {
+			refresh();
+		}
+
+		return _destinationStatistics.getQueueLatencyHistogram();
+	}
+
+	protected LatencyHistogram getServiceTimeHistogram() {
+		if (_autoRefresh || (_destinationStatistics == null)) {
+			refresh();
+		}
+
+		return _destinationStatistics.getServiceTimeHistogram();
+	}
+
 	private static final String _OBJECT_NAME_PREFIX =
 		"Liferay:product=Portal,type=MessagingDestinationStatistics,name=";
 
@@ -22,20 +22,34 @@ public interface DestinationStatisticsManagerMBean {
 
 	public int getActiveThreadCount();
 
+	public long getAverageQueueLatency();
+
+	public long getAverageServiceTime();
+
 	public int getCurrentThreadCount();
 
 	public int getLargestThreadCount();
 
 	public String getLastRefresh();
 
+	public long getMaxQueueLatency();
+
+	public long getMaxServiceTime();
+
 	public int getMaxThreadPoolSize();
 
 	public int getMinThreadPoolSize();
 
 	public long getPendingMessageCount();
 
+	public String getQueueLatencies();
+
+	public long getRejectedMessageCount();
+
 	public long getSentMessageCount();
 
+	public String getServiceTimes();
+
 	public boolean isAutoRefresh();
 
 	public void refresh();
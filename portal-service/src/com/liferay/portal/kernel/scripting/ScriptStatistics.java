@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.scripting;
+
+import com.liferay.portal.kernel.util.StringUtil;
+
+import java.io.Serializable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution statistics of one script, identified by a hash of its content.
+ *
+ * @author Shuyang Zhou
+ */
+public class ScriptStatistics implements Serializable {
+
+	public ScriptStatistics(String language, String scriptKey, String script) {
+		_language = language;
+		_scriptKey = scriptKey;
+		_scriptExcerpt = StringUtil.shorten(script, 100);
+	}
+
+	public long getAverageTime() {
+		long executionCount = _executionCount.get();
+
+		if (executionCount == 0) {
+			return 0;
+		}
+
+		return _totalTime.get() / executionCount;
+	}
+
+	public long getExecutionCount() {
+		return _executionCount.get();
+	}
+
+	public long getFailureCount() {
+		return _failureCount.get();
+	}
+
+	public String getLanguage() {
+		return _language;
+	}
+
+	public long getLastExecutionTime() {
+		return _lastExecutionTime;
+	}
+
+	public long getMaxTime() {
+		return _maxTime.get();
+	}
+
+	public String getScriptExcerpt() {
+		return _scriptExcerpt;
+	}
+
+	public String getScriptKey() {
+		return _scriptKey;
+	}
+
+	public long getTimeoutCount() {
+		return _timeoutCount.get();
+	}
+
+	public long getTotalTime() {
+		return _totalTime.get();
+	}
+
+	public void recordExecution(long time, boolean success, boolean timeout) {
+		_executionCount.incrementAndGet();
+
+		if (!success) {
+			_failureCount.incrementAndGet();
+		}
+
+		if (timeout) {
+			_timeoutCount.incrementAndGet();
+		}
+
+		_lastExecutionTime = System.currentTimeMillis();
+		_totalTime.addAndGet(time);
+
+		while (true) {
+			long maxTime = _maxTime.get();
+
+			if ((time <= maxTime) || _maxTime.compareAndSet(maxTime, time)) {
+				break;
+			}
+		}
+	}
+
+	private AtomicLong _executionCount = new AtomicLong();
+	private AtomicLong _failureCount = new AtomicLong();
+	private String _language;
+	private volatile long _lastExecutionTime;
+	private AtomicLong _maxTime = new AtomicLong();
+	private String _scriptExcerpt;
+	private String _scriptKey;
+	private AtomicLong _timeoutCount = new AtomicLong();
+	private AtomicLong _totalTime = new AtomicLong();
+
+}
\ No newline at end of file
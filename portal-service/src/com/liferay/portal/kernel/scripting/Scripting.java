@@ -17,6 +17,7 @@ package com.liferay.portal.kernel.scripting;
 import com.liferay.portal.kernel.messaging.proxy.MessagingProxy;
 import com.liferay.portal.kernel.messaging.proxy.ProxyMode;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -51,6 +52,8 @@ public interface Scripting {
 		PortletConfig portletConfig, PortletContext portletContext,
 		PortletRequest portletRequest, PortletResponse portletResponse);
 
+	public List<ScriptStatistics> getScriptStatistics();
+
 	public Set<String> getSupportedLanguages();
 
 	public void setScriptingExecutors(
@@ -14,6 +14,7 @@
 
 package com.liferay.portal.kernel.scripting;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -61,6 +62,10 @@ public class ScriptingUtil {
 		return _scripting;
 	}
 
+	public static List<ScriptStatistics> getScriptStatistics() {
+		return getScripting().getScriptStatistics();
+	}
+
 	public static Set<String> getSupportedLanguages() {
 		return getScripting().getSupportedLanguages();
 	}
@@ -25,6 +25,8 @@ public interface HttpHeaders {
 
 	public static final String ACCEPT_ENCODING = "Accept-Encoding";
 
+	public static final String ACCEPT_RANGES = "Accept-Ranges";
+
 	public static final String AUTHORIZATION = "Authorization";
 
 	public static final String CACHE_CONTROL = "Cache-Control";
@@ -41,6 +43,8 @@ public interface HttpHeaders {
 
 	public static final String CONTENT_LENGTH = "Content-Length";
 
+	public static final String CONTENT_RANGE = "Content-Range";
+
 	public static final String CONTENT_TYPE = "Content-Type";
 
 	public static final String EXPIRES = "Expires";
@@ -51,6 +55,8 @@ public interface HttpHeaders {
 
 	public static final String IF_NONE_MATCH = "If-None-Match";
 
+	public static final String IF_RANGE = "If-Range";
+
 	public static final String KEEP_ALIVE = "Keep-Alive";
 
 	public static final String LAST_MODIFIED = "Last-Modified";
@@ -65,12 +71,20 @@ public interface HttpHeaders {
 
 	public static final String PRAGMA = "Pragma";
 
+	public static final String RANGE = "Range";
+
+	public static final String SET_COOKIE = "Set-Cookie";
+
 	public static final String USER_AGENT = "User-Agent";
 
+	public static final String VARY = "Vary";
+
 	public static final String WWW_AUTHENTICATE = "WWW-Authenticate";
 
 	// Values
 
+	public static final String ACCEPT_RANGES_BYTES_VALUE = "bytes";
+
 	public static final String CONNECTION_CLOSE_VALUE = "close";
 
 	public static final String CACHE_CONTROL_DEFAULT_VALUE =
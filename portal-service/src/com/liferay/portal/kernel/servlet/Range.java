@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.servlet;
+
+import com.liferay.portal.kernel.util.StringBundler;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class Range {
+
+	public Range(long start, long end, long total) {
+		_start = start;
+		_end = end;
+		_total = total;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Range)) {
+			return false;
+		}
+
+		Range range = (Range)obj;
+
+		if ((_start == range._start) && (_end == range._end) &&
+			(_total == range._total)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	public String getContentRange() {
+		StringBundler sb = new StringBundler(6);
+
+		sb.append("bytes ");
+		sb.append(_start);
+		sb.append("-");
+		sb.append(_end);
+		sb.append("/");
+		sb.append(_total);
+
+		return sb.toString();
+	}
+
+	public long getEnd() {
+		return _end;
+	}
+
+	public long getLength() {
+		return _end - _start + 1;
+	}
+
+	public long getStart() {
+		return _start;
+	}
+
+	public long getTotal() {
+		return _total;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)(_start * 31 + _end);
+	}
+
+	@Override
+	public String toString() {
+		return getContentRange();
+	}
+
+	private long _end;
+	private long _start;
+	private long _total;
+
+}
\ No newline at end of file
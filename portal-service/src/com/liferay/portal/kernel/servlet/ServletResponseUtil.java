@@ -19,26 +19,37 @@ import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.nio.charset.CharsetEncoderUtil;
 import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.HttpUtil;
 import com.liferay.portal.kernel.util.PropsUtil;
 import com.liferay.portal.kernel.util.ServerDetector;
 import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import java.net.SocketException;
 
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
@@ -50,6 +61,123 @@ import javax.servlet.http.HttpServletResponse;
  */
 public class ServletResponseUtil {
 
+	/**
+	 * Returns the byte ranges requested by the <code>Range</code> header, in
+	 * ascending order and with overlapping ranges coalesced. An empty list is
+	 * returned if the whole content should be sent, either because no ranges
+	 * were requested or because the header is malformed. If none of the
+	 * requested ranges can be satisfied, a <code>416</code> response is sent
+	 * and <code>null</code> is returned.
+	 */
+	public static List<Range> getRanges(
+			HttpServletRequest request, HttpServletResponse response,
+			long length)
+		throws IOException {
+
+		String rangeString = request.getHeader(HttpHeaders.RANGE);
+
+		if (Validator.isNull(rangeString) || (length <= 0)) {
+			return Collections.emptyList();
+		}
+
+		rangeString = rangeString.trim();
+
+		if (!rangeString.startsWith(_RANGE_UNIT_PREFIX)) {
+			return Collections.emptyList();
+		}
+
+		String[] rangeSpecs = StringUtil.split(
+			rangeString.substring(_RANGE_UNIT_PREFIX.length()));
+
+		if ((rangeSpecs.length == 0) || (rangeSpecs.length > _MAX_RANGES)) {
+			return Collections.emptyList();
+		}
+
+		List<Range> ranges = new ArrayList<Range>(rangeSpecs.length);
+
+		for (String rangeSpec : rangeSpecs) {
+			int index = rangeSpec.indexOf(CharPool.DASH);
+
+			if (index < 0) {
+				return Collections.emptyList();
+			}
+
+			String startString = rangeSpec.substring(0, index).trim();
+			String endString = rangeSpec.substring(index + 1).trim();
+
+			long start = 0;
+			long end = length - 1;
+
+			try {
+				if (startString.length() == 0) {
+					long suffixLength = Long.parseLong(endString);
+
+					if (suffixLength <= 0) {
+						continue;
+					}
+
+					start = Math.max(0, length - suffixLength);
+				}
+				else {
+					start = Long.parseLong(startString);
+
+					if (endString.length() > 0) {
+						end = Long.parseLong(endString);
+
+						if (start > end) {
+							return Collections.emptyList();
+						}
+					}
+
+					if (start >= length) {
+						continue;
+					}
+
+					end = Math.min(end, length - 1);
+				}
+			}
+			catch (NumberFormatException nfe) {
+				return Collections.emptyList();
+			}
+
+			ranges.add(new Range(start, end, length));
+		}
+
+		if (ranges.isEmpty()) {
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+
+			response.sendError(
+				HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+
+			return null;
+		}
+
+		Collections.sort(ranges, _rangeComparator);
+
+		List<Range> coalescedRanges = new ArrayList<Range>(ranges.size());
+
+		Range previousRange = ranges.get(0);
+
+		for (int i = 1; i < ranges.size(); i++) {
+			Range range = ranges.get(i);
+
+			if (range.getStart() <= (previousRange.getEnd() + 1)) {
+				previousRange = new Range(
+					previousRange.getStart(),
+					Math.max(previousRange.getEnd(), range.getEnd()), length);
+			}
+			else {
+				coalescedRanges.add(previousRange);
+
+				previousRange = range;
+			}
+		}
+
+		coalescedRanges.add(previousRange);
+
+		return coalescedRanges;
+	}
+
 	public static void sendFile(
 			HttpServletRequest request, HttpServletResponse response,
 			String fileName, byte[] bytes)
@@ -148,6 +276,40 @@ public class ServletResponseUtil {
 		sendFile(null, response, fileName, is, contentType);
 	}
 
+	/**
+	 * Sends the file honoring the request's <code>Range</code> header. A single
+	 * range is sent as a <code>206</code> response with a
+	 * <code>Content-Range</code> header, and several ranges are sent as a
+	 * <code>multipart/byteranges</code> response.
+	 */
+	public static void sendFileWithRangeHeader(
+			HttpServletRequest request, HttpServletResponse response,
+			String fileName, InputStream is, long contentLength,
+			String contentType)
+		throws IOException {
+
+		setHeaders(request, response, fileName, contentType);
+
+		response.setHeader(
+			HttpHeaders.ACCEPT_RANGES, HttpHeaders.ACCEPT_RANGES_BYTES_VALUE);
+
+		List<Range> ranges = Collections.emptyList();
+
+		if (contentLength > 0) {
+			ranges = getRanges(request, response, contentLength);
+		}
+
+		if (ranges == null) {
+			StreamUtil.cleanUp(is);
+		}
+		else if (ranges.isEmpty()) {
+			write(response, is, contentLength);
+		}
+		else {
+			write(response, is, ranges, contentType);
+		}
+	}
+
 	public static void write(HttpServletResponse response, byte[] bytes)
 		throws IOException {
 
@@ -312,6 +474,111 @@ public class ServletResponseUtil {
 		write(response, is, 0);
 	}
 
+	public static void write(
+			HttpServletResponse response, InputStream is, List<Range> ranges,
+			String contentType)
+		throws IOException {
+
+		if (response.isCommitted()) {
+			StreamUtil.cleanUp(is);
+
+			return;
+		}
+
+		try {
+			response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+
+			if (ranges.size() == 1) {
+				Range range = ranges.get(0);
+
+				response.setHeader(
+					HttpHeaders.CONTENT_LENGTH,
+					String.valueOf(range.getLength()));
+				response.setHeader(
+					HttpHeaders.CONTENT_RANGE, range.getContentRange());
+
+				response.flushBuffer();
+
+				_transfer(is, response.getOutputStream(), 0, range);
+
+				return;
+			}
+
+			String boundary = _BOUNDARY_PREFIX.concat(
+				Long.toHexString(_random.nextLong()));
+
+			byte[][] partHeaders = new byte[ranges.size()][];
+
+			long contentLength = 0;
+
+			for (int i = 0; i < ranges.size(); i++) {
+				Range range = ranges.get(i);
+
+				StringBundler sb = new StringBundler(9);
+
+				sb.append("\r\n--");
+				sb.append(boundary);
+				sb.append("\r\n");
+
+				if (Validator.isNotNull(contentType)) {
+					sb.append(HttpHeaders.CONTENT_TYPE);
+					sb.append(": ");
+					sb.append(contentType);
+					sb.append("\r\n");
+				}
+
+				sb.append(HttpHeaders.CONTENT_RANGE);
+				sb.append(": ");
+				sb.append(range.getContentRange());
+				sb.append("\r\n\r\n");
+
+				partHeaders[i] = sb.toString().getBytes(StringPool.ISO_8859_1);
+
+				contentLength += partHeaders[i].length + range.getLength();
+			}
+
+			byte[] closeDelimiter = "\r\n--".concat(boundary).concat(
+				"--\r\n").getBytes(StringPool.ISO_8859_1);
+
+			contentLength += closeDelimiter.length;
+
+			response.setContentType(
+				_MULTIPART_BYTERANGES_CONTENT_TYPE.concat(boundary));
+			response.setHeader(
+				HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
+
+			response.flushBuffer();
+
+			OutputStream outputStream = response.getOutputStream();
+
+			long position = 0;
+
+			for (int i = 0; i < ranges.size(); i++) {
+				outputStream.write(partHeaders[i]);
+
+				position = _transfer(
+					is, outputStream, position, ranges.get(i));
+			}
+
+			outputStream.write(closeDelimiter);
+		}
+		catch (IOException ioe) {
+			if (ioe instanceof SocketException ||
+				ioe.getClass().getName().equals(_CLIENT_ABORT_EXCEPTION)) {
+
+				if (_log.isWarnEnabled()) {
+					_log.warn(ioe);
+				}
+			}
+			else {
+				throw ioe;
+			}
+		}
+		finally {
+			StreamUtil.cleanUp(is);
+		}
+	}
+
 	public static void write(
 			HttpServletResponse response, InputStream is, long contentLength)
 		throws IOException {
@@ -327,6 +594,19 @@ public class ServletResponseUtil {
 
 		response.flushBuffer();
 
+		if ((contentLength > 0) && (is instanceof FileInputStream)) {
+			try {
+				_transfer(
+					is, response.getOutputStream(), 0,
+					new Range(0, contentLength - 1, contentLength));
+			}
+			finally {
+				StreamUtil.cleanUp(is);
+			}
+
+			return;
+		}
+
 		StreamUtil.transfer(is, response.getOutputStream());
 	}
 
@@ -445,9 +725,114 @@ public class ServletResponseUtil {
 		}
 	}
 
+	/**
+	 * Copies the range to the output stream and returns the position of the
+	 * input stream afterwards. File streams are copied through their channel
+	 * at the absolute position of the range, so they do not have to be read
+	 * up to the start of the range first. The servlet output stream is not a
+	 * channel, so the bytes still pass through the heap buffer of the channel
+	 * wrapping it. Other streams are read sequentially and must not have been
+	 * read past the start of the range.
+	 */
+	private static long _transfer(
+			InputStream inputStream, OutputStream outputStream, long position,
+			Range range)
+		throws IOException {
+
+		if (inputStream instanceof FileInputStream) {
+			FileInputStream fileInputStream = (FileInputStream)inputStream;
+
+			FileChannel fileChannel = fileInputStream.getChannel();
+
+			WritableByteChannel writableByteChannel = Channels.newChannel(
+				outputStream);
+
+			long start = range.getStart();
+			long remaining = range.getLength();
+
+			while (remaining > 0) {
+				long count = fileChannel.transferTo(
+					start, remaining, writableByteChannel);
+
+				if (count <= 0) {
+					throw new EOFException(
+						"Unable to read " + range + " from a file of size " +
+							fileChannel.size());
+				}
+
+				start += count;
+				remaining -= count;
+			}
+
+			return range.getEnd() + 1;
+		}
+
+		long skip = range.getStart() - position;
+
+		while (skip > 0) {
+			long skipped = inputStream.skip(skip);
+
+			if (skipped <= 0) {
+				if (inputStream.read() == -1) {
+					throw new EOFException("Unable to skip to " + range);
+				}
+
+				skipped = 1;
+			}
+
+			skip -= skipped;
+		}
+
+		byte[] bytes = new byte[StreamUtil.BUFFER_SIZE];
+
+		long remaining = range.getLength();
+
+		while (remaining > 0) {
+			int count = inputStream.read(
+				bytes, 0, (int)Math.min(bytes.length, remaining));
+
+			if (count == -1) {
+				throw new EOFException("Unable to read " + range);
+			}
+
+			outputStream.write(bytes, 0, count);
+
+			remaining -= count;
+		}
+
+		return range.getEnd() + 1;
+	}
+
+	private static final String _BOUNDARY_PREFIX = "LIFERAY_BYTERANGES_";
+
 	private static final String _CLIENT_ABORT_EXCEPTION =
 		"org.apache.catalina.connector.ClientAbortException";
 
+	private static final int _MAX_RANGES = 32;
+
+	private static final String _MULTIPART_BYTERANGES_CONTENT_TYPE =
+		"multipart/byteranges; boundary=";
+
+	private static final String _RANGE_UNIT_PREFIX = "bytes=";
+
 	private static Log _log = LogFactoryUtil.getLog(ServletResponseUtil.class);
 
+	private static Random _random = new Random();
+	private static Comparator<Range> _rangeComparator =
+		new Comparator<Range>() {
+
+			public int compare(Range range1, Range range2) {
+				if (range1.getStart() < range2.getStart()) {
+					return -1;
+				}
+				else if (range1.getStart() > range2.getStart()) {
+					return 1;
+				}
+				else {
+					return 0;
+				}
+			}
+
+		};
+
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.portlet.ActionRequest;
 import javax.portlet.RenderRequest;
@@ -104,6 +106,8 @@ public interface Http {
 
 	public String getRequestURL(HttpServletRequest request);
 
+	public Map<String, Http.Statistics> getStatistics();
+
 	public boolean hasDomain(String url);
 
 	public boolean hasProtocol(String url);
@@ -154,6 +158,16 @@ public interface Http {
 	public byte[] URLtoByteArray(String location, boolean post)
 		throws IOException;
 
+	/**
+	 * Fetches the location described by the options without blocking the
+	 * calling thread. The request runs on a portal executor and the callback,
+	 * if any, is notified from that executor's thread.
+	 *
+	 * @return a future holding the response body
+	 */
+	public Future<byte[]> URLtoByteArrayAsync(
+		Http.Options options, Http.Callback callback);
+
 	public String URLtoString(Http.Options options) throws IOException;
 
 	public String URLtoString(String location) throws IOException;
@@ -238,6 +252,14 @@ public interface Http {
 
 	}
 
+	public interface Callback {
+
+		public void onCompletion(byte[] bytes, Response response);
+
+		public void onFailure(Exception e);
+
+	}
+
 	public class FilePart {
 
 		public FilePart(
@@ -554,6 +576,10 @@ public interface Http {
 			return _redirect;
 		}
 
+		public int getResponseCode() {
+			return _responseCode;
+		}
+
 		public void setContentLength(int contentLength) {
 			_contentLength = contentLength;
 		}
@@ -570,10 +596,74 @@ public interface Http {
 			_redirect = redirect;
 		}
 
+		public void setResponseCode(int responseCode) {
+			_responseCode = responseCode;
+		}
+
 		private int _contentLength = -1;
 		private String _contentType;
 		private Map<String, String> _headers;
 		private String _redirect;
+		private int _responseCode = -1;
+
+	}
+
+	public class Statistics {
+
+		public Statistics(String host) {
+			_host = host;
+		}
+
+		public long getAverageTime() {
+			long requestCount = _requestCount.get();
+
+			if (requestCount == 0) {
+				return 0;
+			}
+
+			return _totalTime.get() / requestCount;
+		}
+
+		public long getErrorCount() {
+			return _errorCount.get();
+		}
+
+		public String getHost() {
+			return _host;
+		}
+
+		public long getMaxTime() {
+			return _maxTime.get();
+		}
+
+		public long getRequestCount() {
+			return _requestCount.get();
+		}
+
+		public long getTotalTime() {
+			return _totalTime.get();
+		}
+
+		public void record(long time, boolean success) {
+			_requestCount.incrementAndGet();
+			_totalTime.addAndGet(time);
+
+			if (!success) {
+				_errorCount.incrementAndGet();
+			}
+
+			long maxTime = _maxTime.get();
+
+			while ((time > maxTime) && !_maxTime.compareAndSet(maxTime, time)) {
+				maxTime = _maxTime.get();
+			}
+		}
+
+		private final AtomicLong _errorCount = new AtomicLong();
+		private final String _host;
+		private final AtomicLong _maxTime = new AtomicLong();
+		private final AtomicLong _requestCount = new AtomicLong();
+		private final AtomicLong _totalTime = new AtomicLong();
 
 	}
 
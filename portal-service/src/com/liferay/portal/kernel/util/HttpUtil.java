@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.net.URL;
 
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import javax.portlet.ActionRequest;
 import javax.portlet.RenderRequest;
@@ -151,6 +152,10 @@ public class HttpUtil {
 		return getHttp().getRequestURL(request);
 	}
 
+	public static Map<String, Http.Statistics> getStatistics() {
+		return getHttp().getStatistics();
+	}
+
 	public static boolean hasDomain(String url) {
 		return getHttp().hasDomain(url);
 	}
@@ -257,6 +262,12 @@ public class HttpUtil {
 		return getHttp().URLtoByteArray(location, post);
 	}
 
+	public static Future<byte[]> URLtoByteArrayAsync(
+		Http.Options options, Http.Callback callback) {
+
+		return getHttp().URLtoByteArrayAsync(options, callback);
+	}
+
 	public static String URLtoString(Http.Options options) throws IOException {
 		return getHttp().URLtoString(options);
 	}
@@ -93,6 +93,8 @@ public interface PropsKeys {
 
 	public static final String ASSET_ENTRY_INCREMENT_VIEW_COUNTER_ENABLED = "asset.entry.increment.view.counter.enabled";
 
+	public static final String ASSET_ENTRY_QUERY_APPROXIMATE_COUNT_TIME_TO_LIVE = "asset.entry.query.approximate.count.time.to.live";
+
 	public static final String ASSET_ENTRY_VALIDATOR = "asset.entry.validator";
 
 	public static final String ASSET_FILTER_SEARCH_LIMIT = "asset.filter.search.limit";
@@ -401,6 +403,8 @@ public interface PropsKeys {
 
 	public static final String COUNTER_INCREMENT_PREFIX = "counter.increment.";
 
+	public static final String COUNTER_PREFETCH_ENABLED = "counter.prefetch.enabled";
+
 	public static final String CUSTOM_SQL_FUNCTION_ISNOTNULL = "custom.sql.function.isnotnull";
 
 	public static final String CUSTOM_SQL_FUNCTION_ISNULL = "custom.sql.function.isnull";
@@ -521,6 +525,14 @@ public interface PropsKeys {
 
 	public static final String DL_FILE_ENTRY_PREVIEW_ENABLED = "dl.file.entry.preview.enabled";
 
+	public static final String DL_FILE_ENTRY_PREVIEW_FORK_PROCESS_ENABLED = "dl.file.entry.preview.fork.process.enabled";
+
+	public static final String DL_FILE_ENTRY_PREVIEW_GENERATION_PRIORITY = "dl.file.entry.preview.generation.priority";
+
+	public static final String DL_FILE_ENTRY_PREVIEW_GENERATION_QUEUE_MAX_SIZE = "dl.file.entry.preview.generation.queue.max.size";
+
+	public static final String DL_FILE_ENTRY_PREVIEW_GENERATION_WORKERS_MAX_SIZE = "dl.file.entry.preview.generation.workers.max.size";
+
 	public static final String DL_FILE_ENTRY_PREVIEW_VIDEO_HEIGHT = "dl.file.entry.preview.video.height";
 
 	public static final String DL_FILE_ENTRY_PREVIEW_VIDEO_WIDTH = "dl.file.entry.preview.video.width";
@@ -625,6 +637,12 @@ public interface PropsKeys {
 
 	public static final String EHCACHE_MULTI_VM_CONFIG_LOCATION = "ehcache.multi.vm.config.location";
 
+	public static final String EHCACHE_OFF_HEAP_CACHE_NAMES = "ehcache.off.heap.cache.names";
+
+	public static final String EHCACHE_OFF_HEAP_MAX_SIZE = "ehcache.off.heap.max.size";
+
+	public static final String EHCACHE_OFF_HEAP_SLAB_SIZE = "ehcache.off.heap.slab.size";
+
 	public static final String EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED = "ehcache.portal.cache.manager.jmx.enabled";
 
 	public static final String EHCACHE_SINGLE_VM_CONFIG_LOCATION = "ehcache.single.vm.config.location";
@@ -771,6 +789,10 @@ public interface PropsKeys {
 
 	public static final String INDEX_READ_ONLY = "index.read.only";
 
+	public static final String INDEX_REINDEX_PAGE_THREAD_POOL_SIZE = "index.reindex.page.thread.pool.size";
+
+	public static final String INDEX_REINDEX_THREAD_POOL_SIZE = "index.reindex.thread.pool.size";
+
 	public static final String INDEX_SEARCH_HIGHLIGHT_ENABLED = "index.search.highlight.enabled";
 
 	public static final String INDEX_SEARCH_HIGHLIGHT_FRAGMENT_SIZE = "index.search.highlight.fragment.size";
@@ -939,6 +961,10 @@ public interface PropsKeys {
 
 	public static final String JPA_PROVIDER_PROPERTY_PREFIX = "jpa.provider.property.";
 
+	public static final String JSONWS_SERVLET_BATCH_MAX_SIZE = "jsonws.servlet.batch.max.size";
+
+	public static final String JSONWS_SERVLET_BATCH_PARALLEL_ENABLED = "jsonws.servlet.batch.parallel.enabled";
+
 	public static final String JSON_SERVICE_INVALID_CLASS_NAMES = "json.service.invalid.class.names";
 
 	public static final String JSP_WRITER_BUFFER_SIZE = "jsp.writer.buffer.size";
@@ -987,6 +1013,8 @@ public interface PropsKeys {
 
 	public static final String LAYOUT_SET_FORM_UPDATE = "layout.set.form.update";
 
+	public static final String LAYOUT_SET_TREE_ENABLED = "layout.set.tree.enabled";
+
 	public static final String LAYOUT_SHOW_HTTP_STATUS = "layout.show.http.status";
 
 	public static final String LAYOUT_SHOW_PORTLET_ACCESS_DENIED = "layout.show.portlet.access.denied";
@@ -1179,6 +1207,10 @@ public interface PropsKeys {
 
 	public static final String LUCENE_STORE_TYPE = "lucene.store.type";
 
+	public static final String LUCENE_WRITE_ASYNC_ENABLED = "lucene.write.async.enabled";
+
+	public static final String LUCENE_WRITE_ASYNC_QUEUE_SIZE = "lucene.write.async.queue.size";
+
 	public static final String MAIL_AUDIT_TRAIL = "mail.audit.trail";
 
 	public static final String MAIL_HOOK_CYRUS_ADD_USER = "mail.hook.cyrus.add.user";
@@ -1293,6 +1325,18 @@ public interface PropsKeys {
 
 	public static final String MESSAGE_BOARDS_THREAD_VIEWS_DEFAULT = "message.boards.thread.views.default";
 
+	public static final String MESSAGING_DESTINATION_ADAPTIVE_BLOCK_TIMEOUT = "messaging.destination.adaptive.block.timeout";
+
+	public static final String MESSAGING_DESTINATION_ADAPTIVE_ENABLED = "messaging.destination.adaptive.enabled";
+
+	public static final String MESSAGING_DESTINATION_ADAPTIVE_INTERVAL = "messaging.destination.adaptive.interval";
+
+	public static final String MESSAGING_DESTINATION_ADAPTIVE_QUEUE_LATENCY = "messaging.destination.adaptive.queue.latency";
+
+	public static final String MESSAGING_DESTINATION_ADAPTIVE_QUEUE_SIZE = "messaging.destination.adaptive.queue.size";
+
+	public static final String MESSAGING_DESTINATION_ADAPTIVE_WORKERS_MAX_SIZE = "messaging.destination.adaptive.workers.max.size";
+
 	public static final String MIME_TYPES_CONTENT_DISPOSITION_INLINE = "mime.types.content.disposition.inline";
 
 	public static final String MINIFIER_INLINE_CONTENT_CACHE_SIZE = "minifier.inline.content.cache.size";
@@ -1585,6 +1629,12 @@ public interface PropsKeys {
 
 	public static final String SANITIZER_IMPL = "sanitizer.impl";
 
+	public static final String SASS_PARSER_POOL_SIZE = "sass.parser.pool.size";
+
+	public static final String SASS_PRECOMPILE_ENABLED = "sass.precompile.enabled";
+
+	public static final String SASS_STORE_ENABLED = "sass.store.enabled";
+
 	public static final String SC_IMAGE_MAX_SIZE = "sc.image.max.size";
 
 	public static final String SC_IMAGE_THUMBNAIL_MAX_HEIGHT = "sc.image.thumbnail.max.height";
@@ -1607,12 +1657,16 @@ public interface PropsKeys {
 
 	public static final String SCHEMA_RUN_MINIMAL = "schema.run.minimal";
 
+	public static final String SCRIPTING_EXECUTION_TIMEOUT = "scripting.execution.timeout";
+
 	public static final String SCRIPTING_FORBIDDEN_CLASSES = "scripting.forbidden.classes";
 
 	public static final String SCRIPTING_JRUBY_COMPILE_MODE = "scripting.jruby.compile.mode";
 
 	public static final String SCRIPTING_JRUBY_COMPILE_THRESHOLD = "scripting.jruby.compile.threshold";
 
+	public static final String SCRIPTING_STATISTICS_MAX_SIZE = "scripting.statistics.max.size";
+
 	public static final String SEARCH_CONTAINER_PAGE_DEFAULT_DELTA = "search.container.page.default.delta";
 
 	public static final String SEARCH_CONTAINER_PAGE_DELTA_VALUES = "search.container.page.delta.values";
@@ -1937,6 +1991,8 @@ public interface PropsKeys {
 
 	public static final String VALUE_OBJECT_FINDER_CACHE_ENABLED = "value.object.finder.cache.enabled";
 
+	public static final String VALUE_OBJECT_FINDER_NEAR_CACHE_MAX_SIZE = "value.object.finder.near.cache.max.size";
+
 	public static final String VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE = "value.object.finder.thread.local.cache.max.size";
 
 	public static final String VALUE_OBJECT_LISTENER = "value.object.listener.";
@@ -125,6 +125,22 @@ public class StringParser {
 		}
 
 		_pattern = Pattern.compile(regex);
+
+		// Every string matched by the pattern starts with the literal text
+		// before the first fragment, unless the pattern relies on an
+		// unescaped alternation
+
+		int pos = pattern.indexOf(CharPool.OPEN_CURLY_BRACE);
+
+		if (pattern.indexOf(CharPool.PIPE) != -1) {
+			_prefix = StringPool.BLANK;
+		}
+		else if (pos == -1) {
+			_prefix = pattern;
+		}
+		else {
+			_prefix = pattern.substring(0, pos);
+		}
 	}
 
 	/**
@@ -197,6 +213,24 @@ public class StringParser {
 		return matcher.replaceAll("\\\\$0");
 	}
 
+	/**
+	 * Returns the names of the fragments in the pattern.
+	 *
+	 * @return the names of the fragments in the pattern
+	 */
+	public List<String> getFragmentNames() {
+		List<String> fragmentNames = new ArrayList<String>(
+			_stringParserFragments.size());
+
+		for (StringParserFragment stringParserFragment :
+				_stringParserFragments) {
+
+			fragmentNames.add(stringParserFragment.getName());
+		}
+
+		return fragmentNames;
+	}
+
 	/**
 	 * Populates the parameter map with values parsed from the string if this
 	 * parser matches.
@@ -208,6 +242,10 @@ public class StringParser {
 	 *         otherwise
 	 */
 	public boolean parse(String s, Map<String, String> parameters) {
+		if (!s.startsWith(_prefix)) {
+			return false;
+		}
+
 		Matcher matcher = _pattern.matcher(s);
 
 		if (!matcher.matches()) {
@@ -255,5 +293,6 @@ public class StringParser {
 	private List<StringParserFragment> _stringParserFragments =
 		new ArrayList<StringParserFragment>();
 	private Pattern _pattern;
+	private String _prefix;
 
 }
\ No newline at end of file
@@ -323,6 +323,10 @@ public class PortletLocalServiceUtil {
 		return getService().getFriendlyURLMapperPortlets();
 	}
 
+	public static java.util.Map<java.lang.String, java.util.List<com.liferay.portal.model.Portlet>> getFriendlyURLMapperPortletsMap() {
+		return getService().getFriendlyURLMapperPortletsMap();
+	}
+
 	public static java.util.List<com.liferay.portal.kernel.portlet.FriendlyURLMapper> getFriendlyURLMappers() {
 		return getService().getFriendlyURLMappers();
 	}
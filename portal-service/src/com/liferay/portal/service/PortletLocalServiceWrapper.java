@@ -311,6 +311,10 @@ public class PortletLocalServiceWrapper implements PortletLocalService {
 		return _portletLocalService.getFriendlyURLMapperPortlets();
 	}
 
+	public java.util.Map<java.lang.String, java.util.List<com.liferay.portal.model.Portlet>> getFriendlyURLMapperPortletsMap() {
+		return _portletLocalService.getFriendlyURLMapperPortletsMap();
+	}
+
 	public java.util.List<com.liferay.portal.kernel.portlet.FriendlyURLMapper> getFriendlyURLMappers() {
 		return _portletLocalService.getFriendlyURLMappers();
 	}
@@ -505,6 +505,40 @@ public class ResourcePermissionLocalServiceWrapper
 			name, scope, primKey, roleId, actionId);
 	}
 
+	/**
+	* Returns a bitmap of the resources at the scope on which any of the roles
+	* has permission to perform the action. Bit <code>i</code> of the bitmap
+	* is set if and only if permission is granted on
+	* <code>primKeys[i]</code>.
+	*
+	* <p>
+	* This is equivalent to calling {@link #hasResourcePermission(long,
+	* String, int, String, long, String)} for every combination of primary key
+	* and role, but evaluates the whole batch with one query per 500 primary
+	* keys by folding the action IDs of the matching resource permissions.
+	* </p>
+	*
+	* @param companyId the primary key of the company
+	* @param name the resource's name, which can be either a class name or a
+	portlet ID
+	* @param scope the scope
+	* @param primKeys the primary keys
+	* @param roleIds the primary keys of the roles
+	* @param actionId the action ID
+	* @return the bitmap of the primary keys on which permission is granted
+	* @throws PortalException if a resource action with the name and action ID
+	could not be found
+	* @throws SystemException if a system exception occurred
+	*/
+	public java.util.BitSet hasResourcePermissions(long companyId,
+		java.lang.String name, int scope, java.lang.String[] primKeys,
+		long[] roleIds, java.lang.String actionId)
+		throws com.liferay.portal.kernel.exception.PortalException,
+			com.liferay.portal.kernel.exception.SystemException {
+		return _resourcePermissionLocalService.hasResourcePermissions(companyId,
+			name, scope, primKeys, roleIds, actionId);
+	}
+
 	public boolean hasScopeResourcePermission(long companyId,
 		java.lang.String name, int scope, long roleId, java.lang.String actionId)
 		throws com.liferay.portal.kernel.exception.PortalException,
@@ -27,6 +27,8 @@ import com.liferay.portal.service.ServiceContext;
 import java.io.Serializable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -92,6 +94,26 @@ public interface BasePersistence<T extends BaseModel<T>> {
 	 */
 	public T fetchByPrimaryKey(Serializable primaryKey) throws SystemException;
 
+	/**
+	 * Returns the model instances with the primary keys.
+	 *
+	 * <p>
+	 * Instances found in the {@link
+	 * com.liferay.portal.kernel.dao.orm.EntityCache} are returned without
+	 * hitting the database. Generated persistence classes fetch the remaining
+	 * instances with one query per batch of primary keys, which keeps the
+	 * <code>IN</code> clause within the parameter limits of the database.
+	 * </p>
+	 *
+	 * @param  primaryKeys the primary keys of the model instances
+	 * @return the model instances mapped by their primary keys. Primary keys
+	 *         that could not be found are not included.
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, T> fetchByPrimaryKeys(
+			Set<Serializable> primaryKeys)
+		throws SystemException;
+
 	/**
 	 * Returns the model instance with the primary key or throws a {@link
 	 * NoSuchModelException} if it could not be found.
@@ -281,4 +303,25 @@ public interface BasePersistence<T extends BaseModel<T>> {
 	public T update(T model, boolean merge, ServiceContext serviceContext)
 		throws SystemException;
 
+	/**
+	 * Updates the model instances in the database or adds them if they do not
+	 * yet exist. Also notifies the appropriate model listeners.
+	 *
+	 * <p>
+	 * The instances are written with a batch session, so the session is only
+	 * flushed every <code>hibernate.jdbc.batch_size</code> instances and the
+	 * statements are sent to the database as JDBC batches.
+	 * </p>
+	 *
+	 * @param  models the model instances to update
+	 * @param  merge whether to merge the model instances with the current
+	 *         session. See {@link
+	 *         BatchSession#update(com.liferay.portal.kernel.dao.orm.Session,
+	 *         BaseModel, boolean)} for an explanation.
+	 * @return the model instances that were updated
+	 * @throws SystemException if a system exception occurred
+	 */
+	public List<T> updateAll(List<T> models, boolean merge)
+		throws SystemException;
+
 }
\ No newline at end of file
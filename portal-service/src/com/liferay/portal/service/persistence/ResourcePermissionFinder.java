@@ -33,4 +33,9 @@ public interface ResourcePermissionFinder {
 	public java.util.List<java.lang.String> findByC_N_S(long companyId,
 		java.lang.String name, int scope)
 		throws com.liferay.portal.kernel.exception.SystemException;
+
+	public java.util.List<com.liferay.portal.model.ResourcePermission> findByC_N_S_P_R(
+		long companyId, java.lang.String name, int scope,
+		java.lang.String[] primKeys, long[] roleIds)
+		throws com.liferay.portal.kernel.exception.SystemException;
 }
\ No newline at end of file
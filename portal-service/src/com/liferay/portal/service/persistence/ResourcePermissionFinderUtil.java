@@ -45,6 +45,14 @@ public class ResourcePermissionFinderUtil {
 		return getFinder().findByC_N_S(companyId, name, scope);
 	}
 
+	public static java.util.List<com.liferay.portal.model.ResourcePermission> findByC_N_S_P_R(
+		long companyId, java.lang.String name, int scope,
+		java.lang.String[] primKeys, long[] roleIds)
+		throws com.liferay.portal.kernel.exception.SystemException {
+		return getFinder()
+				   .findByC_N_S_P_R(companyId, name, scope, primKeys, roleIds);
+	}
+
 	public static ResourcePermissionFinder getFinder() {
 		if (_finder == null) {
 			_finder = (ResourcePermissionFinder)PortalBeanLocatorUtil.locate(ResourcePermissionFinder.class.getName());
@@ -35,12 +35,17 @@ import com.liferay.portal.model.ModelListener;
 import com.liferay.portal.service.ServiceContext;
 import com.liferay.portal.service.ServiceContextThreadLocal;
 import com.liferay.portal.service.persistence.BasePersistence;
+import com.liferay.portal.service.persistence.BatchSessionUtil;
 
 import java.io.Serializable;
 
 import java.sql.Connection;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -91,6 +96,23 @@ public class BasePersistenceImpl<T extends BaseModel<T>>
 		throw new UnsupportedOperationException();
 	}
 
+	public Map<Serializable, T> fetchByPrimaryKeys(
+			Set<Serializable> primaryKeys)
+		throws SystemException {
+
+		Map<Serializable, T> map = new HashMap<Serializable, T>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			T model = fetchByPrimaryKey(primaryKey);
+
+			if (model != null) {
+				map.put(primaryKey, model);
+			}
+		}
+
+		return map;
+	}
+
 	@SuppressWarnings("unused")
 	public T findByPrimaryKey(Serializable primaryKey)
 		throws NoSuchModelException, SystemException {
@@ -280,6 +302,41 @@ public class BasePersistenceImpl<T extends BaseModel<T>>
 		}
 	}
 
+	public List<T> updateAll(List<T> models, boolean merge)
+		throws SystemException {
+
+		List<T> updatedModels = new ArrayList<T>(models.size());
+
+		boolean enabled = BatchSessionUtil.isEnabled();
+
+		BatchSessionUtil.setEnabled(true);
+
+		try {
+			for (T model : models) {
+				updatedModels.add(update(model, merge));
+			}
+		}
+		finally {
+			BatchSessionUtil.setEnabled(enabled);
+		}
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			session.flush();
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return updatedModels;
+	}
+
 	protected void appendOrderByComparator(
 		StringBundler query, String entityAlias,
 		OrderByComparator orderByComparator) {
@@ -342,6 +399,8 @@ public class BasePersistenceImpl<T extends BaseModel<T>>
 		throw new UnsupportedOperationException();
 	}
 
+	protected static final int FETCH_BY_PRIMARY_KEYS_BATCH_SIZE = 500;
+
 	protected static final String ORDER_BY_ASC = " ASC";
 
 	protected static final String ORDER_BY_ASC_HAS_NEXT = " ASC, ";
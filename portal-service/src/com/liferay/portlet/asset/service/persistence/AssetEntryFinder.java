@@ -25,4 +25,8 @@ public interface AssetEntryFinder {
 	public java.util.List<com.liferay.portlet.asset.model.AssetEntry> findEntries(
 		com.liferay.portlet.asset.service.persistence.AssetEntryQuery entryQuery)
 		throws com.liferay.portal.kernel.exception.SystemException;
+
+	public java.util.Iterator<com.liferay.portlet.asset.model.AssetEntry> iterateEntries(
+		com.liferay.portlet.asset.service.persistence.AssetEntryQuery entryQuery,
+		int batchSize);
 }
\ No newline at end of file
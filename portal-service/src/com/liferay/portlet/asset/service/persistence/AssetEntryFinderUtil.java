@@ -33,6 +33,12 @@ public class AssetEntryFinderUtil {
 		return getFinder().findEntries(entryQuery);
 	}
 
+	public static java.util.Iterator<com.liferay.portlet.asset.model.AssetEntry> iterateEntries(
+		com.liferay.portlet.asset.service.persistence.AssetEntryQuery entryQuery,
+		int batchSize) {
+		return getFinder().iterateEntries(entryQuery, batchSize);
+	}
+
 	public static AssetEntryFinder getFinder() {
 		if (_finder == null) {
 			_finder = (AssetEntryFinder)PortalBeanLocatorUtil.locate(AssetEntryFinder.class.getName());
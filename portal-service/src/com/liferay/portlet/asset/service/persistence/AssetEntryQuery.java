@@ -14,12 +14,14 @@
 
 package com.liferay.portlet.asset.service.persistence;
 
+import com.liferay.portal.kernel.bean.BeanPropertiesUtil;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.dao.search.SearchContainer;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.util.WebKeys;
@@ -27,6 +29,7 @@ import com.liferay.portal.model.Layout;
 import com.liferay.portal.theme.ThemeDisplay;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portlet.asset.model.AssetCategory;
+import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.asset.service.AssetCategoryLocalServiceUtil;
 import com.liferay.portlet.asset.service.AssetTagLocalServiceUtil;
 
@@ -46,11 +49,13 @@ public class AssetEntryQuery {
 		setAllTagIds(assetEntryQuery.getAllTagIds());
 		setAnyCategoryIds(assetEntryQuery.getAnyCategoryIds());
 		setAnyTagIds(assetEntryQuery.getAnyTagIds());
+		setApproximateCount(assetEntryQuery.isApproximateCount());
 		setClassNameIds(assetEntryQuery.getClassNameIds());
 		setEnd(assetEntryQuery.getEnd());
 		setExcludeZeroViewCount(assetEntryQuery.isExcludeZeroViewCount());
 		setExpirationDate(assetEntryQuery.getExpirationDate());
 		setGroupIds(assetEntryQuery.getGroupIds());
+		setKeysetEntry(assetEntryQuery.getKeysetEntry());
 		setLayout(assetEntryQuery.getLayout());
 		setNotAllCategoryIds(assetEntryQuery.getNotAllCategoryIds());
 		setNotAllTagIds(assetEntryQuery.getNotAllTagIds());
@@ -171,6 +176,10 @@ public class AssetEntryQuery {
 		return _classNameIds;
 	}
 
+	public AssetEntry getKeysetEntry() {
+		return _keysetEntry;
+	}
+
 	public Layout getLayout() {
 		return _layout;
 	}
@@ -239,10 +248,43 @@ public class AssetEntryQuery {
 		return _start;
 	}
 
+	public boolean isApproximateCount() {
+		return _approximateCount;
+	}
+
 	public boolean isExcludeZeroViewCount() {
 		return _excludeZeroViewCount;
 	}
 
+	/**
+	 * Returns <code>true</code> if results are fetched by seeking past the
+	 * keyset entry. This requires a keyset entry, order by columns that
+	 * support seeking, and non null keyset entry values for those columns.
+	 * Otherwise, offset pagination is used and <code>start</code> and
+	 * <code>end</code> keep their usual meaning.
+	 *
+	 * @return <code>true</code> if results are fetched by seeking past the
+	 *         keyset entry; <code>false</code> otherwise
+	 */
+	public boolean isKeysetPagination() {
+		if (_keysetEntry == null) {
+			return false;
+		}
+
+		if (!_isKeysetOrderByCol(_orderByCol1)) {
+			return false;
+		}
+
+		if (Validator.isNotNull(_orderByCol2) &&
+			!_orderByCol1.equals(_orderByCol2) &&
+			!_isKeysetOrderByCol(_orderByCol2)) {
+
+			return false;
+		}
+
+		return true;
+	}
+
 	public Boolean isVisible() {
 		return _visible;
 	}
@@ -263,6 +305,10 @@ public class AssetEntryQuery {
 		_anyTagIds = anyTagIds;
 	}
 
+	public void setApproximateCount(boolean approximateCount) {
+		_approximateCount = approximateCount;
+	}
+
 	public void setClassName(String className) {
 		long classNameId = PortalUtil.getClassNameId(className);
 
@@ -273,6 +319,17 @@ public class AssetEntryQuery {
 		_classNameIds = classNameIds;
 	}
 
+	/**
+	 * Sets the last entry of the previous page. When the order by columns
+	 * allow it, results are then fetched by seeking past this entry, and
+	 * <code>start</code> and <code>end</code> only determine the page size.
+	 *
+	 * @param keysetEntry the last entry of the previous page
+	 */
+	public void setKeysetEntry(AssetEntry keysetEntry) {
+		_keysetEntry = keysetEntry;
+	}
+
 	public void setLayout(Layout layout) {
 		_layout = layout;
 	}
@@ -363,18 +420,35 @@ public class AssetEntryQuery {
 		return leftRightIds;
 	}
 
+	private boolean _isKeysetOrderByCol(String orderByCol) {
+		if (!ArrayUtil.contains(_KEYSET_ORDER_BY_COLUMNS, orderByCol) ||
+			(BeanPropertiesUtil.getObjectSilent(_keysetEntry, orderByCol) ==
+				null)) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private static final String[] _KEYSET_ORDER_BY_COLUMNS = {
+		"createDate", "modifiedDate", "priority", "viewCount"
+	};
+
 	private static Log _log = LogFactoryUtil.getLog(AssetEntryQuery.class);
 
 	private long[] _allCategoryIds = new long[0];
 	private long[] _allTagIds = new long[0];
 	private long[] _anyCategoryIds = new long[0];
 	private long[] _anyTagIds = new long[0];
+	private boolean _approximateCount;
 	private long[] _classNameIds = new long[0];
 	private Layout _layout;
 	private int _end = QueryUtil.ALL_POS;
 	private boolean _excludeZeroViewCount;
 	private Date _expirationDate;
 	private long[] _groupIds = new long[0];
+	private AssetEntry _keysetEntry;
 	private long _linkedAssetEntryId = 0;
 	private long[] _notAllCategoryIds = new long[0];
 	private long[] _notAllTagIds = new long[0];
@@ -36,6 +36,8 @@ public interface JournalContent {
 
 	public static final String TEMPLATE_SEPARATOR = "_TEMPLATE_";
 
+	public static final String VERSION_SEPARATOR = "_VERSION_";
+
 	public static final String VIEW_MODE_SEPARATOR = "_VIEW_MODE_";
 
 	public void clearCache();
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.concurrent;
+
+import com.liferay.portal.kernel.test.TestCase;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class BlockPolicyTest extends TestCase {
+
+	public void testBlockPolicy1() throws InterruptedException {
+		RecordRejectedExecutionHandler recordRejectedExecutionHandler =
+			new RecordRejectedExecutionHandler();
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			1, 1, TestUtil.KEEPALIVE_TIME, TimeUnit.MILLISECONDS, true, 1,
+			new BlockPolicy(
+				10, TimeUnit.MILLISECONDS, recordRejectedExecutionHandler),
+			Executors.defaultThreadFactory(), new ThreadPoolHandlerAdapter());
+
+		try {
+			MarkerBlockingJob markerBlockingJob1 = new MarkerBlockingJob(true);
+			MarkerBlockingJob markerBlockingJob2 = new MarkerBlockingJob(true);
+			MarkerBlockingJob markerBlockingJob3 = new MarkerBlockingJob();
+
+			threadPoolExecutor.execute(markerBlockingJob1);
+
+			markerBlockingJob1.waitUntilBlock();
+
+			threadPoolExecutor.execute(markerBlockingJob2);
+			threadPoolExecutor.execute(markerBlockingJob3);
+
+			assertFalse(markerBlockingJob3.isStarted());
+			assertEquals(
+				markerBlockingJob3,
+				recordRejectedExecutionHandler.getRejectedList().get(0));
+
+			markerBlockingJob1.unBlock();
+			markerBlockingJob2.waitUntilBlock();
+			markerBlockingJob2.unBlock();
+
+			TestUtil.waitUntilEnded(markerBlockingJob2);
+		}
+		finally {
+			TestUtil.closePool(threadPoolExecutor, true);
+		}
+	}
+
+	public void testBlockPolicy2() throws InterruptedException {
+		RecordRejectedExecutionHandler recordRejectedExecutionHandler =
+			new RecordRejectedExecutionHandler();
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			1, 1, TestUtil.KEEPALIVE_TIME, TimeUnit.MILLISECONDS, true, 1,
+			new BlockPolicy(
+				10, TimeUnit.SECONDS, recordRejectedExecutionHandler),
+			Executors.defaultThreadFactory(), new ThreadPoolHandlerAdapter());
+
+		try {
+			final MarkerBlockingJob markerBlockingJob1 = new MarkerBlockingJob(
+				true);
+			MarkerBlockingJob markerBlockingJob2 = new MarkerBlockingJob();
+			MarkerBlockingJob markerBlockingJob3 = new MarkerBlockingJob();
+
+			threadPoolExecutor.execute(markerBlockingJob1);
+
+			markerBlockingJob1.waitUntilBlock();
+
+			threadPoolExecutor.execute(markerBlockingJob2);
+
+			Thread thread = new Thread() {
+
+				@Override
+				public void run() {
+					try {
+						Thread.sleep(100);
+					}
+					catch (InterruptedException ie) {
+					}
+
+					markerBlockingJob1.unBlock();
+				}
+
+			};
+
+			thread.start();
+
+			threadPoolExecutor.execute(markerBlockingJob3);
+
+			TestUtil.waitUntilEnded(markerBlockingJob3);
+
+			List<Runnable> rejectedList =
+				recordRejectedExecutionHandler.getRejectedList();
+
+			assertTrue(markerBlockingJob2.isEnded());
+			assertTrue(rejectedList.isEmpty());
+
+			thread.join();
+		}
+		finally {
+			TestUtil.closePool(threadPoolExecutor, true);
+		}
+	}
+
+}
\ No newline at end of file
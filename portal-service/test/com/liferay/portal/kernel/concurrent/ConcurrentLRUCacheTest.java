@@ -132,6 +132,50 @@ public class ConcurrentLRUCacheTest extends TestCase {
 		assertNull(concurrentLRUCache.get("key"));
 	}
 
+	public void testEvictFrequentlyUsed() {
+		ConcurrentLRUCache<String, String> concurrentLRUCache =
+			new ConcurrentLRUCache<String, String>(10, 0.5F);
+
+		for (int i = 0; i < 10; i++) {
+			concurrentLRUCache.put("key" + i, "value" + i);
+		}
+
+		for (int i = 0; i < 10; i += 2) {
+			assertEquals("value" + i, concurrentLRUCache.get("key" + i));
+		}
+
+		concurrentLRUCache.put("key10", "value10");
+
+		assertEquals(5, concurrentLRUCache.evictCount());
+		assertEquals(6, concurrentLRUCache.size());
+
+		for (int i = 0; i < 10; i += 2) {
+			assertEquals("value" + i, concurrentLRUCache.get("key" + i));
+		}
+
+		for (int i = 1; i < 10; i += 2) {
+			assertNull(concurrentLRUCache.get("key" + i));
+		}
+
+		assertEquals("value10", concurrentLRUCache.get("key10"));
+
+		concurrentLRUCache.remove("key10");
+
+		assertNull(concurrentLRUCache.get("key10"));
+		assertEquals(5, concurrentLRUCache.size());
+
+		concurrentLRUCache.clear();
+
+		assertEquals(0, concurrentLRUCache.size());
+
+		for (int i = 0; i < 10; i++) {
+			concurrentLRUCache.put("key" + i, "value" + i);
+		}
+
+		assertEquals(10, concurrentLRUCache.size());
+		assertEquals(5, concurrentLRUCache.evictCount());
+	}
+
 	public void testLRU() {
 		ConcurrentLRUCache<String, String> concurrentLRUCache =
 			new ConcurrentLRUCache<String, String>(2, 0.5F);
@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.concurrent;
+
+import com.liferay.portal.kernel.test.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class LockFreeTaskQueueTest extends TestCase {
+
+	public void testConcurrentOfferAndTake() throws InterruptedException {
+		final LockFreeTaskQueue<Integer> taskQueue =
+			new LockFreeTaskQueue<Integer>(100);
+
+		final int producerCount = 8;
+		final int elementCount = 10000;
+
+		final Set<Integer> takenElements = new ConcurrentHashSet<Integer>();
+
+		final CountDownLatch countDownLatch = new CountDownLatch(
+			producerCount * elementCount);
+
+		List<Thread> threads = new ArrayList<Thread>();
+
+		for (int i = 0; i < 4; i++) {
+			Thread thread = new Thread() {
+
+				@Override
+				public void run() {
+					try {
+						while (true) {
+							takenElements.add(taskQueue.take());
+
+							countDownLatch.countDown();
+						}
+					}
+					catch (InterruptedException ie) {
+					}
+				}
+
+			};
+
+			thread.start();
+
+			threads.add(thread);
+		}
+
+		for (int i = 0; i < producerCount; i++) {
+			final int producerIndex = i;
+
+			Thread thread = new Thread() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < elementCount; j++) {
+						Integer element = producerIndex * elementCount + j;
+
+						while (!taskQueue.offer(element, new boolean[1])) {
+							Thread.yield();
+						}
+					}
+				}
+
+			};
+
+			thread.start();
+		}
+
+		assertTrue(countDownLatch.await(10, TimeUnit.SECONDS));
+		assertEquals(producerCount * elementCount, takenElements.size());
+		assertTrue(taskQueue.isEmpty());
+		assertEquals(100, taskQueue.remainingCapacity());
+
+		for (Thread thread : threads) {
+			thread.interrupt();
+			thread.join();
+		}
+	}
+
+	public void testConstructor() {
+		try {
+			new LockFreeTaskQueue<Object>(0);
+
+			fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		LockFreeTaskQueue<Object> taskQueue = new LockFreeTaskQueue<Object>(10);
+
+		assertEquals(10, taskQueue.remainingCapacity());
+
+		taskQueue = new LockFreeTaskQueue<Object>();
+
+		assertEquals(Integer.MAX_VALUE, taskQueue.remainingCapacity());
+	}
+
+	public void testDrainTo() {
+		LockFreeTaskQueue<Object> taskQueue = new LockFreeTaskQueue<Object>();
+
+		Object object1 = new Object();
+		Object object2 = new Object();
+		Object object3 = new Object();
+
+		assertTrue(taskQueue.offer(object1, new boolean[1]));
+		assertTrue(taskQueue.offer(object2, new boolean[1]));
+		assertTrue(taskQueue.offer(object3, new boolean[1]));
+
+		List<Object> list = new ArrayList<Object>() {
+
+			@Override
+			public boolean add(Object e) {
+				if (size() >= 1) {
+					throw new IllegalStateException();
+				}
+
+				return super.add(e);
+			}
+
+		};
+
+		try {
+			taskQueue.drainTo(list);
+
+			fail();
+		}
+		catch (IllegalStateException ise) {
+		}
+
+		assertEquals(1, list.size());
+		assertSame(object1, list.get(0));
+		assertEquals(2, taskQueue.size());
+		assertSame(object3, taskQueue.poll());
+		assertSame(object2, taskQueue.poll());
+		assertTrue(taskQueue.isEmpty());
+	}
+
+	public void testOffer() throws InterruptedException {
+		LockFreeTaskQueue<Object> taskQueue = new LockFreeTaskQueue<Object>(1);
+
+		boolean[] hasWaiterMarker = new boolean[1];
+
+		assertTrue(taskQueue.offer(new Object(), hasWaiterMarker));
+		assertFalse(hasWaiterMarker[0]);
+		assertFalse(taskQueue.offer(new Object(), hasWaiterMarker));
+		assertEquals(0, taskQueue.remainingCapacity());
+
+		final LockFreeTaskQueue<Object> taskQueue2 =
+			new LockFreeTaskQueue<Object>(10);
+
+		Thread thread = new Thread() {
+
+			@Override
+			public void run() {
+				try {
+					taskQueue2.take();
+				}
+				catch (InterruptedException ie) {
+					fail();
+				}
+			}
+
+		};
+
+		thread.start();
+
+		Thread.sleep(100);
+
+		hasWaiterMarker = new boolean[1];
+
+		assertTrue(taskQueue2.offer(new Object(), hasWaiterMarker));
+		assertTrue(hasWaiterMarker[0]);
+
+		thread.join();
+
+		assertTrue(taskQueue2.isEmpty());
+	}
+
+	public void testPoll() throws InterruptedException {
+		LockFreeTaskQueue<Object> taskQueue = new LockFreeTaskQueue<Object>();
+
+		assertNull(taskQueue.poll());
+		assertNull(taskQueue.poll(0, TimeUnit.MILLISECONDS));
+		assertNull(taskQueue.poll(100, TimeUnit.MILLISECONDS));
+
+		Object object1 = new Object();
+		Object object2 = new Object();
+
+		assertTrue(taskQueue.offer(object1, new boolean[1]));
+		assertTrue(taskQueue.offer(object2, new boolean[1]));
+		assertSame(object1, taskQueue.poll());
+		assertSame(object2, taskQueue.poll(100, TimeUnit.MILLISECONDS));
+		assertTrue(taskQueue.isEmpty());
+	}
+
+	public void testRemove() {
+		LockFreeTaskQueue<Object> taskQueue = new LockFreeTaskQueue<Object>(10);
+
+		assertFalse(taskQueue.remove(null));
+		assertFalse(taskQueue.remove(new Object()));
+
+		Object object1 = new Object();
+		Object object2 = new Object();
+
+		assertTrue(taskQueue.offer(object1, new boolean[1]));
+		assertTrue(taskQueue.offer(object2, new boolean[1]));
+		assertTrue(taskQueue.remove(object2));
+		assertEquals(1, taskQueue.size());
+		assertEquals(9, taskQueue.remainingCapacity());
+		assertSame(object1, taskQueue.poll());
+	}
+
+	public void testTake() throws InterruptedException {
+		final LockFreeTaskQueue<Object> taskQueue =
+			new LockFreeTaskQueue<Object>();
+
+		Thread thread = new Thread() {
+
+			@Override
+			public void run() {
+				try {
+					for (int i = 0; i < 10; i++) {
+						assertEquals(i, taskQueue.take());
+					}
+				}
+				catch (InterruptedException ie) {
+					fail();
+				}
+
+				try {
+					taskQueue.take();
+
+					fail();
+				}
+				catch (InterruptedException ie) {
+				}
+			}
+
+		};
+
+		thread.start();
+
+		for (int i = 0; i < 10; i++) {
+			assertTrue(taskQueue.offer(i, new boolean[1]));
+		}
+
+		Thread.sleep(TestUtil.SHORT_WAIT);
+
+		thread.interrupt();
+		thread.join();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.scripting;
+
+import com.liferay.portal.kernel.test.TestCase;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class ScriptStatisticsTest extends TestCase {
+
+	public void testConstructor() {
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < 200; i++) {
+			sb.append('a');
+		}
+
+		ScriptStatistics scriptStatistics = new ScriptStatistics(
+			"groovy", "groovy#key", sb.toString());
+
+		assertEquals("groovy", scriptStatistics.getLanguage());
+		assertEquals("groovy#key", scriptStatistics.getScriptKey());
+		assertEquals(
+			sb.substring(0, 100) + "...", scriptStatistics.getScriptExcerpt());
+		assertEquals(0, scriptStatistics.getAverageTime());
+		assertEquals(0, scriptStatistics.getExecutionCount());
+		assertEquals(0, scriptStatistics.getLastExecutionTime());
+	}
+
+	public void testRecordExecution() {
+		ScriptStatistics scriptStatistics = new ScriptStatistics(
+			"groovy", "groovy#key", "println 'test'");
+
+		scriptStatistics.recordExecution(10, true, false);
+		scriptStatistics.recordExecution(30, false, false);
+		scriptStatistics.recordExecution(20, false, true);
+
+		assertEquals(20, scriptStatistics.getAverageTime());
+		assertEquals(3, scriptStatistics.getExecutionCount());
+		assertEquals(2, scriptStatistics.getFailureCount());
+		assertEquals(30, scriptStatistics.getMaxTime());
+		assertEquals(1, scriptStatistics.getTimeoutCount());
+		assertEquals(60, scriptStatistics.getTotalTime());
+		assertTrue(scriptStatistics.getLastExecutionTime() > 0);
+	}
+
+	public void testRecordExecutionConcurrently() throws Exception {
+		final ScriptStatistics scriptStatistics = new ScriptStatistics(
+			"groovy", "groovy#key", "println 'test'");
+
+		Thread[] threads = new Thread[8];
+
+		for (int i = 0; i < threads.length; i++) {
+			final int time = i + 1;
+
+			threads[i] = new Thread() {
+
+				@Override
+				public void run() {
+					for (int j = 0; j < 1000; j++) {
+						scriptStatistics.recordExecution(time, true, false);
+					}
+				}
+
+			};
+
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(8000, scriptStatistics.getExecutionCount());
+		assertEquals(0, scriptStatistics.getFailureCount());
+		assertEquals(8, scriptStatistics.getMaxTime());
+		assertEquals(36000, scriptStatistics.getTotalTime());
+	}
+
+}
\ No newline at end of file
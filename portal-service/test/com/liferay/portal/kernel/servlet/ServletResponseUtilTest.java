@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2000-2011 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.servlet;
+
+import com.liferay.portal.kernel.test.TestCase;
+
+import java.io.ByteArrayInputStream;
+
+import java.util.List;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * @author Shuyang Zhou
+ */
+public class ServletResponseUtilTest extends TestCase {
+
+	public void testGetRangesCoalesced() throws Exception {
+		List<Range> ranges = _getRanges("bytes=50-99,0-9,5-19,-10", 100);
+
+		assertEquals(2, ranges.size());
+		assertEquals(new Range(0, 19, 100), ranges.get(0));
+		assertEquals(new Range(50, 99, 100), ranges.get(1));
+	}
+
+	public void testGetRangesInvalid() throws Exception {
+		assertTrue(_getRanges("items=0-9", 100).isEmpty());
+		assertTrue(_getRanges("bytes=a-b", 100).isEmpty());
+		assertTrue(_getRanges("bytes=9-0", 100).isEmpty());
+		assertTrue(_getRanges("bytes=10", 100).isEmpty());
+	}
+
+	public void testGetRangesSingle() throws Exception {
+		List<Range> ranges = _getRanges("bytes=10-", 100);
+
+		assertEquals(1, ranges.size());
+		assertEquals(new Range(10, 99, 100), ranges.get(0));
+
+		ranges = _getRanges("bytes=-200", 100);
+
+		assertEquals(1, ranges.size());
+		assertEquals(new Range(0, 99, 100), ranges.get(0));
+
+		ranges = _getRanges("bytes=90-200", 100);
+
+		assertEquals(1, ranges.size());
+		assertEquals("bytes 90-99/100", ranges.get(0).getContentRange());
+	}
+
+	public void testGetRangesUnsatisfiable() throws Exception {
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest();
+
+		mockHttpServletRequest.addHeader(HttpHeaders.RANGE, "bytes=100-");
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		assertNull(
+			ServletResponseUtil.getRanges(
+				mockHttpServletRequest, mockHttpServletResponse, 100));
+		assertEquals(
+			HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE,
+			mockHttpServletResponse.getStatus());
+		assertEquals(
+			"bytes */100",
+			mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	public void testWriteMultipleRanges() throws Exception {
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		ServletResponseUtil.write(
+			mockHttpServletResponse,
+			new ByteArrayInputStream(_BYTES), _getRanges("bytes=0-1,4-5", 10),
+			"text/plain");
+
+		String contentType = mockHttpServletResponse.getContentType();
+
+		assertTrue(contentType.startsWith("multipart/byteranges"));
+
+		String content = mockHttpServletResponse.getContentAsString();
+
+		assertEquals(
+			content.length(),
+			Integer.parseInt(
+				(String)mockHttpServletResponse.getHeader(
+					HttpHeaders.CONTENT_LENGTH)));
+		assertTrue(content.contains("bytes 0-1/10\r\n\r\n01"));
+		assertTrue(content.contains("bytes 4-5/10\r\n\r\n45"));
+	}
+
+	public void testWriteSingleRange() throws Exception {
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		ServletResponseUtil.write(
+			mockHttpServletResponse, new ByteArrayInputStream(_BYTES),
+			_getRanges("bytes=3-6", 10), "text/plain");
+
+		assertEquals(
+			HttpServletResponse.SC_PARTIAL_CONTENT,
+			mockHttpServletResponse.getStatus());
+		assertEquals(
+			"bytes 3-6/10",
+			mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals("3456", mockHttpServletResponse.getContentAsString());
+	}
+
+	private List<Range> _getRanges(String rangeHeader, long length)
+		throws Exception {
+
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest();
+
+		mockHttpServletRequest.addHeader(HttpHeaders.RANGE, rangeHeader);
+
+		return ServletResponseUtil.getRanges(
+			mockHttpServletRequest, new MockHttpServletResponse(), length);
+	}
+
+	private static final byte[] _BYTES = "0123456789".getBytes();
+
+}
\ No newline at end of file